@@ -0,0 +1,255 @@
+package games.strategy.debug;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * Named timers and counters for profiling code that is called from many threads, such as the AI and the battle
+ * calculator. The timers and counters record into the instance bound to the current thread, so that code running at
+ * the same time, such as another AI or a player using the battle calculator, does not mix up the values. Nothing is
+ * recorded if no instance is bound, so the timers can be left in frequently called methods.
+ *
+ * <p>
+ * A timer records how often a section of code ran and how long it took:
+ * </p>
+ *
+ * <pre>
+ * try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("GameMap.getRoute")) {
+ *   ...
+ * }
+ * </pre>
+ *
+ * <p>
+ * A counter only records a count, see {@link #increment(String)} and {@link #add(String, long)}. Tasks that are run on
+ * other threads on behalf of the profiled code record into the same instance if they are wrapped with
+ * {@link #inheritBinding(Callable)}, and functions applied by parallel streams if they are wrapped with
+ * {@link #inheritBinding(Function)}.
+ * </p>
+ */
+public final class PerformanceCounters {
+  private static final Timer DISABLED_TIMER = new Timer(null, 0);
+  private static final ThreadLocal<PerformanceCounters> boundCounters = new ThreadLocal<>();
+  private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the counters bound to the current thread, or {@code null} if nothing is recorded on it.
+   */
+  public static @Nullable PerformanceCounters getBound() {
+    return boundCounters.get();
+  }
+
+  /**
+   * Records the timers and counters of the current thread in the specified counters, or nothing if {@code null}, until
+   * the returned binding is closed. Closing it restores the previous binding, so it must be closed on the same thread.
+   */
+  public static Binding bind(final @Nullable PerformanceCounters counters) {
+    final Binding binding = new Binding(boundCounters.get());
+    setBound(counters);
+    return binding;
+  }
+
+  private static void setBound(final @Nullable PerformanceCounters counters) {
+    if (counters == null) {
+      boundCounters.remove();
+    } else {
+      boundCounters.set(counters);
+    }
+  }
+
+  /**
+   * Returns a task that runs the specified task with the counters bound to the current thread bound to the thread
+   * running it.
+   */
+  public static <T> Callable<T> inheritBinding(final Callable<T> task) {
+    checkNotNull(task);
+    final PerformanceCounters counters = boundCounters.get();
+    return () -> {
+      try (Binding binding = bind(counters)) {
+        return task.call();
+      }
+    };
+  }
+
+  /**
+   * Returns a task that runs the specified task with the counters bound to the current thread bound to the thread
+   * running it.
+   */
+  public static Runnable inheritBinding(final Runnable task) {
+    checkNotNull(task);
+    final PerformanceCounters counters = boundCounters.get();
+    return () -> {
+      try (Binding binding = bind(counters)) {
+        task.run();
+      }
+    };
+  }
+
+  /**
+   * Returns a function that applies the specified function with the counters bound to the current thread bound to the
+   * thread applying it, for example in a parallel stream.
+   */
+  public static <T, R> Function<T, R> inheritBinding(final Function<T, R> function) {
+    checkNotNull(function);
+    final PerformanceCounters counters = boundCounters.get();
+    return value -> {
+      try (Binding binding = bind(counters)) {
+        return function.apply(value);
+      }
+    };
+  }
+
+  /**
+   * Starts a timer that records the time until it is closed under the specified name.
+   */
+  public static Timer startTimer(final String name) {
+    final PerformanceCounters counters = boundCounters.get();
+    if (counters == null) {
+      return DISABLED_TIMER;
+    }
+    return new Timer(counters.getCounter(name), System.nanoTime());
+  }
+
+  public static void increment(final String name) {
+    add(name, 1);
+  }
+
+  /**
+   * Adds the specified amount to the count recorded under the specified name.
+   */
+  public static void add(final String name, final long amount) {
+    final PerformanceCounters counters = boundCounters.get();
+    if (counters != null) {
+      counters.getCounter(name).count.add(amount);
+    }
+  }
+
+  private Counter getCounter(final String name) {
+    return counters.computeIfAbsent(checkNotNull(name), k -> new Counter());
+  }
+
+  /**
+   * Returns the values recorded so far sorted by name.
+   */
+  public SortedMap<String, Metric> getMetrics() {
+    final SortedMap<String, Metric> metrics = new TreeMap<>();
+    for (final Map.Entry<String, Counter> entry : counters.entrySet()) {
+      final Counter counter = entry.getValue();
+      metrics.put(entry.getKey(), new Metric(counter.count.sum(), counter.totalNanos.sum(), counter.maxNanos.get()));
+    }
+    return Collections.unmodifiableSortedMap(metrics);
+  }
+
+  /**
+   * Restores the counters that were bound to the thread before {@link PerformanceCounters#bind(PerformanceCounters)}
+   * when closed.
+   */
+  public static final class Binding implements AutoCloseable {
+    private final PerformanceCounters previous;
+
+    private Binding(final PerformanceCounters previous) {
+      this.previous = previous;
+    }
+
+    @Override
+    public void close() {
+      setBound(previous);
+    }
+  }
+
+  private static final class Counter {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Records the time between its creation and {@link #close()}. Does nothing if no counters were bound to the thread
+   * when it was started.
+   */
+  public static final class Timer implements AutoCloseable {
+    private final Counter counter;
+    private final long startNanos;
+
+    private Timer(final Counter counter, final long startNanos) {
+      this.counter = counter;
+      this.startNanos = startNanos;
+    }
+
+    @Override
+    public void close() {
+      if (counter == null) {
+        return;
+      }
+      final long nanos = System.nanoTime() - startNanos;
+      counter.count.increment();
+      counter.totalNanos.add(nanos);
+      counter.maxNanos.accumulate(nanos);
+    }
+  }
+
+  /**
+   * The values recorded under one name. The times are zero for counters.
+   */
+  public static final class Metric {
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    public Metric(final long count, final long totalNanos, final long maxNanos) {
+      this.count = count;
+      this.totalNanos = totalNanos;
+      this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getTotalNanos() {
+      return totalNanos;
+    }
+
+    public long getMaxNanos() {
+      return maxNanos;
+    }
+
+    /**
+     * Returns the combined values of this and the specified metric.
+     */
+    public Metric add(final Metric other) {
+      return new Metric(count + other.count, totalNanos + other.totalNanos, Math.max(maxNanos, other.maxNanos));
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (!(obj instanceof Metric)) {
+        return false;
+      }
+      final Metric other = (Metric) obj;
+      return count == other.count && totalNanos == other.totalNanos && maxNanos == other.maxNanos;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(count, totalNanos, maxNanos);
+    }
+
+    @Override
+    public String toString() {
+      return "Metric[count=" + count + ", totalNanos=" + totalNanos + ", maxNanos=" + maxNanos + "]";
+    }
+  }
+}
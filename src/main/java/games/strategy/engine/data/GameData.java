@@ -82,6 +82,8 @@ public class GameData implements Serializable {
   private transient List<TerritoryListener> territoryListeners = new CopyOnWriteArrayList<>();
   private transient List<GameDataChangeListener> dataChangeListeners = new CopyOnWriteArrayList<>();
   private transient List<GameMapListener> gameMapListeners = new CopyOnWriteArrayList<>();
+  // the number of changes performed since this instance was created, guarded by the write lock
+  private transient long changeCount = 0;
   private final AllianceTracker alliances = new AllianceTracker();
   // Tracks current relationships between players, this is empty if relationships aren't used
   private final RelationshipTracker relationships = new RelationshipTracker(this);
@@ -312,8 +314,8 @@ public class GameData implements Serializable {
     territoryListeners.forEach(territoryListener -> territoryListener.ownerChanged(t));
   }
 
-  void notifyGameDataChanged(final Change change) {
-    dataChangeListeners.forEach(dataChangelistener -> dataChangelistener.gameDataChanged(change));
+  void notifyGameDataChanged(final Change change, final long changeNumber) {
+    dataChangeListeners.forEach(dataChangelistener -> dataChangelistener.gameDataChanged(change, changeNumber));
   }
 
   void notifyMapDataChanged() {
@@ -512,13 +514,23 @@ public class GameData implements Serializable {
     if (areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
       throw new IllegalStateException("Wrong thread");
     }
+    final long changeNumber;
     try {
       acquireWriteLock();
       change.perform(this);
+      changeNumber = ++changeCount;
     } finally {
       releaseWriteLock();
     }
-    notifyGameDataChanged(change);
+    notifyGameDataChanged(change, changeNumber);
+  }
+
+  /**
+   * Returns the number of changes performed on this game data since it was created or deserialized. The caller must
+   * hold the read or write lock, otherwise a change may be performed concurrently.
+   */
+  long getChangeCount() {
+    return changeCount;
   }
 
   @Override
@@ -0,0 +1,113 @@
+package games.strategy.engine.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.events.GameDataChangeListener;
+
+/**
+ * Records the changes performed on game data after a copy of it was taken, so that the copy can be brought up to date
+ * by performing these changes instead of copying the game data again.
+ *
+ * <p>
+ * Listeners are notified of a change after the lock on the game data is released, so a change performed before the
+ * copy was taken may be notified afterwards, and changes performed by different threads may be notified out of order.
+ * The recorder uses the numbers of the changes to skip the changes already contained in the copy, and hands out the
+ * recorded changes only if they are exactly the changes performed since, in the order they were performed.
+ * </p>
+ */
+public final class GameDataChangeRecorder implements GameDataChangeListener {
+  private final GameData data;
+  private final int maxChanges;
+  private final List<Change> changes = new ArrayList<>();
+  // the number of the last change contained in the copy or recorded
+  private long lastChangeNumber = 0;
+  private boolean isComplete = false;
+
+  /**
+   * Creates a recorder for the specified game data that gives up once more than the specified number of changes were
+   * recorded, because copying the game data again will be quicker then.
+   */
+  public GameDataChangeRecorder(final GameData data, final int maxChanges) {
+    checkArgument(maxChanges >= 0, "maxChanges must not be negative");
+    this.data = checkNotNull(data);
+    this.maxChanges = maxChanges;
+  }
+
+  public GameData getData() {
+    return data;
+  }
+
+  /**
+   * Starts recording the changes performed after the current state of the game data, discarding all changes recorded
+   * so far. The caller must hold the read lock of the game data while taking the copy and calling this method.
+   */
+  public void start() {
+    synchronized (changes) {
+      changes.clear();
+      lastChangeNumber = data.getChangeCount();
+      isComplete = true;
+    }
+    data.addDataChangeListener(this);
+  }
+
+  /**
+   * Stops recording changes and discards the changes recorded so far.
+   */
+  public void stop() {
+    data.removeDataChangeListener(this);
+    synchronized (changes) {
+      changes.clear();
+      isComplete = false;
+    }
+  }
+
+  /**
+   * Returns the changes performed since recording was started or the changes were last taken, and removes them from
+   * the recorder. Returns {@code null} if the changes cannot be proven to be complete, in which case the game data
+   * must be copied again. The caller must hold the read lock of the game data while calling this method and performing
+   * the returned change on the copy.
+   */
+  public @Nullable Change takeChanges() {
+    synchronized (changes) {
+      // a change whose listeners have not been notified yet may not have been recorded
+      if (!isComplete || lastChangeNumber != data.getChangeCount()) {
+        return null;
+      }
+      final Change change = new CompositeChange(new ArrayList<>(changes));
+      changes.clear();
+      return change;
+    }
+  }
+
+  @Override
+  public void gameDataChanged(final Change change) {
+    // without its number it is unknown whether the change is contained in the copy
+    synchronized (changes) {
+      changes.clear();
+      isComplete = false;
+    }
+  }
+
+  @Override
+  public void gameDataChanged(final Change change, final long changeNumber) {
+    synchronized (changes) {
+      if (!isComplete || changeNumber <= lastChangeNumber) {
+        return;
+      }
+      if (changeNumber != lastChangeNumber + 1 || changes.size() >= maxChanges) {
+        // a change is missing or copying the game data again will be quicker
+        changes.clear();
+        isComplete = false;
+      } else {
+        changes.add(change);
+        lastChangeNumber = changeNumber;
+      }
+    }
+  }
+}
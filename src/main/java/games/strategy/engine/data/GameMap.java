@@ -16,6 +16,7 @@ import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 
+import games.strategy.debug.PerformanceCounters;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.util.IntegerMap;
 
@@ -254,10 +255,12 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (t1 == t2) {
       return new Route(t1);
     }
-    if (getNeighbors(t1, cond).contains(t2)) {
-      return new Route(t1, t2);
+    try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("GameMap.getRoute")) {
+      if (getNeighbors(t1, cond).contains(t2)) {
+        return new Route(t1, t2);
+      }
+      return new RouteFinder(this, cond).findRoute(t1, t2);
     }
-    return new RouteFinder(this, cond).findRoute(t1, t2);
   }
 
   /**
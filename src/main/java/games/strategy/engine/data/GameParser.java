@@ -5,18 +5,19 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 import javax.xml.parsers.DocumentBuilder;
@@ -24,16 +25,17 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.ClientContext;
 import games.strategy.engine.GameEngineVersion;
+import games.strategy.engine.data.gameparser.XmlElement;
+import games.strategy.engine.data.gameparser.XmlElementReader;
 import games.strategy.engine.data.gameparser.XmlGameElementMapper;
 import games.strategy.engine.data.properties.BooleanProperty;
 import games.strategy.engine.data.properties.ColorProperty;
@@ -53,6 +55,7 @@ import games.strategy.triplea.attachments.UnitAttachment;
 import games.strategy.triplea.delegate.GenericTechAdvance;
 import games.strategy.triplea.delegate.TechAdvance;
 import games.strategy.triplea.formatter.MyFormatter;
+import games.strategy.util.PropertyAccessors;
 import games.strategy.util.Tuple;
 import games.strategy.util.Version;
 
@@ -60,9 +63,9 @@ import games.strategy.util.Version;
  * Parses a game XML file into a {@link GameData} domain object.
  */
 public final class GameParser {
-  private static final Class<?>[] SETTER_ARGS = {String.class};
   private final GameData data = new GameData();
   private final Collection<SAXParseException> errorsSax = new ArrayList<>();
+  private final Collection<SAXParseException> warningsSax = new ArrayList<>();
   public static final String DTD_FILE_NAME = "game.dtd";
   private final String mapName;
 
@@ -73,6 +76,11 @@ public final class GameParser {
   /**
    * Performs a deep parse of the game definition contained in the specified stream.
    *
+   * <p>
+   * The document is validated and read with a streaming (SAX) reader into a compact element tree rather than a W3C
+   * DOM, and the attachments are validated in parallel once parsing completes.
+   * </p>
+   *
    * @return A complete {@link GameData} instance that can be used to play the game.
    */
   public static GameData parse(final String mapName, final InputStream stream)
@@ -80,11 +88,25 @@ public final class GameParser {
     checkNotNull(mapName);
     checkNotNull(stream);
 
-    return new GameParser(mapName).parse(stream);
+    final GameParser parser = new GameParser(mapName);
+    return parser.parse(parser.readXml(stream));
+  }
+
+  /**
+   * Performs a deep parse of the game definition contained in the specified stream using a validating DOM parser.
+   * This is slower and uses more memory than {@link #parse(String, InputStream)}; both produce equivalent game data.
+   */
+  @VisibleForTesting
+  static GameData parseWithDom(final String mapName, final InputStream stream)
+      throws GameParseException, EngineVersionException {
+    checkNotNull(mapName);
+    checkNotNull(stream);
+
+    final GameParser parser = new GameParser(mapName);
+    return parser.parse(parser.readDom(stream));
   }
 
-  private GameData parse(final InputStream stream) throws GameParseException, EngineVersionException {
-    final Element root = parseDom(stream);
+  private GameData parse(final XmlElement root) throws GameParseException, EngineVersionException {
     parseMapProperties(root);
     parseMapDetails(root);
     return data;
@@ -116,20 +138,28 @@ public final class GameParser {
   }
 
   private GameData parseShallow(final InputStream stream) throws GameParseException, EngineVersionException {
-    final Element root = parseDom(stream);
+    final XmlElement root = readXml(stream);
     parseMapProperties(root);
     return data;
   }
 
-  private Element parseDom(final InputStream stream) throws GameParseException {
+  private XmlElement readXml(final InputStream stream) throws GameParseException {
+    try {
+      return XmlElementReader.read(stream, getDtdSystemId(), newErrorHandler());
+    } catch (final SAXException | IOException e) {
+      throw newGameParseException("failed to parse XML document", e);
+    }
+  }
+
+  private XmlElement readDom(final InputStream stream) throws GameParseException {
     try {
-      return getDocument(stream).getDocumentElement();
+      return XmlElement.fromDom(getDocument(stream).getDocumentElement());
     } catch (final SAXException e) {
       throw newGameParseException("failed to parse XML document", e);
     }
   }
 
-  private void parseMapProperties(final Element root) throws GameParseException, EngineVersionException {
+  private void parseMapProperties(final XmlElement root) throws GameParseException, EngineVersionException {
     // mandatory fields
     // get the name of the map
     parseInfo(getSingleChild("info", root));
@@ -138,60 +168,65 @@ public final class GameParser {
     parseMinimumEngineVersionNumber(getSingleChild("triplea", root, true));
     parseGameLoader(getSingleChild("loader", root));
     // if we manage to get this far, past the minimum engine version number test, AND we are still good, then check and
-    // see if we have any
-    // SAX errors we need to show
-    if (!errorsSax.isEmpty()) {
-      for (final SAXParseException error : errorsSax) {
-        System.err.println("SAXParseException: game: "
-            + (data == null ? "?" : (data.getGameName() == null ? "?" : data.getGameName())) + ", line: "
-            + error.getLineNumber() + ", column: " + error.getColumnNumber() + ", error: " + error.getMessage());
-      }
+    // see if we have any SAX errors we need to show
+    for (final SAXParseException warning : warningsSax) {
+      printSaxParseException(warning, "warning");
+    }
+    for (final SAXParseException error : errorsSax) {
+      printSaxParseException(error, "error");
     }
     parseDiceSides(getSingleChild("diceSides", root, true));
-    final Element playerListNode = getSingleChild("playerList", root);
+    final XmlElement playerListNode = getSingleChild("playerList", root);
     parsePlayerList(playerListNode);
     parseAlliances(playerListNode);
-    final Node properties = getSingleChild("propertyList", root, true);
+    final XmlElement properties = getSingleChild("propertyList", root, true);
     if (properties != null) {
       parseProperties(properties);
     }
   }
 
-  private void parseMapDetails(final Element root) throws GameParseException {
+  private void printSaxParseException(final SAXParseException exception, final String severity) {
+    System.err.println("SAXParseException: game: "
+        + (data.getGameName() == null ? "?" : data.getGameName()) + ", line: "
+        + exception.getLineNumber() + ", column: " + exception.getColumnNumber() + ", " + severity + ": "
+        + exception.getMessage());
+  }
+
+  private void parseMapDetails(final XmlElement root) throws GameParseException {
     parseMap(getSingleChild("map", root));
-    final Element resourceList = getSingleChild("resourceList", root, true);
+    final XmlElement resourceList = getSingleChild("resourceList", root, true);
     if (resourceList != null) {
       parseResources(resourceList);
     }
-    final Element unitList = getSingleChild("unitList", root, true);
+    final XmlElement unitList = getSingleChild("unitList", root, true);
     if (unitList != null) {
       parseUnits(unitList);
     }
     // Parse all different relationshipTypes that are defined in the xml, for example: War, Allied, Neutral, NAP
-    final Element relationshipTypes = getSingleChild("relationshipTypes", root, true);
+    final XmlElement relationshipTypes = getSingleChild("relationshipTypes", root, true);
     if (relationshipTypes != null) {
       parseRelationshipTypes(relationshipTypes);
     }
-    final Element territoryEffectList = getSingleChild("territoryEffectList", root, true);
+    final XmlElement territoryEffectList = getSingleChild("territoryEffectList", root, true);
     if (territoryEffectList != null) {
       parseTerritoryEffects(territoryEffectList);
     }
     parseGamePlay(getSingleChild("gamePlay", root));
-    final Element production = getSingleChild("production", root, true);
+    final XmlElement production = getSingleChild("production", root, true);
     if (production != null) {
       parseProduction(production);
     }
-    final Element technology = getSingleChild("technology", root, true);
+    final XmlElement technology = getSingleChild("technology", root, true);
     if (technology != null) {
       parseTechnology(technology);
     } else {
       TechAdvance.createDefaultTechAdvances(data);
     }
-    final Element attachmentList = getSingleChild("attachmentList", root, true);
+    final XmlElement attachmentList = getSingleChild("attachmentList", root, true);
     if (attachmentList != null) {
       parseAttachments(attachmentList);
     }
-    final Node initialization = getSingleChild("initialize", root, true);
+    final XmlElement initialization = getSingleChild("initialize", root, true);
     if (initialization != null) {
       parseInitialization(initialization);
     }
@@ -215,19 +250,19 @@ public final class GameParser {
     }
   }
 
-  private void parseDiceSides(final Node diceSides) {
+  private void parseDiceSides(final XmlElement diceSides) {
     if (diceSides == null) {
       data.setDiceSides(6);
     } else {
-      data.setDiceSides(Integer.parseInt(((Element) diceSides).getAttribute("value")));
+      data.setDiceSides(Integer.parseInt(diceSides.getAttribute("value")));
     }
   }
 
-  private void parseMinimumEngineVersionNumber(final Node minimumVersion) throws EngineVersionException {
+  private void parseMinimumEngineVersionNumber(final XmlElement minimumVersion) throws EngineVersionException {
     if (minimumVersion == null) {
       return;
     }
-    final Version mapMinimumEngineVersion = new Version(((Element) minimumVersion).getAttribute("minimumVersion"));
+    final Version mapMinimumEngineVersion = new Version(minimumVersion.getAttribute("minimumVersion"));
     if (!GameEngineVersion.of(ClientContext.engineVersion())
         .isCompatibleWithMapMinimumEngineVersion(mapMinimumEngineVersion)) {
       throw new EngineVersionException(
@@ -239,32 +274,46 @@ public final class GameParser {
   }
 
   private void validate() throws GameParseException {
-    // validate unit attachments
-    for (final UnitType u : data.getUnitTypeList()) {
-      validateAttachments(u);
-    }
-    for (final Territory t : data.getMap()) {
-      validateAttachments(t);
-    }
-    for (final Resource r : data.getResourceList().getResources()) {
-      validateAttachments(r);
-    }
-    for (final PlayerID r : data.getPlayerList().getPlayers()) {
-      validateAttachments(r);
-    }
-    for (final RelationshipType r : data.getRelationshipTypeList().getAllRelationshipTypes()) {
-      validateAttachments(r);
-    }
-    for (final TerritoryEffect r : data.getTerritoryEffectList().values()) {
-      validateAttachments(r);
-    }
-    for (final TechAdvance r : data.getTechnologyFrontier().getTechs()) {
-      validateAttachments(r);
-    }
+    final List<Attachable> attachables = new ArrayList<>();
+    data.getUnitTypeList().forEach(attachables::add);
+    data.getMap().forEach(attachables::add);
+    attachables.addAll(data.getResourceList().getResources());
+    attachables.addAll(data.getPlayerList().getPlayers());
+    attachables.addAll(data.getRelationshipTypeList().getAllRelationshipTypes());
+    attachables.addAll(data.getTerritoryEffectList().values());
+    attachables.addAll(data.getTechnologyFrontier().getTechs());
+    validateAttachments(attachables);
     // if relationships are used, every player should have a relationship with every other player
     validateRelationships();
   }
 
+  /**
+   * Validates all attachments in parallel. Validation only reads the fully parsed game data, so the attachments are
+   * independent of each other. If several attachments are invalid, the error of the first one in {@code attachables}
+   * order is reported so that the result does not depend on thread scheduling.
+   */
+  private void validateAttachments(final List<Attachable> attachables) throws GameParseException {
+    final List<IAttachment> attachments = new ArrayList<>();
+    for (final Attachable attachable : attachables) {
+      attachments.addAll(attachable.getAttachments().values());
+    }
+    final Optional<GameParseException> error = IntStream.range(0, attachments.size())
+        .parallel()
+        .mapToObj(i -> {
+          try {
+            attachments.get(i).validate(data);
+            return null;
+          } catch (final GameParseException e) {
+            return e;
+          }
+        })
+        .filter(Objects::nonNull)
+        .findFirst();
+    if (error.isPresent()) {
+      throw error.get();
+    }
+  }
+
   private void validateRelationships() throws GameParseException {
     // for every player
     for (final PlayerID player : data.getPlayerList()) {
@@ -279,48 +328,56 @@ public final class GameParser {
     }
   }
 
-  private void validateAttachments(final Attachable attachable) throws GameParseException {
-    for (final IAttachment a : attachable.getAttachments().values()) {
-      a.validate(data);
+  /**
+   * Returns the system ID against which the game DTD referenced by map XMLs is resolved.
+   */
+  private String getDtdSystemId() {
+    final String dtdFile = "/games/strategy/engine/xml/" + DTD_FILE_NAME;
+    final URL url = GameParser.class.getResource(dtdFile);
+    if (url == null) {
+      throw new RuntimeException(String.format("Map: %s, Could not find in classpath %s", mapName, dtdFile));
     }
+    final String dtdSystem = url.toExternalForm();
+    return dtdSystem.substring(0, dtdSystem.length() - DTD_FILE_NAME.length());
   }
 
   private Document getDocument(final InputStream input) throws SAXException {
     try {
       final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
       factory.setValidating(true);
-      // get the dtd location
-      final String dtdFile = "/games/strategy/engine/xml/" + DTD_FILE_NAME;
-      final URL url = GameParser.class.getResource(dtdFile);
-      if (url == null) {
-        throw new RuntimeException(String.format("Map: %s, Could not find in classpath %s", mapName, dtdFile));
-      }
-      final String dtdSystem = url.toExternalForm();
-      final String system = dtdSystem.substring(0, dtdSystem.length() - 8);
+      final String system = getDtdSystemId();
       final DocumentBuilder builder = factory.newDocumentBuilder();
-      builder.setErrorHandler(new ErrorHandler() {
-        @Override
-        public void fatalError(final SAXParseException exception) {
-          errorsSax.add(exception);
-        }
-
-        @Override
-        public void error(final SAXParseException exception) {
-          errorsSax.add(exception);
-        }
-
-        @Override
-        public void warning(final SAXParseException exception) {
-          errorsSax.add(exception);
-        }
-      });
+      builder.setErrorHandler(newErrorHandler());
       return builder.parse(input, system);
     } catch (final IOException | ParserConfigurationException e) {
       throw new IllegalStateException("Error parsing: " + mapName, e);
     }
   }
 
-  private <T> T getValidatedObject(final Element element, final String attribute,
+  /**
+   * Returns a handler that collects DTD violations so they can be reported once the minimum engine version of the
+   * document has been checked.
+   */
+  private ErrorHandler newErrorHandler() {
+    return new ErrorHandler() {
+      @Override
+      public void fatalError(final SAXParseException exception) {
+        errorsSax.add(exception);
+      }
+
+      @Override
+      public void error(final SAXParseException exception) {
+        errorsSax.add(exception);
+      }
+
+      @Override
+      public void warning(final SAXParseException exception) {
+        warningsSax.add(exception);
+      }
+    };
+  }
+
+  private <T> T getValidatedObject(final XmlElement element, final String attribute,
       final boolean mustFind, final Function<String, T> function, final String errorName)
       throws GameParseException {
     final String name = element.getAttribute(attribute);
@@ -334,7 +391,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the player an exception will be thrown.
    */
-  private PlayerID getPlayerId(final Element element, final String attribute, final boolean mustFind)
+  private PlayerID getPlayerId(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getPlayerList()::getPlayerId, "player");
   }
@@ -346,13 +403,13 @@ public final class GameParser {
    *         declared
    * @throws GameParseException when
    */
-  private RelationshipType getRelationshipType(final Element element, final String attribute, final boolean mustFind)
+  private RelationshipType getRelationshipType(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getRelationshipTypeList()::getRelationshipType,
         "relation");
   }
 
-  private TerritoryEffect getTerritoryEffect(final Element element, final String attribute, final boolean mustFind)
+  private TerritoryEffect getTerritoryEffect(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getTerritoryEffectList()::get, "territoryEffect");
   }
@@ -360,7 +417,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the productionRule an exception will be thrown.
    */
-  private ProductionRule getProductionRule(final Element element, final String attribute, final boolean mustFind)
+  private ProductionRule getProductionRule(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getProductionRuleList()::getProductionRule,
         "production rule");
@@ -369,7 +426,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the productionRule an exception will be thrown.
    */
-  private RepairRule getRepairRule(final Element element, final String attribute, final boolean mustFind)
+  private RepairRule getRepairRule(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getRepairRuleList()::getRepairRule, "repair rule");
   }
@@ -377,7 +434,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the territory an exception will be thrown.
    */
-  private Territory getTerritory(final Element element, final String attribute, final boolean mustFind)
+  private Territory getTerritory(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getMap()::getTerritory, "territory");
   }
@@ -385,7 +442,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the unitType an exception will be thrown.
    */
-  private UnitType getUnitType(final Element element, final String attribute, final boolean mustFind)
+  private UnitType getUnitType(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getUnitTypeList()::getUnitType, "unitType");
   }
@@ -393,7 +450,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the technology an exception will be thrown.
    */
-  private TechAdvance getTechnology(final Element element, final String attribute, final boolean mustFind)
+  private TechAdvance getTechnology(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, this::getTechnology, "technology");
   }
@@ -410,7 +467,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the Delegate an exception will be thrown.
    */
-  private IDelegate getDelegate(final Element element, final String attribute, final boolean mustFind)
+  private IDelegate getDelegate(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getDelegateList()::getDelegate, "delegate");
   }
@@ -418,7 +475,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the Resource an exception will be thrown.
    */
-  private Resource getResource(final Element element, final String attribute, final boolean mustFind)
+  private Resource getResource(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getResourceList()::getResource, "resource");
   }
@@ -426,7 +483,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the productionRule an exception will be thrown.
    */
-  private ProductionFrontier getProductionFrontier(final Element element, final String attribute,
+  private ProductionFrontier getProductionFrontier(final XmlElement element, final String attribute,
       final boolean mustFind) throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getProductionFrontierList()::getProductionFrontier,
         "production frontier");
@@ -435,7 +492,7 @@ public final class GameParser {
   /**
    * If mustfind is true and cannot find the productionRule an exception will be thrown.
    */
-  private RepairFrontier getRepairFrontier(final Element element, final String attribute, final boolean mustFind)
+  private RepairFrontier getRepairFrontier(final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(element, attribute, mustFind, data.getRepairFrontierList()::getRepairFrontier,
         "repair frontier");
@@ -458,15 +515,16 @@ public final class GameParser {
    * Get the given child.
    * If there is not exactly one child throw a SAXExcpetion
    */
-  private Element getSingleChild(final String name, final Element node) throws GameParseException {
+  private XmlElement getSingleChild(final String name, final XmlElement node) throws GameParseException {
     return getSingleChild(name, node, false);
   }
 
   /**
    * If optional is true, will not throw an exception if there are 0 children.
    */
-  private Element getSingleChild(final String name, final Node node, final boolean optional) throws GameParseException {
-    final List<Element> children = getChildren(name, node);
+  private XmlElement getSingleChild(final String name, final XmlElement node, final boolean optional)
+      throws GameParseException {
+    final List<XmlElement> children = getChildren(name, node);
     // none found
     if (children.size() == 0) {
       if (optional) {
@@ -481,50 +539,29 @@ public final class GameParser {
     return children.get(0);
   }
 
-  private static List<Element> getChildren(final String name, final Node node) {
-    final ArrayList<Element> found = new ArrayList<>();
-    final NodeList children = node.getChildNodes();
-    for (int i = 0; i < children.getLength(); i++) {
-      final Node current = children.item(i);
-      if (current.getNodeName().equals(name)) {
-        found.add((Element) current);
-      }
-    }
-    return found;
+  private static List<XmlElement> getChildren(final String name, final XmlElement node) {
+    return node.getChildren(name);
   }
 
-  private static List<Node> getNonTextNodesIgnoring(final Node node, final String ignore) {
-    final List<Node> nonTextNodes = getNonTextNodes(node);
-    final Iterator<Node> iter = nonTextNodes.iterator();
-    while (iter.hasNext()) {
-      if (((Element) iter.next()).getTagName().equals(ignore)) {
-        iter.remove();
-      }
-    }
+  private static List<XmlElement> getNonTextNodesIgnoring(final XmlElement node, final String ignore) {
+    final List<XmlElement> nonTextNodes = getNonTextNodes(node);
+    nonTextNodes.removeIf(element -> element.getName().equals(ignore));
     return nonTextNodes;
   }
 
-  private static List<Node> getNonTextNodes(final Node node) {
-    final ArrayList<Node> found = new ArrayList<>();
-    final NodeList children = node.getChildNodes();
-    for (int i = 0; i < children.getLength(); ++i) {
-      final Node current = children.item(i);
-      if (!(current.getNodeType() == Node.TEXT_NODE)) {
-        found.add(current);
-      }
-    }
-    return found;
+  private static List<XmlElement> getNonTextNodes(final XmlElement node) {
+    return new ArrayList<>(node.getChildren());
   }
 
-  private void parseInfo(final Node info) {
-    final String gameName = ((Element) info).getAttribute("name");
+  private void parseInfo(final XmlElement info) {
+    final String gameName = info.getAttribute("name");
     data.setGameName(gameName);
-    final String version = ((Element) info).getAttribute("version");
+    final String version = info.getAttribute("version");
     data.setGameVersion(new Version(version));
   }
 
-  private void parseGameLoader(final Node loader) throws GameParseException {
-    final String className = ((Element) loader).getAttribute("javaClass");
+  private void parseGameLoader(final XmlElement loader) throws GameParseException {
+    final String className = loader.getAttribute("javaClass");
     final Object instance = getInstance(className);
     if (!(instance instanceof IGameLoader)) {
       throw newGameParseException("Loader must implement IGameLoader.  Class Name:" + className);
@@ -532,23 +569,23 @@ public final class GameParser {
     data.setGameLoader((IGameLoader) instance);
   }
 
-  private void parseMap(final Node map) throws GameParseException {
-    final List<Element> grids = getChildren("grid", map);
+  private void parseMap(final XmlElement map) throws GameParseException {
+    final List<XmlElement> grids = getChildren("grid", map);
     parseGrids(grids);
     // get the Territories
-    final List<Element> territories = getChildren("territory", map);
+    final List<XmlElement> territories = getChildren("territory", map);
     parseTerritories(territories);
-    final List<Element> connections = getChildren("connection", map);
+    final List<XmlElement> connections = getChildren("connection", map);
     parseConnections(connections);
   }
 
-  private void parseGrids(final List<Element> grids) throws GameParseException {
-    for (final Element current : grids) {
+  private void parseGrids(final List<XmlElement> grids) throws GameParseException {
+    for (final XmlElement current : grids) {
       final String gridType = current.getAttribute("type");
       final String name = current.getAttribute("name");
       final String xs = current.getAttribute("x");
       final String ys = current.getAttribute("y");
-      final List<Element> waterNodes = getChildren("water", current);
+      final List<XmlElement> waterNodes = getChildren("water", current);
       final Set<String> water = parseGridWater(waterNodes);
       final String horizontalConnections = current.getAttribute("horizontal-connections");
       final String verticalConnections = current.getAttribute("vertical-connections");
@@ -703,9 +740,9 @@ public final class GameParser {
     }
   }
 
-  private static Set<String> parseGridWater(final List<Element> waterNodes) {
+  private static Set<String> parseGridWater(final List<XmlElement> waterNodes) {
     final Set<String> set = new HashSet<>();
-    for (final Element current : waterNodes) {
+    for (final XmlElement current : waterNodes) {
       final int x = Integer.valueOf(current.getAttribute("x"));
       final int y = Integer.valueOf(current.getAttribute("y"));
       set.add(x + "-" + y);
@@ -713,9 +750,9 @@ public final class GameParser {
     return set;
   }
 
-  private void parseTerritories(final List<Element> territories) {
+  private void parseTerritories(final List<XmlElement> territories) {
     final GameMap map = data.getMap();
-    for (final Element current : territories) {
+    for (final XmlElement current : territories) {
       final boolean water = current.getAttribute("water").trim().equalsIgnoreCase("true");
       final String name = current.getAttribute("name");
       final Territory newTerritory = new Territory(name, water, data);
@@ -723,36 +760,36 @@ public final class GameParser {
     }
   }
 
-  private void parseConnections(final List<Element> connections) throws GameParseException {
+  private void parseConnections(final List<XmlElement> connections) throws GameParseException {
     final GameMap map = data.getMap();
-    for (final Element current : connections) {
+    for (final XmlElement current : connections) {
       final Territory t1 = getTerritory(current, "t1", true);
       final Territory t2 = getTerritory(current, "t2", true);
       map.addConnection(t1, t2);
     }
   }
 
-  private void parseResources(final Element root) {
+  private void parseResources(final XmlElement root) {
     getChildren("resource", root).stream()
         .map(e -> e.getAttribute("name"))
         .map(name -> new Resource(name, data))
         .forEach(data.getResourceList()::addResource);
   }
 
-  private void parseRelationshipTypes(final Element root) {
+  private void parseRelationshipTypes(final XmlElement root) {
     getChildren("relationshipType", root).stream()
         .map(e -> e.getAttribute("name"))
         .map(name -> new RelationshipType(name, data))
         .forEach(data.getRelationshipTypeList()::addRelationshipType);
   }
 
-  private void parseTerritoryEffects(final Element root) {
+  private void parseTerritoryEffects(final XmlElement root) {
     getChildren("territoryEffect", root).stream()
         .map(e -> e.getAttribute("name"))
         .forEach(name -> data.getTerritoryEffectList().put(name, new TerritoryEffect(name, data)));
   }
 
-  private void parseUnits(final Element root) {
+  private void parseUnits(final XmlElement root) {
     getChildren("unit", root).stream()
         .map(e -> e.getAttribute("name"))
         .map(name -> new UnitType(name, data))
@@ -763,9 +800,9 @@ public final class GameParser {
    * @param root
    *        root node containing the playerList.
    */
-  private void parsePlayerList(final Element root) {
+  private void parsePlayerList(final XmlElement root) {
     final PlayerList playerList = data.getPlayerList();
-    for (final Element current : getChildren("player", root)) {
+    for (final XmlElement current : getChildren("player", root)) {
       final String name = current.getAttribute("name");
       // It appears the commented line ALWAYS returns false regardless of the value of current.getAttribute("optional")
       // boolean isOptional = Boolean.getBoolean(current.getAttribute("optional"));
@@ -778,10 +815,10 @@ public final class GameParser {
     }
   }
 
-  private void parseAlliances(final Element root) throws GameParseException {
+  private void parseAlliances(final XmlElement root) throws GameParseException {
     final AllianceTracker allianceTracker = data.getAllianceTracker();
     final Collection<PlayerID> players = data.getPlayerList().getPlayers();
-    for (final Element current : getChildren("alliance", root)) {
+    for (final XmlElement current : getChildren("alliance", root)) {
       final PlayerID p1 = getPlayerId(current, "player", true);
       final String alliance = current.getAttribute("alliance");
       allianceTracker.addToAlliance(p1, alliance);
@@ -815,10 +852,10 @@ public final class GameParser {
     }
   }
 
-  private void parseRelationInitialize(final List<Element> relations) throws GameParseException {
+  private void parseRelationInitialize(final List<XmlElement> relations) throws GameParseException {
     if (relations.size() > 0) {
       final RelationshipTracker tracker = data.getRelationshipTracker();
-      for (final Element current : relations) {
+      for (final XmlElement current : relations) {
         final PlayerID p1 = getPlayerId(current, "player1", true);
         final PlayerID p2 = getPlayerId(current, "player2", true);
         final RelationshipType r = getRelationshipType(current, "type", true);
@@ -828,24 +865,24 @@ public final class GameParser {
     }
   }
 
-  private void parseGamePlay(final Element root) throws GameParseException {
+  private void parseGamePlay(final XmlElement root) throws GameParseException {
     parseDelegates(getChildren("delegate", root));
     parseSequence(getSingleChild("sequence", root));
     parseOffset(getSingleChild("offset", root, true));
   }
 
-  private void parseProperties(final Node root) throws GameParseException {
+  private void parseProperties(final XmlElement root) throws GameParseException {
     final Collection<String> runningList = new ArrayList<>();
     final GameProperties properties = data.getProperties();
-    for (final Element current : getChildren("property", root)) {
+    for (final XmlElement current : getChildren("property", root)) {
       final String editable = current.getAttribute("editable");
       final String property = current.getAttribute("name");
       String value = current.getAttribute("value");
       runningList.add(property);
       if (value == null || value.length() == 0) {
-        final List<Element> valueChildren = getChildren("value", current);
+        final List<XmlElement> valueChildren = getChildren("value", current);
         if (!valueChildren.isEmpty()) {
-          final Element valueNode = valueChildren.get(0);
+          final XmlElement valueNode = valueChildren.get(0);
           if (valueNode != null) {
             value = valueNode.getTextContent();
           }
@@ -854,7 +891,7 @@ public final class GameParser {
       if (editable != null && editable.equalsIgnoreCase("true")) {
         parseEditableProperty(current, property, value);
       } else {
-        final List<Node> children2 = getNonTextNodesIgnoring(current, "value");
+        final List<XmlElement> children2 = getNonTextNodesIgnoring(current, "value");
         if (children2.size() == 0) {
           // we don't know what type this property is!!, it appears like only numbers and string may be represented
           // without proper type
@@ -868,7 +905,7 @@ public final class GameParser {
             properties.set(property, value);
           }
         } else {
-          final String type = children2.get(0).getNodeName();
+          final String type = children2.get(0).getName();
           if (type.equals("boolean")) {
             properties.set(property, Boolean.valueOf(value));
           } else if (type.equals("file")) {
@@ -895,17 +932,17 @@ public final class GameParser {
         new NumberProperty(Constants.getPuIncomeBonus(playerId), null, 999, 0, 0)));
   }
 
-  private void parseEditableProperty(final Element property, final String name, final String defaultValue)
+  private void parseEditableProperty(final XmlElement property, final String name, final String defaultValue)
       throws GameParseException {
     // what type
-    final List<Node> children = getNonTextNodes(property);
+    final List<XmlElement> children = getNonTextNodes(property);
     if (children.size() != 1) {
       throw newGameParseException(
           "Editable properties must have exactly 1 child specifying the type. Number of children found:"
-              + children.size() + " for node:" + property.getNodeName());
+              + children.size() + " for node:" + property.getName());
     }
-    final Element child = (Element) children.get(0);
-    final String childName = child.getNodeName();
+    final XmlElement child = children.get(0);
+    final String childName = child.getName();
     final IEditableProperty editableProperty;
     if (childName.equals("boolean")) {
       editableProperty = new BooleanProperty(name, null, Boolean.valueOf(defaultValue).booleanValue());
@@ -935,17 +972,17 @@ public final class GameParser {
     data.getProperties().addEditableProperty(editableProperty);
   }
 
-  private void parseOffset(final Node offsetAttributes) {
+  private void parseOffset(final XmlElement offsetAttributes) {
     if (offsetAttributes == null) {
       return;
     }
-    final int roundOffset = Integer.parseInt(((Element) offsetAttributes).getAttribute("round"));
+    final int roundOffset = Integer.parseInt(offsetAttributes.getAttribute("round"));
     data.getSequence().setRoundOffset(roundOffset);
   }
 
-  private void parseDelegates(final List<Element> delegateList) throws GameParseException {
+  private void parseDelegates(final List<XmlElement> delegateList) throws GameParseException {
     final DelegateList delegates = data.getDelegateList();
-    for (final Element current : delegateList) {
+    for (final XmlElement current : delegateList) {
       // load the class
       final String className = current.getAttribute("javaClass");
       final XmlGameElementMapper elementMapper = new XmlGameElementMapper();
@@ -962,17 +999,17 @@ public final class GameParser {
     }
   }
 
-  private void parseSequence(final Node sequence) throws GameParseException {
+  private void parseSequence(final XmlElement sequence) throws GameParseException {
     parseSteps(getChildren("step", sequence));
   }
 
-  private void parseSteps(final List<Element> stepList) throws GameParseException {
-    for (final Element current : stepList) {
+  private void parseSteps(final List<XmlElement> stepList) throws GameParseException {
+    for (final XmlElement current : stepList) {
       final IDelegate delegate = getDelegate(current, "delegate", true);
       final PlayerID player = getPlayerId(current, "player", false);
       final String name = current.getAttribute("name");
       String displayName = null;
-      final List<Element> propertyElements = getChildren("stepProperty", current);
+      final List<XmlElement> propertyElements = getChildren("stepProperty", current);
       final Properties stepProperties = pareStepProperties(propertyElements);
       if (current.hasAttribute("display")) {
         displayName = current.getAttribute("display");
@@ -989,9 +1026,9 @@ public final class GameParser {
     }
   }
 
-  private static Properties pareStepProperties(final List<Element> properties) {
+  private static Properties pareStepProperties(final List<XmlElement> properties) {
     final Properties stepProperties = new Properties();
-    for (final Element stepProperty : properties) {
+    for (final XmlElement stepProperty : properties) {
       final String name = stepProperty.getAttribute("name");
       final String value = stepProperty.getAttribute("value");
       stepProperties.setProperty(name, value);
@@ -999,7 +1036,7 @@ public final class GameParser {
     return stepProperties;
   }
 
-  private void parseProduction(final Node root) throws GameParseException {
+  private void parseProduction(final XmlElement root) throws GameParseException {
     parseProductionRules(getChildren("productionRule", root));
     parseProductionFrontiers(getChildren("productionFrontier", root));
     parsePlayerProduction(getChildren("playerProduction", root));
@@ -1008,13 +1045,13 @@ public final class GameParser {
     parsePlayerRepair(getChildren("playerRepair", root));
   }
 
-  private void parseTechnology(final Node root) throws GameParseException {
+  private void parseTechnology(final XmlElement root) throws GameParseException {
     parseTechnologies(getSingleChild("technologies", root, true));
     parsePlayerTech(getChildren("playerTech", root));
   }
 
-  private void parseProductionRules(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseProductionRules(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final ProductionRule rule = new ProductionRule(name, data);
       parseCosts(rule, getChildren("cost", current));
@@ -1023,8 +1060,8 @@ public final class GameParser {
     }
   }
 
-  private void parseRepairRules(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseRepairRules(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final RepairRule rule = new RepairRule(name, data);
       parseRepairCosts(rule, getChildren("cost", current));
@@ -1033,33 +1070,33 @@ public final class GameParser {
     }
   }
 
-  private void parseCosts(final ProductionRule rule, final List<Element> elements) throws GameParseException {
+  private void parseCosts(final ProductionRule rule, final List<XmlElement> elements) throws GameParseException {
     if (elements.size() == 0) {
       throw newGameParseException("no costs  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final Resource resource = getResource(current, "resource", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
       rule.addCost(resource, quantity);
     }
   }
 
-  private void parseRepairCosts(final RepairRule rule, final List<Element> elements) throws GameParseException {
+  private void parseRepairCosts(final RepairRule rule, final List<XmlElement> elements) throws GameParseException {
     if (elements.size() == 0) {
       throw newGameParseException("no costs  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final Resource resource = getResource(current, "resource", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
       rule.addCost(resource, quantity);
     }
   }
 
-  private void parseResults(final ProductionRule rule, final List<Element> elements) throws GameParseException {
+  private void parseResults(final ProductionRule rule, final List<XmlElement> elements) throws GameParseException {
     if (elements.size() == 0) {
       throw newGameParseException("no results  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       // must find either a resource or a unit with the given name
       NamedAttachable result = getResource(current, "resourceOrUnit", false);
       if (result == null) {
@@ -1073,11 +1110,11 @@ public final class GameParser {
     }
   }
 
-  private void parseRepairResults(final RepairRule rule, final List<Element> elements) throws GameParseException {
+  private void parseRepairResults(final RepairRule rule, final List<XmlElement> elements) throws GameParseException {
     if (elements.size() == 0) {
       throw newGameParseException("no results  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       // must find either a resource or a unit with the given name
       NamedAttachable result = getResource(current, "resourceOrUnit", false);
       if (result == null) {
@@ -1091,9 +1128,9 @@ public final class GameParser {
     }
   }
 
-  private void parseProductionFrontiers(final List<Element> elements) throws GameParseException {
+  private void parseProductionFrontiers(final List<XmlElement> elements) throws GameParseException {
     final ProductionFrontierList frontiers = data.getProductionFrontierList();
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final ProductionFrontier frontier = new ProductionFrontier(name, data);
       parseFrontierRules(getChildren("frontierRules", current), frontier);
@@ -1101,7 +1138,7 @@ public final class GameParser {
     }
   }
 
-  private void parseTechnologies(final Node element) {
+  private void parseTechnologies(final XmlElement element) {
     if (element == null) {
       return;
     }
@@ -1109,26 +1146,26 @@ public final class GameParser {
     parseTechs(getChildren("techname", element), allTechs);
   }
 
-  private void parsePlayerTech(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parsePlayerTech(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerID player = getPlayerId(current, "player", true);
       final TechnologyFrontierList categories = player.getTechnologyFrontierList();
       parseCategories(getChildren("category", current), categories);
     }
   }
 
-  private void parseCategories(final List<Element> elements, final TechnologyFrontierList categories)
+  private void parseCategories(final List<XmlElement> elements, final TechnologyFrontierList categories)
       throws GameParseException {
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final TechnologyFrontier tf = new TechnologyFrontier(current.getAttribute("name"), data);
       parseCategoryTechs(getChildren("tech", current), tf);
       categories.addTechnologyFrontier(tf);
     }
   }
 
-  private void parseRepairFrontiers(final List<Element> elements) throws GameParseException {
+  private void parseRepairFrontiers(final List<XmlElement> elements) throws GameParseException {
     final RepairFrontierList frontiers = data.getRepairFrontierList();
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final RepairFrontier frontier = new RepairFrontier(name, data);
       parseRepairFrontierRules(getChildren("repairRules", current), frontier);
@@ -1136,31 +1173,31 @@ public final class GameParser {
     }
   }
 
-  private void parsePlayerProduction(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parsePlayerProduction(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerID player = getPlayerId(current, "player", true);
       final ProductionFrontier frontier = getProductionFrontier(current, "frontier", true);
       player.setProductionFrontier(frontier);
     }
   }
 
-  private void parsePlayerRepair(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parsePlayerRepair(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerID player = getPlayerId(current, "player", true);
       final RepairFrontier repairFrontier = getRepairFrontier(current, "frontier", true);
       player.setRepairFrontier(repairFrontier);
     }
   }
 
-  private void parseFrontierRules(final List<Element> elements, final ProductionFrontier frontier)
+  private void parseFrontierRules(final List<XmlElement> elements, final ProductionFrontier frontier)
       throws GameParseException {
-    for (final Element element : elements) {
+    for (final XmlElement element : elements) {
       frontier.addRule(getProductionRule(element, "name", true));
     }
   }
 
-  private void parseTechs(final List<Element> elements, final TechnologyFrontier allTechsFrontier) {
-    for (final Element current : elements) {
+  private void parseTechs(final List<XmlElement> elements, final TechnologyFrontier allTechsFrontier) {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final String tech = current.getAttribute("tech");
       TechAdvance ta;
@@ -1177,9 +1214,9 @@ public final class GameParser {
     }
   }
 
-  private void parseCategoryTechs(final List<Element> elements, final TechnologyFrontier frontier)
+  private void parseCategoryTechs(final List<XmlElement> elements, final TechnologyFrontier frontier)
       throws GameParseException {
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       TechAdvance ta = data.getTechnologyFrontier().getAdvanceByProperty(current.getAttribute("name"));
       if (ta == null) {
         ta = data.getTechnologyFrontier().getAdvanceByName(current.getAttribute("name"));
@@ -1191,19 +1228,19 @@ public final class GameParser {
     }
   }
 
-  private void parseRepairFrontierRules(final List<Element> elements, final RepairFrontier frontier)
+  private void parseRepairFrontierRules(final List<XmlElement> elements, final RepairFrontier frontier)
       throws GameParseException {
-    for (final Element element : elements) {
+    for (final XmlElement element : elements) {
       frontier.addRule(getRepairRule(element, "name", true));
     }
   }
 
-  private void parseAttachments(final Element root) throws GameParseException {
-    for (final Element current : getChildren("attachment", root)) {
+  private void parseAttachments(final XmlElement root) throws GameParseException {
+    for (final XmlElement current : getChildren("attachment", root)) {
       final String className = current.getAttribute("javaClass");
       final Attachable attachable = findAttachment(current, current.getAttribute("type"));
       final String name = current.getAttribute("name");
-      final List<Element> options = getChildren("option", current);
+      final List<XmlElement> options = getChildren("option", current);
       final IAttachment attachment = new XmlGameElementMapper().getAttachment(className, name, attachable, data)
           .orElseThrow(() -> newGameParseException("Attachment of type " + className + " could not be instantiated"));
       attachable.addAttachment(name, attachment);
@@ -1214,7 +1251,7 @@ public final class GameParser {
     }
   }
 
-  private Attachable findAttachment(final Element element, final String type) throws GameParseException {
+  private Attachable findAttachment(final XmlElement element, final String type) throws GameParseException {
     final Attachable returnVal;
     final String name = "attachTo";
     if (type.equals("unitType")) {
@@ -1237,30 +1274,21 @@ public final class GameParser {
     return returnVal;
   }
 
-  private static String capitalizeFirstLetter(final String input) {
-    char first = input.charAt(0);
-    first = Character.toUpperCase(first);
-    return first + input.substring(1);
-  }
-
-  private ArrayList<Tuple<String, String>> setValues(final IAttachment attachment, final List<Element> values)
+  private ArrayList<Tuple<String, String>> setValues(final IAttachment attachment, final List<XmlElement> values)
       throws GameParseException {
     final ArrayList<Tuple<String, String>> options = new ArrayList<>();
-    for (final Element current : values) {
+    final PropertyAccessors setters = PropertyAccessors.forClass(attachment.getClass());
+    for (final XmlElement current : values) {
       // find the setter
       final String name = current.getAttribute("name");
       if (name.length() == 0) {
         throw newGameParseException("Option name with 0 length");
       }
-      final Method setter;
-      try {
-        setter = attachment.getClass().getMethod("set" + capitalizeFirstLetter(name), SETTER_ARGS);
-      } catch (final NoSuchMethodException nsme) {
-        throw newGameParseException(String.format(
-            "The following option name of %s of class %s are either misspelled"
-                + " or exist only in a future version of TripleA. Setter: %s",
-            attachment.getName(), attachment.getClass().getSimpleName(), name));
-      }
+      final MethodHandle setter = setters.getSetter(name, String.class).orElseThrow(
+          () -> newGameParseException(String.format(
+              "The following option name of %s of class %s are either misspelled"
+                  + " or exist only in a future version of TripleA. Setter: %s",
+              attachment.getName(), attachment.getClass().getSimpleName(), name)));
       // find the value
       final String value = current.getAttribute("value");
       final String count = current.getAttribute("count");
@@ -1272,44 +1300,43 @@ public final class GameParser {
       }
       // invoke
       try {
-        setter.invoke(attachment, itemValues);
-      } catch (final IllegalAccessException iae) {
-        throw newGameParseException(
-            "Setter not public. Setter:" + name + " Class:" + attachment.getClass().getName(), iae);
-      } catch (final InvocationTargetException ite) {
-        throw newGameParseException("Error setting property:" + name, ite);
+        setter.invokeExact((Object) attachment, (Object) itemValues);
+      } catch (final Error e) {
+        throw e;
+      } catch (final Throwable e) {
+        throw newGameParseException("Error setting property:" + name, e);
       }
       options.add(Tuple.of(name, itemValues));
     }
     return options;
   }
 
-  private void parseInitialization(final Node root) throws GameParseException {
+  private void parseInitialization(final XmlElement root) throws GameParseException {
     // parse territory owners
-    final Node owner = getSingleChild("ownerInitialize", root, true);
+    final XmlElement owner = getSingleChild("ownerInitialize", root, true);
     if (owner != null) {
       parseOwner(getChildren("territoryOwner", owner));
     }
     // parse initial unit placement
-    final Node unit = getSingleChild("unitInitialize", root, true);
+    final XmlElement unit = getSingleChild("unitInitialize", root, true);
     if (unit != null) {
       parseUnitPlacement(getChildren("unitPlacement", unit));
       parseHeldUnits(getChildren("heldUnits", unit));
     }
     // parse resources given
-    final Node resource = getSingleChild("resourceInitialize", root, true);
+    final XmlElement resource = getSingleChild("resourceInitialize", root, true);
     if (resource != null) {
       parseResourceInitialization(getChildren("resourceGiven", resource));
     }
     // parse relationships
-    final Node relationInitialize = getSingleChild("relationshipInitialize", root, true);
+    final XmlElement relationInitialize = getSingleChild("relationshipInitialize", root, true);
     if (relationInitialize != null) {
       parseRelationInitialize(getChildren("relationship", relationInitialize));
     }
   }
 
-  private void parseOwner(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseOwner(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final Territory territory = getTerritory(current, "territory", true);
       final PlayerID owner = getPlayerId(current, "owner", true);
       territory.setOwner(owner);
@@ -1336,8 +1363,8 @@ public final class GameParser {
     }
   }
 
-  private void parseUnitPlacement(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseUnitPlacement(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final Territory territory = getTerritory(current, "territory", true);
       final UnitType type = getUnitType(current, "unitType", true);
       final String ownerString = current.getAttribute("owner");
@@ -1373,8 +1400,8 @@ public final class GameParser {
     }
   }
 
-  private void parseHeldUnits(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseHeldUnits(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerID player = getPlayerId(current, "player", true);
       final UnitType type = getUnitType(current, "unitType", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
@@ -1382,8 +1409,8 @@ public final class GameParser {
     }
   }
 
-  private void parseResourceInitialization(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseResourceInitialization(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final PlayerID player = getPlayerId(current, "player", true);
       final Resource resource = getResource(current, "resource", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
@@ -42,6 +42,19 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
     }
   }
 
+  /**
+   * Moves to the same round and step as the specified sequence, which must have the same steps as this one, like the
+   * sequence of a copy of the same game data.
+   */
+  public synchronized void setRoundAndStep(final GameSequence other) {
+    if (other.size() != m_steps.size()) {
+      throw new IllegalArgumentException("Sequences do not have the same steps");
+    }
+    m_round = other.getRound() - other.getRoundOffset();
+    m_roundOffset = other.getRoundOffset();
+    m_currentIndex = other.getStepIndex();
+  }
+
   public void addStep(final GameStep step) {
     m_steps.add(step);
   }
@@ -7,4 +7,13 @@ import games.strategy.engine.data.Change;
  */
 public interface GameDataChangeListener {
   void gameDataChanged(Change change);
+
+  /**
+   * Called by the game data after the specified change was performed. The changes performed on the game data are
+   * numbered consecutively starting with 1, but listeners are notified after the lock on the game data is released, so
+   * the notifications of changes performed by different threads may arrive out of order.
+   */
+  default void gameDataChanged(final Change change, final long changeNumber) {
+    gameDataChanged(change);
+  }
 }
@@ -0,0 +1,123 @@
+package games.strategy.engine.data.gameparser;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * A compact, read-only element of a game XML document.
+ *
+ * <p>
+ * Unlike a W3C DOM, this tree keeps only elements, their attributes and their text content, which is all the game
+ * parser needs. Attribute lookups follow the DOM convention of returning an empty string for a missing attribute so
+ * that trees built from a DOM and trees built from a SAX stream are interchangeable. Text is only retained for
+ * elements without child elements; the game DTD does not allow mixed content, so any text between child elements is
+ * formatting whitespace.
+ * </p>
+ */
+public final class XmlElement {
+  private final String name;
+  private final Map<String, String> attributes;
+  private final List<XmlElement> children;
+  private final String text;
+
+  XmlElement(
+      final String name,
+      final Map<String, String> attributes,
+      final List<XmlElement> children,
+      final String text) {
+    this.name = checkNotNull(name);
+    this.attributes = ImmutableMap.copyOf(attributes);
+    this.children = children.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(children);
+    this.text = children.isEmpty() ? checkNotNull(text) : "";
+  }
+
+  /**
+   * Creates a tree that mirrors the element nodes of the specified DOM element.
+   */
+  public static XmlElement fromDom(final Element element) {
+    checkNotNull(element);
+
+    final ImmutableMap.Builder<String, String> attributes = ImmutableMap.builder();
+    final NamedNodeMap domAttributes = element.getAttributes();
+    for (int i = 0; i < domAttributes.getLength(); i++) {
+      final Attr attribute = (Attr) domAttributes.item(i);
+      attributes.put(attribute.getName(), attribute.getValue());
+    }
+    final List<XmlElement> children = new ArrayList<>();
+    final NodeList childNodes = element.getChildNodes();
+    for (int i = 0; i < childNodes.getLength(); i++) {
+      final Node child = childNodes.item(i);
+      if (child.getNodeType() == Node.ELEMENT_NODE) {
+        children.add(fromDom((Element) child));
+      }
+    }
+    return new XmlElement(element.getTagName(), attributes.build(), children,
+        children.isEmpty() ? element.getTextContent() : "");
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the value of the specified attribute or an empty string if the element does not have such an attribute.
+   */
+  public String getAttribute(final String attributeName) {
+    return attributes.getOrDefault(attributeName, "");
+  }
+
+  public boolean hasAttribute(final String attributeName) {
+    return attributes.containsKey(attributeName);
+  }
+
+  /**
+   * Returns the concatenated text of this element and all of its descendants.
+   */
+  public String getTextContent() {
+    if (children.isEmpty()) {
+      return text;
+    }
+    final StringBuilder sb = new StringBuilder();
+    for (final XmlElement child : children) {
+      sb.append(child.getTextContent());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns all child elements in document order.
+   */
+  public List<XmlElement> getChildren() {
+    return children;
+  }
+
+  /**
+   * Returns the child elements with the specified name in document order.
+   */
+  public List<XmlElement> getChildren(final String childName) {
+    final List<XmlElement> found = new ArrayList<>();
+    for (final XmlElement child : children) {
+      if (child.name.equals(childName)) {
+        found.add(child);
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public String toString() {
+    return "<" + name + " " + attributes + ">";
+  }
+}
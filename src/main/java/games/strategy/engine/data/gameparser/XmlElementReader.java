@@ -0,0 +1,154 @@
+package games.strategy.engine.data.gameparser;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Builds an {@link XmlElement} tree directly from SAX events.
+ *
+ * <p>
+ * This avoids materializing a W3C DOM (and its per-character text nodes) for large game XMLs. The document is still
+ * validated against its document type definition, and default attribute values declared in the DTD are reported
+ * exactly as they are by a DOM parser. Element and attribute names are shared between elements to keep the tree
+ * small.
+ * </p>
+ */
+public final class XmlElementReader {
+  private final Map<String, String> names = new HashMap<>();
+  private final Deque<ElementBuilder> open = new ArrayDeque<>();
+  private final ErrorHandler errorHandler;
+  private XmlElement root;
+
+  private XmlElementReader(final ErrorHandler errorHandler) {
+    this.errorHandler = errorHandler;
+  }
+
+  /**
+   * Reads and validates the root element of the specified document.
+   *
+   * @param stream The stream containing the XML document. The caller is responsible for closing it.
+   * @param systemId The system ID against which relative references (e.g. the game DTD) are resolved.
+   * @param errorHandler The handler to which DTD violations are reported. Parsing stops if the handler throws.
+   *
+   * @return The root element of the document.
+   *
+   * @throws SAXException If the document is not well-formed or the error handler rejected a DTD violation.
+   * @throws IOException If the document cannot be read.
+   */
+  public static XmlElement read(final InputStream stream, final String systemId, final ErrorHandler errorHandler)
+      throws SAXException, IOException {
+    checkNotNull(stream);
+    checkNotNull(systemId);
+    checkNotNull(errorHandler);
+
+    return new XmlElementReader(errorHandler).readDocument(stream, systemId);
+  }
+
+  private XmlElement readDocument(final InputStream stream, final String systemId) throws SAXException, IOException {
+    final SAXParser parser;
+    try {
+      final SAXParserFactory factory = SAXParserFactory.newInstance();
+      factory.setValidating(true);
+      factory.setNamespaceAware(false);
+      parser = factory.newSAXParser();
+    } catch (final ParserConfigurationException e) {
+      throw new IllegalStateException("failed to create validating XML parser", e);
+    }
+    final InputSource source = new InputSource(stream);
+    source.setSystemId(systemId);
+    parser.parse(source, new Handler());
+    if (root == null) {
+      throw new SAXException("document has no root element");
+    }
+    return root;
+  }
+
+  private String intern(final String name) {
+    final String existing = names.putIfAbsent(name, name);
+    return existing != null ? existing : name;
+  }
+
+  private final class Handler extends DefaultHandler {
+    @Override
+    public void startElement(final String uri, final String localName, final String qualifiedName,
+        final Attributes attributes) {
+      open.push(new ElementBuilder(qualifiedName, attributes));
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qualifiedName) {
+      final XmlElement element = open.pop().build();
+      if (open.isEmpty()) {
+        root = element;
+      } else {
+        open.peek().children.add(element);
+      }
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+      if (!open.isEmpty()) {
+        open.peek().text.append(ch, start, length);
+      }
+    }
+
+    @Override
+    public void ignorableWhitespace(final char[] ch, final int start, final int length) {
+      characters(ch, start, length);
+    }
+
+    @Override
+    public void warning(final SAXParseException e) throws SAXException {
+      errorHandler.warning(e);
+    }
+
+    @Override
+    public void error(final SAXParseException e) throws SAXException {
+      errorHandler.error(e);
+    }
+
+    @Override
+    public void fatalError(final SAXParseException e) throws SAXException {
+      errorHandler.fatalError(e);
+      throw e;
+    }
+  }
+
+  private final class ElementBuilder {
+    final String name;
+    final Map<String, String> attributes = new LinkedHashMap<>();
+    final List<XmlElement> children = new ArrayList<>();
+    final StringBuilder text = new StringBuilder();
+
+    ElementBuilder(final String name, final Attributes attributes) {
+      this.name = intern(name);
+      for (int i = 0; i < attributes.getLength(); i++) {
+        this.attributes.put(intern(attributes.getQName(i)), attributes.getValue(i));
+      }
+    }
+
+    XmlElement build() {
+      return new XmlElement(name, attributes, children, text.toString());
+    }
+  }
+}
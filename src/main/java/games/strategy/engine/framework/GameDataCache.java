@@ -0,0 +1,181 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.ClientContext;
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.EngineVersionException;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParseException;
+import games.strategy.engine.data.GameParser;
+import games.strategy.util.UrlStreams;
+
+/**
+ * A cache of fully parsed game data, stored in the save game format.
+ *
+ * <p>
+ * Parsing a game XML and validating all of its attachments takes far longer than loading the same game from a save.
+ * This cache stores the initial game data produced by {@link GameParser#parse(String, InputStream)} and returns a
+ * copy of it the next time the same game is started. Entries are keyed by the SHA-256 hash of the XML content and the
+ * exact engine version, so an entry is never used once either the game or the engine changes. Only the most recently
+ * used entries are kept.
+ * </p>
+ *
+ * <p>
+ * A stored entry is not read back to verify it. An entry that cannot be restored is only detected when it is next
+ * loaded; it is then replaced with an empty marker file and the game is parsed from its XML from then on.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+public final class GameDataCache {
+  private static final String CACHE_FOLDER_NAME = "gameDataCache";
+  private static final String ENTRY_EXTENSION = ".tsvg";
+  private static final int MAX_ENTRIES = 50;
+
+  private final File directory;
+
+  @VisibleForTesting
+  GameDataCache(final File directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Returns the cache located in the user's root folder.
+   */
+  public static GameDataCache getInstance() {
+    return new GameDataCache(new File(ClientFileSystemHelper.getUserRootFolder(), CACHE_FOLDER_NAME));
+  }
+
+  /**
+   * Parses the game located at the specified URI, loading the game data from the cache if the game has been parsed
+   * before by this engine version.
+   *
+   * @param uri The game URI.
+   *
+   * @return The parsed game data or empty if the game no longer exists.
+   *
+   * @throws IOException If an error occurs while reading the game XML.
+   * @throws GameParseException If the game XML is invalid.
+   * @throws EngineVersionException If the game requires a newer engine.
+   */
+  public Optional<GameData> parse(final URI uri) throws IOException, GameParseException, EngineVersionException {
+    checkNotNull(uri);
+
+    final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
+    if (!inputStream.isPresent()) {
+      return Optional.empty();
+    }
+    final byte[] xml;
+    try (InputStream input = inputStream.get()) {
+      xml = ByteStreams.toByteArray(input);
+    }
+
+    final File entryFile = getEntryFile(xml);
+    if (entryFile.isFile()) {
+      final @Nullable GameData cachedData = load(entryFile);
+      if (cachedData != null) {
+        return Optional.of(cachedData);
+      }
+    }
+    final GameData data = GameParser.parse(uri.toString(), new ByteArrayInputStream(xml));
+    if (!entryFile.isFile()) {
+      store(entryFile, data);
+    }
+    return Optional.of(data);
+  }
+
+  @VisibleForTesting
+  File getEntryFile(final byte[] xml) {
+    final String key = Hashing.sha256().newHasher()
+        .putBytes(xml)
+        .putUnencodedChars(ClientContext.engineVersion().getExactVersion())
+        .hash()
+        .toString();
+    return new File(directory, key + ENTRY_EXTENSION);
+  }
+
+  private static @Nullable GameData load(final File entryFile) {
+    if (entryFile.length() == 0) {
+      // the game cannot be restored from its serialized form
+      return null;
+    }
+
+    try {
+      final @Nullable GameData data = GameDataManager.loadGame(entryFile);
+      // mark the entry as recently used so it survives pruning
+      entryFile.setLastModified(System.currentTimeMillis());
+      return data;
+    } catch (final IOException | RuntimeException e) {
+      ClientLogger.logQuietly("Discarding unreadable game data cache entry: " + entryFile.getAbsolutePath(), e);
+      markUncacheable(entryFile);
+      return null;
+    }
+  }
+
+  private void store(final File entryFile, final GameData data) {
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      return;
+    }
+
+    final File tempFile = new File(directory, entryFile.getName() + ".tmp" + Thread.currentThread().getId());
+    try {
+      try (OutputStream fos = new FileOutputStream(tempFile);
+          OutputStream os = new BufferedOutputStream(fos)) {
+        GameDataManager.saveGame(os, data);
+      }
+      Files.move(tempFile.toPath(), entryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to write game data cache entry: " + entryFile.getAbsolutePath(), e);
+      tempFile.delete();
+      return;
+    }
+    prune();
+  }
+
+  /**
+   * Replaces the specified entry with an empty file, which records that the game must always be parsed.
+   */
+  private static void markUncacheable(final File entryFile) {
+    try {
+      Files.write(entryFile.toPath(), new byte[0]);
+    } catch (final IOException e) {
+      entryFile.delete();
+    }
+  }
+
+  private synchronized void prune() {
+    final File[] entries = directory.listFiles(file -> file.isFile() && file.getName().endsWith(ENTRY_EXTENSION));
+    if (entries == null || entries.length <= MAX_ENTRIES) {
+      return;
+    }
+
+    Arrays.sort(entries, Comparator.comparingLong(File::lastModified).reversed());
+    for (int i = MAX_ENTRIES; i < entries.length; i++) {
+      entries[i].delete();
+    }
+  }
+}
@@ -12,7 +12,6 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import javax.swing.JOptionPane;
 
@@ -66,6 +65,7 @@ public final class GameDataManager {
   public static GameData loadGame(final InputStream is) throws IOException {
     checkNotNull(is);
 
+    // the save game metadata is in the extra field of the gzip header, which the gzip stream skips
     final ObjectInputStream input = new ObjectInputStream(new GZIPInputStream(is));
     try {
       final Version readVersion = (Version) input.readObject();
@@ -157,26 +157,32 @@ public final class GameDataManager {
       final boolean saveDelegateInfo)
       throws IOException {
     // write internally first in case of error
-    final byte[] bytes = IoUtils.writeToMemory(os -> {
-      try (ObjectOutputStream outStream = new ObjectOutputStream(os)) {
-        outStream.writeObject(ClientContext.engineVersion());
-        data.acquireReadLock();
-        try {
-          outStream.writeObject(data);
-          if (saveDelegateInfo) {
-            writeDelegates(data, outStream);
-          } else {
-            outStream.writeObject(DELEGATE_LIST_END);
-          }
-        } finally {
-          data.releaseReadLock();
-        }
-      }
-    });
+    final SaveGameMetadata metadata;
+    final byte[] bytes;
+    data.acquireReadLock();
+    try {
+      metadata = SaveGameMetadata.of(data, ClientContext.engineVersion(), System.currentTimeMillis());
+      bytes = IoUtils.writeToMemory(os -> writeGameData(os, data, saveDelegateInfo));
+    } finally {
+      data.releaseReadLock();
+    }
 
-    // now write to file
-    try (OutputStream zippedOut = new GZIPOutputStream(sink)) {
-      zippedOut.write(bytes);
+    // now write to file; the metadata goes into the gzip header so it can be read without loading the game
+    try (OutputStream os = sink) {
+      metadata.write(os, bytes);
+    }
+  }
+
+  private static void writeGameData(final OutputStream os, final GameData data, final boolean saveDelegateInfo)
+      throws IOException {
+    try (ObjectOutputStream outStream = new ObjectOutputStream(os)) {
+      outStream.writeObject(ClientContext.engineVersion());
+      outStream.writeObject(data);
+      if (saveDelegateInfo) {
+        writeDelegates(data, outStream);
+      } else {
+        outStream.writeObject(DELEGATE_LIST_END);
+      }
     }
   }
 
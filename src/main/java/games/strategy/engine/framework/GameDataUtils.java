@@ -5,6 +5,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 
 import games.strategy.debug.ClientLogger;
+import games.strategy.debug.PerformanceCounters;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameObjectOutputStream;
 import games.strategy.io.IoUtils;
@@ -24,15 +25,30 @@ public final class GameDataUtils {
    * <strong>You should have the game data's read or write lock before calling this method</strong>
    */
   public static GameData cloneGameData(final GameData data, final boolean copyDelegates) {
-    try {
-      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, copyDelegates));
-      return IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+    try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("GameDataUtils.cloneGameData")) {
+      return deserializeGameData(serializeGameData(data, copyDelegates));
     } catch (final IOException e) {
       ClientLogger.logQuietly("Failed to clone game data", e);
       return null;
     }
   }
 
+  /**
+   * Serializes GameData so that several deep copies can be made from it by {@link #deserializeGameData(byte[])}
+   * without serializing it again for each copy.
+   * <strong>You should have the game data's read or write lock before calling this method</strong>
+   */
+  public static byte[] serializeGameData(final GameData data, final boolean copyDelegates) throws IOException {
+    return IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, copyDelegates));
+  }
+
+  /**
+   * Creates a deep copy of GameData from the bytes returned by {@link #serializeGameData(GameData, boolean)}.
+   */
+  public static GameData deserializeGameData(final byte[] bytes) throws IOException {
+    return IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+  }
+
   /**
    * Translate units,territories and other game data objects from one
    * game data into another.
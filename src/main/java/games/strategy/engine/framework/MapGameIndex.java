@@ -0,0 +1,311 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.ClientContext;
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.GameData;
+
+/**
+ * A persistent cache of what is known about the game XMLs found in the user's maps folder.
+ *
+ * <p>
+ * Scanning the maps folder parses every game XML it contains, which takes a long time once a user has downloaded a
+ * few hundred maps. This index remembers, for every game URI, the result of the last scan together with the size and
+ * modification time of the file the game was read from (the game XML itself or the map zip containing it). A game is
+ * only parsed again once that file changes, so unchanged maps are listed immediately after a restart. The index is
+ * discarded whenever the engine version changes because the parser may then produce a different result.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+public final class MapGameIndex {
+  private static final String INDEX_FILE_NAME = ".triplea-game-index";
+  private static final int INDEX_FORMAT_VERSION = 2;
+
+  private final File indexFile;
+  private final Map<String, Entry> entriesByUri = new HashMap<>();
+  private boolean dirty = false;
+
+  private MapGameIndex(final File indexFile) {
+    this.indexFile = indexFile;
+  }
+
+  /**
+   * Returns the index of the user's maps folder, loading any previously persisted entries.
+   */
+  public static MapGameIndex load() {
+    return load(new File(ClientFileSystemHelper.getUserRootFolder(), INDEX_FILE_NAME));
+  }
+
+  @VisibleForTesting
+  static MapGameIndex load(final File indexFile) {
+    checkNotNull(indexFile);
+
+    final MapGameIndex index = new MapGameIndex(indexFile);
+    index.loadFromFile();
+    return index;
+  }
+
+  /**
+   * Returns the shallow game data (see {@link games.strategy.engine.data.GameParser#parseShallow}) recorded for the
+   * specified game, provided the file it was read from has not changed since.
+   *
+   * @param uri The game URI.
+   * @param source The file from which the game is read: either the game XML or the map zip containing it.
+   */
+  public Optional<GameData> getShallowGameData(final URI uri, final File source) {
+    final @Nullable Entry entry = getCurrentEntry(uri, source);
+    if (entry == null || entry.shallowGameData == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(deserialize(entry.shallowGameData));
+    } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+      ClientLogger.logQuietly("Failed to read indexed game data: " + uri, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Records the shallow game data of the specified game.
+   */
+  public void putShallowGameData(final URI uri, final File source, final GameData shallowGameData) {
+    checkNotNull(shallowGameData);
+
+    final byte[] bytes;
+    try {
+      bytes = serialize(shallowGameData);
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to index game data: " + uri, e);
+      return;
+    }
+    update(uri, source,
+        entry -> new Entry(entry.sourcePath, entry.length, entry.lastModified, entry.validatedGameName, bytes));
+  }
+
+  /**
+   * Returns the name of the specified game if it was fully parsed without errors since the file it was read from last
+   * changed.
+   *
+   * @param uri The game URI.
+   * @param source The file from which the game is read: either the game XML or the map zip containing it.
+   */
+  public Optional<String> getValidatedGameName(final URI uri, final File source) {
+    final @Nullable Entry entry = getCurrentEntry(uri, source);
+    return Optional.ofNullable((entry == null) ? null : entry.validatedGameName);
+  }
+
+  /**
+   * Records that the specified game was fully parsed without errors.
+   */
+  public void putValidatedGameName(final URI uri, final File source, final String gameName) {
+    checkNotNull(gameName);
+
+    update(uri, source,
+        entry -> new Entry(entry.sourcePath, entry.length, entry.lastModified, gameName, entry.shallowGameData));
+  }
+
+  private synchronized @Nullable Entry getCurrentEntry(final URI uri, final File source) {
+    final @Nullable Entry entry = entriesByUri.get(uri.toString());
+    return (entry != null && entry.isCurrent(source)) ? entry : null;
+  }
+
+  private void update(final URI uri, final File source, final UnaryOperator<Entry> updater) {
+    checkNotNull(uri);
+    checkNotNull(source);
+
+    final Entry stamp = new Entry(source.getPath(), source.length(), source.lastModified(), null, null);
+    final String key = uri.toString();
+    synchronized (this) {
+      final @Nullable Entry entry = entriesByUri.get(key);
+      entriesByUri.put(key, updater.apply((entry != null && entry.hasSameStamp(stamp)) ? entry : stamp));
+      dirty = true;
+    }
+  }
+
+  /**
+   * Writes the index if it has changed since it was loaded or last saved. Entries of games whose file no longer
+   * exists are dropped, so that deleted maps do not accumulate. Entries of games that were not looked up are kept, so
+   * that a scan of only some of the maps does not discard the others. Failures are logged and otherwise ignored; the
+   * index will simply be rebuilt the next time it is used.
+   */
+  public synchronized void save() {
+    if (entriesByUri.values().removeIf(entry -> !new File(entry.sourcePath).exists())) {
+      dirty = true;
+    }
+    if (!dirty) {
+      return;
+    }
+
+    final File tempFile = new File(indexFile.getPath() + ".tmp");
+    try {
+      try (OutputStream fos = new FileOutputStream(tempFile);
+          OutputStream os = new BufferedOutputStream(fos)) {
+        write(os);
+      }
+      Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      dirty = false;
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to write game index: " + indexFile.getAbsolutePath(), e);
+      tempFile.delete();
+    }
+  }
+
+  private synchronized void loadFromFile() {
+    if (!indexFile.isFile()) {
+      return;
+    }
+
+    try (InputStream fis = new FileInputStream(indexFile);
+        InputStream is = new BufferedInputStream(fis)) {
+      read(is);
+    } catch (final IOException e) {
+      // a corrupt or outdated index is rebuilt by the next scan
+      entriesByUri.clear();
+      dirty = true;
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void write(final OutputStream os) throws IOException {
+    final DataOutputStream out = new DataOutputStream(os);
+    out.writeInt(INDEX_FORMAT_VERSION);
+    out.writeUTF(ClientContext.engineVersion().getExactVersion());
+    out.writeInt(entriesByUri.size());
+    for (final Map.Entry<String, Entry> mapEntry : entriesByUri.entrySet()) {
+      final Entry entry = mapEntry.getValue();
+      out.writeUTF(mapEntry.getKey());
+      out.writeUTF(entry.sourcePath);
+      out.writeLong(entry.length);
+      out.writeLong(entry.lastModified);
+      out.writeBoolean(entry.validatedGameName != null);
+      if (entry.validatedGameName != null) {
+        out.writeUTF(entry.validatedGameName);
+      }
+      out.writeBoolean(entry.shallowGameData != null);
+      if (entry.shallowGameData != null) {
+        out.writeInt(entry.shallowGameData.length);
+        out.write(entry.shallowGameData);
+      }
+    }
+    out.flush();
+  }
+
+  @VisibleForTesting
+  synchronized void read(final InputStream is) throws IOException {
+    final DataInputStream in = new DataInputStream(is);
+    final int formatVersion = in.readInt();
+    if (formatVersion != INDEX_FORMAT_VERSION) {
+      throw new IOException("Unsupported game index format: " + formatVersion);
+    }
+    final String engineVersion = in.readUTF();
+    if (!engineVersion.equals(ClientContext.engineVersion().getExactVersion())) {
+      throw new IOException("Game index was written by engine version " + engineVersion);
+    }
+    final int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      final String uri = in.readUTF();
+      final String sourcePath = in.readUTF();
+      final long length = in.readLong();
+      final long lastModified = in.readLong();
+      final String validatedGameName = in.readBoolean() ? in.readUTF() : null;
+      @Nullable
+      byte[] shallowGameData = null;
+      if (in.readBoolean()) {
+        final int size = in.readInt();
+        if (size < 0) {
+          throw new IOException("Corrupt game index: negative entry size");
+        }
+        shallowGameData = new byte[size];
+        in.readFully(shallowGameData);
+      }
+      entriesByUri.put(uri, new Entry(sourcePath, length, lastModified, validatedGameName, shallowGameData));
+    }
+  }
+
+  @VisibleForTesting
+  synchronized Collection<String> getUris() {
+    return new HashSet<>(entriesByUri.keySet());
+  }
+
+  private static byte[] serialize(final GameData data) throws IOException {
+    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+      data.acquireReadLock();
+      try {
+        out.writeObject(data);
+      } finally {
+        data.releaseReadLock();
+      }
+    }
+    return baos.toByteArray();
+  }
+
+  private static GameData deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (GameData) in.readObject();
+    }
+  }
+
+  private static final class Entry {
+    // the file from which the game is read
+    final String sourcePath;
+    final long length;
+    final long lastModified;
+    final @Nullable String validatedGameName;
+    final @Nullable byte[] shallowGameData;
+
+    Entry(
+        final String sourcePath,
+        final long length,
+        final long lastModified,
+        final @Nullable String validatedGameName,
+        final @Nullable byte[] shallowGameData) {
+      this.sourcePath = sourcePath;
+      this.length = length;
+      this.lastModified = lastModified;
+      this.validatedGameName = validatedGameName;
+      this.shallowGameData = shallowGameData;
+    }
+
+    boolean hasSameStamp(final Entry other) {
+      return length == other.length && lastModified == other.lastModified;
+    }
+
+    boolean isCurrent(final File source) {
+      return length == source.length() && lastModified == source.lastModified();
+    }
+  }
+}
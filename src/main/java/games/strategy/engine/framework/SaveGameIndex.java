@@ -0,0 +1,248 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.debug.ClientLogger;
+
+/**
+ * A cache of the {@link SaveGameMetadata} of every save game in a directory.
+ *
+ * <p>
+ * The index is persisted in a hidden file inside the directory it describes. Each entry is keyed by file name and
+ * is only trusted while the size and modification time of the save game are unchanged, so browsing a directory of
+ * thousands of saves only needs to read the headers of saves that were added or modified since the last visit.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+public final class SaveGameIndex {
+  @VisibleForTesting
+  static final String INDEX_FILE_NAME = ".triplea-save-index";
+  private static final int INDEX_FORMAT_VERSION = 1;
+
+  private final File directory;
+  private final Map<String, Entry> entriesByFileName = new HashMap<>();
+  private boolean dirty = false;
+
+  private SaveGameIndex(final File directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Returns the index for the specified directory, loading any previously persisted entries.
+   */
+  public static SaveGameIndex forDirectory(final File directory) {
+    checkNotNull(directory);
+
+    final SaveGameIndex index = new SaveGameIndex(directory);
+    index.load();
+    return index;
+  }
+
+  public File getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Returns the metadata of the specified save game, reading its header only if the file is not in the index or has
+   * changed since it was indexed.
+   *
+   * @param file A save game located in the directory of this index.
+   *
+   * @return The save game metadata or empty if the save has no header or cannot be read.
+   */
+  public Optional<SaveGameMetadata> getMetadata(final File file) {
+    checkNotNull(file);
+    checkArgument(directory.equals(file.getParentFile()), "file must be located in " + directory);
+
+    final long length = file.length();
+    final long lastModified = file.lastModified();
+    synchronized (this) {
+      final @Nullable Entry entry = entriesByFileName.get(file.getName());
+      if (entry != null && entry.length == length && entry.lastModified == lastModified) {
+        return Optional.ofNullable(entry.metadata);
+      }
+    }
+
+    @Nullable
+    SaveGameMetadata metadata = null;
+    try {
+      metadata = SaveGameMetadata.read(file).orElse(null);
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to read save game header: " + file.getAbsolutePath(), e);
+    }
+    synchronized (this) {
+      entriesByFileName.put(file.getName(), new Entry(length, lastModified, metadata));
+      dirty = true;
+    }
+    return Optional.ofNullable(metadata);
+  }
+
+  /**
+   * Returns every save game in the directory of this index together with its metadata, most recently modified first.
+   * Entries for save games that no longer exist are dropped from the index.
+   */
+  public List<IndexedSaveGame> listSaveGames() {
+    final File[] files = directory.listFiles(file -> file.isFile()
+        && GameDataFileUtils.isCandidateFileName(file.getName()));
+    final List<IndexedSaveGame> saveGames = new ArrayList<>();
+    if (files == null) {
+      return saveGames;
+    }
+
+    final Map<String, File> filesByName = new HashMap<>();
+    for (final File file : files) {
+      filesByName.put(file.getName(), file);
+      saveGames.add(new IndexedSaveGame(file, getMetadata(file).orElse(null)));
+    }
+    synchronized (this) {
+      if (entriesByFileName.keySet().retainAll(filesByName.keySet())) {
+        dirty = true;
+      }
+    }
+    saveGames.sort(Comparator.comparingLong((IndexedSaveGame saveGame) -> saveGame.getFile().lastModified())
+        .reversed());
+    return saveGames;
+  }
+
+  /**
+   * Writes the index to its directory if it has changed since it was loaded or last saved. Failures are logged and
+   * otherwise ignored; the index will simply be rebuilt the next time it is used.
+   */
+  public synchronized void save() {
+    if (!dirty || !directory.isDirectory()) {
+      return;
+    }
+
+    final File indexFile = getIndexFile();
+    final File tempFile = new File(directory, INDEX_FILE_NAME + ".tmp");
+    try {
+      try (OutputStream fos = new FileOutputStream(tempFile);
+          OutputStream os = new BufferedOutputStream(fos)) {
+        write(os);
+      }
+      Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      dirty = false;
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to write save game index: " + indexFile.getAbsolutePath(), e);
+      tempFile.delete();
+    }
+  }
+
+  private File getIndexFile() {
+    return new File(directory, INDEX_FILE_NAME);
+  }
+
+  private synchronized void load() {
+    final File indexFile = getIndexFile();
+    if (!indexFile.isFile()) {
+      return;
+    }
+
+    try (InputStream fis = new FileInputStream(indexFile);
+        InputStream is = new BufferedInputStream(fis)) {
+      read(is);
+    } catch (final IOException e) {
+      // a corrupt or outdated index is rebuilt from the save game headers
+      entriesByFileName.clear();
+      dirty = true;
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void write(final OutputStream os) throws IOException {
+    final DataOutputStream out = new DataOutputStream(os);
+    out.writeInt(INDEX_FORMAT_VERSION);
+    out.writeInt(entriesByFileName.size());
+    for (final Map.Entry<String, Entry> mapEntry : entriesByFileName.entrySet()) {
+      final Entry entry = mapEntry.getValue();
+      out.writeUTF(mapEntry.getKey());
+      out.writeLong(entry.length);
+      out.writeLong(entry.lastModified);
+      out.writeBoolean(entry.metadata != null);
+      if (entry.metadata != null) {
+        entry.metadata.writeTo(out);
+      }
+    }
+    out.flush();
+  }
+
+  @VisibleForTesting
+  synchronized void read(final InputStream is) throws IOException {
+    final DataInputStream in = new DataInputStream(is);
+    final int formatVersion = in.readInt();
+    if (formatVersion != INDEX_FORMAT_VERSION) {
+      throw new IOException("Unsupported save game index format: " + formatVersion);
+    }
+    final int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      final String fileName = in.readUTF();
+      final long length = in.readLong();
+      final long lastModified = in.readLong();
+      final SaveGameMetadata metadata = in.readBoolean() ? SaveGameMetadata.readFrom(in) : null;
+      entriesByFileName.put(fileName, new Entry(length, lastModified, metadata));
+    }
+  }
+
+  private static final class Entry {
+    final long length;
+    final long lastModified;
+    final @Nullable SaveGameMetadata metadata;
+
+    Entry(final long length, final long lastModified, final @Nullable SaveGameMetadata metadata) {
+      this.length = length;
+      this.lastModified = lastModified;
+      this.metadata = metadata;
+    }
+  }
+
+  /**
+   * A save game file together with its indexed metadata.
+   */
+  public static final class IndexedSaveGame {
+    private final File file;
+    private final @Nullable SaveGameMetadata metadata;
+
+    IndexedSaveGame(final File file, final @Nullable SaveGameMetadata metadata) {
+      this.file = file;
+      this.metadata = metadata;
+    }
+
+    public File getFile() {
+      return file;
+    }
+
+    /**
+     * Returns the save game metadata or empty if the save was written without a header.
+     */
+    public Optional<SaveGameMetadata> getMetadata() {
+      return Optional.ofNullable(metadata);
+    }
+  }
+}
@@ -0,0 +1,319 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.triplea.Constants;
+import games.strategy.util.Version;
+
+/**
+ * A small summary of a saved game that is written uncompressed into the extra field of the gzip header of the save.
+ *
+ * <p>
+ * The metadata can be read without deserializing (or even decompressing) the game itself, which allows save game
+ * browsers to describe a save in a fraction of the time it takes to load it. Readers of gzip streams skip the extra
+ * field, so older engines still load the save far enough to report an incompatible engine version. Saves written by
+ * older engines have no metadata; {@link #read(InputStream)} returns an empty result for them.
+ * </p>
+ */
+public final class SaveGameMetadata {
+  private static final int GZIP_MAGIC = 0x8b1f;
+  private static final int GZIP_FLAG_EXTRA = 4;
+  private static final int MAX_EXTRA_FIELD_LENGTH = 0xffff;
+  // the subfield identifier of the metadata within the extra field, "TM" for TripleA metadata
+  private static final int SUBFIELD_ID1 = 'T';
+  private static final int SUBFIELD_ID2 = 'M';
+  private static final int FORMAT_VERSION = 1;
+
+  private final String gameName;
+  private final String mapName;
+  private final int round;
+  private final String stepName;
+  private final List<String> playerNames;
+  private final long timestamp;
+  private final Version engineVersion;
+
+  public SaveGameMetadata(
+      final String gameName,
+      final String mapName,
+      final int round,
+      final String stepName,
+      final List<String> playerNames,
+      final long timestamp,
+      final Version engineVersion) {
+    this.gameName = checkNotNull(gameName);
+    this.mapName = checkNotNull(mapName);
+    this.round = round;
+    this.stepName = checkNotNull(stepName);
+    this.playerNames = ImmutableList.copyOf(playerNames);
+    this.timestamp = timestamp;
+    this.engineVersion = checkNotNull(engineVersion);
+  }
+
+  /**
+   * Creates the metadata describing the specified game data. The caller must hold at least a read lock on
+   * {@code data}.
+   */
+  static SaveGameMetadata of(final GameData data, final Version engineVersion, final long timestamp) {
+    final List<String> playerNames = new ArrayList<>();
+    for (final PlayerID player : data.getPlayerList()) {
+      playerNames.add(player.getName());
+    }
+    final GameSequence sequence = data.getSequence();
+    final String stepName = (sequence.size() == 0) ? "" : sequence.getStep().getDisplayName();
+    return new SaveGameMetadata(
+        Objects.toString(data.getGameName(), ""),
+        data.getProperties().get(Constants.MAP_NAME, ""),
+        sequence.getRound(),
+        Objects.toString(stepName, ""),
+        playerNames,
+        timestamp,
+        engineVersion);
+  }
+
+  public String getGameName() {
+    return gameName;
+  }
+
+  public String getMapName() {
+    return mapName;
+  }
+
+  public int getRound() {
+    return round;
+  }
+
+  public String getStepName() {
+    return stepName;
+  }
+
+  public List<String> getPlayerNames() {
+    return playerNames;
+  }
+
+  /**
+   * Returns the time at which the game was saved in milliseconds since the epoch.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public Version getEngineVersion() {
+    return engineVersion;
+  }
+
+  /**
+   * Writes the specified bytes gzip compressed to the specified stream, with this metadata in the extra field of the
+   * gzip header. The metadata is left out if it does not fit into the extra field. The stream is not closed.
+   */
+  void write(final OutputStream os, final byte[] bytes) throws IOException {
+    final ByteArrayOutputStream subfieldData = new ByteArrayOutputStream();
+    final DataOutputStream subfieldOut = new DataOutputStream(subfieldData);
+    subfieldOut.writeInt(FORMAT_VERSION);
+    writeTo(subfieldOut);
+    subfieldOut.flush();
+    final boolean hasExtraField = subfieldData.size() + 4 <= MAX_EXTRA_FIELD_LENGTH;
+
+    // header: magic, compression method, flags, modification time, extra flags, operating system
+    writeShort(os, GZIP_MAGIC);
+    os.write(Deflater.DEFLATED);
+    os.write(hasExtraField ? GZIP_FLAG_EXTRA : 0);
+    writeInt(os, 0);
+    os.write(0);
+    os.write(0);
+    if (hasExtraField) {
+      writeShort(os, subfieldData.size() + 4);
+      os.write(SUBFIELD_ID1);
+      os.write(SUBFIELD_ID2);
+      writeShort(os, subfieldData.size());
+      subfieldData.writeTo(os);
+    }
+
+    final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    try {
+      final DeflaterOutputStream deflaterOut = new DeflaterOutputStream(os, deflater);
+      deflaterOut.write(bytes);
+      deflaterOut.finish();
+    } finally {
+      deflater.end();
+    }
+    final CRC32 crc = new CRC32();
+    crc.update(bytes);
+    writeInt(os, (int) crc.getValue());
+    writeInt(os, bytes.length);
+    os.flush();
+  }
+
+  // gzip stores numbers in little-endian byte order
+  private static void writeShort(final OutputStream os, final int value) throws IOException {
+    os.write(value & 0xff);
+    os.write((value >> 8) & 0xff);
+  }
+
+  private static void writeInt(final OutputStream os, final int value) throws IOException {
+    writeShort(os, value & 0xffff);
+    writeShort(os, (value >> 16) & 0xffff);
+  }
+
+  private static int readShort(final DataInputStream in) throws IOException {
+    return in.readUnsignedByte() | (in.readUnsignedByte() << 8);
+  }
+
+  void writeTo(final DataOutputStream out) throws IOException {
+    out.writeUTF(gameName);
+    out.writeUTF(mapName);
+    out.writeInt(round);
+    out.writeUTF(stepName);
+    out.writeInt(playerNames.size());
+    for (final String playerName : playerNames) {
+      out.writeUTF(playerName);
+    }
+    out.writeLong(timestamp);
+    out.writeUTF(engineVersion.getExactVersion());
+  }
+
+  static SaveGameMetadata readFrom(final DataInputStream in) throws IOException {
+    final String gameName = in.readUTF();
+    final String mapName = in.readUTF();
+    final int round = in.readInt();
+    final String stepName = in.readUTF();
+    final int playerCount = in.readInt();
+    if (playerCount < 0) {
+      throw new IOException("Corrupt save game header: negative player count");
+    }
+    final List<String> playerNames = new ArrayList<>(playerCount);
+    for (int i = 0; i < playerCount; i++) {
+      playerNames.add(in.readUTF());
+    }
+    final long timestamp = in.readLong();
+    final Version engineVersion;
+    try {
+      engineVersion = new Version(in.readUTF());
+    } catch (final IllegalArgumentException e) {
+      throw new IOException("Corrupt save game header: " + e.getMessage(), e);
+    }
+    return new SaveGameMetadata(gameName, mapName, round, stepName, playerNames, timestamp, engineVersion);
+  }
+
+  /**
+   * Reads the save game metadata from the gzip header at the start of the specified stream, if present. The stream is
+   * left positioned somewhere within the gzip header.
+   *
+   * @param is The stream from which to read.
+   *
+   * @return The save game metadata or empty if the stream is no gzip stream or has no metadata (e.g. a legacy save).
+   *
+   * @throws IOException If an error occurs while reading the metadata.
+   */
+  public static Optional<SaveGameMetadata> read(final InputStream is) throws IOException {
+    checkNotNull(is);
+
+    final DataInputStream in = new DataInputStream(is);
+    try {
+      if (readShort(in) != GZIP_MAGIC || in.readUnsignedByte() != Deflater.DEFLATED) {
+        return Optional.empty();
+      }
+      final int flags = in.readUnsignedByte();
+      if ((flags & GZIP_FLAG_EXTRA) == 0) {
+        return Optional.empty();
+      }
+      // skip modification time, extra flags and operating system
+      in.readFully(new byte[6]);
+      int extraFieldLength = readShort(in);
+      while (extraFieldLength >= 4) {
+        final int id1 = in.readUnsignedByte();
+        final int id2 = in.readUnsignedByte();
+        final int subfieldLength = readShort(in);
+        if (id1 == SUBFIELD_ID1 && id2 == SUBFIELD_ID2) {
+          final int formatVersion = in.readInt();
+          if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported save game metadata format: " + formatVersion);
+          }
+          return Optional.of(readFrom(in));
+        }
+        in.readFully(new byte[subfieldLength]);
+        extraFieldLength -= 4 + subfieldLength;
+      }
+      return Optional.empty();
+    } catch (final EOFException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Reads the save game metadata from the specified file without loading the game itself.
+   *
+   * @return The save game metadata or empty if the file was written without metadata.
+   *
+   * @throws IOException If an error occurs while reading the file.
+   */
+  public static Optional<SaveGameMetadata> read(final File file) throws IOException {
+    checkNotNull(file);
+
+    try (InputStream fis = new FileInputStream(file);
+        InputStream is = new BufferedInputStream(fis, 4096)) {
+      return read(is);
+    }
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj == this) {
+      return true;
+    } else if (!(obj instanceof SaveGameMetadata)) {
+      return false;
+    }
+
+    final SaveGameMetadata other = (SaveGameMetadata) obj;
+    return gameName.equals(other.gameName)
+        && mapName.equals(other.mapName)
+        && (round == other.round)
+        && stepName.equals(other.stepName)
+        && playerNames.equals(other.playerNames)
+        && (timestamp == other.timestamp)
+        && engineVersion.equals(other.engineVersion);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(gameName, mapName, round, stepName, playerNames, timestamp, engineVersion);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("gameName", gameName)
+        .add("mapName", mapName)
+        .add("round", round)
+        .add("stepName", stepName)
+        .add("playerNames", playerNames)
+        .add("timestamp", timestamp)
+        .add("engineVersion", engineVersion)
+        .toString();
+  }
+}
@@ -7,21 +7,25 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
-import javax.annotation.Nonnull;
-
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.GameDataCache;
+import games.strategy.engine.framework.MapGameIndex;
 import games.strategy.io.FileUtils;
 import games.strategy.util.UrlStreams;
 
@@ -34,33 +38,46 @@ public class AvailableGames {
   private final Set<String> availableMapFolderOrZipNames = Collections.synchronizedSet(new HashSet<>());
 
   AvailableGames() {
-    FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder()).parallelStream()
-        .forEach(map -> {
+    final MapGameIndex index = MapGameIndex.load();
+    final List<GameFile> gameFiles = FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder()).parallelStream()
+        .flatMap(map -> {
           if (map.isDirectory()) {
-            populateFromDirectory(map, availableGames, availableMapFolderOrZipNames);
+            return findGameFilesInDirectory(map).stream();
           } else if (map.isFile() && map.getName().toLowerCase().endsWith(ZIP_EXTENSION)) {
-            populateFromZip(map, availableGames, availableMapFolderOrZipNames);
+            return findGameFilesInZip(map).stream();
           }
-        });
+          return Stream.empty();
+        })
+        .collect(Collectors.toList());
+    final List<Optional<String>> gameNames = gameFiles.parallelStream()
+        .map(gameFile -> getGameName(gameFile, index))
+        .collect(Collectors.toList());
+    index.save();
+
+    for (int i = 0; i < gameFiles.size(); i++) {
+      final GameFile gameFile = gameFiles.get(i);
+      gameNames.get(i).ifPresent(name -> {
+        if (!availableGames.containsKey(name)) {
+          availableGames.put(name, gameFile.uri);
+          availableMapFolderOrZipNames.add(gameFile.mapFolderOrZipName);
+        }
+      });
+    }
   }
 
-  private static void populateFromDirectory(
-      final File mapDir,
-      final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames) {
+  private static List<GameFile> findGameFilesInDirectory(final File mapDir) {
+    final List<GameFile> gameFiles = new ArrayList<>();
     final File games = new File(mapDir, "games");
     for (final File game : FileUtils.listFiles(games)) {
       if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        final boolean added = addToAvailableGames(game.toURI(), availableGames);
-        if (added) {
-          availableMapFolderOrZipNames.add(mapDir.getName());
-        }
+        gameFiles.add(new GameFile(game.toURI(), game, mapDir.getName()));
       }
     }
+    return gameFiles;
   }
 
-  private static void populateFromZip(final File map, final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames) {
+  private static List<GameFile> findGameFilesInZip(final File map) {
+    final List<GameFile> gameFiles = new ArrayList<>();
     try (InputStream fis = new FileInputStream(map);
         ZipInputStream zis = new ZipInputStream(fis);
         URLClassLoader loader = new URLClassLoader(new URL[] {map.toURI().toURL()})) {
@@ -69,13 +86,10 @@ public class AvailableGames {
         if (entry.getName().contains("games/") && entry.getName().toLowerCase().endsWith(".xml")) {
           final URL url = loader.getResource(entry.getName());
           if (url != null) {
-            final boolean added = addToAvailableGames(
+            gameFiles.add(new GameFile(
                 URI.create(url.toString().replace(" ", "%20")),
-                availableGames);
-            if (added && map.getName().length() > 4) {
-              availableMapFolderOrZipNames
-                  .add(map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length()));
-            }
+                map,
+                map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length())));
           }
         }
         // we have to close the loader to allow files to be deleted on windows
@@ -85,26 +99,22 @@ public class AvailableGames {
     } catch (final IOException e) {
       ClientLogger.logQuietly("Map: " + map, e);
     }
+    return gameFiles;
   }
 
-
-  private static boolean addToAvailableGames(
-      @Nonnull final URI uri,
-      @Nonnull final Map<String, URI> availableGames) {
-    final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
-    if (inputStream.isPresent()) {
-      try (InputStream input = inputStream.get()) {
-        final GameData data = GameParser.parse(uri.toString(), input);
-        final String name = data.getGameName();
-        if (!availableGames.containsKey(name)) {
-          availableGames.put(name, uri);
-          return true;
-        }
-      } catch (final Exception e) {
-        ClientLogger.logError("Exception while parsing: " + uri.toString(), e);
-      }
+  /**
+   * Returns the name of the specified game if it can be parsed. Games whose files are unchanged since they were last
+   * parsed successfully are not parsed again.
+   */
+  private static Optional<String> getGameName(final GameFile gameFile, final MapGameIndex index) {
+    final Optional<String> indexedGameName = index.getValidatedGameName(gameFile.uri, gameFile.source);
+    if (indexedGameName.isPresent()) {
+      return indexedGameName;
     }
-    return false;
+
+    final Optional<String> gameName = parse(gameFile.uri).map(GameData::getGameName);
+    gameName.ifPresent(name -> index.putValidatedGameName(gameFile.uri, gameFile.source, name));
+    return gameName;
   }
 
   Set<String> getGameNames() {
@@ -134,7 +144,7 @@ public class AvailableGames {
    */
   public GameData getGameData(final String gameName) {
     return Optional.ofNullable(availableGames.get(gameName))
-        .map(uri -> parse(uri).orElse(null))
+        .map(uri -> parseCached(uri).orElse(null))
         .orElse(null);
 
 
@@ -152,8 +162,33 @@ public class AvailableGames {
     return Optional.empty();
   }
 
+  private static Optional<GameData> parseCached(final URI uri) {
+    try {
+      return GameDataCache.getInstance().parse(uri);
+    } catch (final Exception e) {
+      ClientLogger.logError("Exception while parsing: " + uri.toString(), e);
+      return Optional.empty();
+    }
+  }
+
   public boolean containsMapName(final String mapNameProperty) {
     return availableMapFolderOrZipNames.contains(mapNameProperty)
         || availableMapFolderOrZipNames.contains(mapNameProperty + "-master");
   }
+
+  /**
+   * A game XML together with the file from which it is read (the XML itself or the map zip containing it) and the
+   * name of the map folder or zip it belongs to.
+   */
+  private static final class GameFile {
+    final URI uri;
+    final File source;
+    final String mapFolderOrZipName;
+
+    GameFile(final URI uri, final File source, final String mapFolderOrZipName) {
+      this.uri = uri;
+      this.source = source;
+      this.mapFolderOrZipName = mapFolderOrZipName;
+    }
+  }
 }
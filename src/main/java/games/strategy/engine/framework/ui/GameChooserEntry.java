@@ -11,6 +11,7 @@ import games.strategy.engine.data.EngineVersionException;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
 import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.GameDataCache;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.util.UrlStreams;
@@ -49,18 +50,27 @@ public class GameChooserEntry implements Comparable<GameChooserEntry> {
     }
   }
 
+  /**
+   * Creates an entry from game data that was previously parsed from the specified URI using
+   * {@link GameParser#parseShallow(String, InputStream)}.
+   */
+  GameChooserEntry(final URI uri, final GameData shallowGameData) {
+    url = uri;
+    gameData = shallowGameData;
+    gameNameAndMapNameProperty = getGameName() + ":" + getMapNameProperty();
+  }
+
   public GameData fullyParseGameData() throws GameParseException {
     // TODO: We should be setting this in the the constructor. At this point, you have to call methods in the
     // correct order for things to work, and that is bads.
     gameData = null;
 
-    final Optional<InputStream> inputStream = UrlStreams.openStream(url);
-    if (!inputStream.isPresent()) {
-      return gameData;
-    }
-
-    try (InputStream input = inputStream.get()) {
-      gameData = GameParser.parse(url.toString(), input);
+    try {
+      final Optional<GameData> parsedGameData = GameDataCache.getInstance().parse(url);
+      if (!parsedGameData.isPresent()) {
+        return gameData;
+      }
+      gameData = parsedGameData.get();
       gameDataFullyLoaded = true;
     } catch (final EngineVersionException e) {
       ClientLogger.logQuietly("Game engine not compatible with: " + url, e);
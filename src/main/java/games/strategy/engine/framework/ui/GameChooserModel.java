@@ -5,11 +5,14 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Enumeration;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -19,8 +22,10 @@ import javax.swing.JOptionPane;
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.data.EngineVersionException;
+import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
 import games.strategy.engine.framework.GameRunner;
+import games.strategy.engine.framework.MapGameIndex;
 import games.strategy.io.FileUtils;
 import games.strategy.ui.SwingAction;
 
@@ -51,22 +56,35 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     return super.get(i);
   }
 
+  /**
+   * Parses all games found in the user's maps folder. Games whose files are unchanged since the last scan are read
+   * from the {@link MapGameIndex}; the remaining games are parsed in parallel.
+   */
   static Set<GameChooserEntry> parseMapFiles() {
-    final Set<GameChooserEntry> parsedMapSet = new HashSet<>();
-    FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder()).parallelStream()
-        .forEach(map -> {
+    final MapGameIndex index = MapGameIndex.load();
+    final List<GameFile> gameFiles = FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder()).parallelStream()
+        .flatMap(map -> {
           if (map.isDirectory()) {
-            parsedMapSet.addAll(populateFromDirectory(map));
+            return findGameFilesInDirectory(map).stream();
           } else if (map.isFile() && map.getName().toLowerCase().endsWith(".zip")) {
-            parsedMapSet.addAll(populateFromZip(map));
+            return findGameFilesInZip(map).stream();
           }
-        });
+          return Stream.empty();
+        })
+        .collect(Collectors.toList());
+    // parse individual games rather than maps in parallel so that a map with many games does not hold up the scan
+    final Set<GameChooserEntry> parsedMapSet = gameFiles.parallelStream()
+        .map(gameFile -> createGameChooserEntry(gameFile, index))
+        .filter(Optional::isPresent)
+        .map(Optional::get)
+        .collect(Collectors.toSet());
+    index.save();
     return parsedMapSet;
   }
 
-  private static Set<GameChooserEntry> populateFromZip(final File map) {
+  private static List<GameFile> findGameFilesInZip(final File map) {
     boolean badMapZip = false;
-    final Set<GameChooserEntry> entries = new HashSet<>();
+    final List<GameFile> gameFiles = new ArrayList<>();
 
     try (ZipFile zipFile = new ZipFile(map);
         final URLClassLoader loader = new URLClassLoader(new URL[] {map.toURI().toURL()})) {
@@ -74,7 +92,7 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
       while (zipEntryEnumeration.hasMoreElements()) {
         final ZipEntry entry = zipEntryEnumeration.nextElement();
         if (entry.getName().contains("games/") && entry.getName().toLowerCase().endsWith(".xml")) {
-          final ZipProcessingResult result = processZipEntry(loader, entry, entries);
+          final ZipProcessingResult result = processZipEntry(loader, entry, map, gameFiles);
           if (result == ZipProcessingResult.ERROR) {
             badMapZip = true;
             break;
@@ -88,19 +106,18 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     if (badMapZip) {
       confirmWithUserAndThenDeleteCorruptZipFile(map, Optional.empty());
     }
-    return entries;
+    return gameFiles;
   }
 
   private static ZipProcessingResult processZipEntry(final URLClassLoader loader, final ZipEntry entry,
-      final Set<GameChooserEntry> entries) {
+      final File map, final List<GameFile> gameFiles) {
     final URL url = loader.getResource(entry.getName());
     if (url == null) {
       // not loading the URL means the XML is truncated or otherwise in bad shape
       return ZipProcessingResult.ERROR;
     }
 
-    createGameChooserEntry(URI.create(url.toString().replace(" ", "%20")))
-        .ifPresent(entries::add);
+    gameFiles.add(new GameFile(URI.create(url.toString().replace(" ", "%20")), map));
     return ZipProcessingResult.SUCCESS;
   }
 
@@ -134,6 +151,25 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     });
   }
 
+  /**
+   * Creates a GameChooserEntry for the given game file, reusing the indexed game data if the file is unchanged.
+   */
+  private static Optional<GameChooserEntry> createGameChooserEntry(final GameFile gameFile, final MapGameIndex index) {
+    final Optional<GameData> indexedGameData = index.getShallowGameData(gameFile.uri, gameFile.source);
+    if (indexedGameData.isPresent()) {
+      try {
+        return Optional.of(new GameChooserEntry(gameFile.uri, indexedGameData.get()));
+      } catch (final RuntimeException e) {
+        ClientLogger.logQuietly("Invalid indexed game data: " + gameFile.uri, e);
+      }
+    }
+
+    final Optional<GameChooserEntry> entry = createGameChooserEntry(gameFile.uri);
+    entry.map(GameChooserEntry::getGameData)
+        .ifPresent(gameData -> index.putShallowGameData(gameFile.uri, gameFile.source, gameData));
+    return entry;
+  }
+
   /**
    * From a given URI, creates a GameChooserEntry and adds to the given entries list.
    *
@@ -166,8 +202,8 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     return new GameChooserEntry(uri);
   }
 
-  private static Set<GameChooserEntry> populateFromDirectory(final File mapDir) {
-    final Set<GameChooserEntry> entries = new HashSet<>();
+  private static List<GameFile> findGameFilesInDirectory(final File mapDir) {
+    final List<GameFile> gameFiles = new ArrayList<>();
 
     // use contents under a "mapDir/map" folder if present, otherwise use the "mapDir/" contents directly
     final File mapFolder = new File(mapDir, "map");
@@ -176,10 +212,10 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     final File games = new File(parentFolder, "games");
     for (final File game : FileUtils.listFiles(games)) {
       if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        createGameChooserEntry(game.toURI()).ifPresent(entries::add);
+        gameFiles.add(new GameFile(game.toURI(), game));
       }
     }
-    return entries;
+    return gameFiles;
   }
 
   /**
@@ -191,4 +227,17 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
   public boolean removeEntry(final GameChooserEntry entryToBeRemoved) {
     return this.removeElement(entryToBeRemoved);
   }
+
+  /**
+   * A game XML and the file from which it is read (the XML itself or the map zip containing it).
+   */
+  private static final class GameFile {
+    final URI uri;
+    final File source;
+
+    GameFile(final URI uri, final File source) {
+      this.uri = uri;
+      this.source = source;
+    }
+  }
 }
@@ -3,12 +3,30 @@ package games.strategy.engine.framework.ui;
 import static games.strategy.engine.framework.ArgParser.CliProperties.LOBBY_GAME_HOSTED_BY;
 import static games.strategy.engine.framework.ArgParser.CliProperties.TRIPLEA_NAME;
 
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.GridLayout;
 import java.io.File;
-
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javax.swing.BorderFactory;
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.DefaultListModel;
 import javax.swing.JFileChooser;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTextArea;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
 import javax.swing.filechooser.FileFilter;
 
 import games.strategy.engine.framework.GameDataFileUtils;
+import games.strategy.engine.framework.SaveGameIndex;
+import games.strategy.engine.framework.SaveGameMetadata;
 import games.strategy.engine.framework.headlessGameServer.HeadlessGameServer;
 import games.strategy.triplea.settings.ClientSetting;
 
@@ -18,6 +36,7 @@ public class SaveGameFileChooser extends JFileChooser {
   private static final String AUTOSAVE_ODD_ROUND_FILE_NAME = GameDataFileUtils.addExtension("autosave_round_odd");
   private static final String AUTOSAVE_EVEN_ROUND_FILE_NAME = GameDataFileUtils.addExtension("autosave_round_even");
   private static SaveGameFileChooser instance;
+  private SaveGameIndex saveGameIndex;
 
   public enum AUTOSAVE_TYPE {
     AUTOSAVE(getAutoSaveFileName()),
@@ -84,6 +103,125 @@ public class SaveGameFileChooser extends JFileChooser {
     setFileFilter(createGameDataFileFilter());
     ensureDirectoryExists(new File(ClientSetting.SAVE_GAMES_FOLDER_PATH.value()));
     setCurrentDirectory(new File(ClientSetting.SAVE_GAMES_FOLDER_PATH.value()));
+    setAccessory(createMetadataPreview());
+  }
+
+  @Override
+  public void approveSelection() {
+    saveIndex();
+    super.approveSelection();
+  }
+
+  @Override
+  public void cancelSelection() {
+    saveIndex();
+    super.cancelSelection();
+  }
+
+  private void saveIndex() {
+    if (saveGameIndex != null) {
+      saveGameIndex.save();
+    }
+  }
+
+  private SaveGameIndex getIndex(final File directory) {
+    if (saveGameIndex == null || !saveGameIndex.getDirectory().equals(directory)) {
+      saveIndex();
+      saveGameIndex = SaveGameIndex.forDirectory(directory);
+    }
+    return saveGameIndex;
+  }
+
+  private Optional<SaveGameMetadata> getMetadata(final File file) {
+    final File directory = file.getParentFile();
+    if (directory == null) {
+      return Optional.empty();
+    }
+    return getIndex(directory).getMetadata(file);
+  }
+
+  /**
+   * Creates a panel listing the save games of the current directory from the save game index, newest first, with a
+   * summary of the selected save below.
+   */
+  private JPanel createMetadataPreview() {
+    final DefaultListModel<SaveGameIndex.IndexedSaveGame> saveGames = new DefaultListModel<>();
+    final JList<SaveGameIndex.IndexedSaveGame> saveGameList = new JList<>(saveGames);
+    saveGameList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+    saveGameList.setCellRenderer(new DefaultListCellRenderer() {
+      private static final long serialVersionUID = -1822914216624578011L;
+
+      @Override
+      public Component getListCellRendererComponent(final JList<?> list, final Object value, final int index,
+          final boolean isSelected, final boolean cellHasFocus) {
+        final SaveGameIndex.IndexedSaveGame saveGame = (SaveGameIndex.IndexedSaveGame) value;
+        final String text = saveGame.getFile().getName() + saveGame.getMetadata()
+            .map(metadata -> " (round " + metadata.getRound() + ")")
+            .orElse("");
+        return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+      }
+    });
+    saveGameList.addListSelectionListener(e -> {
+      final SaveGameIndex.IndexedSaveGame saveGame = saveGameList.getSelectedValue();
+      if (!e.getValueIsAdjusting() && saveGame != null && !saveGame.getFile().equals(getSelectedFile())) {
+        setSelectedFile(saveGame.getFile());
+      }
+    });
+    final JScrollPane saveGameScrollPane = new JScrollPane(saveGameList);
+    saveGameScrollPane.setBorder(BorderFactory.createTitledBorder("Saves in this folder"));
+
+    final JTextArea text = new JTextArea();
+    text.setEditable(false);
+    text.setLineWrap(true);
+    text.setWrapStyleWord(true);
+    text.setOpaque(false);
+    final JPanel panel = new JPanel(new GridLayout(2, 1, 0, 8));
+    panel.setBorder(BorderFactory.createEmptyBorder(0, 8, 0, 0));
+    panel.setPreferredSize(new Dimension(260, 0));
+    panel.add(saveGameScrollPane);
+    panel.add(text);
+    addPropertyChangeListener(SELECTED_FILE_CHANGED_PROPERTY, e -> {
+      final File file = (File) e.getNewValue();
+      if (file == null || !file.isFile() || !GameDataFileUtils.isCandidateFileName(file.getName())) {
+        text.setText("");
+        return;
+      }
+      text.setText(getMetadata(file)
+          .map(SaveGameFileChooser::formatMetadata)
+          .orElse("No summary available for this save game."));
+      text.setCaretPosition(0);
+    });
+    addPropertyChangeListener(DIRECTORY_CHANGED_PROPERTY, e -> listSaveGames(saveGames));
+    listSaveGames(saveGames);
+    return panel;
+  }
+
+  /**
+   * Lists the save games of the current directory in the background, reading only the headers of saves that are not
+   * in the index yet.
+   */
+  private void listSaveGames(final DefaultListModel<SaveGameIndex.IndexedSaveGame> saveGames) {
+    saveGames.clear();
+    final File directory = getCurrentDirectory();
+    if (directory == null || !directory.isDirectory()) {
+      return;
+    }
+    final SaveGameIndex index = getIndex(directory);
+    CompletableFuture.supplyAsync(index::listSaveGames).thenAccept(list -> SwingUtilities.invokeLater(() -> {
+      if (directory.equals(getCurrentDirectory())) {
+        saveGames.clear();
+        list.forEach(saveGames::addElement);
+      }
+    }));
+  }
+
+  private static String formatMetadata(final SaveGameMetadata metadata) {
+    return "Game: " + metadata.getGameName()
+        + "\nRound: " + metadata.getRound()
+        + "\nStep: " + metadata.getStepName()
+        + "\nPlayers: " + String.join(", ", metadata.getPlayerNames())
+        + "\nSaved: " + DateFormat.getDateTimeInstance().format(new Date(metadata.getTimestamp()))
+        + "\nEngine version: " + metadata.getEngineVersion();
   }
 
   private static void ensureDirectoryExists(final File f) {
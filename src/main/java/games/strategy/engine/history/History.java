@@ -1,11 +1,10 @@
 package games.strategy.engine.history;
 
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.swing.SwingUtilities;
-import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
 
 import games.strategy.engine.data.Change;
@@ -32,7 +31,8 @@ public class History extends DefaultTreeModel {
   private final List<Change> changes = new ArrayList<>();
   private final GameData gameData;
   private HistoryNode currentNode;
-  private HistoryPanel panel = null;
+  private volatile HistoryPanel panel = null;
+  private final AtomicBoolean goToEndPending = new AtomicBoolean();
 
   private void assertCorrectThread() {
     if (gameData.areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
@@ -53,9 +53,19 @@ public class History extends DefaultTreeModel {
     this.panel = panel;
   }
 
+  /**
+   * Moves the history panel, if any, to the last node. Nodes are often added in quick succession, so the panel is moved
+   * once on the event dispatch thread after all nodes added in the meantime instead of once per node.
+   */
   public void goToEnd() {
-    if (panel != null) {
-      panel.goToEnd();
+    if (panel != null && goToEndPending.compareAndSet(false, true)) {
+      SwingUtilities.invokeLater(() -> {
+        goToEndPending.set(false);
+        final HistoryPanel panel = this.panel;
+        if (panel != null) {
+          panel.goToEnd();
+        }
+      });
     }
   }
 
@@ -126,33 +136,48 @@ public class History extends DefaultTreeModel {
     getGameData().acquireWriteLock();
     try {
       final int lastChange = getLastChange(removeAfterNode) + 1;
-      while (changes.size() > lastChange) {
-        changes.remove(lastChange);
-      }
-      final List<HistoryNode> nodesToRemove = new ArrayList<>();
-      final Enumeration<?> enumeration = ((DefaultMutableTreeNode) this.getRoot()).preorderEnumeration();
-      enumeration.nextElement();
-      boolean startRemoving = false;
-      while (enumeration.hasMoreElements()) {
-        final HistoryNode node = (HistoryNode) enumeration.nextElement();
-        if (node instanceof IndexedHistoryNode) {
-          final int index = ((IndexedHistoryNode) node).getChangeStartIndex();
-          if (index >= lastChange) {
-            startRemoving = true;
-          }
-          if (startRemoving) {
-            nodesToRemove.add(node);
-          }
-        }
-      }
-      while (!nodesToRemove.isEmpty()) {
-        this.removeNodeFromParent(nodesToRemove.remove(0));
+      if (changes.size() > lastChange) {
+        changes.subList(lastChange, changes.size()).clear();
       }
+      removeNodesStartingAtOrAfter(lastChange);
     } finally {
       getGameData().releaseWriteLock();
     }
   }
 
+  /**
+   * Removes all nodes starting at or after the specified change, together with their children. Nodes are added in
+   * the order of their changes, so the nodes to remove are the trailing children of the last node on each level, and
+   * only the last node kept on each level needs to be searched further. A single event is fired for the nodes removed
+   * from each parent.
+   */
+  private void removeNodesStartingAtOrAfter(final int changeIndex) {
+    HistoryNode parent = (HistoryNode) getRoot();
+    while (parent != null) {
+      final int childCount = parent.getChildCount();
+      int firstRemovedIndex = childCount;
+      while (firstRemovedIndex > 0
+          && startsAtOrAfter((HistoryNode) parent.getChildAt(firstRemovedIndex - 1), changeIndex)) {
+        firstRemovedIndex--;
+      }
+      if (firstRemovedIndex < childCount) {
+        final int[] removedIndices = new int[childCount - firstRemovedIndex];
+        final Object[] removedNodes = new Object[removedIndices.length];
+        for (int i = removedIndices.length - 1; i >= 0; i--) {
+          removedIndices[i] = firstRemovedIndex + i;
+          removedNodes[i] = parent.getChildAt(firstRemovedIndex + i);
+          parent.remove(firstRemovedIndex + i);
+        }
+        nodesWereRemoved(parent, removedIndices, removedNodes);
+      }
+      parent = (firstRemovedIndex == 0) ? null : (HistoryNode) parent.getChildAt(firstRemovedIndex - 1);
+    }
+  }
+
+  private static boolean startsAtOrAfter(final HistoryNode node, final int changeIndex) {
+    return (node instanceof IndexedHistoryNode) && ((IndexedHistoryNode) node).getChangeStartIndex() >= changeIndex;
+  }
+
   synchronized void changeAdded(final Change change) {
     changes.add(change);
     if (currentNode == null) {
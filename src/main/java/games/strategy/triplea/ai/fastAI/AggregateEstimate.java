@@ -30,6 +30,11 @@ public class AggregateEstimate extends AggregateResults {
     this.remainingDefendingUnits = remainingDefendingUnits;
   }
 
+  @Override
+  public boolean isCalculated() {
+    return true;
+  }
+
   @Override
   public List<Unit> getAverageAttackingUnitsRemaining() {
     return remainingAttackingUnits;
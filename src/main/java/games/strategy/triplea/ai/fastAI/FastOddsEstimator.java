@@ -10,18 +10,25 @@ import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.proAI.ProData;
 import games.strategy.triplea.ai.proAI.util.ProBattleUtils;
 import games.strategy.triplea.ai.proAI.util.ProPurchaseUtils;
 import games.strategy.triplea.oddsCalculator.ta.AggregateResults;
 import games.strategy.triplea.oddsCalculator.ta.IOddsCalculator;
 import games.strategy.triplea.oddsCalculator.ta.OddsCalculatorListener;
+import games.strategy.triplea.oddsCalculator.ta.OddsPrecision;
 
 public class FastOddsEstimator implements IOddsCalculator {
 
+  private final ProData proData;
   private Territory location = null;
   private Collection<Unit> attackingUnits = new ArrayList<>();
   private Collection<Unit> defendingUnits = new ArrayList<>();
 
+  public FastOddsEstimator(final ProData proData) {
+    this.proData = proData;
+  }
+
   @Override
   public void setGameData(final GameData data) {}
 
@@ -36,19 +43,19 @@ public class FastOddsEstimator implements IOddsCalculator {
 
   @Override
   public AggregateResults calculate() {
-    final double winPercentage = ProBattleUtils.estimateStrengthDifference(location, new ArrayList<>(attackingUnits),
-        new ArrayList<>(defendingUnits));
+    final double winPercentage = ProBattleUtils.estimateStrengthDifference(proData, location,
+        new ArrayList<>(attackingUnits), new ArrayList<>(defendingUnits));
     final int battleRoundsFought = 3;
     List<Unit> remainingAttackingUnits = new ArrayList<>();
     List<Unit> remainingDefendingUnits = new ArrayList<>();
     if (winPercentage > 50) {
       remainingAttackingUnits.addAll(attackingUnits);
-      Collections.sort(remainingAttackingUnits, ProPurchaseUtils.getCostComparator().reversed());
+      Collections.sort(remainingAttackingUnits, ProPurchaseUtils.getCostComparator(proData).reversed());
       final int numRemainingUnits = (int) Math.ceil(attackingUnits.size() * (Math.min(100, winPercentage) - 50) / 50);
       remainingAttackingUnits = remainingAttackingUnits.subList(0, numRemainingUnits);
     } else {
       remainingDefendingUnits.addAll(defendingUnits);
-      Collections.sort(remainingDefendingUnits, ProPurchaseUtils.getCostComparator().reversed());
+      Collections.sort(remainingDefendingUnits, ProPurchaseUtils.getCostComparator(proData).reversed());
       final int numRemainingUnits = (int) Math.ceil(defendingUnits.size() * (50 - Math.max(0, winPercentage)) / 50);
       remainingDefendingUnits = remainingDefendingUnits.subList(0, numRemainingUnits);
     }
@@ -99,6 +106,11 @@ public class FastOddsEstimator implements IOddsCalculator {
 
   }
 
+  @Override
+  public void setPrecision(final OddsPrecision precision) {
+    // the results are estimated without runs, so there is nothing to stop early
+  }
+
   @Override
   public void setAttackerOrderOfLosses(final String attackerOrderOfLosses) {
 
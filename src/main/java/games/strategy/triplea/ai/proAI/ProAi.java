@@ -9,13 +9,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 
+import games.strategy.debug.PerformanceCounters;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameStep;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.delegate.IDelegateBridge;
-import games.strategy.engine.framework.GameDataUtils;
 import games.strategy.net.GUID;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.AbstractAi;
@@ -24,8 +24,10 @@ import games.strategy.triplea.ai.proAI.data.ProPurchaseTerritory;
 import games.strategy.triplea.ai.proAI.data.ProTerritory;
 import games.strategy.triplea.ai.proAI.logging.ProLogUi;
 import games.strategy.triplea.ai.proAI.logging.ProLogger;
+import games.strategy.triplea.ai.proAI.logging.ProMetricUtils;
 import games.strategy.triplea.ai.proAI.simulate.ProDummyDelegateBridge;
 import games.strategy.triplea.ai.proAI.simulate.ProSimulateTurnUtils;
+import games.strategy.triplea.ai.proAI.simulate.ProSimulationGameData;
 import games.strategy.triplea.ai.proAI.util.ProBattleUtils;
 import games.strategy.triplea.ai.proAI.util.ProMatches;
 import games.strategy.triplea.ai.proAI.util.ProOddsCalculator;
@@ -47,7 +49,6 @@ import games.strategy.triplea.delegate.remote.IMoveDelegate;
 import games.strategy.triplea.delegate.remote.IPurchaseDelegate;
 import games.strategy.triplea.delegate.remote.ITechDelegate;
 import games.strategy.triplea.oddsCalculator.ta.ConcurrentOddsCalculator;
-import games.strategy.triplea.oddsCalculator.ta.IOddsCalculator;
 import games.strategy.triplea.ui.TripleAFrame;
 import games.strategy.util.CollectionUtils;
 import games.strategy.util.Tuple;
@@ -57,8 +58,8 @@ import games.strategy.util.Tuple;
  */
 public class ProAi extends AbstractAi {
 
-  // Odds calculator
-  private static final IOddsCalculator concurrentCalc = new ConcurrentOddsCalculator("ProAi");
+  // Data and odds calculator of this player, never shared with other players
+  private final ProData proData = new ProData();
   protected ProOddsCalculator calc;
 
   // Phases
@@ -76,6 +77,9 @@ public class ProAi extends AbstractAi {
   private List<PoliticalActionAttachment> storedPoliticalActions;
   private List<Territory> storedStrafingTerritories;
 
+  // Copy of the game data to simulate the turn on, kept between turns
+  private ProSimulationGameData simulationData;
+
   public ProAi(final String name, final String type) {
     super(name, type);
     initializeCalc();
@@ -90,16 +94,21 @@ public class ProAi extends AbstractAi {
     storedPurchaseTerritories = null;
     storedPoliticalActions = null;
     storedStrafingTerritories = new ArrayList<>();
+    simulationData = null;
   }
 
   protected void initializeCalc() {
-    calc = new ProOddsCalculator(concurrentCalc);
+    calc = new ProOddsCalculator(ConcurrentOddsCalculator.withSharedWorkerPool(), proData);
   }
 
   public ProOddsCalculator getCalc() {
     return calc;
   }
 
+  public ProData getProData() {
+    return proData;
+  }
+
   public static void initialize(final TripleAFrame frame) {
     ProLogUi.initialize(frame);
     ProLogger.info("Initialized Hard AI");
@@ -112,18 +121,21 @@ public class ProAi extends AbstractAi {
 
   public static void gameOverClearCache() {
     // Are static, clear so that we don't keep the data around after a game is exited
-    concurrentCalc.setGameData(null);
     ProLogUi.clearCachedInstances();
   }
 
   @Override
   public void stopGame() {
     super.stopGame(); // absolutely MUST call super.stopGame() first
-    calc.cancelCalcs();
+    calc.shutdown();
+    if (simulationData != null) {
+      simulationData.dispose();
+      simulationData = null;
+    }
   }
 
   private void initializeData() {
-    ProData.initialize(this);
+    proData.initialize(this);
   }
 
   public void setStoredStrafingTerritories(final List<Territory> strafingTerritories) {
@@ -134,20 +146,32 @@ public class ProAi extends AbstractAi {
   protected void move(final boolean nonCombat, final IMoveDelegate moveDel, final GameData data,
       final PlayerID player) {
     final long start = System.currentTimeMillis();
-    BattleCalculator.clearOolCache();
-    ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
-    initializeData();
-    calc.setData(data);
-    if (nonCombat) {
-      nonCombatMoveAi.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
-      storedFactoryMoveMap = null;
-    } else {
-      if (storedCombatMoveMap == null) {
-        combatMoveAi.doCombatMove(moveDel);
+    final ProMetricUtils.Phase phase = ProMetricUtils.startPhase();
+    try {
+      BattleCalculator.clearOolCache();
+      ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
+      initializeData();
+      calc.setData(data);
+      if (nonCombat) {
+        try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ProNonCombatMoveAi.doNonCombatMove")) {
+          nonCombatMoveAi.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
+        }
+        storedFactoryMoveMap = null;
       } else {
-        combatMoveAi.doMove(storedCombatMoveMap, moveDel, data, player);
-        storedCombatMoveMap = null;
+        if (storedCombatMoveMap == null) {
+          try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ProCombatMoveAi.doCombatMove")) {
+            combatMoveAi.doCombatMove(moveDel);
+          }
+        } else {
+          try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ProCombatMoveAi.doMove")) {
+            combatMoveAi.doMove(storedCombatMoveMap, moveDel, data, player);
+          }
+          storedCombatMoveMap = null;
+        }
       }
+    } finally {
+      ProMetricUtils.endPhase(phase, nonCombat ? "nonCombatMove" : "combatMove", data.getSequence().getRound(),
+          player.getName());
     }
     ProLogger
         .info(player.getName() + " time for nonCombat=" + nonCombat + " time=" + (System.currentTimeMillis() - start));
@@ -163,87 +187,116 @@ public class ProAi extends AbstractAi {
     if (pusToSpend <= 0) {
       return;
     }
-    if (purchaseForBid) {
-      calc.setData(data);
-      storedPurchaseTerritories = purchaseAi.bid(pusToSpend, purchaseDelegate, data);
-    } else {
-
-      // Repair factories
-      purchaseAi.repair(pusToSpend, purchaseDelegate, data, player);
-
-      // Check if any place territories exist
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(player);
-      final List<Territory> possibleFactoryTerritories = CollectionUtils.getMatches(data.getMap().getTerritories(),
-          ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player, data));
-      if (purchaseTerritories.isEmpty() && possibleFactoryTerritories.isEmpty()) {
-        ProLogger.info("No possible place or factory territories owned so exiting purchase logic");
-        return;
-      }
-      ProLogger.info("Starting simulation for purchase phase");
-
-      // Setup data copy and delegates
-      GameData dataCopy;
-      try {
-        data.acquireReadLock();
-        dataCopy = GameDataUtils.cloneGameData(data, true);
-      } catch (final Throwable t) {
-        ProLogger.log(Level.WARNING, "Error trying to clone game data for simulating phases", t);
-        return;
-      } finally {
-        data.releaseReadLock();
-      }
-      calc.setData(dataCopy);
-      final PlayerID playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
-      final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
-      final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
-      moveDel.setDelegateBridgeAndPlayer(bridge);
-
-      // Determine turn sequence
-      final List<GameStep> gameSteps = new ArrayList<>();
-      for (final GameStep gameStep : dataCopy.getSequence()) {
-        gameSteps.add(gameStep);
-      }
+    final ProMetricUtils.Phase phase = ProMetricUtils.startPhase();
+    try {
+      if (purchaseForBid) {
+        calc.setData(data);
+        try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ProPurchaseAi.bid")) {
+          storedPurchaseTerritories = purchaseAi.bid(pusToSpend, purchaseDelegate, data);
+        }
+      } else {
 
-      // Simulate the next phases until place/end of turn is reached then use simulated data for purchase
-      final int nextStepIndex = dataCopy.getSequence().getStepIndex() + 1;
-      for (int i = nextStepIndex; i < gameSteps.size(); i++) {
-        final GameStep step = gameSteps.get(i);
-        if (!playerCopy.equals(step.getPlayerId())) {
-          continue;
+        // Repair factories
+        purchaseAi.repair(pusToSpend, purchaseDelegate, data, player);
+
+        // Check if any place territories exist
+        final Map<Territory, ProPurchaseTerritory> purchaseTerritories =
+            ProPurchaseUtils.findPurchaseTerritories(proData, player);
+        final List<Territory> possibleFactoryTerritories = CollectionUtils.getMatches(data.getMap().getTerritories(),
+            ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player, data));
+        if (purchaseTerritories.isEmpty() && possibleFactoryTerritories.isEmpty()) {
+          ProLogger.info("No possible place or factory territories owned so exiting purchase logic");
+          return;
         }
-        dataCopy.getSequence().setRoundAndStep(dataCopy.getSequence().getRound(), step.getDisplayName(),
-            step.getPlayerId());
-        final String stepName = step.getName();
-        ProLogger.info("Simulating phase: " + stepName);
-        if (stepName.endsWith("NonCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          final Map<Territory, ProTerritory> factoryMoveMap = nonCombatMoveAi.simulateNonCombatMove(moveDel);
-          if (storedFactoryMoveMap == null) {
-            storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(factoryMoveMap, data, player);
+        ProLogger.info("Starting simulation for purchase phase");
+
+        // Setup data copy and delegates, the copy is kept up to date between turns instead of copying the data again
+        if (simulationData == null || simulationData.getData() != data) {
+          if (simulationData != null) {
+            simulationData.dispose();
           }
-        } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          final Map<Territory, ProTerritory> moveMap = combatMoveAi.doCombatMove(moveDel);
-          if (storedCombatMoveMap == null) {
-            storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(moveMap, data, player);
+          simulationData = new ProSimulationGameData(data);
+        }
+        final GameData dataCopy;
+        try {
+          dataCopy = simulationData.startSimulation();
+        } catch (final Throwable t) {
+          ProLogger.log(Level.WARNING, "Error trying to clone game data for simulating phases", t);
+          return;
+        }
+        if (dataCopy == null) {
+          ProLogger.warn("Failed to clone game data for simulating phases");
+          return;
+        }
+        try {
+          calc.setData(dataCopy);
+          final PlayerID playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
+          final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
+          final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
+          moveDel.setDelegateBridgeAndPlayer(bridge);
+
+          // Determine turn sequence
+          final List<GameStep> gameSteps = new ArrayList<>();
+          for (final GameStep gameStep : dataCopy.getSequence()) {
+            gameSteps.add(gameStep);
           }
-        } else if (stepName.endsWith("Battle")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy, bridge, calc);
-        } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
-          ProData.initializeSimulation(this, dataCopy, player);
-          storedPurchaseTerritories = purchaseAi.purchase(purchaseDelegate, data);
-          break;
-        } else if (stepName.endsWith("Politics")) {
-          ProData.initializeSimulation(this, dataCopy, player);
-          final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
-          politicsDelegate.setDelegateBridgeAndPlayer(bridge);
-          final List<PoliticalActionAttachment> actions = politicsAi.politicalActions();
-          if (storedPoliticalActions == null) {
-            storedPoliticalActions = actions;
+
+          // Simulate the next phases until place/end of turn is reached then use simulated data for purchase
+          final int nextStepIndex = dataCopy.getSequence().getStepIndex() + 1;
+          for (int i = nextStepIndex; i < gameSteps.size(); i++) {
+            final GameStep step = gameSteps.get(i);
+            if (!playerCopy.equals(step.getPlayerId())) {
+              continue;
+            }
+            dataCopy.getSequence().setRoundAndStep(dataCopy.getSequence().getRound(), step.getDisplayName(),
+                step.getPlayerId());
+            final String stepName = step.getName();
+            ProLogger.info("Simulating phase: " + stepName);
+            if (stepName.endsWith("NonCombatMove")) {
+              proData.initializeSimulation(this, dataCopy, playerCopy);
+              final Map<Territory, ProTerritory> factoryMoveMap;
+              try (PerformanceCounters.Timer timer =
+                  PerformanceCounters.startTimer("ProNonCombatMoveAi.simulateNonCombatMove")) {
+                factoryMoveMap = nonCombatMoveAi.simulateNonCombatMove(moveDel);
+              }
+              if (storedFactoryMoveMap == null) {
+                storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, factoryMoveMap, data, player);
+              }
+            } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
+              proData.initializeSimulation(this, dataCopy, playerCopy);
+              final Map<Territory, ProTerritory> moveMap;
+              try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ProCombatMoveAi.doCombatMove")) {
+                moveMap = combatMoveAi.doCombatMove(moveDel);
+              }
+              if (storedCombatMoveMap == null) {
+                storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, moveMap, data, player);
+              }
+            } else if (stepName.endsWith("Battle")) {
+              proData.initializeSimulation(this, dataCopy, playerCopy);
+              ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy, bridge, calc);
+            } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
+              proData.initializeSimulation(this, dataCopy, player);
+              try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ProPurchaseAi.purchase")) {
+                storedPurchaseTerritories = purchaseAi.purchase(purchaseDelegate, data);
+              }
+              break;
+            } else if (stepName.endsWith("Politics")) {
+              proData.initializeSimulation(this, dataCopy, player);
+              final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
+              politicsDelegate.setDelegateBridgeAndPlayer(bridge);
+              final List<PoliticalActionAttachment> actions = politicsAi.politicalActions();
+              if (storedPoliticalActions == null) {
+                storedPoliticalActions = actions;
+              }
+            }
           }
+        } finally {
+          // Roll back the simulated phases
+          simulationData.endSimulation();
         }
       }
+    } finally {
+      ProMetricUtils.endPhase(phase, "purchase", data.getSequence().getRound(), player.getName());
     }
     ProLogger.info(player.getName() + " time for purchase=" + (System.currentTimeMillis() - start));
   }
@@ -252,11 +305,18 @@ public class ProAi extends AbstractAi {
   protected void place(final boolean bid, final IAbstractPlaceDelegate placeDelegate, final GameData data,
       final PlayerID player) {
     final long start = System.currentTimeMillis();
-    BattleCalculator.clearOolCache();
-    ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
-    initializeData();
-    purchaseAi.place(storedPurchaseTerritories, placeDelegate);
-    storedPurchaseTerritories = null;
+    final ProMetricUtils.Phase phase = ProMetricUtils.startPhase();
+    try {
+      BattleCalculator.clearOolCache();
+      ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
+      initializeData();
+      try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ProPurchaseAi.place")) {
+        purchaseAi.place(storedPurchaseTerritories, placeDelegate);
+      }
+      storedPurchaseTerritories = null;
+    } finally {
+      ProMetricUtils.endPhase(phase, "place", data.getSequence().getRound(), player.getName());
+    }
     ProLogger.info(player.getName() + " time for place=" + (System.currentTimeMillis() - start));
   }
 
@@ -285,7 +345,8 @@ public class ProAi extends AbstractAi {
     final boolean isAttacker = player.equals(battle.getAttacker());
     final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battleTerritory, attackers, defenders);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battleTerritory, attackers,
+        defenders);
     final boolean isStrafing = isAttacker && storedStrafingTerritories.contains(battleTerritory);
     ProLogger.info(player.getName() + " checking retreat from territory " + battleTerritory + ", attackers="
         + attackers.size() + ", defenders=" + defenders.size() + ", submerge=" + submerge + ", attacker=" + isAttacker
@@ -332,7 +393,7 @@ public class ProAi extends AbstractAi {
     myCasualties.addToDamaged(defaultCasualties.getDamaged());
     final List<Unit> selectFromSorted = new ArrayList<>(selectFrom);
     if (enemyUnits.isEmpty()) {
-      Collections.sort(selectFromSorted, ProPurchaseUtils.getCostComparator());
+      Collections.sort(selectFromSorted, ProPurchaseUtils.getCostComparator(proData));
     } else {
 
       // Get battle data
@@ -348,7 +409,8 @@ public class ProAi extends AbstractAi {
         final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
         final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
         defenders.removeAll(defaultCasualties.getKilled());
-        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battlesite, attackers, defenders);
+        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battlesite, attackers,
+            defenders);
         int minStrengthDifference = 60;
         if (!Properties.getLowLuck(data)) {
           minStrengthDifference = 55;
@@ -364,8 +426,8 @@ public class ProAi extends AbstractAi {
         for (int i = 0; i < selectFromSorted.size() - 1; i++) {
           final Unit unit1 = selectFromSorted.get(i);
           final Unit unit2 = selectFromSorted.get(i + 1);
-          final double unitCost1 = ProPurchaseUtils.getCost(unit1);
-          final double unitCost2 = ProPurchaseUtils.getCost(unit2);
+          final double unitCost1 = ProPurchaseUtils.getCost(proData, unit1);
+          final double unitCost2 = ProPurchaseUtils.getCost(proData, unit2);
           if (unitCost1 > 1.5 * unitCost2) {
             selectFromSorted.set(i, unit2);
             selectFromSorted.set(i + 1, unit1);
@@ -13,6 +13,7 @@ import games.strategy.engine.data.UnitType;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.proAI.data.ProPurchaseOption;
 import games.strategy.triplea.ai.proAI.data.ProPurchaseOptionMap;
+import games.strategy.triplea.ai.proAI.util.ProTerritoryGraph;
 import games.strategy.triplea.ai.proAI.util.ProUtils;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
@@ -22,66 +23,119 @@ import games.strategy.util.IntegerMap;
 
 /**
  * Pro AI data.
+ *
+ * <p>
+ * Each {@link ProAi} owns its own instance, which is passed to everything that needs the current game data, player or
+ * the values derived from them. Different AI players, in the same or in different games, therefore never share any
+ * state and can take their turns concurrently.
+ * </p>
  */
-public class ProData {
+public final class ProData {
 
-  private static ProAi proAi;
-  private static GameData data;
-  private static PlayerID player;
+  private ProAi proAi;
+  private GameData data;
+  private PlayerID player;
 
   // Default values
-  public static boolean isSimulation = false;
-  public static double winPercentage = 95;
-  public static double minWinPercentage = 75;
-  public static boolean areNeutralsPassableByAir = false;
-  public static Territory myCapital = null;
-  public static List<Territory> myUnitTerritories = new ArrayList<>();
-  public static Map<Unit, Territory> unitTerritoryMap = new HashMap<>();
-  public static IntegerMap<UnitType> unitValueMap = new IntegerMap<>();
-  public static ProPurchaseOptionMap purchaseOptions = null;
-  public static double minCostPerHitPoint = Double.MAX_VALUE;
-
-  public static void initialize(final ProAi proAi) {
+  private boolean isSimulation = false;
+  private double winPercentage = 95;
+  private double minWinPercentage = 75;
+  private Territory myCapital = null;
+  private List<Territory> myUnitTerritories = new ArrayList<>();
+  private Map<Unit, Territory> unitTerritoryMap = new HashMap<>();
+  private IntegerMap<UnitType> unitValueMap = new IntegerMap<>();
+  private ProPurchaseOptionMap purchaseOptions = null;
+  private double minCostPerHitPoint = Double.MAX_VALUE;
+
+  // Kept across phases, so the distances it caches are reused until the map changes
+  private ProTerritoryGraph territoryGraph = null;
+
+  public void initialize(final ProAi proAi) {
     hiddenInitialize(proAi, proAi.getGameData(), proAi.getPlayerId(), false);
   }
 
-  public static void initializeSimulation(final ProAi proAi, final GameData data, final PlayerID player) {
+  public void initializeSimulation(final ProAi proAi, final GameData data, final PlayerID player) {
     hiddenInitialize(proAi, data, player, true);
   }
 
-  private static void hiddenInitialize(final ProAi proAi, final GameData data, final PlayerID player,
+  private void hiddenInitialize(final ProAi proAi, final GameData data, final PlayerID player,
       final boolean isSimulation) {
-    ProData.proAi = proAi;
-    ProData.data = data;
-    ProData.player = player;
-    ProData.isSimulation = isSimulation;
+    this.proAi = proAi;
+    this.data = data;
+    this.player = player;
+    this.isSimulation = isSimulation;
 
-    if (!Properties.getLowLuck(data)) {
+    if (Properties.getLowLuck(data)) {
+      winPercentage = 95;
+      minWinPercentage = 75;
+    } else {
       winPercentage = 90;
       minWinPercentage = 65;
     }
-    areNeutralsPassableByAir = (Properties.getNeutralFlyoverAllowed(data) && !Properties.getNeutralsImpassable(data));
     myCapital = TerritoryAttachment.getFirstOwnedCapitalOrFirstUnownedCapital(player, data);
     myUnitTerritories =
         CollectionUtils.getMatches(data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(player));
-    unitTerritoryMap = ProUtils.createUnitTerritoryMap();
+    unitTerritoryMap = ProUtils.createUnitTerritoryMap(data);
     unitValueMap = TuvUtils.getCostsForTuv(player, data);
     purchaseOptions = new ProPurchaseOptionMap(player, data);
     minCostPerHitPoint = getMinCostPerHitPoint(purchaseOptions.getLandOptions());
   }
 
-  public static ProAi getProAi() {
+  public ProAi getProAi() {
     return proAi;
   }
 
-  public static GameData getData() {
+  public GameData getData() {
     return data;
   }
 
-  public static PlayerID getPlayer() {
+  public PlayerID getPlayer() {
     return player;
   }
 
+  public boolean isSimulation() {
+    return isSimulation;
+  }
+
+  public double getWinPercentage() {
+    return winPercentage;
+  }
+
+  public double getMinWinPercentage() {
+    return minWinPercentage;
+  }
+
+  public Territory getMyCapital() {
+    return myCapital;
+  }
+
+  public List<Territory> getMyUnitTerritories() {
+    return myUnitTerritories;
+  }
+
+  public Map<Unit, Territory> getUnitTerritoryMap() {
+    return unitTerritoryMap;
+  }
+
+  public IntegerMap<UnitType> getUnitValueMap() {
+    return unitValueMap;
+  }
+
+  public ProPurchaseOptionMap getPurchaseOptions() {
+    return purchaseOptions;
+  }
+
+  public double getMinCostPerHitPoint() {
+    return minCostPerHitPoint;
+  }
+
+  public ProTerritoryGraph getTerritoryGraph() {
+    if (territoryGraph == null || !territoryGraph.isGraphOf(data.getMap())) {
+      territoryGraph = new ProTerritoryGraph(data.getMap());
+    }
+    return territoryGraph;
+  }
+
   private static double getMinCostPerHitPoint(final List<ProPurchaseOption> landPurchaseOptions) {
     double minCostPerHitPoint = Double.MAX_VALUE;
     for (final ProPurchaseOption ppo : landPurchaseOptions) {
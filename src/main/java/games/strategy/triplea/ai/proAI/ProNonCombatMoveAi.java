@@ -20,6 +20,7 @@ import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.ai.proAI.data.ProBattle;
 import games.strategy.triplea.ai.proAI.data.ProBattleResult;
 import games.strategy.triplea.ai.proAI.data.ProOtherMoveOptions;
 import games.strategy.triplea.ai.proAI.data.ProPlaceTerritory;
@@ -55,6 +56,7 @@ import games.strategy.util.CollectionUtils;
 class ProNonCombatMoveAi {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private GameData data;
   private PlayerID player;
   private Map<Unit, Territory> unitTerritoryMap;
@@ -62,6 +64,7 @@ class ProNonCombatMoveAi {
 
   ProNonCombatMoveAi(final ProAi ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   Map<Territory, ProTerritory> simulateNonCombatMove(final IMoveDelegate moveDel) {
@@ -73,16 +76,16 @@ class ProNonCombatMoveAi {
     ProLogger.info("Starting non-combat move phase");
 
     // Current data at the start of non-combat move
-    data = ProData.getData();
-    player = ProData.getPlayer();
-    unitTerritoryMap = ProData.unitTerritoryMap;
-    territoryManager = new ProTerritoryManager(calc);
+    data = proData.getData();
+    player = proData.getPlayer();
+    unitTerritoryMap = proData.getUnitTerritoryMap();
+    territoryManager = new ProTerritoryManager(calc, proData);
 
     // Find the max number of units that can move to each allied territory
     territoryManager.populateDefenseOptions(new ArrayList<>());
 
     // Find number of units in each move territory that can't move and all infra units
-    findUnitsThatCantMove(purchaseTerritories, ProData.purchaseOptions.getLandOptions());
+    findUnitsThatCantMove(purchaseTerritories, proData.getPurchaseOptions().getLandOptions());
     final Map<Unit, Set<Territory>> infraUnitMoveMap = findInfraUnitsThatCanMove();
 
     // Try to have one land unit in each territory that is bordering an enemy territory
@@ -95,29 +98,30 @@ class ProNonCombatMoveAi {
     // Get list of territories that can't be held and find move value for each territory
     final List<Territory> territoriesThatCantBeHeld = territoryManager.getCantHoldTerritories();
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, territoriesThatCantBeHeld, new ArrayList<>());
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, territoriesThatCantBeHeld, new ArrayList<>());
     final Map<Territory, Double> seaTerritoryValueMap =
-        ProTerritoryValueUtils.findSeaTerritoryValues(player, territoriesThatCantBeHeld);
+        ProTerritoryValueUtils.findSeaTerritoryValues(proData, player, territoriesThatCantBeHeld);
 
     // Prioritize territories to defend
     final List<ProTerritory> prioritizedTerritories = prioritizeDefendOptions(factoryMoveMap, territoryValueMap);
 
     // Determine which territories to defend and how many units each one needs
-    final int enemyDistance = ProUtils.getClosestEnemyLandTerritoryDistance(data, player, ProData.myCapital);
+    final int enemyDistance = ProUtils.getClosestEnemyLandTerritoryDistance(proData, data, player,
+        proData.getMyCapital());
     moveUnitsToDefendTerritories(prioritizedTerritories, enemyDistance, territoryValueMap);
 
     // Copy data in case capital defense needs increased
     final ProTerritoryManager territoryManagerCopy = new ProTerritoryManager(calc, territoryManager);
 
     // Use loop to ensure capital is protected after moves
-    if (ProData.myCapital != null) {
+    if (proData.getMyCapital() != null) {
       int defenseRange = -1;
       while (true) {
 
         // Add value to territories near capital if necessary
         for (final Territory t : territoryManager.getDefendTerritories()) {
           double value = territoryValueMap.get(t);
-          final int distance = data.getMap().getDistance(ProData.myCapital, t,
+          final int distance = data.getMap().getDistance(proData.getMyCapital(), t,
               ProMatches.territoryCanMoveLandUnits(player, data, false));
           if (distance >= 0 && distance <= defenseRange) {
             value *= 10;
@@ -133,8 +137,8 @@ class ProNonCombatMoveAi {
         // Check if capital has local land superiority
         ProLogger.info("Checking if capital has local land superiority with enemyDistance=" + enemyDistance);
         if (enemyDistance >= 2 && enemyDistance <= 3 && defenseRange == -1
-            && !ProBattleUtils.territoryHasLocalLandSuperiorityAfterMoves(ProData.myCapital, enemyDistance, player,
-                territoryManager.getDefendOptions().getTerritoryMap())) {
+            && !ProBattleUtils.territoryHasLocalLandSuperiorityAfterMoves(proData, proData.getMyCapital(),
+            enemyDistance, player, territoryManager.getDefendOptions().getTerritoryMap())) {
           defenseRange = enemyDistance - 1;
           territoryManager = territoryManagerCopy;
           ProLogger.debug("Capital doesn't have local land superiority so setting defensive stance");
@@ -176,15 +180,15 @@ class ProNonCombatMoveAi {
     // Calculate move routes and perform moves
     final List<Collection<Unit>> moveUnits = new ArrayList<>();
     final List<Route> moveRoutes = new ArrayList<>();
-    ProMoveUtils.calculateMoveRoutes(player, moveUnits, moveRoutes, moveMap, false);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, moveDel);
+    ProMoveUtils.calculateMoveRoutes(proData, player, moveUnits, moveRoutes, moveMap, false);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, moveDel);
 
     // Calculate amphib move routes and perform moves
     moveUnits.clear();
     moveRoutes.clear();
     final List<Collection<Unit>> transportsToLoad = new ArrayList<>();
-    ProMoveUtils.calculateAmphibRoutes(player, moveUnits, moveRoutes, transportsToLoad, moveMap, false);
-    ProMoveUtils.doMove(moveUnits, moveRoutes, transportsToLoad, moveDel);
+    ProMoveUtils.calculateAmphibRoutes(proData, player, moveUnits, moveRoutes, transportsToLoad, moveMap, false);
+    ProMoveUtils.doMove(proData, moveUnits, moveRoutes, transportsToLoad, moveDel);
   }
 
   private void findUnitsThatCantMove(final Map<Territory, ProPurchaseTerritory> purchaseTerritories,
@@ -247,7 +251,7 @@ class ProNonCombatMoveAi {
       for (final Territory t : moveMap.keySet()) {
         if (ProMatches.territoryHasNonMobileInfraFactoryAndIsNotConqueredOwnedLand(player, data).test(t)) {
           moveMap.get(t).getCantMoveUnits()
-              .addAll(ProPurchaseUtils.findMaxPurchaseDefenders(player, t, landPurchaseOptions));
+              .addAll(ProPurchaseUtils.findMaxPurchaseDefenders(proData, player, t, landPurchaseOptions));
         }
       }
     }
@@ -293,7 +297,7 @@ class ProNonCombatMoveAi {
           moveMap.get(t).getCantMoveUnits().stream().anyMatch(ProMatches.unitIsAlliedLandAndNotInfra(player, data));
       if (!t.isWater() && !hasAlliedLandUnits
           && ProMatches
-              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(player))
+              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(proData, player))
               .test(t)) {
         territoriesToDefendWithOneUnit.add(t);
       }
@@ -301,13 +305,14 @@ class ProNonCombatMoveAi {
     final List<Territory> result = new ArrayList<>(territoriesToDefendWithOneUnit);
 
     // Sort units by number of defend options and cost
-    final Map<Unit, Set<Territory>> sortedUnitMoveOptions = ProSortMoveOptionsUtils.sortUnitMoveOptions(unitMoveMap);
+    final Map<Unit, Set<Territory>> sortedUnitMoveOptions = ProSortMoveOptionsUtils.sortUnitMoveOptions(proData,
+        unitMoveMap);
 
     // Set unit with the fewest move options in each territory
     for (final Unit unit : sortedUnitMoveOptions.keySet()) {
       if (Matches.unitIsLand().test(unit)) {
         for (final Territory t : sortedUnitMoveOptions.get(unit)) {
-          final int unitValue = ProData.unitValueMap.getInt(unit.getType());
+          final int unitValue = proData.getUnitValueMap().getInt(unit.getType());
           int production = 0;
           final TerritoryAttachment ta = TerritoryAttachment.get(t);
           if (ta != null) {
@@ -344,7 +349,9 @@ class ProNonCombatMoveAi {
     final Map<Territory, ProTerritory> moveMap = territoryManager.getDefendOptions().getTerritoryMap();
     final ProOtherMoveOptions enemyAttackOptions = territoryManager.getEnemyAttackOptions();
 
-    // Determine which territories can possibly be held
+    // Find the enemy attackers and the min defenders (not considering AA) of all territories with enemy attackers
+    final List<Territory> territories = new ArrayList<>();
+    final List<ProBattle> minBattles = new ArrayList<>();
     for (final Territory t : moveMap.keySet()) {
       final ProTerritory patd = moveMap.get(t);
 
@@ -353,50 +360,73 @@ class ProNonCombatMoveAi {
         ProLogger.debug("Territory=" + t.getName() + ", CanHold=true since has no enemy attackers");
         continue;
       }
-
-      // Check if min defenders can hold it (not considering AA)
       final Set<Unit> enemyAttackingUnits = new HashSet<>(enemyAttackOptions.getMax(t).getMaxUnits());
       enemyAttackingUnits.addAll(enemyAttackOptions.getMax(t).getMaxAmphibUnits());
       patd.setMaxEnemyUnits(new ArrayList<>(enemyAttackingUnits));
       patd.setMaxEnemyBombardUnits(enemyAttackOptions.getMax(t).getMaxBombardUnits());
       final List<Unit> minDefendingUnitsAndNotAa =
           CollectionUtils.getMatches(patd.getCantMoveUnits(), Matches.unitIsAaForAnything().negate());
-      final ProBattleResult minResult = calc.calculateBattleResults(t, new ArrayList<>(enemyAttackingUnits),
-          minDefendingUnitsAndNotAa, enemyAttackOptions.getMax(t).getMaxBombardUnits());
+      territories.add(t);
+      minBattles.add(new ProBattle(t, new ArrayList<>(enemyAttackingUnits), minDefendingUnitsAndNotAa,
+          enemyAttackOptions.getMax(t).getMaxBombardUnits()));
+    }
+
+    // Check if min defenders can hold each territory
+    final List<ProBattleResult> minResults = calc.calculateBattleResults(minBattles);
+    final List<Integer> maxIndexes = new ArrayList<>();
+    final List<ProBattle> maxBattles = new ArrayList<>();
+    for (int i = 0; i < territories.size(); i++) {
+      final Territory t = territories.get(i);
+      final ProTerritory patd = moveMap.get(t);
+      final ProBattle minBattle = minBattles.get(i);
+      final ProBattleResult minResult = minResults.get(i);
       patd.setMinBattleResult(minResult);
-      if (minResult.getTuvSwing() <= 0 && !minDefendingUnitsAndNotAa.isEmpty()) {
+      if (minResult.getTuvSwing() <= 0 && !minBattle.getDefendingUnits().isEmpty()) {
         ProLogger.debug("Territory=" + t.getName() + ", CanHold=true" + ", MinDefenders="
-            + minDefendingUnitsAndNotAa.size() + ", EnemyAttackers=" + enemyAttackingUnits.size() + ", win%="
-            + minResult.getWinPercentage() + ", EnemyTUVSwing=" + minResult.getTuvSwing() + ", hasLandUnitRemaining="
-            + minResult.isHasLandUnitRemaining());
+            + minBattle.getDefendingUnits().size() + ", EnemyAttackers=" + minBattle.getAttackingUnits().size()
+            + ", win%=" + minResult.getWinPercentage() + ", EnemyTUVSwing=" + minResult.getTuvSwing()
+            + ", hasLandUnitRemaining=" + minResult.isHasLandUnitRemaining());
         continue;
       }
-
-      // Check if max defenders can hold it (not considering AA)
       final Set<Unit> defendingUnits = new HashSet<>(patd.getMaxUnits());
       defendingUnits.addAll(patd.getMaxAmphibUnits());
       defendingUnits.addAll(patd.getCantMoveUnits());
       final List<Unit> defendingUnitsAndNotAa =
           CollectionUtils.getMatches(defendingUnits, Matches.unitIsAaForAnything().negate());
-      final ProBattleResult result = calc.calculateBattleResults(t, new ArrayList<>(enemyAttackingUnits),
-          defendingUnitsAndNotAa, enemyAttackOptions.getMax(t).getMaxBombardUnits());
+      maxIndexes.add(i);
+      maxBattles.add(new ProBattle(t, minBattle.getAttackingUnits(), defendingUnitsAndNotAa,
+          minBattle.getBombardingUnits()));
+    }
+
+    // Check if max defenders can hold the remaining territories (not considering AA)
+    final List<ProBattleResult> maxResults = calc.calculateBattleResults(maxBattles);
+    for (int i = 0; i < maxBattles.size(); i++) {
+      final ProBattle minBattle = minBattles.get(maxIndexes.get(i));
+      final ProBattle maxBattle = maxBattles.get(i);
+      final Territory t = maxBattle.getTerritory();
+      final ProTerritory patd = moveMap.get(t);
+      final List<Unit> minDefendingUnitsAndNotAa = minBattle.getDefendingUnits();
+      final List<Unit> defendingUnitsAndNotAa = maxBattle.getDefendingUnits();
+      final int enemyAttackingUnitCount = maxBattle.getAttackingUnits().size();
+      final ProBattleResult minResult = minResults.get(maxIndexes.get(i));
+      final ProBattleResult result = maxResults.get(i);
       int isFactory = 0;
       if (ProMatches.territoryHasInfraFactoryAndIsLand().test(t)) {
         isFactory = 1;
       }
       int isMyCapital = 0;
-      if (t.equals(ProData.myCapital)) {
+      if (t.equals(proData.getMyCapital())) {
         isMyCapital = 1;
       }
       final List<Unit> extraUnits = new ArrayList<>(defendingUnitsAndNotAa);
       extraUnits.removeAll(minDefendingUnitsAndNotAa);
-      final double extraUnitValue = TuvUtils.getTuv(extraUnits, ProData.unitValueMap);
+      final double extraUnitValue = TuvUtils.getTuv(extraUnits, proData.getUnitValueMap());
       final double holdValue = extraUnitValue / 8 * (1 + 0.5 * isFactory) * (1 + 2 * isMyCapital);
       if (minDefendingUnitsAndNotAa.size() != defendingUnitsAndNotAa.size()
           && (result.getTuvSwing() - holdValue) < minResult.getTuvSwing()) {
         ProLogger
             .debug("Territory=" + t.getName() + ", CanHold=true" + ", MaxDefenders=" + defendingUnitsAndNotAa.size()
-                + ", EnemyAttackers=" + enemyAttackingUnits.size() + ", minTUVSwing=" + minResult.getTuvSwing()
+                + ", EnemyAttackers=" + enemyAttackingUnitCount + ", minTUVSwing=" + minResult.getTuvSwing()
                 + ", win%=" + result.getWinPercentage() + ", EnemyTUVSwing=" + result.getTuvSwing()
                 + ", hasLandUnitRemaining=" + result.isHasLandUnitRemaining() + ", holdValue=" + holdValue);
         continue;
@@ -405,7 +435,7 @@ class ProNonCombatMoveAi {
       // Can't hold territory
       patd.setCanHold(false);
       ProLogger.debug("Can't hold Territory=" + t.getName() + ", MaxDefenders=" + defendingUnitsAndNotAa.size()
-          + ", EnemyAttackers=" + enemyAttackingUnits.size() + ", minTUVSwing=" + minResult.getTuvSwing() + ", win%="
+          + ", EnemyAttackers=" + enemyAttackingUnitCount + ", minTUVSwing=" + minResult.getTuvSwing() + ", win%="
           + result.getWinPercentage() + ", EnemyTUVSwing=" + result.getTuvSwing() + ", hasLandUnitRemaining="
           + result.isHasLandUnitRemaining() + ", holdValue=" + holdValue);
     }
@@ -424,7 +454,7 @@ class ProNonCombatMoveAi {
 
       // Determine if it is my capital or adjacent to my capital
       int isMyCapital = 0;
-      if (t.equals(ProData.myCapital)) {
+      if (t.equals(proData.getMyCapital())) {
         isMyCapital = 1;
       }
 
@@ -441,7 +471,7 @@ class ProNonCombatMoveAi {
       final TerritoryAttachment ta = TerritoryAttachment.get(t);
       if (ta != null) {
         production = ta.getProduction();
-        if (ta.isCapital() && !t.equals(ProData.myCapital)) {
+        if (ta.isCapital() && !t.equals(proData.getMyCapital())) {
           isEnemyOrAlliedCapital = 1;
         }
       }
@@ -460,7 +490,7 @@ class ProNonCombatMoveAi {
       }
 
       // Determine defending unit value
-      final int cantMoveUnitValue = TuvUtils.getTuv(moveMap.get(t).getCantMoveUnits(), ProData.unitValueMap);
+      final int cantMoveUnitValue = TuvUtils.getTuv(moveMap.get(t).getCantMoveUnits(), proData.getUnitValueMap());
       double unitOwnerMultiplier = 1;
       if (moveMap.get(t).getCantMoveUnits().stream().noneMatch(Matches.unitIsOwnedBy(player))) {
         if (t.isWater()
@@ -492,17 +522,17 @@ class ProNonCombatMoveAi {
       final Territory t = patd.getTerritory();
       final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().test(t);
       final ProBattleResult minResult = patd.getMinBattleResult();
-      final int cantMoveUnitValue = TuvUtils.getTuv(moveMap.get(t).getCantMoveUnits(), ProData.unitValueMap);
+      final int cantMoveUnitValue = TuvUtils.getTuv(moveMap.get(t).getCantMoveUnits(), proData.getUnitValueMap());
       final List<Unit> maxEnemyUnits = patd.getMaxEnemyUnits();
       final boolean isLandAndCanOnlyBeAttackedByAir =
           !t.isWater() && !maxEnemyUnits.isEmpty() && maxEnemyUnits.stream().allMatch(Matches.unitIsAir());
       final boolean isNotFactoryAndShouldHold =
           !hasFactory && (minResult.getTuvSwing() <= 0 || !minResult.isHasLandUnitRemaining());
       final boolean canAlreadyBeHeld =
-          minResult.getTuvSwing() <= 0 && minResult.getWinPercentage() < (100 - ProData.winPercentage);
+          minResult.getTuvSwing() <= 0 && minResult.getWinPercentage() < (100 - proData.getWinPercentage());
       final boolean isNotFactoryAndHasNoEnemyNeighbors = !t.isWater() && !hasFactory
           && !ProMatches
-              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(player))
+              .territoryHasNeighborOwnedByAndHasLandUnit(data, ProUtils.getPotentialEnemyPlayers(proData, player))
               .test(t);
       final boolean isNotFactoryAndOnlyAmphib = !t.isWater() && !hasFactory
           && moveMap.get(t).getMaxUnits().stream().noneMatch(Matches.unitIsLand()) && cantMoveUnitValue < 5;
@@ -607,7 +637,7 @@ class ProNonCombatMoveAi {
 
       // Sort units by number of defend options and cost
       final Map<Unit, Set<Territory>> sortedUnitMoveOptions =
-          ProSortMoveOptionsUtils.sortUnitMoveOptions(unitDefendOptions);
+          ProSortMoveOptionsUtils.sortUnitMoveOptions(proData, unitDefendOptions);
 
       // Set enough units in territories to have at least a chance of winning
       for (final Iterator<Unit> it = sortedUnitMoveOptions.keySet().iterator(); it.hasNext();) {
@@ -624,7 +654,7 @@ class ProNonCombatMoveAi {
             defendingUnits = moveMap.get(t).getAllDefenders();
           }
           final double estimate =
-              ProBattleUtils.estimateStrengthDifference(t, moveMap.get(t).getMaxEnemyUnits(), defendingUnits);
+              ProBattleUtils.estimateStrengthDifference(proData, t, moveMap.get(t).getMaxEnemyUnits(), defendingUnits);
           estimatesMap.put(estimate, t);
         }
         if (!estimatesMap.isEmpty() && estimatesMap.lastKey() > 60) {
@@ -655,8 +685,8 @@ class ProNonCombatMoveAi {
           final ProBattleResult result = moveMap.get(t).getBattleResult();
           final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().test(t);
           if (result.getWinPercentage() > maxWinPercentage
-              && ((t.equals(ProData.myCapital) && result.getWinPercentage() > (100 - ProData.winPercentage))
-                  || (hasFactory && result.getWinPercentage() > (100 - ProData.minWinPercentage))
+              && ((t.equals(proData.getMyCapital()) && result.getWinPercentage() > (100 - proData.getWinPercentage()))
+                  || (hasFactory && result.getWinPercentage() > (100 - proData.getMinWinPercentage()))
                   || result.getTuvSwing() >= 0)) {
             maxWinTerritory = t;
             maxWinPercentage = result.getWinPercentage();
@@ -686,7 +716,7 @@ class ProNonCombatMoveAi {
         double maxWinPercentage = -1;
         for (final Territory t : sortedUnitMoveOptions.get(unit)) {
           if (t.isWater() && Matches.unitIsAir().test(unit)) {
-            if (!ProTransportUtils.validateCarrierCapacity(player, t,
+            if (!ProTransportUtils.validateCarrierCapacity(proData, player, t,
                 moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), unit)) {
               continue; // skip moving air to water if not enough carrier capacity
             }
@@ -707,8 +737,8 @@ class ProNonCombatMoveAi {
           final ProBattleResult result = moveMap.get(t).getBattleResult();
           final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().test(t);
           if (result.getWinPercentage() > maxWinPercentage
-              && ((t.equals(ProData.myCapital) && result.getWinPercentage() > (100 - ProData.winPercentage))
-                  || (hasFactory && result.getWinPercentage() > (100 - ProData.minWinPercentage))
+              && ((t.equals(proData.getMyCapital()) && result.getWinPercentage() > (100 - proData.getWinPercentage()))
+                  || (hasFactory && result.getWinPercentage() > (100 - proData.getMinWinPercentage()))
                   || result.getTuvSwing() >= 0)) {
             maxWinTerritory = t;
             maxWinPercentage = result.getWinPercentage();
@@ -796,8 +826,8 @@ class ProNonCombatMoveAi {
           }
           final ProBattleResult result = moveMap.get(t).getBattleResult();
           final boolean hasFactory = ProMatches.territoryHasInfraFactoryAndIsLand().test(t);
-          if ((t.equals(ProData.myCapital) && result.getWinPercentage() > (100 - ProData.winPercentage))
-              || (hasFactory && result.getWinPercentage() > (100 - ProData.minWinPercentage))
+          if ((t.equals(proData.getMyCapital()) && result.getWinPercentage() > (100 - proData.getWinPercentage()))
+              || (hasFactory && result.getWinPercentage() > (100 - proData.getMinWinPercentage()))
               || result.getTuvSwing() > 0) {
 
             // Get all units that have already moved
@@ -838,8 +868,8 @@ class ProNonCombatMoveAi {
                     final List<Unit> attackers = moveMap.get(territoryToMoveTransport).getMaxEnemyUnits();
                     final List<Unit> defenders = moveMap.get(territoryToMoveTransport).getAllDefenders();
                     defenders.add(transport);
-                    final double strengthDifference =
-                        ProBattleUtils.estimateStrengthDifference(territoryToMoveTransport, attackers, defenders);
+                    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData,
+                        territoryToMoveTransport, attackers, defenders);
                     if (strengthDifference < minStrengthDifference) {
                       minTerritory = territoryToMoveTransport;
                       minStrengthDifference = strengthDifference;
@@ -887,11 +917,11 @@ class ProNonCombatMoveAi {
           isFactory = 1;
         }
         int isMyCapital = 0;
-        if (t.equals(ProData.myCapital)) {
+        if (t.equals(proData.getMyCapital())) {
           isMyCapital = 1;
           containsCapital = true;
         }
-        final double extraUnitValue = TuvUtils.getTuv(moveMap.get(t).getTempUnits(), ProData.unitValueMap);
+        final double extraUnitValue = TuvUtils.getTuv(moveMap.get(t).getTempUnits(), proData.getUnitValueMap());
         final List<Unit> unsafeTransports = new ArrayList<>();
         for (final Unit transport : moveMap.get(t).getTransportTerritoryMap().keySet()) {
           final Territory transportTerritory = moveMap.get(t).getTransportTerritoryMap().get(transport);
@@ -899,13 +929,13 @@ class ProNonCombatMoveAi {
             unsafeTransports.add(transport);
           }
         }
-        final int unsafeTransportValue = TuvUtils.getTuv(unsafeTransports, ProData.unitValueMap);
+        final int unsafeTransportValue = TuvUtils.getTuv(unsafeTransports, proData.getUnitValueMap());
         final double holdValue =
             extraUnitValue / 8 * (1 + 0.5 * isFactory) * (1 + 2 * isMyCapital) - unsafeTransportValue;
 
         // Find strategic value
         boolean hasHigherStrategicValue = true;
-        if (!t.isWater() && !t.equals(ProData.myCapital)
+        if (!t.isWater() && !t.equals(proData.getMyCapital())
             && !ProMatches.territoryHasInfraFactoryAndIsLand().test(t)) {
           double totalValue = 0.0;
           final List<Unit> nonAirDefenders =
@@ -932,25 +962,26 @@ class ProNonCombatMoveAi {
       }
 
       final Territory currentTerritory = prioritizedTerritories.get(numToDefend - 1).getTerritory();
-      if (ProData.myCapital != null) {
+      if (proData.getMyCapital() != null) {
 
         // Check capital defense
-        if (containsCapital && !currentTerritory.equals(ProData.myCapital)
-            && moveMap.get(ProData.myCapital).getBattleResult().getWinPercentage() > (100 - ProData.winPercentage)) {
+        if (containsCapital && !currentTerritory.equals(proData.getMyCapital()) && moveMap.get(proData.getMyCapital())
+            .getBattleResult().getWinPercentage() > (100 - proData.getWinPercentage())) {
           if (!Collections.disjoint(moveMap.get(currentTerritory).getAllDefenders(),
-              moveMap.get(ProData.myCapital).getMaxDefenders())) {
+              moveMap.get(proData.getMyCapital()).getMaxDefenders())) {
             areSuccessful = false;
             ProLogger.debug("Capital isn't safe after defense moves with winPercentage="
-                + moveMap.get(ProData.myCapital).getBattleResult().getWinPercentage());
+                + moveMap.get(proData.getMyCapital()).getBattleResult().getWinPercentage());
           }
         }
 
         // Check capital local superiority
         if (!currentTerritory.isWater() && enemyDistance >= 2 && enemyDistance <= 3) {
-          final int distance = data.getMap().getDistance(ProData.myCapital, currentTerritory,
+          final int distance = data.getMap().getDistance(proData.getMyCapital(), currentTerritory,
               ProMatches.territoryCanMoveLandUnits(player, data, true));
-          if (distance > 0 && (enemyDistance == distance || enemyDistance == (distance - 1)) && !ProBattleUtils
-              .territoryHasLocalLandSuperiorityAfterMoves(ProData.myCapital, enemyDistance, player, moveMap)) {
+          if (distance > 0 && (enemyDistance == distance || enemyDistance == (distance - 1))
+              && !ProBattleUtils.territoryHasLocalLandSuperiorityAfterMoves(proData, proData.getMyCapital(),
+                  enemyDistance, player, moveMap)) {
             areSuccessful = false;
             ProLogger.debug(
                 "Capital doesn't have local land superiority after defense moves with enemyDistance=" + enemyDistance);
@@ -1269,8 +1300,8 @@ class ProNonCombatMoveAi {
           final List<Unit> defenders = moveMap.get(t).getMaxDefenders();
           defenders.removeAll(alreadyMovedUnits);
           defenders.addAll(moveMap.get(t).getUnits());
-          defenders.removeAll(ProTransportUtils.getAirThatCantLandOnCarrier(player, t, defenders));
-          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+          defenders.removeAll(ProTransportUtils.getAirThatCantLandOnCarrier(proData, player, t, defenders));
+          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers, defenders);
 
           // TODO: add logic to move towards closest factory
           ProLogger.trace(transport + " at " + t + ", strengthDifference=" + strengthDifference + ", attackers="
@@ -1330,8 +1361,8 @@ class ProNonCombatMoveAi {
       }
 
       // Get all transport final territories
-      ProMoveUtils.calculateAmphibRoutes(player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), moveMap,
-          false);
+      ProMoveUtils.calculateAmphibRoutes(proData, player, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+          moveMap, false);
       for (final Territory t : moveMap.keySet()) {
         for (final Unit u : moveMap.get(t).getTransportTerritoryMap().keySet()) {
           if (moveMap.get(moveMap.get(t).getTransportTerritoryMap().get(u)) != null) {
@@ -1358,7 +1389,7 @@ class ProNonCombatMoveAi {
               ProLogger.trace(t.getName() + " TUVSwing=" + result.getTuvSwing() + ", Win%=" + result.getWinPercentage()
                   + ", enemyAttackers=" + moveMap.get(t).getMaxEnemyUnits().size() + ", defenders="
                   + defendingUnits.size());
-              if (result.getWinPercentage() > (100 - ProData.winPercentage) || result.getTuvSwing() > 0) {
+              if (result.getWinPercentage() > (100 - proData.getWinPercentage()) || result.getTuvSwing() > 0) {
                 ProLogger.trace(u + " added sea to defend transport at " + t);
                 moveMap.get(t).addTempUnit(u);
                 moveMap.get(t).setBattleResult(null);
@@ -1388,7 +1419,7 @@ class ProNonCombatMoveAi {
           for (final Territory t : currentUnitMoveMap.get(u)) {
             if (t.isWater() && moveMap.get(t).isCanHold() && !moveMap.get(t).getAllDefenders().isEmpty()
                 && moveMap.get(t).getAllDefenders().stream().anyMatch(ProMatches.unitIsOwnedTransport(player))) {
-              if (!ProTransportUtils.validateCarrierCapacity(player, t,
+              if (!ProTransportUtils.validateCarrierCapacity(proData, player, t,
                   moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), u)) {
                 continue;
               }
@@ -1402,7 +1433,7 @@ class ProNonCombatMoveAi {
               ProLogger.trace(t.getName() + " TUVSwing=" + result.getTuvSwing() + ", Win%=" + result.getWinPercentage()
                   + ", enemyAttackers=" + moveMap.get(t).getMaxEnemyUnits().size() + ", defenders="
                   + defendingUnits.size());
-              if (result.getWinPercentage() > (100 - ProData.winPercentage) || result.getTuvSwing() > 0) {
+              if (result.getWinPercentage() > (100 - proData.getWinPercentage()) || result.getTuvSwing() > 0) {
                 ProLogger.trace(u + " added air to defend transport at " + t);
                 moveMap.get(t).addTempUnit(u);
                 moveMap.get(t).setBattleResult(null);
@@ -1467,7 +1498,8 @@ class ProNonCombatMoveAi {
               final List<Unit> defenders = moveMap.get(t).getMaxDefenders();
               defenders.removeAll(alreadyMovedUnits);
               defenders.addAll(moveMap.get(t).getUnits());
-              final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+              final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers,
+                  defenders);
               if (strengthDifference < minStrengthDifference) {
                 minStrengthDifference = strengthDifference;
                 minTerritory = t;
@@ -1514,7 +1546,7 @@ class ProNonCombatMoveAi {
         if (t.isWater()) {
           isWater = 1;
         }
-        final double extraUnitValue = TuvUtils.getTuv(moveMap.get(t).getTempUnits(), ProData.unitValueMap);
+        final double extraUnitValue = TuvUtils.getTuv(moveMap.get(t).getTempUnits(), proData.getUnitValueMap());
         final double holdValue = result.getTuvSwing() - (extraUnitValue / 8 * (1 + isWater));
 
         // Find min result without temp units
@@ -1709,7 +1741,7 @@ class ProNonCombatMoveAi {
           final List<Unit> defenders = moveMap.get(t).getMaxDefenders();
           defenders.removeAll(alreadyMovedUnits);
           defenders.addAll(moveMap.get(t).getUnits());
-          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+          final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers, defenders);
           if (strengthDifference < minStrengthDifference) {
             minStrengthDifference = strengthDifference;
             minTerritory = t;
@@ -1745,7 +1777,7 @@ class ProNonCombatMoveAi {
         if (!moveMap.get(t).isCanHold()) {
           continue;
         }
-        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(player, t,
+        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(proData, player, t,
             moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), u)) {
           ProLogger.trace(t + " already at MAX carrier capacity");
           continue;
@@ -1761,7 +1793,7 @@ class ProNonCombatMoveAi {
         final ProBattleResult result = moveMap.get(t).getBattleResult();
         ProLogger.trace(t + ", TUVSwing=" + result.getTuvSwing() + ", win%=" + result.getWinPercentage()
             + ", defendingUnits=" + defendingUnits + ", enemyAttackers=" + moveMap.get(t).getMaxEnemyUnits());
-        if (result.getWinPercentage() >= ProData.minWinPercentage || result.getTuvSwing() > 0) {
+        if (result.getWinPercentage() >= proData.getMinWinPercentage() || result.getTuvSwing() > 0) {
           moveMap.get(t).setCanHold(false);
           continue;
         }
@@ -1771,7 +1803,7 @@ class ProNonCombatMoveAi {
         final ProBattleResult result2 = calc.calculateBattleResults(t, moveMap.get(t).getMaxEnemyUnits(),
             myDefenders, moveMap.get(t).getMaxEnemyBombardUnits());
         int cantHoldWithoutAllies = 0;
-        if (result2.getWinPercentage() >= ProData.minWinPercentage || result2.getTuvSwing() > 0) {
+        if (result2.getWinPercentage() >= proData.getMinWinPercentage() || result2.getTuvSwing() > 0) {
           cantHoldWithoutAllies = 1;
         }
 
@@ -1823,7 +1855,7 @@ class ProNonCombatMoveAi {
       double minStrengthDifference = Double.POSITIVE_INFINITY;
       Territory minTerritory = null;
       for (final Territory t : unitMoveMap.get(u)) {
-        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(player, t,
+        if (t.isWater() && !ProTransportUtils.validateCarrierCapacity(proData, player, t,
             moveMap.get(t).getAllDefendersForCarrierCalcs(data, player), u)) {
           ProLogger.trace(t + " already at MAX carrier capacity");
           continue;
@@ -1831,7 +1863,7 @@ class ProNonCombatMoveAi {
         final List<Unit> attackers = moveMap.get(t).getMaxEnemyUnits();
         final List<Unit> defenders = moveMap.get(t).getAllDefenders();
         defenders.add(u);
-        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackers, defenders);
+        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackers, defenders);
         ProLogger.trace("Unsafe territory: " + t + " with strengthDifference=" + strengthDifference);
         if (strengthDifference < minStrengthDifference) {
           minStrengthDifference = strengthDifference;
@@ -1878,7 +1910,7 @@ class ProNonCombatMoveAi {
                   defendingUnits, moveMap.get(t).getMaxEnemyBombardUnits()));
             }
             final ProBattleResult result = moveMap.get(t).getBattleResult();
-            if (result.getWinPercentage() >= ProData.minWinPercentage || result.getTuvSwing() > 0) {
+            if (result.getWinPercentage() >= proData.getMinWinPercentage() || result.getTuvSwing() > 0) {
               moveMap.get(t).setCanHold(false);
               continue;
             }
@@ -1906,7 +1938,7 @@ class ProNonCombatMoveAi {
             if (factoryMoveMap.containsKey(maxValueTerritory)) {
               factoryMoveMap.get(maxValueTerritory).addUnit(u);
             } else {
-              final ProTerritory patd = new ProTerritory(maxValueTerritory);
+              final ProTerritory patd = new ProTerritory(proData, maxValueTerritory);
               patd.addUnit(u);
               factoryMoveMap.put(maxValueTerritory, patd);
             }
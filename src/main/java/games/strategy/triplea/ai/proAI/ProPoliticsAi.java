@@ -29,18 +29,20 @@ import games.strategy.util.CollectionUtils;
 class ProPoliticsAi {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
 
   ProPoliticsAi(final ProAi ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   List<PoliticalActionAttachment> politicalActions() {
 
-    final GameData data = ProData.getData();
-    final PlayerID player = ProData.getPlayer();
+    final GameData data = proData.getData();
+    final PlayerID player = proData.getPlayer();
     final float numPlayers = data.getPlayerList().getPlayers().size();
     final double round = data.getSequence().getRound();
-    final ProTerritoryManager territoryManager = new ProTerritoryManager(calc);
+    final ProTerritoryManager territoryManager = new ProTerritoryManager(calc, proData);
     final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(data);
     final List<PoliticalActionAttachment> results = new ArrayList<>();
     ProLogger.info("Politics for " + player.getName());
@@ -75,7 +77,7 @@ class ProPoliticsAi {
         }
       }
       if (!warPlayers.isEmpty()) {
-        if (ProUtils.isNeutralPlayer(warPlayers.get(0))) {
+        if (ProUtils.isNeutralPlayer(proData, warPlayers.get(0))) {
           neutralMap.put(action, warPlayers);
         } else {
           enemyMap.put(action, warPlayers);
@@ -168,7 +170,7 @@ class ProPoliticsAi {
   }
 
   void doActions(final List<PoliticalActionAttachment> actions) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(data);
     for (final PoliticalActionAttachment action : actions) {
       ProLogger.debug("Performing action: " + action);
@@ -55,6 +55,7 @@ import games.strategy.util.IntegerMap;
 class ProPurchaseAi {
 
   private final ProOddsCalculator calc;
+  private final ProData proData;
   private GameData data;
   private GameData startOfTurnData; // Used to count current units on map for maxBuiltPerPlayer
   private PlayerID player;
@@ -64,6 +65,7 @@ class ProPurchaseAi {
 
   ProPurchaseAi(final ProAi ai) {
     calc = ai.getCalc();
+    proData = ai.getProData();
   }
 
   int repair(int pusRemaining, final IPurchaseDelegate purchaseDelegate, final GameData data,
@@ -132,13 +134,13 @@ class ProPurchaseAi {
       final GameData startOfTurnData) {
 
     // Current data fields
-    data = ProData.getData();
+    data = proData.getData();
     this.startOfTurnData = startOfTurnData;
-    player = ProData.getPlayer();
+    player = proData.getPlayer();
     resourceTracker = new ProResourceTracker(pus, data);
-    territoryManager = new ProTerritoryManager(calc);
+    territoryManager = new ProTerritoryManager(calc, proData);
     isBid = true;
-    final ProPurchaseOptionMap purchaseOptions = ProData.purchaseOptions;
+    final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
     ProLogger.info("Starting bid phase with resources: " + resourceTracker);
     if (!player.getUnits().getUnits().isEmpty()) {
@@ -146,7 +148,8 @@ class ProPurchaseAi {
     }
 
     // Find all purchase/place territories
-    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findBidTerritories(player);
+    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findBidTerritories(proData,
+        player);
 
     int previousNumUnits = 0;
     while (true) {
@@ -164,7 +167,7 @@ class ProPurchaseAi {
       // Find strategic value for each territory
       ProLogger.info("Find strategic value for place territories");
       final Map<Territory, Double> territoryValueMap =
-          ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>());
+          ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>());
       for (final Territory t : purchaseTerritories.keySet()) {
         for (final ProPlaceTerritory ppt : purchaseTerritories.get(t).getCanPlaceTerritories()) {
           ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
@@ -220,13 +223,13 @@ class ProPurchaseAi {
       final GameData startOfTurnData) {
 
     // Current data fields
-    data = ProData.getData();
+    data = proData.getData();
     this.startOfTurnData = startOfTurnData;
-    player = ProData.getPlayer();
+    player = proData.getPlayer();
     resourceTracker = new ProResourceTracker(player);
-    territoryManager = new ProTerritoryManager(calc);
+    territoryManager = new ProTerritoryManager(calc, proData);
     isBid = false;
-    final ProPurchaseOptionMap purchaseOptions = ProData.purchaseOptions;
+    final ProPurchaseOptionMap purchaseOptions = proData.getPurchaseOptions();
 
     ProLogger.info("Starting purchase phase with resources: " + resourceTracker);
     if (!player.getUnits().getUnits().isEmpty()) {
@@ -234,7 +237,8 @@ class ProPurchaseAi {
     }
 
     // Find all purchase/place territories
-    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(player);
+    final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(proData,
+        player);
     final Set<Territory> placeTerritories = new HashSet<>();
     placeTerritories
         .addAll(CollectionUtils.getMatches(data.getMap().getTerritoriesOwnedBy(player), Matches.territoryIsLand()));
@@ -257,7 +261,7 @@ class ProPurchaseAi {
     // Find strategic value for each territory
     ProLogger.info("Find strategic value for place territories");
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>());
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>());
     for (final Territory t : purchaseTerritories.keySet()) {
       for (final ProPlaceTerritory ppt : purchaseTerritories.get(t).getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
@@ -314,9 +318,9 @@ class ProPurchaseAi {
       final IAbstractPlaceDelegate placeDelegate) {
     ProLogger.info("Starting place phase");
 
-    data = ProData.getData();
-    player = ProData.getPlayer();
-    territoryManager = new ProTerritoryManager(calc);
+    data = proData.getData();
+    player = proData.getPlayer();
+    territoryManager = new ProTerritoryManager(calc, proData);
 
     if (purchaseTerritories != null) {
 
@@ -369,7 +373,7 @@ class ProPurchaseAi {
 
     // Find all place territories
     final Map<Territory, ProPurchaseTerritory> placeNonConstructionTerritories =
-        ProPurchaseUtils.findPurchaseTerritories(player);
+        ProPurchaseUtils.findPurchaseTerritories(proData, player);
 
     // Determine max enemy attack units and current allied defenders
     findDefendersInPlaceTerritories(placeNonConstructionTerritories);
@@ -382,7 +386,7 @@ class ProPurchaseAi {
     // Find strategic value for each territory
     ProLogger.info("Find strategic value for place territories");
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, new ArrayList<>(), new ArrayList<>());
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, new ArrayList<>(), new ArrayList<>());
     for (final Territory t : placeNonConstructionTerritories.keySet()) {
       for (final ProPlaceTerritory ppt : placeNonConstructionTerritories.get(t).getCanPlaceTerritories()) {
         ppt.setStrategicValue(territoryValueMap.get(ppt.getTerritory()));
@@ -449,7 +453,7 @@ class ProPurchaseAi {
         if (t.isWater()) {
           final double unitValue = TuvUtils.getTuv(
               CollectionUtils.getMatches(placeTerritory.getDefendingUnits(), Matches.unitIsOwnedBy(player)),
-              ProData.unitValueMap);
+              proData.getUnitValueMap());
           holdValue = unitValue / 8;
         }
         ProLogger.trace(t.getName() + " TUVSwing=" + result.getTuvSwing() + ", win%=" + result.getWinPercentage()
@@ -461,8 +465,8 @@ class ProPurchaseAi {
             !t.isWater() && !enemyAttackingUnits.isEmpty()
                 && enemyAttackingUnits.stream().allMatch(Matches.unitIsAir());
         if ((!t.isWater() && result.isHasLandUnitRemaining()) || result.getTuvSwing() > holdValue
-            || (t.equals(ProData.myCapital) && !isLandAndCanOnlyBeAttackedByAir
-                && result.getWinPercentage() > (100 - ProData.winPercentage))) {
+            || (t.equals(proData.getMyCapital()) && !isLandAndCanOnlyBeAttackedByAir
+                && result.getWinPercentage() > (100 - proData.getWinPercentage()))) {
           needToDefendTerritories.add(placeTerritory);
         }
       }
@@ -474,7 +478,7 @@ class ProPurchaseAi {
 
       // Determine if it is my capital or adjacent to my capital
       int isMyCapital = 0;
-      if (t.equals(ProData.myCapital)) {
+      if (t.equals(proData.getMyCapital())) {
         isMyCapital = 1;
       }
 
@@ -492,7 +496,7 @@ class ProPurchaseAi {
       }
 
       // Determine defending unit value
-      double defendingUnitValue = TuvUtils.getTuv(placeTerritory.getDefendingUnits(), ProData.unitValueMap);
+      double defendingUnitValue = TuvUtils.getTuv(placeTerritory.getDefendingUnits(), proData.getUnitValueMap());
       if (t.isWater() && placeTerritory.getDefendingUnits().stream().noneMatch(Matches.unitIsOwnedBy(player))) {
         defendingUnitValue = 0;
       }
@@ -545,7 +549,8 @@ class ProPurchaseAi {
       // Find local owned units
       final List<Unit> ownedLocalUnits = t.getUnits().getMatches(Matches.unitIsOwnedBy(player));
       int unusedCarrierCapacity = Math.min(0, ProTransportUtils.getUnusedCarrierCapacity(player, t, new ArrayList<>()));
-      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, new ArrayList<>());
+      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+          new ArrayList<>());
       ProLogger.trace(t + ", unusedCarrierCapacity=" + unusedCarrierCapacity + ", unusedLocalCarrierCapacity="
           + unusedLocalCarrierCapacity);
 
@@ -572,7 +577,7 @@ class ProPurchaseAi {
 
         // Find defenders that can be produced in this territory
         final List<ProPurchaseOption> purchaseOptionsForTerritory =
-            ProPurchaseUtils.findPurchaseOptionsForTerritory(player, defensePurchaseOptions, t, isBid);
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, defensePurchaseOptions, t, isBid);
         purchaseOptionsForTerritory.addAll(airPurchaseOptions);
 
         // Purchase necessary defenders
@@ -606,7 +611,8 @@ class ProPurchaseAi {
           unitsToPlace.addAll(selectedOption.getUnitType().create(selectedOption.getQuantity(), player, true));
           if (selectedOption.isCarrier() || selectedOption.isAir()) {
             unusedCarrierCapacity = ProTransportUtils.getUnusedCarrierCapacity(player, t, unitsToPlace);
-            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
+            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+                unitsToPlace);
           }
           ProLogger.trace("Selected unit=" + selectedOption.getUnitType().getName() + ", unusedCarrierCapacity="
               + unusedCarrierCapacity + ", unusedLocalCarrierCapacity=" + unusedLocalCarrierCapacity);
@@ -620,8 +626,10 @@ class ProPurchaseAi {
               enemyAttackOptions.getMax(t).getMaxBombardUnits());
 
           // Break if it can be held
-          if ((!t.equals(ProData.myCapital) && !finalResult.isHasLandUnitRemaining() && finalResult.getTuvSwing() <= 0)
-              || (t.equals(ProData.myCapital) && finalResult.getWinPercentage() < (100 - ProData.winPercentage)
+          if ((!t.equals(proData.getMyCapital()) && !finalResult.isHasLandUnitRemaining()
+              && finalResult.getTuvSwing() <= 0)
+              || (t.equals(proData.getMyCapital())
+              && finalResult.getWinPercentage() < (100 - proData.getWinPercentage())
                   && finalResult.getTuvSwing() <= 0)) {
             break;
           }
@@ -629,12 +637,12 @@ class ProPurchaseAi {
       }
 
       // Check to see if its worth trying to defend the territory
-      final boolean hasLocalSuperiority =
-          ProBattleUtils.territoryHasLocalLandSuperiority(t, ProBattleUtils.SHORT_RANGE, player, purchaseTerritories);
+      final boolean hasLocalSuperiority = ProBattleUtils.territoryHasLocalLandSuperiority(proData, t,
+          ProBattleUtils.SHORT_RANGE, player, purchaseTerritories);
       if (!finalResult.isHasLandUnitRemaining()
           || (finalResult.getTuvSwing() - resourceTracker.getTempPUs(data) / 2) < placeTerritory.getMinBattleResult()
               .getTuvSwing()
-          || t.equals(ProData.myCapital) || (!t.isWater() && hasLocalSuperiority)) {
+          || t.equals(proData.getMyCapital()) || (!t.isWater() && hasLocalSuperiority)) {
         resourceTracker.confirmTempPurchases();
         ProLogger.trace(
             t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + finalResult.getTuvSwing() + ", hasLandUnitRemaining="
@@ -665,9 +673,9 @@ class ProPurchaseAi {
           final Set<Territory> nearbyLandTerritories =
               data.getMap().getNeighbors(t, 9, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
           final int numNearbyEnemyTerritories = CollectionUtils.countMatches(nearbyLandTerritories,
-              Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(player)));
+              Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(proData, player)));
           final boolean hasLocalLandSuperiority =
-              ProBattleUtils.territoryHasLocalLandSuperiority(t, ProBattleUtils.SHORT_RANGE, player);
+              ProBattleUtils.territoryHasLocalLandSuperiority(proData, t, ProBattleUtils.SHORT_RANGE, player);
           if (hasEnemyNeighbors || numNearbyEnemyTerritories >= 3 || !hasLocalLandSuperiority) {
             prioritizedLandTerritories.add(placeTerritory);
           }
@@ -727,7 +735,7 @@ class ProPurchaseAi {
 
       // Remove options that cost too much PUs or production
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, specialPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, specialPurchaseOptions, t, isBid);
       ProPurchaseUtils.removeInvalidPurchaseOptions(player, startOfTurnData, purchaseOptionsForTerritory,
           resourceTracker, remainingUnitProduction, new ArrayList<>(), purchaseTerritories);
       if (purchaseOptionsForTerritory.isEmpty()) {
@@ -786,15 +794,16 @@ class ProPurchaseAi {
       }
 
       // Determine most cost efficient units that can be produced in this territory
-      final List<ProPurchaseOption> landFodderOptions =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandFodderOptions(), t, isBid);
-      final List<ProPurchaseOption> landAttackOptions =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandAttackOptions(), t, isBid);
-      final List<ProPurchaseOption> landDefenseOptions =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandDefenseOptions(), t, isBid);
+      final List<ProPurchaseOption> landFodderOptions = ProPurchaseUtils.findPurchaseOptionsForTerritory(proData,
+          player, purchaseOptions.getLandFodderOptions(), t, isBid);
+      final List<ProPurchaseOption> landAttackOptions = ProPurchaseUtils.findPurchaseOptionsForTerritory(proData,
+          player, purchaseOptions.getLandAttackOptions(), t, isBid);
+      final List<ProPurchaseOption> landDefenseOptions = ProPurchaseUtils.findPurchaseOptionsForTerritory(proData,
+          player, purchaseOptions.getLandDefenseOptions(), t, isBid);
 
       // Determine enemy distance and locally owned units
-      int enemyDistance = ProUtils.getClosestEnemyOrNeutralLandTerritoryDistance(data, player, t, territoryValueMap);
+      int enemyDistance = ProUtils.getClosestEnemyOrNeutralLandTerritoryDistance(proData, data, player, t,
+          territoryValueMap);
       if (enemyDistance <= 0) {
         enemyDistance = 10;
       }
@@ -813,7 +822,7 @@ class ProPurchaseAi {
       for (final Iterator<Unit> it = unplacedUnits.iterator(); it.hasNext();) {
         final Unit u = it.next();
         if (remainingUnitProduction > 0
-            && ProPurchaseUtils.canUnitsBePlaced(Collections.singletonList(u), player, t, isBid)) {
+            && ProPurchaseUtils.canUnitsBePlaced(proData, Collections.singletonList(u), player, t, isBid)) {
           remainingUnitProduction--;
           unitsToPlace.add(u);
           it.remove();
@@ -948,7 +957,7 @@ class ProPurchaseAi {
     if (!hasExtraPUs) {
       for (final Iterator<Territory> it = purchaseFactoryTerritories.iterator(); it.hasNext();) {
         final Territory t = it.next();
-        if (!ProBattleUtils.territoryHasLocalLandSuperiority(t, ProBattleUtils.MEDIUM_RANGE, player,
+        if (!ProBattleUtils.territoryHasLocalLandSuperiority(proData, t, ProBattleUtils.MEDIUM_RANGE, player,
             purchaseTerritories)) {
           it.remove();
         }
@@ -958,7 +967,7 @@ class ProPurchaseAi {
 
     // Find strategic value for each territory
     final Map<Territory, Double> territoryValueMap =
-        ProTerritoryValueUtils.findTerritoryValues(player, territoriesThatCantBeHeld, new ArrayList<>());
+        ProTerritoryValueUtils.findTerritoryValues(proData, player, territoriesThatCantBeHeld, new ArrayList<>());
     double maxValue = 0.0;
     Territory maxTerritory = null;
     for (final Territory t : purchaseFactoryTerritories) {
@@ -1001,8 +1010,8 @@ class ProPurchaseAi {
 
       // Determine units that can be produced in this territory
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getFactoryOptions(), maxTerritory,
-              isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getFactoryOptions(),
+          maxTerritory, isBid);
       resourceTracker.removeTempPurchase(maxPlacedOption);
       ProPurchaseUtils.removeInvalidPurchaseOptions(player, startOfTurnData, purchaseOptionsForTerritory,
           resourceTracker, 1, new ArrayList<>(), purchaseTerritories);
@@ -1077,13 +1086,13 @@ class ProPurchaseAi {
       int needDefenders = 0;
       if (enemyAttackOptions.getMax(t) != null) {
         final double strengthDifference =
-            ProBattleUtils.estimateStrengthDifference(t, enemyAttackOptions.getMax(t).getMaxUnits(), units);
+            ProBattleUtils.estimateStrengthDifference(proData, t, enemyAttackOptions.getMax(t).getMaxUnits(), units);
         if (strengthDifference > 50) {
           needDefenders = 1;
         }
       }
       final boolean hasLocalNavalSuperiority =
-          ProBattleUtils.territoryHasLocalNavalSuperiority(t, player, null, new ArrayList<>());
+          ProBattleUtils.territoryHasLocalNavalSuperiority(proData, t, player, null, new ArrayList<>());
       if (!hasLocalNavalSuperiority) {
         needDefenders = 1;
       }
@@ -1140,7 +1149,8 @@ class ProPurchaseAi {
         ownedLocalUnits.addAll(neighbor.getUnits().getMatches(Matches.unitIsOwnedBy(player)));
       }
       int unusedCarrierCapacity = Math.min(0, ProTransportUtils.getUnusedCarrierCapacity(player, t, new ArrayList<>()));
-      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, new ArrayList<>());
+      int unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+          new ArrayList<>());
       boolean needDestroyer = false;
       ProLogger.trace(t + ", unusedCarrierCapacity=" + unusedCarrierCapacity + ", unusedLocalCarrierCapacity="
           + unusedLocalCarrierCapacity);
@@ -1176,8 +1186,8 @@ class ProPurchaseAi {
 
           // Determine sea and transport units that can be produced in this territory
           final List<ProPurchaseOption> seaPurchaseOptionsForTerritory =
-              ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getSeaDefenseOptions(), t,
-                  isBid);
+              ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getSeaDefenseOptions(),
+              t, isBid);
           seaPurchaseOptionsForTerritory.addAll(purchaseOptions.getAirOptions());
 
           // Purchase enough sea defenders to hold territory
@@ -1185,7 +1195,7 @@ class ProPurchaseAi {
 
             // If it can be held then break
             if (!hasOnlyRetreatingSubs
-                && (result.getTuvSwing() < -1 || result.getWinPercentage() < ProData.winPercentage)) {
+                && (result.getTuvSwing() < -1 || result.getWinPercentage() < proData.getWinPercentage())) {
               break;
             }
 
@@ -1213,7 +1223,8 @@ class ProPurchaseAi {
             unitsToPlace.addAll(selectedOption.getUnitType().create(selectedOption.getQuantity(), player, true));
             if (selectedOption.isCarrier() || selectedOption.isAir()) {
               unusedCarrierCapacity = ProTransportUtils.getUnusedCarrierCapacity(player, t, unitsToPlace);
-              unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
+              unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+                  unitsToPlace);
             }
             ProLogger
                 .trace(t + ", added sea defender for defense: " + selectedOption.getUnitType().getName() + ", TUVSwing="
@@ -1234,7 +1245,7 @@ class ProPurchaseAi {
         }
 
         // Check to see if its worth trying to defend the territory
-        if (result.getTuvSwing() < 0 || result.getWinPercentage() < ProData.winPercentage) {
+        if (result.getTuvSwing() < 0 || result.getWinPercentage() < proData.getWinPercentage()) {
           resourceTracker.confirmTempPurchases();
           ProLogger.trace(t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + result.getTuvSwing()
               + ", hasLandUnitRemaining=" + result.isHasLandUnitRemaining());
@@ -1322,12 +1333,13 @@ class ProPurchaseAi {
 
         // Determine sea and transport units that can be produced in this territory
         final List<ProPurchaseOption> seaPurchaseOptionsForTerritory =
-            ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getSeaDefenseOptions(), t, isBid);
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getSeaDefenseOptions(), t,
+            isBid);
         seaPurchaseOptionsForTerritory.addAll(purchaseOptions.getAirOptions());
         while (true) {
 
           // If I have naval attack/defense superiority then break
-          if (ProBattleUtils.territoryHasLocalNavalSuperiority(t, player, purchaseTerritories, unitsToPlace)) {
+          if (ProBattleUtils.territoryHasLocalNavalSuperiority(proData, t, player, purchaseTerritories, unitsToPlace)) {
             break;
           }
 
@@ -1355,7 +1367,8 @@ class ProPurchaseAi {
           unitsToPlace.addAll(selectedOption.getUnitType().create(selectedOption.getQuantity(), player, true));
           if (selectedOption.isCarrier() || selectedOption.isAir()) {
             unusedCarrierCapacity = ProTransportUtils.getUnusedCarrierCapacity(player, t, unitsToPlace);
-            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, unitsToPlace);
+            unusedLocalCarrierCapacity = ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t,
+                unitsToPlace);
           }
           ProLogger.trace(t + ", added sea defender for naval superiority: " + selectedOption.getUnitType().getName()
               + ", unusedCarrierCapacity=" + unusedCarrierCapacity + ", unusedLocalCarrierCapacity="
@@ -1385,11 +1398,11 @@ class ProPurchaseAi {
 
         // Determine sea and transport units that can be produced in this territory
         final List<ProPurchaseOption> seaTransportPurchaseOptionsForTerritory =
-            ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getSeaTransportOptions(), t,
-                isBid);
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getSeaTransportOptions(),
+            t, isBid);
         final List<ProPurchaseOption> amphibPurchaseOptionsForTerritory =
-            ProPurchaseUtils.findPurchaseOptionsForTerritory(player, purchaseOptions.getLandOptions(), landTerritory,
-                isBid);
+            ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, purchaseOptions.getLandOptions(),
+            landTerritory, isBid);
 
         // Find transports that need loaded and units to ignore that are already paired up
         final List<Unit> transportsThatNeedUnits = new ArrayList<>();
@@ -1558,7 +1571,7 @@ class ProPurchaseAi {
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(airPurchaseOptions);
       airAndLandPurchaseOptions.addAll(landPurchaseOptions);
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, airAndLandPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, airAndLandPurchaseOptions, t, isBid);
 
       // Purchase long range attack units for any remaining production
       int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
@@ -1618,7 +1631,7 @@ class ProPurchaseAi {
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(airPurchaseOptions);
       airAndLandPurchaseOptions.addAll(landPurchaseOptions);
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, airAndLandPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, airAndLandPurchaseOptions, t, isBid);
 
       // Purchase defense units for any remaining production
       int remainingUnitProduction = purchaseTerritories.get(t).getRemainingUnitProduction();
@@ -1685,7 +1698,7 @@ class ProPurchaseAi {
       final List<ProPurchaseOption> airAndLandPurchaseOptions = new ArrayList<>(purchaseOptions.getAirOptions());
       airAndLandPurchaseOptions.addAll(purchaseOptions.getLandOptions());
       final List<ProPurchaseOption> purchaseOptionsForTerritory =
-          ProPurchaseUtils.findPurchaseOptionsForTerritory(player, airAndLandPurchaseOptions, t, isBid);
+          ProPurchaseUtils.findPurchaseOptionsForTerritory(proData, player, airAndLandPurchaseOptions, t, isBid);
 
       // Purchase long range attack units for any remaining production
       int remainingUpgradeUnits = purchaseTerritories.get(t).getUnitProduction() / 3;
@@ -1730,7 +1743,7 @@ class ProPurchaseAi {
             }
             if (ppo.getCarrierCost() > 0) {
               final int unusedLocalCarrierCapacity =
-                  ProTransportUtils.getUnusedLocalCarrierCapacity(player, t, placeTerritory.getPlaceUnits());
+                  ProTransportUtils.getUnusedLocalCarrierCapacity(proData, player, t, placeTerritory.getPlaceUnits());
               final int neededFighters = unusedLocalCarrierCapacity / ppo.getCarrierCost();
               attackEfficiency *= (1 + neededFighters);
             }
@@ -1854,8 +1867,9 @@ class ProPurchaseAi {
             enemyAttackOptions.getMax(t).getMaxBombardUnits());
 
         // Break if it can be held
-        if ((!t.equals(ProData.myCapital) && !finalResult.isHasLandUnitRemaining() && finalResult.getTuvSwing() <= 0)
-            || (t.equals(ProData.myCapital) && finalResult.getWinPercentage() < (100 - ProData.winPercentage)
+        if ((!t.equals(proData.getMyCapital()) && !finalResult.isHasLandUnitRemaining()
+            && finalResult.getTuvSwing() <= 0)
+            || (t.equals(proData.getMyCapital()) && finalResult.getWinPercentage() < (100 - proData.getWinPercentage())
                 && finalResult.getTuvSwing() <= 0)) {
           break;
         }
@@ -1864,7 +1878,7 @@ class ProPurchaseAi {
       // Check to see if its worth trying to defend the territory
       if (!finalResult.isHasLandUnitRemaining()
           || finalResult.getTuvSwing() < placeTerritory.getMinBattleResult().getTuvSwing()
-          || t.equals(ProData.myCapital)) {
+          || t.equals(proData.getMyCapital())) {
         ProLogger.trace(t + ", placedUnits=" + unitsToPlace + ", TUVSwing=" + finalResult.getTuvSwing());
         doPlace(t, unitsToPlace, placeDelegate);
       } else {
@@ -20,6 +20,7 @@ import games.strategy.util.CollectionUtils;
 
 public class ProTerritory {
 
+  private final ProData proData;
   private Territory territory;
   private List<Unit> maxUnits;
   private List<Unit> units;
@@ -58,7 +59,8 @@ public class ProTerritory {
   // Scramble variables
   private List<Unit> maxScrambleUnits;
 
-  public ProTerritory(final Territory territory) {
+  public ProTerritory(final ProData proData, final Territory territory) {
+    this.proData = proData;
     this.territory = territory;
     maxUnits = new ArrayList<>();
     units = new ArrayList<>();
@@ -91,6 +93,7 @@ public class ProTerritory {
   }
 
   ProTerritory(final ProTerritory patd) {
+    this.proData = patd.proData;
     this.territory = patd.getTerritory();
     maxUnits = new ArrayList<>(patd.getMaxUnits());
     units = new ArrayList<>(patd.getUnits());
@@ -281,7 +284,7 @@ public class ProTerritory {
     this.battleResult = battleResult;
     if (battleResult == null) {
       currentlyWins = false;
-    } else if (battleResult.getWinPercentage() >= ProData.winPercentage && battleResult.isHasLandUnitRemaining()) {
+    } else if (battleResult.getWinPercentage() >= proData.getWinPercentage() && battleResult.isHasLandUnitRemaining()) {
       currentlyWins = true;
     }
   }
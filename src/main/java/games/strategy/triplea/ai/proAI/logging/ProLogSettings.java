@@ -21,6 +21,7 @@ public class ProLogSettings implements Serializable {
   public int LimitLogHistoryTo = 5;
   public boolean EnableAILogging = true;
   public Level AILoggingDepth = Level.FINEST;
+  public boolean EnableAIProfiling = false;
   private static ProLogSettings lastSettings = null;
   private static final String PROGRAM_SETTINGS = "Program Settings";
 
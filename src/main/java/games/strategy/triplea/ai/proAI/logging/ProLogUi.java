@@ -1,5 +1,6 @@
 package games.strategy.triplea.ai.proAI.logging;
 
+import java.util.List;
 import java.util.logging.Level;
 
 import javax.swing.SwingUtilities;
@@ -52,4 +53,11 @@ public class ProLogUi {
       settingsWindow.notifyNewRound(round, name);
     }
   }
+
+  static void notifyTurnMetrics(final List<ProTurnMetrics> turnMetrics) {
+    if (settingsWindow == null) {
+      return;
+    }
+    settingsWindow.showTurnMetrics(turnMetrics);
+  }
 }
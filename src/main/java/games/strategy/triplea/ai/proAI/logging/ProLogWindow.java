@@ -10,6 +10,14 @@ import java.awt.Insets;
 import java.awt.Toolkit;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 import javax.swing.DefaultComboBoxModel;
@@ -17,16 +25,22 @@ import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JDialog;
+import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JSpinner;
 import javax.swing.JTabbedPane;
+import javax.swing.JTable;
 import javax.swing.JTextArea;
 import javax.swing.ScrollPaneConstants;
 import javax.swing.SpinnerNumberModel;
+import javax.swing.SwingUtilities;
+import javax.swing.table.DefaultTableModel;
 
+import games.strategy.debug.ClientLogger;
+import games.strategy.debug.PerformanceCounters.Metric;
 import games.strategy.triplea.ui.TripleAFrame;
 import games.strategy.ui.SwingAction;
 
@@ -44,6 +58,8 @@ class ProLogWindow extends JDialog {
   private JComboBox<String> logDepth;
   private JTabbedPane logHolderTabbedPane;
   private JTabbedPane tabPaneMain;
+  private JCheckBox enableAiProfiling;
+  private DefaultTableModel turnMetricsTableModel;
 
   /** Creates new form ProLogWindow. */
   ProLogWindow(final TripleAFrame frame) {
@@ -55,6 +71,7 @@ class ProLogWindow extends JDialog {
     this.dispose();
     tabPaneMain = null;
     logHolderTabbedPane = null;
+    turnMetricsTableModel = null;
   }
 
   private void initComponents() {
@@ -242,6 +259,7 @@ class ProLogWindow extends JDialog {
     gridBagConstraints.insets = new Insets(7, 0, 0, 0);
     panel8.add(pauseAIs, gridBagConstraints);
     tabPaneMain.addTab("Debugging", panel8);
+    tabPaneMain.addTab("Profiling", createProfilingPanel());
     gridBagConstraints = new GridBagConstraints();
     gridBagConstraints.gridx = 0;
     gridBagConstraints.gridy = 0;
@@ -253,6 +271,50 @@ class ProLogWindow extends JDialog {
     setBounds((screenSize.width - 800), 25, 775, 401);
   }
 
+  private JPanel createProfilingPanel() {
+    final JPanel panel = new JPanel(new BorderLayout());
+    final JPanel controlsPanel = new JPanel();
+    enableAiProfiling = new JCheckBox("Enable AI Profiling");
+    enableAiProfiling.setName("enableAiProfiling");
+    controlsPanel.add(enableAiProfiling);
+    final JButton exportCsvButton = new JButton("Export CSV...");
+    exportCsvButton.addActionListener(evt -> exportTurnMetrics("csv", ProMetricUtils::toCsv));
+    controlsPanel.add(exportCsvButton);
+    final JButton exportJsonButton = new JButton("Export JSON...");
+    exportJsonButton.addActionListener(evt -> exportTurnMetrics("json", ProMetricUtils::toJson));
+    controlsPanel.add(exportJsonButton);
+    panel.add(controlsPanel, BorderLayout.NORTH);
+    turnMetricsTableModel = new DefaultTableModel(
+        new Object[] {"Round", "Player", "Metric", "Count", "Total (ms)", "Max (ms)"}, 0) {
+      private static final long serialVersionUID = 2817446215093718212L;
+
+      @Override
+      public Class<?> getColumnClass(final int columnIndex) {
+        switch (columnIndex) {
+          case 0:
+            return Integer.class;
+          case 3:
+            return Long.class;
+          case 4:
+          case 5:
+            return Double.class;
+          default:
+            return String.class;
+        }
+      }
+
+      @Override
+      public boolean isCellEditable(final int row, final int column) {
+        return false;
+      }
+    };
+    final JTable turnMetricsTable = new JTable(turnMetricsTableModel);
+    turnMetricsTable.setAutoCreateRowSorter(true);
+    turnMetricsTable.setName("turnMetricsTable");
+    panel.add(new JScrollPane(turnMetricsTable), BorderLayout.CENTER);
+    return panel;
+  }
+
   private void formWindowOpened() {
     loadSettings(ProLogSettings.loadSettings());
     this.pack();
@@ -272,6 +334,7 @@ class ProLogWindow extends JDialog {
     }
     limitLogHistoryCheckBox.setSelected(settings.LimitLogHistory);
     limitLogHistoryToSpinner.setValue(settings.LimitLogHistoryTo);
+    enableAiProfiling.setSelected(settings.EnableAIProfiling);
   }
 
   ProLogSettings createSettings() {
@@ -286,6 +349,7 @@ class ProLogWindow extends JDialog {
     }
     settings.LimitLogHistory = limitLogHistoryCheckBox.isSelected();
     settings.LimitLogHistoryTo = Integer.parseInt(limitLogHistoryToSpinner.getValue().toString());
+    settings.EnableAIProfiling = enableAiProfiling.isSelected();
     return settings;
   }
 
@@ -348,6 +412,14 @@ class ProLogWindow extends JDialog {
           + "\r\n"
           + "Limit Log History To X Rounds: If this is checked, the AI log information will be limited to X rounds of "
           + "information.\r\n";
+    } else if (tabPaneMain.getSelectedIndex() == 1) { // Profiling
+      message = "Profiling\r\n" + "\r\n"
+          + "AI Profiling: When this is checked, the AI's record how long their phases, the battle calculator, route "
+          + "finding and copying the game data take, and how many battles were calculated, for each AI turn.\r\n"
+          + "The table shows the metrics of the last 100 AI turns. Times are in milliseconds.\r\n"
+          + "\r\n"
+          + "Export CSV/JSON: Saves the metrics of the recorded AI turns to a file, to compare AI turn times between "
+          + "maps or versions.\r\n";
     }
     final JTextArea label = new JTextArea(message);
     label.setFont(new Font("Segoe UI", Font.PLAIN, 12));
@@ -387,6 +459,37 @@ class ProLogWindow extends JDialog {
     }
   }
 
+  void showTurnMetrics(final List<ProTurnMetrics> turnMetrics) {
+    SwingUtilities.invokeLater(() -> {
+      if (turnMetricsTableModel == null) {
+        return;
+      }
+      turnMetricsTableModel.setRowCount(0);
+      for (final ProTurnMetrics turn : turnMetrics) {
+        for (final Map.Entry<String, Metric> entry : turn.getMetrics().entrySet()) {
+          final Metric metric = entry.getValue();
+          turnMetricsTableModel.addRow(new Object[] {turn.getRound(), turn.getPlayerName(), entry.getKey(),
+              metric.getCount(), ProMetricUtils.toMillis(metric.getTotalNanos()),
+              ProMetricUtils.toMillis(metric.getMaxNanos())});
+        }
+      }
+    });
+  }
+
+  private void exportTurnMetrics(final String extension, final Function<List<ProTurnMetrics>, String> format) {
+    final JFileChooser chooser = new JFileChooser();
+    chooser.setSelectedFile(new File("ai-turn-metrics." + extension));
+    if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+      return;
+    }
+    final File file = chooser.getSelectedFile();
+    try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      writer.write(format.apply(ProMetricUtils.getTurnMetrics()));
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to export AI turn metrics: " + file.getAbsolutePath(), e);
+    }
+  }
+
   void notifyNewRound(final int roundNumber, final String name) {
     SwingAction.invokeAndWaitUninterruptibly(() -> {
       final JPanel newPanel = new JPanel();
@@ -1,5 +1,22 @@
 package games.strategy.triplea.ai.proAI.logging;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import com.github.openjson.JSONArray;
+import com.github.openjson.JSONObject;
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.debug.PerformanceCounters;
+import games.strategy.debug.PerformanceCounters.Metric;
 import games.strategy.engine.data.ProductionRule;
 import games.strategy.util.IntegerMap;
 
@@ -7,10 +24,157 @@ import games.strategy.util.IntegerMap;
  * Pro AI metrics.
  */
 public class ProMetricUtils {
+  private static final int MAX_RECORDED_TURNS = 100;
   private static final IntegerMap<ProductionRule> totalPurchaseMap = new IntegerMap<>();
+  private static long totalBattleCacheHits = 0;
+  private static long totalBattleCacheMisses = 0;
+  private static long totalBattleCacheSavedNanos = 0;
+  private static final Deque<ProTurnMetrics> turnMetrics = new ArrayDeque<>();
 
   public static void collectPurchaseStats(final IntegerMap<ProductionRule> purchaseMap) {
     totalPurchaseMap.add(purchaseMap);
     ProLogger.debug(totalPurchaseMap.toString());
   }
+
+  /**
+   * Logs the hit rate and the calculation time saved by a battle result cache and by all battle result caches so far.
+   *
+   * @param hits The number of battles answered from the cache.
+   * @param misses The number of battles that had to be calculated.
+   * @param savedNanos The time it took to calculate the battles answered from the cache.
+   */
+  public static synchronized void collectBattleCacheStats(final int hits, final int misses, final long savedNanos) {
+    totalBattleCacheHits += hits;
+    totalBattleCacheMisses += misses;
+    totalBattleCacheSavedNanos += savedNanos;
+    ProLogger.debug("Battle result cache: " + formatBattleCacheStats(hits, misses, savedNanos) + ", total: "
+        + formatBattleCacheStats(totalBattleCacheHits, totalBattleCacheMisses, totalBattleCacheSavedNanos));
+  }
+
+  private static String formatBattleCacheStats(final long hits, final long misses, final long savedNanos) {
+    return hits + " hits, " + misses + " misses, hit rate=" + (100 * hits / Math.max(1, hits + misses))
+        + "%, time saved=" + TimeUnit.NANOSECONDS.toMillis(savedNanos) + "ms";
+  }
+
+  /**
+   * Starts recording the timers and counters of an AI phase in counters bound to the current thread if AI profiling is
+   * enabled. Returns {@code null} if it is not.
+   */
+  public static @Nullable Phase startPhase() {
+    return startPhase(ProLogSettings.loadSettings().EnableAIProfiling);
+  }
+
+  @VisibleForTesting
+  static @Nullable Phase startPhase(final boolean isProfilingEnabled) {
+    return isProfilingEnabled ? new Phase() : null;
+  }
+
+  /**
+   * Stops recording on the current thread and adds the timers and counters recorded since {@link #startPhase()} to the
+   * metrics of the current turn of the specified player, along with the time the phase took under
+   * {@code ProAi.<phaseName>}. Does nothing if the phase is {@code null}.
+   */
+  public static void endPhase(final @Nullable Phase phase, final String phaseName, final int round,
+      final String playerName) {
+    if (phase == null) {
+      return;
+    }
+    final long phaseNanos = System.nanoTime() - phase.startNanos;
+    phase.binding.close();
+    final Map<String, Metric> phaseMetrics = new TreeMap<>(phase.counters.getMetrics());
+    phaseMetrics.merge("ProAi." + phaseName, new Metric(1, phaseNanos, phaseNanos), Metric::add);
+    addTurnMetrics(round, playerName, phaseMetrics);
+  }
+
+  private static synchronized void addTurnMetrics(final int round, final String playerName,
+      final Map<String, Metric> phaseMetrics) {
+    final ProTurnMetrics currentTurn = turnMetrics.peekLast();
+    if (currentTurn != null && currentTurn.isTurnOf(round, playerName)) {
+      turnMetrics.pollLast();
+      turnMetrics.addLast(currentTurn.add(phaseMetrics));
+    } else {
+      turnMetrics.addLast(new ProTurnMetrics(round, playerName, phaseMetrics));
+      while (turnMetrics.size() > MAX_RECORDED_TURNS) {
+        turnMetrics.pollFirst();
+      }
+    }
+    ProLogUi.notifyTurnMetrics(getTurnMetrics());
+  }
+
+  /**
+   * Returns the metrics of the most recent AI turns, oldest first.
+   */
+  public static synchronized List<ProTurnMetrics> getTurnMetrics() {
+    return new ArrayList<>(turnMetrics);
+  }
+
+  /**
+   * Returns the specified turn metrics as CSV with a row for each timer or counter of each turn. Times are in
+   * milliseconds.
+   */
+  public static String toCsv(final List<ProTurnMetrics> turnMetrics) {
+    final StringBuilder csv = new StringBuilder("round,player,metric,count,totalMillis,maxMillis\n");
+    for (final ProTurnMetrics turn : turnMetrics) {
+      for (final Map.Entry<String, Metric> entry : turn.getMetrics().entrySet()) {
+        final Metric metric = entry.getValue();
+        csv.append(turn.getRound()).append(',')
+            .append(escapeCsv(turn.getPlayerName())).append(',')
+            .append(escapeCsv(entry.getKey())).append(',')
+            .append(metric.getCount()).append(',')
+            .append(formatMillis(metric.getTotalNanos())).append(',')
+            .append(formatMillis(metric.getMaxNanos())).append('\n');
+      }
+    }
+    return csv.toString();
+  }
+
+  private static String escapeCsv(final String value) {
+    if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+      return '"' + value.replace("\"", "\"\"") + '"';
+    }
+    return value;
+  }
+
+  /**
+   * Returns the specified turn metrics as a JSON array with an object for each turn. Times are in milliseconds.
+   */
+  public static String toJson(final List<ProTurnMetrics> turnMetrics) {
+    final JSONArray turns = new JSONArray();
+    for (final ProTurnMetrics turn : turnMetrics) {
+      final JSONObject metrics = new JSONObject();
+      for (final Map.Entry<String, Metric> entry : turn.getMetrics().entrySet()) {
+        final Metric metric = entry.getValue();
+        final JSONObject metricJson = new JSONObject();
+        metricJson.put("count", metric.getCount());
+        metricJson.put("totalMillis", toMillis(metric.getTotalNanos()));
+        metricJson.put("maxMillis", toMillis(metric.getMaxNanos()));
+        metrics.put(entry.getKey(), metricJson);
+      }
+      final JSONObject turnJson = new JSONObject();
+      turnJson.put("round", turn.getRound());
+      turnJson.put("player", turn.getPlayerName());
+      turnJson.put("metrics", metrics);
+      turns.put(turnJson);
+    }
+    return turns.toString(2);
+  }
+
+  static double toMillis(final long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  static String formatMillis(final long nanos) {
+    return String.format(Locale.ROOT, "%.3f", toMillis(nanos));
+  }
+
+  /**
+   * The counters an AI phase records into while it runs.
+   */
+  public static final class Phase {
+    private final PerformanceCounters counters = new PerformanceCounters();
+    private final PerformanceCounters.Binding binding = PerformanceCounters.bind(counters);
+    private final long startNanos = System.nanoTime();
+
+    private Phase() {}
+  }
 }
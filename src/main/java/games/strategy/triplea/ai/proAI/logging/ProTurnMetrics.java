@@ -0,0 +1,53 @@
+package games.strategy.triplea.ai.proAI.logging;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import games.strategy.debug.PerformanceCounters.Metric;
+
+/**
+ * The timers and counters recorded during the phases of one AI turn.
+ */
+public final class ProTurnMetrics {
+  private final int round;
+  private final String playerName;
+  private final SortedMap<String, Metric> metrics;
+
+  ProTurnMetrics(final int round, final String playerName, final Map<String, Metric> metrics) {
+    this.round = round;
+    this.playerName = checkNotNull(playerName);
+    this.metrics = Collections.unmodifiableSortedMap(new TreeMap<>(metrics));
+  }
+
+  public int getRound() {
+    return round;
+  }
+
+  public String getPlayerName() {
+    return playerName;
+  }
+
+  /**
+   * Returns the recorded values sorted by name.
+   */
+  public SortedMap<String, Metric> getMetrics() {
+    return metrics;
+  }
+
+  boolean isTurnOf(final int round, final String playerName) {
+    return this.round == round && this.playerName.equals(playerName);
+  }
+
+  /**
+   * Returns the metrics of this turn combined with the specified metrics of another phase of the same turn.
+   */
+  ProTurnMetrics add(final Map<String, Metric> phaseMetrics) {
+    final Map<String, Metric> combined = new TreeMap<>(metrics);
+    phaseMetrics.forEach((name, metric) -> combined.merge(name, metric, Metric::add));
+    return new ProTurnMetrics(round, playerName, combined);
+  }
+}
@@ -0,0 +1,127 @@
+package games.strategy.triplea.ai.proAI.simulate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameDataChangeRecorder;
+import games.strategy.engine.data.events.GameDataChangeListener;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.ai.proAI.logging.ProLogger;
+
+/**
+ * A copy of the game data with delegates for the Pro AI to simulate its turn on. The game data is only copied once.
+ * Before each simulation the copy is brought up to date by performing the changes made to the game data since and
+ * loading the current state of its delegates, and after each simulation all changes made to the copy are rolled back.
+ */
+public class ProSimulationGameData {
+  // copy the game data again instead of performing this many changes on the copy
+  private static final int MAX_RECORDED_CHANGES = 10000;
+
+  private final GameData data;
+  private GameData simulationData = null;
+  // records the changes made to the game data since the copy was made or last updated
+  private final GameDataChangeRecorder dataChangeRecorder;
+  // changes made to the copy during the current simulation
+  private final List<Change> changesToRollBack = new ArrayList<>();
+  private final GameDataChangeListener simulationChangeRecorder = changesToRollBack::add;
+  private boolean isSimulating = false;
+
+  public ProSimulationGameData(final GameData data) {
+    this.data = checkNotNull(data);
+    dataChangeRecorder = new GameDataChangeRecorder(data, MAX_RECORDED_CHANGES);
+  }
+
+  public GameData getData() {
+    return data;
+  }
+
+  /**
+   * Starts a simulation and returns the copy of the game data to simulate on, which is up to date with the game data.
+   * All changes made to the copy are rolled back by {@link #endSimulation()}. Returns {@code null} if the game data
+   * could not be copied.
+   */
+  public GameData startSimulation() {
+    checkState(!isSimulating, "Simulation already started");
+    try {
+      data.acquireReadLock();
+      if (!update()) {
+        copy();
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+    if (simulationData == null) {
+      return null;
+    }
+    simulationData.addDataChangeListener(simulationChangeRecorder);
+    isSimulating = true;
+    return simulationData;
+  }
+
+  /**
+   * Ends the current simulation and rolls back all changes made to the copy of the game data during it.
+   */
+  public void endSimulation() {
+    if (!isSimulating) {
+      return;
+    }
+    isSimulating = false;
+    simulationData.removeDataChangeListener(simulationChangeRecorder);
+    try {
+      simulationData.performChange(new CompositeChange(new ArrayList<>(changesToRollBack)).invert());
+    } catch (final RuntimeException e) {
+      ProLogger.log(Level.WARNING, "Failed to roll back simulation, copying game data for next simulation", e);
+      dispose();
+    } finally {
+      changesToRollBack.clear();
+    }
+  }
+
+  /**
+   * Stops keeping the copy of the game data up to date and releases it.
+   */
+  public void dispose() {
+    dataChangeRecorder.stop();
+    simulationData = null;
+  }
+
+  private boolean update() {
+    if (simulationData == null) {
+      return false;
+    }
+    final Change change = dataChangeRecorder.takeChanges();
+    if (change == null) {
+      return false;
+    }
+    try {
+      simulationData.performChange(GameDataUtils.translateIntoOtherGameData(change, simulationData));
+      // the round and step are advanced and the delegates change their state without changes
+      simulationData.getSequence().setRoundAndStep(data.getSequence());
+      for (final IDelegate delegate : data.getDelegateList()) {
+        simulationData.getDelegateList().getDelegate(delegate.getName())
+            .loadState(GameDataUtils.translateIntoOtherGameData(delegate.saveState(), simulationData));
+      }
+      return true;
+    } catch (final RuntimeException e) {
+      ProLogger.log(Level.WARNING, "Failed to update simulation data, copying game data instead", e);
+      return false;
+    }
+  }
+
+  private void copy() {
+    dispose();
+    dataChangeRecorder.start();
+    simulationData = GameDataUtils.cloneGameData(data, true);
+    if (simulationData == null) {
+      dispose();
+    }
+  }
+}
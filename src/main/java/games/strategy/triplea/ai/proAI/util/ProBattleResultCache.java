@@ -0,0 +1,297 @@
+package games.strategy.triplea.ai.proAI.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMultiset;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.properties.IEditableProperty;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.ai.proAI.data.ProBattleResult;
+import games.strategy.triplea.ai.proAI.logging.ProMetricUtils;
+import games.strategy.triplea.delegate.TechAdvance;
+import games.strategy.triplea.delegate.TechTracker;
+
+/**
+ * Caches the battle results calculated by the Pro AI odds calculator.
+ *
+ * <p>
+ * Battles are identified by their territory, the players involved and the number of units of each type and state on
+ * each side, so a battle between different units of the same types is answered from the cache. The remaining units
+ * of a cached result are mapped back to the units of the battle they are requested for. The least recently used
+ * results are evicted once the cache is full, and all results are discarded when a new round starts, the game
+ * properties change or a player gains or loses a technology, which may change the strength of its units.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+final class ProBattleResultCache {
+  private static final int DEFAULT_MAX_SIZE = 5000;
+
+  private final Map<BattleKey, CachedResult> results;
+  private List<Object> fingerprint;
+  private int hits;
+  private int misses;
+  private long savedNanos;
+
+  ProBattleResultCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  @VisibleForTesting
+  ProBattleResultCache(final int maxSize) {
+    checkArgument(maxSize > 0, "max size must be positive");
+
+    results = new LinkedHashMap<BattleKey, CachedResult>(16, 0.75f, true) {
+      private static final long serialVersionUID = 6253367858385580813L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<BattleKey, CachedResult> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Discards all cached results if the round, the game properties or the technologies of the players of the specified
+   * game data differ from those of the game data the results were calculated for.
+   */
+  synchronized void invalidateIfChanged(final GameData data) {
+    final List<Object> newFingerprint = getFingerprint(data);
+    if (!newFingerprint.equals(fingerprint)) {
+      invalidate();
+      fingerprint = newFingerprint;
+    }
+  }
+
+  private static List<Object> getFingerprint(final GameData data) {
+    final List<Object> fingerprint = new ArrayList<>();
+    fingerprint.add(data.getSequence().getRound());
+    for (final IEditableProperty property : data.getProperties().getEditableProperties()) {
+      fingerprint.add(property.getName());
+      fingerprint.add(property.getValue());
+    }
+    for (final PlayerID player : data.getPlayerList()) {
+      fingerprint.add(player.getName());
+      fingerprint.add(TechTracker.getCurrentTechAdvances(player, data).stream()
+          .map(TechAdvance::getName)
+          .collect(Collectors.toSet()));
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Discards all cached results and reports the statistics of the discarded cache.
+   */
+  synchronized void invalidate() {
+    if (hits + misses > 0) {
+      ProMetricUtils.collectBattleCacheStats(hits, misses, savedNanos);
+    }
+    results.clear();
+    hits = 0;
+    misses = 0;
+    savedNanos = 0;
+  }
+
+  static BattleKey newKey(final Territory t, final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
+    return new BattleKey(t, attackingUnits.get(0).getOwner(), defendingUnits.get(0).getOwner(),
+        toMultiset(attackingUnits), toMultiset(defendingUnits), toMultiset(bombardingUnits), retreatWhenOnlyAirLeft);
+  }
+
+  private static ImmutableMultiset<UnitKey> toMultiset(final Collection<Unit> units) {
+    return units.stream().map(UnitKey::new).collect(ImmutableMultiset.toImmutableMultiset());
+  }
+
+  /**
+   * Returns the cached result of the specified battle with the remaining units taken from the specified units, or
+   * {@code null} if the battle is not cached.
+   */
+  synchronized @Nullable ProBattleResult get(final BattleKey key, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits) {
+    final CachedResult cachedResult = results.get(key);
+    if (cachedResult != null) {
+      final List<Unit> attackersRemaining = findUnits(cachedResult.attackersRemaining, attackingUnits);
+      final List<Unit> defendersRemaining = findUnits(cachedResult.defendersRemaining, defendingUnits);
+      if (attackersRemaining != null && defendersRemaining != null) {
+        hits++;
+        savedNanos += cachedResult.calculationNanos;
+        return new ProBattleResult(cachedResult.winPercentage, cachedResult.tuvSwing,
+            cachedResult.hasLandUnitRemaining, attackersRemaining, defendersRemaining, cachedResult.battleRounds);
+      }
+    }
+    misses++;
+    return null;
+  }
+
+  private static @Nullable List<Unit> findUnits(final List<UnitKey> unitKeys, final List<Unit> units) {
+    final Map<UnitKey, Deque<Unit>> unitsByKey = new HashMap<>();
+    for (final Unit unit : units) {
+      unitsByKey.computeIfAbsent(new UnitKey(unit), k -> new ArrayDeque<>()).add(unit);
+    }
+    final List<Unit> result = new ArrayList<>(unitKeys.size());
+    for (final UnitKey unitKey : unitKeys) {
+      final Deque<Unit> matchingUnits = unitsByKey.get(unitKey);
+      if (matchingUnits == null || matchingUnits.isEmpty()) {
+        return null;
+      }
+      result.add(matchingUnits.poll());
+    }
+    return result;
+  }
+
+  synchronized void put(final BattleKey key, final ProBattleResult result, final long calculationNanos) {
+    results.put(key, new CachedResult(result, calculationNanos));
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return results.size();
+  }
+
+  /**
+   * Identifies a battle independently of the units fighting in it.
+   */
+  static final class BattleKey {
+    private final Territory territory;
+    private final PlayerID territoryOwner;
+    private final PlayerID attacker;
+    private final PlayerID defender;
+    private final ImmutableMultiset<UnitKey> attackingUnits;
+    private final ImmutableMultiset<UnitKey> defendingUnits;
+    private final ImmutableMultiset<UnitKey> bombardingUnits;
+    private final boolean retreatWhenOnlyAirLeft;
+
+    private BattleKey(final Territory territory, final PlayerID attacker, final PlayerID defender,
+        final ImmutableMultiset<UnitKey> attackingUnits, final ImmutableMultiset<UnitKey> defendingUnits,
+        final ImmutableMultiset<UnitKey> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
+      this.territory = territory;
+      territoryOwner = territory.getOwner();
+      this.attacker = attacker;
+      this.defender = defender;
+      this.attackingUnits = attackingUnits;
+      this.defendingUnits = defendingUnits;
+      this.bombardingUnits = bombardingUnits;
+      this.retreatWhenOnlyAirLeft = retreatWhenOnlyAirLeft;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+        return true;
+      } else if (!(obj instanceof BattleKey)) {
+        return false;
+      }
+
+      final BattleKey other = (BattleKey) obj;
+      return territory.equals(other.territory)
+          && Objects.equals(territoryOwner, other.territoryOwner)
+          && attacker.equals(other.attacker)
+          && defender.equals(other.defender)
+          && attackingUnits.equals(other.attackingUnits)
+          && defendingUnits.equals(other.defendingUnits)
+          && bombardingUnits.equals(other.bombardingUnits)
+          && retreatWhenOnlyAirLeft == other.retreatWhenOnlyAirLeft;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(territory, territoryOwner, attacker, defender, attackingUnits, defendingUnits,
+          bombardingUnits, retreatWhenOnlyAirLeft);
+    }
+  }
+
+  /**
+   * Identifies all units that behave the same in a battle.
+   */
+  private static final class UnitKey {
+    private final UnitType type;
+    private final PlayerID owner;
+    private final int hits;
+    private final int unitDamage;
+    private final boolean disabled;
+    private final boolean submerged;
+    private final boolean wasAmphibious;
+    private final boolean transported;
+
+    UnitKey(final Unit unit) {
+      final TripleAUnit tripleAUnit = TripleAUnit.get(unit);
+      type = unit.getType();
+      owner = unit.getOwner();
+      hits = unit.getHits();
+      unitDamage = tripleAUnit.getUnitDamage();
+      disabled = tripleAUnit.getDisabled();
+      submerged = tripleAUnit.getSubmerged();
+      wasAmphibious = tripleAUnit.getWasAmphibious();
+      transported = tripleAUnit.getTransportedBy() != null;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+        return true;
+      } else if (!(obj instanceof UnitKey)) {
+        return false;
+      }
+
+      final UnitKey other = (UnitKey) obj;
+      return type.equals(other.type)
+          && owner.equals(other.owner)
+          && hits == other.hits
+          && unitDamage == other.unitDamage
+          && disabled == other.disabled
+          && submerged == other.submerged
+          && wasAmphibious == other.wasAmphibious
+          && transported == other.transported;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, owner, hits, unitDamage, disabled, submerged, wasAmphibious, transported);
+    }
+  }
+
+  private static final class CachedResult {
+    private final double winPercentage;
+    private final double tuvSwing;
+    private final boolean hasLandUnitRemaining;
+    private final List<UnitKey> attackersRemaining;
+    private final List<UnitKey> defendersRemaining;
+    private final double battleRounds;
+    private final long calculationNanos;
+
+    CachedResult(final ProBattleResult result, final long calculationNanos) {
+      winPercentage = result.getWinPercentage();
+      tuvSwing = result.getTuvSwing();
+      hasLandUnitRemaining = result.isHasLandUnitRemaining();
+      attackersRemaining = toUnitKeys(result.getAverageAttackersRemaining());
+      defendersRemaining = toUnitKeys(result.getAverageDefendersRemaining());
+      battleRounds = result.getBattleRounds();
+      this.calculationNanos = calculationNanos;
+    }
+
+    private static List<UnitKey> toUnitKeys(final List<Unit> units) {
+      return units.stream().map(UnitKey::new).collect(Collectors.toList());
+    }
+  }
+}
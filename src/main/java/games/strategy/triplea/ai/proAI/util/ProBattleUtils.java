@@ -34,24 +34,24 @@ public class ProBattleUtils {
   public static final int SHORT_RANGE = 2;
   public static final int MEDIUM_RANGE = 3;
 
-  public static boolean checkForOverwhelmingWin(final Territory t,
+  public static boolean checkForOverwhelmingWin(final ProData proData, final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     if (defendingUnits.isEmpty() && !attackingUnits.isEmpty()) {
       return true;
     }
 
     // Check that defender has at least 1 power
-    final double power = estimatePower(t, defendingUnits, attackingUnits, false);
+    final double power = estimatePower(proData, t, defendingUnits, attackingUnits, false);
     if (power == 0 && !attackingUnits.isEmpty()) {
       return true;
     }
 
     // Determine if enough attack power to win in 1 round
     final List<Unit> sortedUnitsList = new ArrayList<>(attackingUnits);
-    Collections.sort(sortedUnitsList,
-        new UnitBattleComparator(false, ProData.unitValueMap, TerritoryEffectHelper.getEffects(t), data, false, false));
+    Collections.sort(sortedUnitsList, new UnitBattleComparator(false, proData.getUnitValueMap(),
+        TerritoryEffectHelper.getEffects(t), data, false, false));
     Collections.reverse(sortedUnitsList);
     final int attackPower = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList,
         defendingUnits, false, false, data, t, TerritoryEffectHelper.getEffects(t), false, null), data);
@@ -61,8 +61,8 @@ public class ProBattleUtils {
     return ((attackPower / data.getDiceSides()) >= totalDefenderHitPoints);
   }
 
-  public static double estimateStrengthDifference(final Territory t, final List<Unit> attackingUnits,
-      final List<Unit> defendingUnits) {
+  public static double estimateStrengthDifference(final ProData proData, final Territory t,
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
 
     if (attackingUnits.size() == 0) {
       return 0;
@@ -72,14 +72,14 @@ public class ProBattleUtils {
     if (actualDefenders.size() == 0) {
       return 100;
     }
-    final double attackerStrength = estimateStrength(t, attackingUnits, actualDefenders, true);
-    final double defenderStrength = estimateStrength(t, actualDefenders, attackingUnits, false);
+    final double attackerStrength = estimateStrength(proData, t, attackingUnits, actualDefenders, true);
+    final double defenderStrength = estimateStrength(proData, t, actualDefenders, attackingUnits, false);
     return ((attackerStrength - defenderStrength) / Math.pow(defenderStrength, 0.85) * 50 + 50);
   }
 
-  public static double estimateStrength(final Territory t, final List<Unit> myUnits, final List<Unit> enemyUnits,
-      final boolean attacking) {
-    final GameData data = ProData.getData();
+  public static double estimateStrength(final ProData proData, final Territory t, final List<Unit> myUnits,
+      final List<Unit> enemyUnits, final boolean attacking) {
+    final GameData data = proData.getData();
 
     List<Unit> unitsThatCanFight =
         CollectionUtils.getMatches(myUnits, Matches.unitCanBeInBattle(attacking, !t.isWater(), 1, false, true, true));
@@ -88,18 +88,18 @@ public class ProBattleUtils {
           CollectionUtils.getMatches(unitsThatCanFight, Matches.unitIsTransportButNotCombatTransport().negate());
     }
     final int myHitPoints = BattleCalculator.getTotalHitpointsLeft(unitsThatCanFight);
-    final double myPower = estimatePower(t, myUnits, enemyUnits, attacking);
+    final double myPower = estimatePower(proData, t, myUnits, enemyUnits, attacking);
     return (2 * myHitPoints) + myPower;
   }
 
-  private static double estimatePower(final Territory t, final List<Unit> myUnits, final List<Unit> enemyUnits,
-      final boolean attacking) {
-    final GameData data = ProData.getData();
+  private static double estimatePower(final ProData proData, final Territory t, final List<Unit> myUnits,
+      final List<Unit> enemyUnits, final boolean attacking) {
+    final GameData data = proData.getData();
 
     final List<Unit> unitsThatCanFight =
         CollectionUtils.getMatches(myUnits, Matches.unitCanBeInBattle(attacking, !t.isWater(), 1, false, true, true));
     final List<Unit> sortedUnitsList = new ArrayList<>(unitsThatCanFight);
-    Collections.sort(sortedUnitsList, new UnitBattleComparator(!attacking, ProData.unitValueMap,
+    Collections.sort(sortedUnitsList, new UnitBattleComparator(!attacking, proData.getUnitValueMap(),
         TerritoryEffectHelper.getEffects(t), data, false, false));
     Collections.reverse(sortedUnitsList);
     final int myPower = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList,
@@ -107,14 +107,15 @@ public class ProBattleUtils {
     return (myPower * 6.0 / data.getDiceSides());
   }
 
-  public static boolean territoryHasLocalLandSuperiority(final Territory t, final int distance, final PlayerID player) {
-    return territoryHasLocalLandSuperiority(t, distance, player, new HashMap<>());
+  public static boolean territoryHasLocalLandSuperiority(final ProData proData, final Territory t, final int distance,
+      final PlayerID player) {
+    return territoryHasLocalLandSuperiority(proData, t, distance, player, new HashMap<>());
   }
 
-  public static boolean territoryHasLocalLandSuperiority(final Territory t, final int distance, final PlayerID player,
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories) {
+  public static boolean territoryHasLocalLandSuperiority(final ProData proData, final Territory t, final int distance,
+      final PlayerID player, final Map<Territory, ProPurchaseTerritory> purchaseTerritories) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     if (t == null) {
       return true;
     }
@@ -147,7 +148,7 @@ public class ProBattleUtils {
       }
 
       // Determine strength difference
-      final double strengthDifference = estimateStrengthDifference(t, enemyUnits, alliedUnits);
+      final double strengthDifference = estimateStrengthDifference(proData, t, enemyUnits, alliedUnits);
       ProLogger.trace(t + ", current enemy land strengthDifference=" + strengthDifference + ", distance=" + i
           + ", enemySize=" + enemyUnits.size() + ", alliedSize=" + alliedUnits.size());
       if (strengthDifference > 50) {
@@ -157,9 +158,9 @@ public class ProBattleUtils {
     return true;
   }
 
-  public static boolean territoryHasLocalLandSuperiorityAfterMoves(final Territory t, final int distance,
-      final PlayerID player, final Map<Territory, ProTerritory> moveMap) {
-    final GameData data = ProData.getData();
+  public static boolean territoryHasLocalLandSuperiorityAfterMoves(final ProData proData, final Territory t,
+      final int distance, final PlayerID player, final Map<Territory, ProTerritory> moveMap) {
+    final GameData data = proData.getData();
 
     // Find enemy strength
     final Set<Territory> nearbyTerritoriesForEnemy =
@@ -182,15 +183,16 @@ public class ProBattleUtils {
     }
 
     // Determine strength difference
-    final double strengthDifference = estimateStrengthDifference(t, enemyUnits, alliedUnits);
+    final double strengthDifference = estimateStrengthDifference(proData, t, enemyUnits, alliedUnits);
     ProLogger.trace(t + ", current enemy land strengthDifference=" + strengthDifference + ", enemySize="
         + enemyUnits.size() + ", alliedSize=" + alliedUnits.size());
     return strengthDifference <= 50;
   }
 
-  public static boolean territoryHasLocalNavalSuperiority(final Territory t, final PlayerID player,
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories, final List<Unit> unitsToPlace) {
-    final GameData data = ProData.getData();
+  public static boolean territoryHasLocalNavalSuperiority(final ProData proData, final Territory t,
+      final PlayerID player, final Map<Territory, ProPurchaseTerritory> purchaseTerritories,
+      final List<Unit> unitsToPlace) {
+    final GameData data = proData.getData();
 
     int landDistance = ProUtils.getClosestEnemyLandTerritoryDistanceOverWater(data, player, t);
     if (landDistance <= 0) {
@@ -249,14 +251,14 @@ public class ProBattleUtils {
     myUnits.addAll(alliedUnitsInSeaTerritories);
     final List<Unit> enemyAttackers = new ArrayList<>(enemyUnitsInSeaTerritories);
     enemyAttackers.addAll(enemyUnitsInLandTerritories);
-    final double defenseStrengthDifference = estimateStrengthDifference(t, enemyAttackers, myUnits);
+    final double defenseStrengthDifference = estimateStrengthDifference(proData, t, enemyAttackers, myUnits);
     ProLogger.trace(t + ", current enemy naval attack strengthDifference=" + defenseStrengthDifference + ", enemySize="
         + enemyAttackers.size() + ", alliedSize=" + myUnits.size());
 
     // Find current naval attack strength
-    double attackStrengthDifference = estimateStrengthDifference(t, myUnits, enemyUnitsInSeaTerritories);
+    double attackStrengthDifference = estimateStrengthDifference(proData, t, myUnits, enemyUnitsInSeaTerritories);
     attackStrengthDifference +=
-        0.5 * estimateStrengthDifference(t, alliedUnitsInSeaTerritories, enemyUnitsInSeaTerritories);
+        0.5 * estimateStrengthDifference(proData, t, alliedUnitsInSeaTerritories, enemyUnitsInSeaTerritories);
     ProLogger.trace(t + ", current allied naval attack strengthDifference=" + attackStrengthDifference + ", alliedSize="
         + myUnits.size() + ", enemySize=" + enemyUnitsInSeaTerritories.size());
 
@@ -27,10 +27,11 @@ import games.strategy.triplea.delegate.remote.IMoveDelegate;
  */
 public class ProMoveUtils {
 
-  public static void calculateMoveRoutes(final PlayerID player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final Map<Territory, ProTerritory> attackMap, final boolean isCombatMove) {
+  public static void calculateMoveRoutes(final ProData proData, final PlayerID player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes, final Map<Territory,
+      ProTerritory> attackMap, final boolean isCombatMove) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Find all amphib units
     final Set<Unit> amphibUnits = new HashSet<>();
@@ -53,7 +54,7 @@ public class ProMoveUtils {
         }
 
         // Skip if unit is already in move to territory
-        final Territory startTerritory = ProData.unitTerritoryMap.get(u);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(u);
         if (startTerritory == null || startTerritory.equals(t)) {
           continue;
         }
@@ -99,11 +100,12 @@ public class ProMoveUtils {
     }
   }
 
-  public static void calculateAmphibRoutes(final PlayerID player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final List<Collection<Unit>> transportsToLoad,
-      final Map<Territory, ProTerritory> attackMap, final boolean isCombatMove) {
+  public static void calculateAmphibRoutes(final ProData proData, final PlayerID player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+      final List<Collection<Unit>> transportsToLoad, final Map<Territory, ProTerritory> attackMap,
+      final boolean isCombatMove) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Loop through all territories to attack
     for (final Territory t : attackMap.keySet()) {
@@ -112,7 +114,7 @@ public class ProMoveUtils {
       final Map<Unit, List<Unit>> amphibAttackMap = attackMap.get(t).getAmphibAttackMap();
       for (final Unit transport : amphibAttackMap.keySet()) {
         int movesLeft = TripleAUnit.get(transport).getMovementLeft();
-        Territory transportTerritory = ProData.unitTerritoryMap.get(transport);
+        Territory transportTerritory = proData.getUnitTerritoryMap().get(transport);
 
         // Check if units are already loaded or not
         final List<Unit> loadedUnits = new ArrayList<>();
@@ -130,10 +132,10 @@ public class ProMoveUtils {
           if (Matches.territoryHasEnemyUnits(player, data).negate().test(transportTerritory)) {
             final List<Unit> unitsToRemove = new ArrayList<>();
             for (final Unit amphibUnit : remainingUnitsToLoad) {
-              if (data.getMap().getDistance(transportTerritory, ProData.unitTerritoryMap.get(amphibUnit)) == 1) {
+              if (data.getMap().getDistance(transportTerritory, proData.getUnitTerritoryMap().get(amphibUnit)) == 1) {
                 moveUnits.add(Collections.singletonList(amphibUnit));
                 transportsToLoad.add(Collections.singletonList(transport));
-                final Route route = new Route(ProData.unitTerritoryMap.get(amphibUnit), transportTerritory);
+                final Route route = new Route(proData.getUnitTerritoryMap().get(amphibUnit), transportTerritory);
                 moveRoutes.add(route);
                 unitsToRemove.add(amphibUnit);
                 loadedUnits.add(amphibUnit);
@@ -174,7 +176,7 @@ public class ProMoveUtils {
               }
               int maxUnitDistance = 0;
               for (final Unit u : remainingUnitsToLoad) {
-                final int distance = data.getMap().getDistance(neighbor, ProData.unitTerritoryMap.get(u));
+                final int distance = data.getMap().getDistance(neighbor, proData.getUnitTerritoryMap().get(u));
                 if (distance > maxUnitDistance) {
                   maxUnitDistance = distance;
                 }
@@ -223,10 +225,11 @@ public class ProMoveUtils {
     }
   }
 
-  public static void calculateBombardMoveRoutes(final PlayerID player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final Map<Territory, ProTerritory> attackMap) {
+  public static void calculateBombardMoveRoutes(final ProData proData, final PlayerID player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes, final Map<Territory,
+      ProTerritory> attackMap) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Loop through all territories to attack
     for (final Territory t : attackMap.keySet()) {
@@ -236,7 +239,7 @@ public class ProMoveUtils {
         final Territory bombardFromTerritory = attackMap.get(t).getBombardTerritoryMap().get(u);
 
         // Skip if unit is already in move to territory
-        final Territory startTerritory = ProData.unitTerritoryMap.get(u);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(u);
         if (startTerritory.equals(bombardFromTerritory)) {
           continue;
         }
@@ -259,10 +262,11 @@ public class ProMoveUtils {
     }
   }
 
-  public static void calculateBombingRoutes(final PlayerID player, final List<Collection<Unit>> moveUnits,
-      final List<Route> moveRoutes, final Map<Territory, ProTerritory> attackMap) {
+  public static void calculateBombingRoutes(final ProData proData, final PlayerID player,
+      final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes, final Map<Territory,
+      ProTerritory> attackMap) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Loop through all territories to attack
     for (final Territory t : attackMap.keySet()) {
@@ -271,7 +275,7 @@ public class ProMoveUtils {
       for (final Unit u : attackMap.get(t).getBombers()) {
 
         // Skip if unit is already in move to territory
-        final Territory startTerritory = ProData.unitTerritoryMap.get(u);
+        final Territory startTerritory = proData.getUnitTerritoryMap().get(u);
         if (startTerritory == null || startTerritory.equals(t)) {
           continue;
         }
@@ -292,15 +296,15 @@ public class ProMoveUtils {
     }
   }
 
-  public static void doMove(final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+  public static void doMove(final ProData proData, final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
       final IMoveDelegate moveDel) {
-    doMove(moveUnits, moveRoutes, null, moveDel);
+    doMove(proData, moveUnits, moveRoutes, null, moveDel);
   }
 
-  public static void doMove(final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
+  public static void doMove(final ProData proData, final List<Collection<Unit>> moveUnits, final List<Route> moveRoutes,
       final List<Collection<Unit>> transportsToLoad, final IMoveDelegate moveDel) {
 
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     // Group non-amphib units of the same type moving on the same route
     if (transportsToLoad == null) {
@@ -321,7 +325,7 @@ public class ProMoveUtils {
 
     // Move units
     for (int i = 0; i < moveRoutes.size(); i++) {
-      if (!ProData.isSimulation) {
+      if (!proData.isSimulation()) {
         ProUtils.pause();
       }
       if (moveRoutes.get(i) == null || moveRoutes.get(i).getEnd() == null || moveRoutes.get(i).getStart() == null) {
@@ -1,8 +1,10 @@
 package games.strategy.triplea.ai.proAI.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
@@ -10,11 +12,14 @@ import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.proAI.ProData;
+import games.strategy.triplea.ai.proAI.data.ProBattle;
 import games.strategy.triplea.ai.proAI.data.ProBattleResult;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.oddsCalculator.ta.AggregateResults;
+import games.strategy.triplea.oddsCalculator.ta.BattleSpec;
 import games.strategy.triplea.oddsCalculator.ta.IOddsCalculator;
+import games.strategy.triplea.oddsCalculator.ta.OddsPrecision;
 import games.strategy.triplea.util.TuvUtils;
 import games.strategy.util.CollectionUtils;
 
@@ -23,15 +28,24 @@ import games.strategy.util.CollectionUtils;
  */
 public class ProOddsCalculator {
 
+  // Stop calculating a battle before all runs are done once its win percentage is known to within 5% and its TUV
+  // swing to within 2. No win percentage threshold is used, since the AI compares the results with several thresholds.
+  private static final OddsPrecision PRECISION = new OddsPrecision(0.05, 2);
+
   private final IOddsCalculator calc;
+  private final ProData proData;
+  private final ProBattleResultCache cache = new ProBattleResultCache();
   private boolean isCanceled = false;
 
-  public ProOddsCalculator(final IOddsCalculator calc) {
+  public ProOddsCalculator(final IOddsCalculator calc, final ProData proData) {
     this.calc = calc;
+    this.proData = proData;
+    calc.setPrecision(PRECISION);
   }
 
   public void setData(final GameData data) {
     calc.setGameData(data);
+    cache.invalidateIfChanged(data);
   }
 
   public void cancelCalcs() {
@@ -39,32 +53,62 @@ public class ProOddsCalculator {
     isCanceled = true;
   }
 
+  /**
+   * Cancels all calculations and releases the threads and game data copies of the underlying calculator.
+   */
+  public void shutdown() {
+    cancelCalcs();
+    calc.shutdown();
+    cache.invalidate();
+  }
+
   public ProBattleResult estimateAttackBattleResults(final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+    final ProBattleResult result = estimateAttackBattleResultsWithoutCalculator(t, attackingUnits, defendingUnits);
+    if (result != null) {
+      return result;
+    }
+    return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
+  }
+
+  /**
+   * Estimates the results of the specified attacks like {@link #estimateAttackBattleResults(Territory, List, List,
+   * Set)}, but runs all battles that need the battle calculator in a single parallel pass.
+   */
+  public List<ProBattleResult> estimateAttackBattleResults(final List<ProBattle> battles) {
+    return calculateBattleResults(battles, battle -> estimateAttackBattleResultsWithoutCalculator(
+        battle.getTerritory(), battle.getAttackingUnits(), battle.getDefendingUnits()));
+  }
+
+  private ProBattleResult estimateAttackBattleResultsWithoutCalculator(final Territory t,
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits);
     if (result != null) {
       return result;
     }
 
     // Determine if attackers have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference =
+        ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits, defendingUnits);
     if (strengthDifference < 45) {
       return new ProBattleResult(0, -999, false, new ArrayList<>(), defendingUnits, 1);
     }
-    return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
+    return null;
   }
 
   public ProBattleResult estimateDefendBattleResults(final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits);
     if (result != null) {
       return result;
     }
 
     // Determine if defenders have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference =
+        ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits, defendingUnits);
     if (strengthDifference > 55) {
       final boolean isLandAndCanOnlyBeAttackedByAir =
           !t.isWater() && !attackingUnits.isEmpty() && attackingUnits.stream().allMatch(Matches.unitIsAir());
@@ -77,16 +121,45 @@ public class ProOddsCalculator {
   public ProBattleResult calculateBattleResults(final Territory t,
       final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
 
-    final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+    final ProBattleResult result = checkIfNoAttackersOrDefenders(proData, t, attackingUnits, defendingUnits);
     if (result != null) {
       return result;
     }
     return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  private static ProBattleResult checkIfNoAttackersOrDefenders(final Territory t, final List<Unit> attackingUnits,
-      final List<Unit> defendingUnits) {
-    final GameData data = ProData.getData();
+  /**
+   * Calculates the results of the specified battles like {@link #calculateBattleResults(Territory, List, List, Set)},
+   * but runs all battles that need the battle calculator in a single parallel pass.
+   */
+  public List<ProBattleResult> calculateBattleResults(final List<ProBattle> battles) {
+    return calculateBattleResults(battles, battle -> checkIfNoAttackersOrDefenders(proData, battle.getTerritory(),
+        battle.getAttackingUnits(), battle.getDefendingUnits()));
+  }
+
+  private List<ProBattleResult> calculateBattleResults(final List<ProBattle> battles,
+      final Function<ProBattle, ProBattleResult> estimateWithoutCalculator) {
+    final List<ProBattleResult> results = new ArrayList<>(battles.size());
+    final List<Integer> indexesToCalculate = new ArrayList<>();
+    final List<ProBattle> battlesToCalculate = new ArrayList<>();
+    for (final ProBattle battle : battles) {
+      final ProBattleResult result = estimateWithoutCalculator.apply(battle);
+      if (result == null) {
+        indexesToCalculate.add(results.size());
+        battlesToCalculate.add(battle);
+      }
+      results.add(result);
+    }
+    final List<ProBattleResult> calculatedResults = callBattleCalculator(battlesToCalculate);
+    for (int i = 0; i < indexesToCalculate.size(); i++) {
+      results.set(indexesToCalculate.get(i), calculatedResults.get(i));
+    }
+    return results;
+  }
+
+  private static ProBattleResult checkIfNoAttackersOrDefenders(final ProData proData, final Territory t,
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    final GameData data = proData.getData();
 
     final boolean hasNoDefenders = defendingUnits.stream().noneMatch(Matches.unitIsNotInfrastructure());
     final boolean isLandAndCanOnlyBeAttackedByAir =
@@ -113,25 +186,100 @@ public class ProOddsCalculator {
 
   public ProBattleResult callBattleCalculator(final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = ProData.getData();
-
     if (isCanceled || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
     }
 
+    final ProBattleResultCache.BattleKey key =
+        ProBattleResultCache.newKey(t, attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft);
+    final ProBattleResult cachedResult = cache.get(key, attackingUnits, defendingUnits);
+    if (cachedResult != null) {
+      return cachedResult;
+    }
+    final long start = System.nanoTime();
+    final AggregateResults results =
+        calculate(t, attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft);
+    final ProBattleResult result = toBattleResult(t, attackingUnits, defendingUnits, results);
+    // don't cache the empty results of a battle the calculator did not calculate
+    if (!isCanceled && results.isCalculated()) {
+      cache.put(key, result, System.nanoTime() - start);
+    }
+    return result;
+  }
+
+  /**
+   * Calculates the results of the specified battles with the battle calculator like {@link
+   * #callBattleCalculator(Territory, List, List, Set)}. Battles whose results are not cached are distributed across the
+   * workers of the battle calculator as a whole.
+   */
+  public List<ProBattleResult> callBattleCalculator(final List<ProBattle> battles) {
+    final ProBattleResult[] results = new ProBattleResult[battles.size()];
+    final List<Integer> indexesToCalculate = new ArrayList<>();
+    final List<ProBattleResultCache.BattleKey> keysToCalculate = new ArrayList<>();
+    final List<BattleSpec> battleSpecs = new ArrayList<>();
+    for (int i = 0; i < battles.size(); i++) {
+      final ProBattle battle = battles.get(i);
+      final List<Unit> attackingUnits = battle.getAttackingUnits();
+      final List<Unit> defendingUnits = battle.getDefendingUnits();
+      if (isCanceled || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
+        results[i] = new ProBattleResult();
+        continue;
+      }
+      final ProBattleResultCache.BattleKey key = ProBattleResultCache.newKey(battle.getTerritory(), attackingUnits,
+          defendingUnits, battle.getBombardingUnits(), false);
+      results[i] = cache.get(key, attackingUnits, defendingUnits);
+      if (results[i] == null) {
+        indexesToCalculate.add(i);
+        keysToCalculate.add(key);
+        battleSpecs.add(newBattleSpec(battle.getTerritory(), attackingUnits, defendingUnits,
+            battle.getBombardingUnits()));
+      }
+    }
+    if (!battleSpecs.isEmpty()) {
+      final long start = System.nanoTime();
+      final List<AggregateResults> aggregateResults = calc.calculateAll(battleSpecs);
+      final long nanosPerBattle = (System.nanoTime() - start) / battleSpecs.size();
+      for (int i = 0; i < indexesToCalculate.size(); i++) {
+        final int index = indexesToCalculate.get(i);
+        final ProBattle battle = battles.get(index);
+        results[index] = toBattleResult(battle.getTerritory(), battle.getAttackingUnits(), battle.getDefendingUnits(),
+            aggregateResults.get(i));
+        if (!isCanceled && aggregateResults.get(i).isCalculated()) {
+          cache.put(keysToCalculate.get(i), results[index], nanosPerBattle);
+        }
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  private static BattleSpec newBattleSpec(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final Set<Unit> bombardingUnits) {
     final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
     final int runCount = Math.max(16, 100 - minArmySize);
-    final PlayerID attacker = attackingUnits.get(0).getOwner();
-    final PlayerID defender = defendingUnits.get(0).getOwner();
+    return new BattleSpec(attackingUnits.get(0).getOwner(), defendingUnits.get(0).getOwner(), t, attackingUnits,
+        defendingUnits, bombardingUnits, TerritoryEffectHelper.getEffects(t), runCount);
+  }
+
+  private AggregateResults calculate(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
+    final BattleSpec battle = newBattleSpec(t, attackingUnits, defendingUnits, bombardingUnits);
     if (retreatWhenOnlyAirLeft) {
       calc.setRetreatWhenOnlyAirLeft(true);
     }
-    final AggregateResults results = calc.setCalculateDataAndCalculate(attacker, defender,
-        t, attackingUnits, defendingUnits, new ArrayList<>(bombardingUnits),
-        TerritoryEffectHelper.getEffects(t), runCount);
+    final AggregateResults results = calc.setCalculateDataAndCalculate(battle.getAttacker(), battle.getDefender(),
+        t, battle.getAttacking(), battle.getDefending(), battle.getBombarding(), battle.getTerritoryEffects(),
+        battle.getRunCount());
     if (retreatWhenOnlyAirLeft) {
       calc.setRetreatWhenOnlyAirLeft(false);
     }
+    return results;
+  }
+
+  private ProBattleResult toBattleResult(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final AggregateResults results) {
+    final GameData data = proData.getData();
+    final PlayerID attacker = attackingUnits.get(0).getOwner();
+    final PlayerID defender = defendingUnits.get(0).getOwner();
 
     // Find battle result statistics
     final double winPercentage = results.getAttackerWinPercent() * 100;
@@ -143,15 +291,15 @@ public class ProOddsCalculator {
         Matches.unitCanBeInBattle(false, !t.isWater(), 1, false, true, true));
     double tuvSwing = results.getAverageTuvSwing(attacker, mainCombatAttackers, defender, mainCombatDefenders, data);
     if (Matches.territoryIsNeutralButNotWater().test(t)) { // Set TUV swing for neutrals
-      final double attackingUnitValue = TuvUtils.getTuv(mainCombatAttackers, ProData.unitValueMap);
+      final double attackingUnitValue = TuvUtils.getTuv(mainCombatAttackers, proData.getUnitValueMap());
       final double remainingUnitValue =
-          results.getAverageTuvOfUnitsLeftOver(ProData.unitValueMap, ProData.unitValueMap).getFirst();
+          results.getAverageTuvOfUnitsLeftOver(proData.getUnitValueMap(), proData.getUnitValueMap()).getFirst();
       tuvSwing = remainingUnitValue - attackingUnitValue;
     }
     final List<Unit> defendingTransportedUnits =
         CollectionUtils.getMatches(defendingUnits, Matches.unitIsBeingTransported());
     if (t.isWater() && !defendingTransportedUnits.isEmpty()) { // Add TUV swing for transported units
-      final double transportedUnitValue = TuvUtils.getTuv(defendingTransportedUnits, ProData.unitValueMap);
+      final double transportedUnitValue = TuvUtils.getTuv(defendingTransportedUnits, proData.getUnitValueMap());
       tuvSwing += transportedUnitValue * winPercentage / 100;
     }
 
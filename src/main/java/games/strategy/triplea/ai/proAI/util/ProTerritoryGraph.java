@@ -0,0 +1,190 @@
+package games.strategy.triplea.ai.proAI.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.GameMap;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.attachments.CanalAttachment;
+
+/**
+ * The territories of a map indexed by integers with their connections stored in arrays, for the Pro AI to find the
+ * distances between many territories with breadth-first searches instead of one route at a time.
+ *
+ * <p>
+ * Territories that units can move through are passed as a mask with an element for each territory, see
+ * {@link #getMatches(Predicate)}. Distances from single territories and the land mass sizes are cached per mask, so
+ * they are reused across phases until the territories that can be moved through change, for example when a territory
+ * changes its owner.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+public final class ProTerritoryGraph {
+  private static final int MAX_CACHED_MASKS = 8;
+
+  private final GameMap map;
+  private final List<Territory> territories;
+  private final Map<Territory, Integer> indices = new HashMap<>();
+  private final int[][] neighbors;
+  private final List<Territory> canalTerritories = new ArrayList<>();
+  private final Map<Mask, MaskCache> caches = new LinkedHashMap<Mask, MaskCache>(16, 0.75f, true) {
+    private static final long serialVersionUID = -5245426421383567045L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<Mask, MaskCache> eldest) {
+      return size() > MAX_CACHED_MASKS;
+    }
+  };
+
+  public ProTerritoryGraph(final GameMap map) {
+    this.map = map;
+    territories = new ArrayList<>(map.getTerritories());
+    for (int i = 0; i < territories.size(); i++) {
+      indices.put(territories.get(i), i);
+    }
+    neighbors = new int[territories.size()][];
+    for (int i = 0; i < territories.size(); i++) {
+      final Territory t = territories.get(i);
+      neighbors[i] = map.getNeighbors(t).stream().mapToInt(indices::get).toArray();
+      if (!CanalAttachment.get(t).isEmpty()) {
+        canalTerritories.add(t);
+      }
+    }
+  }
+
+  /**
+   * Returns whether this graph still matches the territories of the specified map.
+   */
+  public boolean isGraphOf(final GameMap map) {
+    return this.map == map && territories.size() == map.getTerritories().size();
+  }
+
+  public int size() {
+    return territories.size();
+  }
+
+  public Territory getTerritory(final int index) {
+    return territories.get(index);
+  }
+
+  public int indexOf(final Territory t) {
+    return indices.get(t);
+  }
+
+  /**
+   * Returns the territories that have a canal.
+   */
+  public List<Territory> getCanalTerritories() {
+    return Collections.unmodifiableList(canalTerritories);
+  }
+
+  /**
+   * Returns a mask with an element for each territory that is {@code true} if the territory matches the condition.
+   */
+  public boolean[] getMatches(final Predicate<Territory> cond) {
+    final boolean[] matches = new boolean[territories.size()];
+    for (int i = 0; i < matches.length; i++) {
+      matches[i] = cond.test(territories.get(i));
+    }
+    return matches;
+  }
+
+  /**
+   * Returns the number of steps from the start territory to each territory, or -1 for territories further away than
+   * the max distance or that can't be reached. Routes only pass through territories that match the mask, but the
+   * start territory and the territories at the end of a route don't have to match it. Pass {@code null} to pass
+   * through all territories.
+   */
+  public int[] getDistances(final int start, final int maxDistance, @Nullable final boolean[] canPassThrough) {
+    final int[] distances = new int[territories.size()];
+    Arrays.fill(distances, -1);
+    distances[start] = 0;
+    final int[] queue = new int[territories.size()];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = start;
+    while (head < tail) {
+      final int current = queue[head++];
+      final int distance = distances[current];
+      if (distance >= maxDistance || (current != start && canPassThrough != null && !canPassThrough[current])) {
+        continue;
+      }
+      for (final int neighbor : neighbors[current]) {
+        if (distances[neighbor] < 0) {
+          distances[neighbor] = distance + 1;
+          queue[tail++] = neighbor;
+        }
+      }
+    }
+    return distances;
+  }
+
+  /**
+   * Returns the same distances as {@link #getDistances(int, int, boolean[])} without a max distance, cached until the
+   * mask is no longer used.
+   */
+  public synchronized int[] getCachedDistances(final int start, @Nullable final boolean[] canPassThrough) {
+    return getCache(canPassThrough).distances.computeIfAbsent(start,
+        k -> getDistances(start, Integer.MAX_VALUE, canPassThrough));
+  }
+
+  /**
+   * Returns the number of territories within the specified distance of each territory, including the territory
+   * itself, only counting and passing through territories that match the mask. Cached until the mask is no longer
+   * used.
+   */
+  public synchronized int[] getCachedLandMassSizes(final int maxDistance, final boolean[] canPassThrough) {
+    return getCache(canPassThrough).landMassSizes.computeIfAbsent(maxDistance, k -> {
+      final int[] sizes = new int[territories.size()];
+      for (int i = 0; i < sizes.length; i++) {
+        final int[] distances = getDistances(i, maxDistance, canPassThrough);
+        int size = 1;
+        for (int j = 0; j < distances.length; j++) {
+          if (distances[j] > 0 && canPassThrough[j]) {
+            size++;
+          }
+        }
+        sizes[i] = size;
+      }
+      return sizes;
+    });
+  }
+
+  private MaskCache getCache(@Nullable final boolean[] mask) {
+    return caches.computeIfAbsent(new Mask(mask), k -> new MaskCache());
+  }
+
+  private static final class Mask {
+    private final @Nullable boolean[] mask;
+
+    Mask(final @Nullable boolean[] mask) {
+      this.mask = mask == null ? null : mask.clone();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof Mask && Arrays.equals(mask, ((Mask) obj).mask);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(mask);
+    }
+  }
+
+  private static final class MaskCache {
+    private final Map<Integer, int[]> distances = new HashMap<>();
+    private final Map<Integer, int[]> landMassSizes = new HashMap<>();
+  }
+}
@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
@@ -26,51 +27,47 @@ public class ProTerritoryValueUtils {
   private static final int MIN_FACTORY_CHECK_DISTANCE = 9;
   private static final int MAX_FACTORY_CHECK_DISTANCE = 30;
 
-  public static double findTerritoryAttackValue(final PlayerID player, final Territory t) {
-    final GameData data = ProData.getData();
+  public static double findTerritoryAttackValue(final ProData proData, final PlayerID player, final Territory t) {
+    final GameData data = proData.getData();
     final int isEnemyFactory = ProMatches.territoryHasInfraFactoryAndIsEnemyLand(player, data).test(t) ? 1 : 0;
     double value = 3 * TerritoryAttachment.getProduction(t) * (isEnemyFactory + 1);
     if (!t.isWater() && t.getOwner().isNull()) {
-      final double strength =
-          ProBattleUtils.estimateStrength(t, new ArrayList<>(t.getUnits().getUnits()), new ArrayList<>(), false);
+      final double strength = ProBattleUtils.estimateStrength(proData, t, new ArrayList<>(t.getUnits().getUnits()),
+          new ArrayList<>(), false);
 
       // Estimate TUV swing as number of casualties * cost
-      final double tuvSwing = -(strength / 8) * ProData.minCostPerHitPoint;
+      final double tuvSwing = -(strength / 8) * proData.getMinCostPerHitPoint();
       value += tuvSwing;
     }
 
     return value;
   }
 
-  public static Map<Territory, Double> findTerritoryValues(final PlayerID player,
+  public static Map<Territory, Double> findTerritoryValues(final ProData proData, final PlayerID player,
       final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToAttack) {
 
-    return findTerritoryValues(player, territoriesThatCantBeHeld, territoriesToAttack,
-        new HashSet<>(ProData.getData().getMap().getTerritories()));
+    return findTerritoryValues(proData, player, territoriesThatCantBeHeld, territoriesToAttack,
+        new HashSet<>(proData.getData().getMap().getTerritories()));
   }
 
-  public static Map<Territory, Double> findTerritoryValues(final PlayerID player,
+  public static Map<Territory, Double> findTerritoryValues(final ProData proData, final PlayerID player,
       final List<Territory> territoriesThatCantBeHeld, final List<Territory> territoriesToAttack,
       final Set<Territory> territoriesToCheck) {
 
-    final int maxLandMassSize = findMaxLandMassSize(player);
-
-    final Map<Territory, Double> enemyCapitalsAndFactoriesMap =
-        findEnemyCapitalsAndFactoriesValue(player, maxLandMassSize, territoriesThatCantBeHeld, territoriesToAttack);
+    final ValueContext context =
+        new ValueContext(proData, player, territoriesThatCantBeHeld, territoriesToAttack);
 
     final Map<Territory, Double> territoryValueMap = new HashMap<>();
     for (final Territory t : territoriesToCheck) {
       if (!t.isWater()) {
-        final double value = findLandValue(t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
-            territoriesThatCantBeHeld, territoriesToAttack);
+        final double value = findLandValue(context, t);
         territoryValueMap.put(t, value);
       }
     }
 
     for (final Territory t : territoriesToCheck) {
       if (t.isWater()) {
-        final double value = findWaterValue(t, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
-            territoriesThatCantBeHeld, territoriesToAttack, territoryValueMap);
+        final double value = findWaterValue(context, t, territoryValueMap);
         territoryValueMap.put(t, value);
       }
     }
@@ -78,50 +75,43 @@ public class ProTerritoryValueUtils {
     return territoryValueMap;
   }
 
-  public static Map<Territory, Double> findSeaTerritoryValues(final PlayerID player,
+  public static Map<Territory, Double> findSeaTerritoryValues(final ProData proData, final PlayerID player,
       final List<Territory> territoriesThatCantBeHeld) {
 
     // Determine value for water territories
     final Map<Territory, Double> territoryValueMap = new HashMap<>();
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
+    final ProTerritoryGraph graph = proData.getTerritoryGraph();
+    final Predicate<Territory> canMoveSeaUnits = ProMatches.territoryCanMoveSeaUnits(player, data, true);
+    final boolean[] canMoveSea = graph.getMatches(canMoveSeaUnits);
+    final boolean isAnyCanalClosed = isAnyCanalClosed(data, player, graph);
+    final Set<Territory> cantBeHeld = new HashSet<>(territoriesThatCantBeHeld);
     for (final Territory t : data.getMap().getTerritories()) {
-      if (!territoriesThatCantBeHeld.contains(t) && t.isWater()
+      if (!cantBeHeld.contains(t) && t.isWater()
           && !data.getMap().getNeighbors(t, Matches.territoryIsWater()).isEmpty()) {
 
-        // Determine sea value based on nearby convoy production
+        // Find the distance to all nearby sea territories at once
         double nearbySeaProductionValue = 0;
-        final Set<Territory> nearbySeaTerritories =
-            data.getMap().getNeighbors(t, 4, ProMatches.territoryCanMoveSeaUnits(player, data, true));
-        final List<Territory> nearbyEnemySeaTerritories = CollectionUtils.getMatches(nearbySeaTerritories,
-            ProMatches.territoryIsEnemyOrCantBeHeld(player, data, territoriesThatCantBeHeld));
-        for (final Territory nearbyEnemySeaTerritory : nearbyEnemySeaTerritories) {
-          final Route route = data.getMap().getRoute_IgnoreEnd(t, nearbyEnemySeaTerritory,
-              ProMatches.territoryCanMoveSeaUnits(player, data, true));
-          if (route == null || MoveValidator.validateCanal(route, null, player, data) != null) {
+        double nearbyEnemySeaUnitValue = 0;
+        final int[] distances = graph.getDistances(graph.indexOf(t), 4, canMoveSea);
+        for (int i = 0; i < distances.length; i++) {
+          final int distance = distances[i];
+          final Territory nearbySeaTerritory = graph.getTerritory(i);
+          if (distance <= 0 || !canMoveSea[i]
+              || !canPassCanals(data, player, t, nearbySeaTerritory, canMoveSeaUnits, isAnyCanalClosed)) {
             continue;
           }
-          final int distance = route.numberOfSteps();
-          if (distance > 0) {
-            nearbySeaProductionValue +=
-                TerritoryAttachment.getProduction(nearbyEnemySeaTerritory) / Math.pow(2, distance);
-          }
-        }
 
-        // Determine sea value based on nearby enemy sea units
-        double nearbyEnemySeaUnitValue = 0;
-        final List<Territory> nearbyEnemySeaUnitTerritories =
-            CollectionUtils.getMatches(nearbySeaTerritories, Matches.territoryHasEnemyUnits(player, data));
-        for (final Territory nearbyEnemySeaTerritory : nearbyEnemySeaUnitTerritories) {
-          final Route route = data.getMap().getRoute_IgnoreEnd(t, nearbyEnemySeaTerritory,
-              ProMatches.territoryCanMoveSeaUnits(player, data, true));
-          if (route == null || MoveValidator.validateCanal(route, null, player, data) != null) {
-            continue;
+          // Determine sea value based on nearby convoy production
+          if (ProMatches.territoryIsEnemyOrCantBeHeld(player, data, territoriesThatCantBeHeld)
+              .test(nearbySeaTerritory)) {
+            nearbySeaProductionValue += TerritoryAttachment.getProduction(nearbySeaTerritory) / Math.pow(2, distance);
           }
-          final int distance = route.numberOfSteps();
-          if (distance > 0) {
-            nearbyEnemySeaUnitValue +=
-                nearbyEnemySeaTerritory.getUnits().countMatches(Matches.unitIsEnemyOf(data, player))
-                    / Math.pow(2, distance);
+
+          // Determine sea value based on nearby enemy sea units
+          if (Matches.territoryHasEnemyUnits(player, data).test(nearbySeaTerritory)) {
+            nearbyEnemySeaUnitValue += nearbySeaTerritory.getUnits().countMatches(Matches.unitIsEnemyOf(data, player))
+                / Math.pow(2, distance);
           }
         }
 
@@ -136,39 +126,49 @@ public class ProTerritoryValueUtils {
     return territoryValueMap;
   }
 
-  private static int findMaxLandMassSize(final PlayerID player) {
-    int maxLandMassSize = 1;
-    final GameData data = ProData.getData();
-    for (final Territory t : data.getMap().getTerritories()) {
-      if (!t.isWater()) {
-        final int landMassSize = 1 + data.getMap()
-            .getNeighbors(t, 6, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data)).size();
-        if (landMassSize > maxLandMassSize) {
-          maxLandMassSize = landMassSize;
-        }
-      }
+  /**
+   * Returns whether sea units can pass all canals on the route between the specified territories. Only looks for the
+   * route if any canal of the map is closed to the player.
+   */
+  private static boolean canPassCanals(final GameData data, final PlayerID player, final Territory from,
+      final Territory to, final Predicate<Territory> canMoveSeaUnits, final boolean isAnyCanalClosed) {
+    if (!isAnyCanalClosed) {
+      return true;
     }
+    final Route route = data.getMap().getRoute_IgnoreEnd(from, to, canMoveSeaUnits);
+    return route != null && MoveValidator.validateCanal(route, null, player, data) == null;
+  }
+
+  private static boolean canPassCanals(final ValueContext context, final Territory from, final Territory to) {
+    return canPassCanals(context.data, context.player, from, to, context.getCanMoveSeaUnits(),
+        context.isAnyCanalClosed());
+  }
 
-    return maxLandMassSize;
+  /**
+   * Returns whether any canal of the map can't be passed by the player, in which case routes through it are blocked.
+   */
+  private static boolean isAnyCanalClosed(final GameData data, final PlayerID player, final ProTerritoryGraph graph) {
+    return graph.getCanalTerritories().stream()
+        .anyMatch(t -> MoveValidator.validateCanal(t, null, null, player, data).isPresent());
   }
 
-  private static Map<Territory, Double> findEnemyCapitalsAndFactoriesValue(final PlayerID player,
-      final int maxLandMassSize, final List<Territory> territoriesThatCantBeHeld,
+  private static Map<Territory, Double> findEnemyCapitalsAndFactoriesValue(final ProData proData, final PlayerID player,
+      final int[] landMassSizes, final int maxLandMassSize, final List<Territory> territoriesThatCantBeHeld,
       final List<Territory> territoriesToAttack) {
 
     // Get all enemy factories and capitals (check if most territories have factories and if so remove them)
     final Set<Territory> enemyCapitalsAndFactories = new HashSet<>();
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
     final List<Territory> allTerritories = data.getMap().getTerritories();
     enemyCapitalsAndFactories.addAll(
         CollectionUtils.getMatches(allTerritories, ProMatches.territoryHasInfraFactoryAndIsOwnedByPlayersOrCantBeHeld(
-            player, ProUtils.getPotentialEnemyPlayers(player), territoriesThatCantBeHeld)));
+            player, ProUtils.getPotentialEnemyPlayers(proData, player), territoriesThatCantBeHeld)));
     final int numPotentialEnemyTerritories = CollectionUtils.countMatches(allTerritories,
-        Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(player)));
+        Matches.isTerritoryOwnedBy(ProUtils.getPotentialEnemyPlayers(proData, player)));
     if (enemyCapitalsAndFactories.size() * 2 >= numPotentialEnemyTerritories) {
       enemyCapitalsAndFactories.clear();
     }
-    enemyCapitalsAndFactories.addAll(ProUtils.getLiveEnemyCapitals(data, player));
+    enemyCapitalsAndFactories.addAll(ProUtils.getLiveEnemyCapitals(proData, data, player));
     enemyCapitalsAndFactories.removeAll(territoriesToAttack);
 
     // Find value for each enemy capital and factory
@@ -190,8 +190,7 @@ public class ProTerritoryValueUtils {
 
       // Calculate value
       final int isNeutral = t.getOwner().isNull() ? 1 : 0;
-      final int landMassSize = 1 + data.getMap()
-          .getNeighbors(t, 6, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data)).size();
+      final int landMassSize = landMassSizes[proData.getTerritoryGraph().indexOf(t)];
       final double value = Math.sqrt(factoryProduction + Math.sqrt(playerProduction)) * 32 / (1 + 3 * isNeutral)
           * landMassSize / maxLandMassSize;
       enemyCapitalsAndFactoriesMap.put(t, value);
@@ -200,24 +199,24 @@ public class ProTerritoryValueUtils {
     return enemyCapitalsAndFactoriesMap;
   }
 
-  private static double findLandValue(final Territory t, final PlayerID player, final int maxLandMassSize,
-      final Map<Territory, Double> enemyCapitalsAndFactoriesMap, final List<Territory> territoriesThatCantBeHeld,
-      final List<Territory> territoriesToAttack) {
+  private static double findLandValue(final ValueContext context, final Territory t) {
 
-    if (territoriesThatCantBeHeld.contains(t)) {
+    if (context.territoriesThatCantBeHeld.contains(t)) {
       return 0.0;
     }
 
     // Determine value based on enemy factory land distance
     final List<Double> values = new ArrayList<>();
-    final GameData data = ProData.getData();
-    final Set<Territory> nearbyEnemyCapitalsAndFactories =
-        findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap);
-    for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
-      final int distance = data.getMap().getDistance(t, enemyCapitalOrFactory,
-          ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
+    final ProTerritoryGraph graph = context.graph;
+    final int index = graph.indexOf(t);
+    for (final Territory enemyCapitalOrFactory : findNearbyEnemyCapitalsAndFactories(context, index)) {
+      final int enemyIndex = graph.indexOf(enemyCapitalOrFactory);
+
+      // Routes must end in a territory land units can move into, the search starts from there
+      final int distance =
+          context.canMoveLand[enemyIndex] ? graph.getCachedDistances(enemyIndex, context.canMoveLand)[index] : -1;
       if (distance > 0) {
-        values.add(enemyCapitalsAndFactoriesMap.get(enemyCapitalOrFactory) / Math.pow(2, distance));
+        values.add(context.enemyCapitalsAndFactoriesMap.get(enemyCapitalOrFactory) / Math.pow(2, distance));
       }
     }
     Collections.sort(values, Collections.reverseOrder());
@@ -228,18 +227,18 @@ public class ProTerritoryValueUtils {
 
     // Determine value based on nearby territory production
     double nearbyEnemyValue = 0;
-    final Set<Territory> nearbyTerritories =
-        data.getMap().getNeighbors(t, 2, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
-    final List<Territory> nearbyEnemyTerritories = CollectionUtils.getMatches(nearbyTerritories,
-        ProMatches.territoryIsEnemyOrCantBeHeld(player, data, territoriesThatCantBeHeld));
-    nearbyEnemyTerritories.removeAll(territoriesToAttack);
-    for (final Territory nearbyEnemyTerritory : nearbyEnemyTerritories) {
-      final int distance = data.getMap().getDistance(t, nearbyEnemyTerritory,
-          ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
-      if (distance > 0) {
+    final GameData data = context.data;
+    final PlayerID player = context.player;
+    final int[] distances = graph.getDistances(index, 2, context.canMoveLand);
+    for (int i = 0; i < distances.length; i++) {
+      final int distance = distances[i];
+      final Territory nearbyEnemyTerritory = graph.getTerritory(i);
+      if (distance > 0 && context.canMoveLand[i] && !context.territoriesToAttack.contains(nearbyEnemyTerritory)
+          && ProMatches.territoryIsEnemyOrCantBeHeld(player, data, context.territoriesThatCantBeHeldList)
+              .test(nearbyEnemyTerritory)) {
         double value = TerritoryAttachment.getProduction(nearbyEnemyTerritory);
         if (nearbyEnemyTerritory.getOwner().isNull()) {
-          value = findTerritoryAttackValue(player, nearbyEnemyTerritory) / 3; // find neutral value
+          value = findTerritoryAttackValue(context.proData, player, nearbyEnemyTerritory) / 3; // find neutral value
         } else if (ProMatches.territoryIsAlliedLandAndHasNoEnemyNeighbors(player, data).test(nearbyEnemyTerritory)) {
           value *= 0.1; // reduce value for can't hold amphib allied territories
         }
@@ -248,9 +247,8 @@ public class ProTerritoryValueUtils {
         }
       }
     }
-    final int landMassSize = 1
-        + data.getMap().getNeighbors(t, 6, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data)).size();
-    double value = nearbyEnemyValue * landMassSize / maxLandMassSize + capitalOrFactoryValue;
+    final int landMassSize = context.landMassSizes[index];
+    double value = nearbyEnemyValue * landMassSize / context.maxLandMassSize + capitalOrFactoryValue;
     if (ProMatches.territoryHasInfraFactoryAndIsLand().test(t)) {
       value *= 1.1; // prefer territories with factories
     }
@@ -258,28 +256,28 @@ public class ProTerritoryValueUtils {
     return value;
   }
 
-  private static double findWaterValue(final Territory t, final PlayerID player, final int maxLandMassSize,
-      final Map<Territory, Double> enemyCapitalsAndFactoriesMap, final List<Territory> territoriesThatCantBeHeld,
-      final List<Territory> territoriesToAttack, final Map<Territory, Double> territoryValueMap) {
+  private static double findWaterValue(final ValueContext context, final Territory t,
+      final Map<Territory, Double> territoryValueMap) {
 
-    final GameData data = ProData.getData();
-    if (territoriesThatCantBeHeld.contains(t) || data.getMap().getNeighbors(t, Matches.territoryIsWater()).isEmpty()) {
+    final GameData data = context.data;
+    if (context.territoriesThatCantBeHeld.contains(t)
+        || data.getMap().getNeighbors(t, Matches.territoryIsWater()).isEmpty()) {
       return 0.0;
     }
 
     // Determine value based on enemy factory distance
     final List<Double> values = new ArrayList<>();
-    final Set<Territory> nearbyEnemyCapitalsAndFactories =
-        findNearbyEnemyCapitalsAndFactories(t, enemyCapitalsAndFactoriesMap);
-    for (final Territory enemyCapitalOrFactory : nearbyEnemyCapitalsAndFactories) {
-      final Route route = data.getMap().getRoute_IgnoreEnd(t, enemyCapitalOrFactory,
-          ProMatches.territoryCanMoveSeaUnits(player, data, true));
-      if (route == null || MoveValidator.validateCanal(route, null, player, data) != null) {
-        continue;
-      }
-      final int distance = route.numberOfSteps();
-      if (distance > 0) {
-        values.add(enemyCapitalsAndFactoriesMap.get(enemyCapitalOrFactory) / Math.pow(2, distance));
+    final ProTerritoryGraph graph = context.graph;
+    final PlayerID player = context.player;
+    final int index = graph.indexOf(t);
+    final boolean[] canMoveSea = context.getCanMoveSea();
+    for (final Territory enemyCapitalOrFactory : findNearbyEnemyCapitalsAndFactories(context, index)) {
+
+      // Routes don't need to end in a territory sea units can move into, the search starts from there
+      final int distance = graph.getCachedDistances(graph.indexOf(enemyCapitalOrFactory), canMoveSea)[index];
+      if (distance > 0
+          && canPassCanals(context, t, enemyCapitalOrFactory)) {
+        values.add(context.enemyCapitalsAndFactoriesMap.get(enemyCapitalOrFactory) / Math.pow(2, distance));
       }
     }
     Collections.sort(values, Collections.reverseOrder());
@@ -290,52 +288,125 @@ public class ProTerritoryValueUtils {
 
     // Determine value based on nearby territory production
     double nearbyLandValue = 0;
-    final Set<Territory> nearbyTerritories = data.getMap().getNeighbors(t, 3);
-    final List<Territory> nearbyLandTerritories =
-        CollectionUtils.getMatches(nearbyTerritories, ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
-    nearbyLandTerritories.removeAll(territoriesToAttack);
-    for (final Territory nearbyLandTerritory : nearbyLandTerritories) {
-      final Route route = data.getMap().getRoute_IgnoreEnd(t, nearbyLandTerritory,
-          ProMatches.territoryCanMoveSeaUnits(player, data, true));
-      if (route == null || MoveValidator.validateCanal(route, null, player, data) != null) {
+    final int[] distances = graph.getDistances(index, 3, canMoveSea);
+    for (int i = 0; i < distances.length; i++) {
+      final Territory nearbyLandTerritory = graph.getTerritory(i);
+      if (distances[i] <= 0 || !context.canMoveLand[i] || context.territoriesToAttack.contains(nearbyLandTerritory)
+          || !canPassCanals(context, t, nearbyLandTerritory)) {
         continue;
       }
-      final int distance = route.numberOfSteps();
-      if (distance > 0 && distance <= 3) {
-        if (ProMatches.territoryIsEnemyOrCantBeHeld(player, data, territoriesThatCantBeHeld)
-            .test(nearbyLandTerritory)) {
-          double value = TerritoryAttachment.getProduction(nearbyLandTerritory);
-          if (nearbyLandTerritory.getOwner().isNull()) {
-            value = findTerritoryAttackValue(player, nearbyLandTerritory);
-          }
-          nearbyLandValue += value;
-        }
-        if (!territoryValueMap.containsKey(nearbyLandTerritory)) {
-          final double value = findLandValue(nearbyLandTerritory, player, maxLandMassSize, enemyCapitalsAndFactoriesMap,
-              territoriesThatCantBeHeld, territoriesToAttack);
-          territoryValueMap.put(nearbyLandTerritory, value);
+      if (ProMatches.territoryIsEnemyOrCantBeHeld(player, data, context.territoriesThatCantBeHeldList)
+          .test(nearbyLandTerritory)) {
+        double value = TerritoryAttachment.getProduction(nearbyLandTerritory);
+        if (nearbyLandTerritory.getOwner().isNull()) {
+          value = findTerritoryAttackValue(context.proData, player, nearbyLandTerritory);
         }
-        nearbyLandValue += territoryValueMap.get(nearbyLandTerritory);
+        nearbyLandValue += value;
       }
+      if (!territoryValueMap.containsKey(nearbyLandTerritory)) {
+        final double value = findLandValue(context, nearbyLandTerritory);
+        territoryValueMap.put(nearbyLandTerritory, value);
+      }
+      nearbyLandValue += territoryValueMap.get(nearbyLandTerritory);
     }
     final double value = capitalOrFactoryValue / 100 + nearbyLandValue / 10;
 
     return value;
   }
 
-  private static Set<Territory> findNearbyEnemyCapitalsAndFactories(final Territory t,
-      final Map<Territory, Double> enemyCapitalsAndFactoriesMap) {
-
-    Set<Territory> nearbyEnemyCapitalsAndFactories = new HashSet<>();
-    for (int i = MIN_FACTORY_CHECK_DISTANCE; i <= MAX_FACTORY_CHECK_DISTANCE; i++) {
-      nearbyEnemyCapitalsAndFactories = ProData.getData().getMap().getNeighbors(t, i);
-      nearbyEnemyCapitalsAndFactories.retainAll(enemyCapitalsAndFactoriesMap.keySet());
-      if (!nearbyEnemyCapitalsAndFactories.isEmpty()) {
-        break;
+  /**
+   * Returns the enemy capitals and factories within the smallest distance, at least {@link #MIN_FACTORY_CHECK_DISTANCE}
+   * and at most {@link #MAX_FACTORY_CHECK_DISTANCE}, that any of them are found within.
+   */
+  private static List<Territory> findNearbyEnemyCapitalsAndFactories(final ValueContext context, final int index) {
+
+    final ProTerritoryGraph graph = context.graph;
+    int minDistance = Integer.MAX_VALUE;
+    for (final Territory enemyCapitalOrFactory : context.enemyCapitalsAndFactoriesMap.keySet()) {
+      final int distance = graph.getCachedDistances(graph.indexOf(enemyCapitalOrFactory), null)[index];
+      if (distance > 0 && distance < minDistance) {
+        minDistance = distance;
+      }
+    }
+    final List<Territory> nearbyEnemyCapitalsAndFactories = new ArrayList<>();
+    if (minDistance > MAX_FACTORY_CHECK_DISTANCE) {
+      return nearbyEnemyCapitalsAndFactories;
+    }
+    final int checkDistance = Math.max(MIN_FACTORY_CHECK_DISTANCE, minDistance);
+    for (final Territory enemyCapitalOrFactory : context.enemyCapitalsAndFactoriesMap.keySet()) {
+      final int distance = graph.getCachedDistances(graph.indexOf(enemyCapitalOrFactory), null)[index];
+      if (distance > 0 && distance <= checkDistance) {
+        nearbyEnemyCapitalsAndFactories.add(enemyCapitalOrFactory);
       }
     }
 
     return nearbyEnemyCapitalsAndFactories;
   }
 
+  /**
+   * The values shared by all territories when finding territory values.
+   */
+  private static final class ValueContext {
+    private final ProData proData;
+    private final GameData data;
+    private final PlayerID player;
+    private final ProTerritoryGraph graph;
+    private final List<Territory> territoriesThatCantBeHeldList;
+    private final Set<Territory> territoriesThatCantBeHeld;
+    private final Set<Territory> territoriesToAttack;
+    private final boolean[] canMoveLand;
+    private final int[] landMassSizes;
+    private final int maxLandMassSize;
+    private final Map<Territory, Double> enemyCapitalsAndFactoriesMap;
+    private Predicate<Territory> canMoveSeaUnits = null;
+    private boolean[] canMoveSea = null;
+    private Boolean isAnyCanalClosed = null;
+
+    ValueContext(final ProData proData, final PlayerID player, final List<Territory> territoriesThatCantBeHeld,
+        final List<Territory> territoriesToAttack) {
+      this.proData = proData;
+      data = proData.getData();
+      this.player = player;
+      graph = proData.getTerritoryGraph();
+      territoriesThatCantBeHeldList = territoriesThatCantBeHeld;
+      this.territoriesThatCantBeHeld = new HashSet<>(territoriesThatCantBeHeld);
+      this.territoriesToAttack = new HashSet<>(territoriesToAttack);
+      canMoveLand = graph.getMatches(ProMatches.territoryCanPotentiallyMoveLandUnits(player, data));
+      landMassSizes = graph.getCachedLandMassSizes(6, canMoveLand);
+      maxLandMassSize = findMaxLandMassSize(graph, landMassSizes);
+      enemyCapitalsAndFactoriesMap = findEnemyCapitalsAndFactoriesValue(proData, player, landMassSizes,
+          maxLandMassSize, territoriesThatCantBeHeld, territoriesToAttack);
+    }
+
+    Predicate<Territory> getCanMoveSeaUnits() {
+      if (canMoveSeaUnits == null) {
+        canMoveSeaUnits = ProMatches.territoryCanMoveSeaUnits(player, data, true);
+      }
+      return canMoveSeaUnits;
+    }
+
+    boolean[] getCanMoveSea() {
+      if (canMoveSea == null) {
+        canMoveSea = graph.getMatches(getCanMoveSeaUnits());
+      }
+      return canMoveSea;
+    }
+
+    boolean isAnyCanalClosed() {
+      if (isAnyCanalClosed == null) {
+        isAnyCanalClosed = ProTerritoryValueUtils.isAnyCanalClosed(data, player, graph);
+      }
+      return isAnyCanalClosed;
+    }
+
+    private static int findMaxLandMassSize(final ProTerritoryGraph graph, final int[] landMassSizes) {
+      int maxLandMassSize = 1;
+      for (int i = 0; i < landMassSizes.length; i++) {
+        if (!graph.getTerritory(i).isWater() && landMassSizes[i] > maxLandMassSize) {
+          maxLandMassSize = landMassSizes[i];
+        }
+      }
+      return maxLandMassSize;
+    }
+  }
 }
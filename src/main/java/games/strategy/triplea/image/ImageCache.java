@@ -0,0 +1,341 @@
+package games.strategy.triplea.image;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.triplea.settings.ClientSetting;
+
+/**
+ * A memory bounded cache for decoded and rendered images.
+ *
+ * <p>
+ * All images cached by the map UI (base and relief tiles, rendered map tiles, unit images and flags) share a single
+ * byte budget, configured by {@link ClientSetting#IMAGE_CACHE_MAX_SIZE_MB}. Once the decoded size of the cached images
+ * exceeds the budget, the least recently used images are evicted one by one until it fits again. Unlike soft
+ * references, which the garbage collector clears all at once under memory pressure, this keeps the images that are in
+ * use and makes the memory used by images on huge maps predictable.
+ * </p>
+ *
+ * <p>
+ * Images that are currently on screen can be pinned, see {@link Region#pinOnly(Collection)}. Pinned images are never
+ * evicted, so only images that are off screen compete for the budget. The budget may be exceeded if the pinned images
+ * alone do not fit into it.
+ * </p>
+ *
+ * <p>
+ * Images are cached in regions, each owned by one image factory. A region only sees its own images and can be
+ * cleared independently of the others. Hits, misses and evictions are counted per region name.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+public final class ImageCache {
+  private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+  private final long maxBytes;
+  // ordered from least to most recently used
+  private final Map<Key, Entry> entries = new LinkedHashMap<>();
+  private final Map<String, Counters> countersByRegionName = new LinkedHashMap<>();
+  private final Set<Key> pinnedKeys = new HashSet<>();
+  private long usedBytes = 0;
+
+  @VisibleForTesting
+  ImageCache(final long maxBytes) {
+    checkArgument(maxBytes >= 0, "maxBytes must not be negative");
+
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Returns the cache shared by all image factories.
+   */
+  public static ImageCache getInstance() {
+    return InstanceHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the default size of the cache in megabytes: a quarter of the maximum heap size.
+   */
+  public static int getDefaultMaxSizeInMegabytes() {
+    return (int) Math.max(64, Runtime.getRuntime().maxMemory() / 4 / BYTES_PER_MEGABYTE);
+  }
+
+  private static long getConfiguredMaxBytes() {
+    try {
+      return Math.max(1, Integer.parseInt(ClientSetting.IMAGE_CACHE_MAX_SIZE_MB.value())) * BYTES_PER_MEGABYTE;
+    } catch (final IllegalStateException | NumberFormatException e) {
+      // client settings are not available, e.g. in the headless game server
+      return getDefaultMaxSizeInMegabytes() * BYTES_PER_MEGABYTE;
+    }
+  }
+
+  /**
+   * Creates a new empty region of this cache.
+   *
+   * @param name The name under which the statistics of the region are reported. Regions of the same kind, e.g. the
+   *        unit images of two open games, should use the same name.
+   */
+  public Region newRegion(final String name) {
+    checkNotNull(name);
+
+    synchronized (this) {
+      countersByRegionName.computeIfAbsent(name, it -> new Counters());
+    }
+    return new Region(name);
+  }
+
+  /**
+   * Returns the maximum number of bytes used by the images in this cache.
+   */
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Returns a human readable summary of the size of this cache and the hits, misses and evictions of each region.
+   */
+  public synchronized String getStatistics() {
+    final Map<String, Integer> imageCountsByRegionName = new HashMap<>();
+    final Map<String, Long> bytesByRegionName = new HashMap<>();
+    for (final Entry entry : entries.values()) {
+      imageCountsByRegionName.merge(entry.key.region.name, 1, Integer::sum);
+      bytesByRegionName.merge(entry.key.region.name, entry.bytes, Long::sum);
+    }
+
+    final StringBuilder buf = new StringBuilder("Image cache statistics\r\n");
+    buf.append("Used: ").append(toMegabytes(usedBytes)).append(" of ").append(toMegabytes(maxBytes))
+        .append(" MB, ").append(entries.size()).append(" images\r\n");
+    for (final Map.Entry<String, Counters> mapEntry : countersByRegionName.entrySet()) {
+      final String regionName = mapEntry.getKey();
+      final Counters counters = mapEntry.getValue();
+      buf.append(regionName).append(": ")
+          .append(imageCountsByRegionName.getOrDefault(regionName, 0)).append(" images, ")
+          .append(toMegabytes(bytesByRegionName.getOrDefault(regionName, 0L))).append(" MB, ")
+          .append(counters.hits).append(" hits, ")
+          .append(counters.misses).append(" misses, ")
+          .append(counters.evictions).append(" evictions\r\n");
+    }
+    return buf.toString();
+  }
+
+  private static String toMegabytes(final long bytes) {
+    return String.format("%.1f", (double) bytes / BYTES_PER_MEGABYTE);
+  }
+
+  @VisibleForTesting
+  synchronized long getUsedBytes() {
+    return usedBytes;
+  }
+
+  @VisibleForTesting
+  synchronized long getEvictionCount(final String regionName) {
+    return countersByRegionName.get(regionName).evictions;
+  }
+
+  /**
+   * Returns the number of bytes used by the pixels of the specified image once decoded.
+   */
+  @VisibleForTesting
+  static long sizeOf(final Image image) {
+    if (image instanceof BufferedImage) {
+      final DataBuffer buffer = ((BufferedImage) image).getRaster().getDataBuffer();
+      return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+    // assume 32 bits per pixel for images of unknown type, e.g. scaled instances
+    final int width = image.getWidth(null);
+    final int height = image.getHeight(null);
+    return (width > 0 && height > 0) ? 4L * width * height : 0;
+  }
+
+  private synchronized @Nullable Image get(final Key key, final boolean markAsUsed) {
+    if (!markAsUsed) {
+      final @Nullable Entry entry = entries.get(key);
+      return (entry == null) ? null : entry.image;
+    }
+
+    final Counters counters = countersByRegionName.get(key.region.name);
+    final @Nullable Entry entry = entries.remove(key);
+    if (entry == null) {
+      counters.misses++;
+      return null;
+    }
+    counters.hits++;
+    entries.put(key, entry);
+    return entry.image;
+  }
+
+  private synchronized void put(final Key key, final Image image) {
+    final Entry entry = new Entry(key, image, sizeOf(image));
+    final @Nullable Entry previousEntry = entries.remove(key);
+    if (previousEntry != null) {
+      usedBytes -= previousEntry.bytes;
+    }
+    entries.put(key, entry);
+    usedBytes += entry.bytes;
+    evictLeastRecentlyUsedEntries();
+  }
+
+  private void evictLeastRecentlyUsedEntries() {
+    final Iterator<Entry> iterator = entries.values().iterator();
+    while (usedBytes > maxBytes && iterator.hasNext()) {
+      final Entry entry = iterator.next();
+      if (pinnedKeys.contains(entry.key)) {
+        continue;
+      }
+      iterator.remove();
+      usedBytes -= entry.bytes;
+      countersByRegionName.get(entry.key.region.name).evictions++;
+    }
+  }
+
+  private synchronized void remove(final Key key) {
+    final @Nullable Entry entry = entries.remove(key);
+    if (entry != null) {
+      usedBytes -= entry.bytes;
+    }
+  }
+
+  private synchronized void pinOnly(final Region region, final Collection<?> keys) {
+    pinnedKeys.removeIf(key -> key.region == region);
+    for (final Object key : keys) {
+      pinnedKeys.add(new Key(region, key));
+    }
+    evictLeastRecentlyUsedEntries();
+  }
+
+  private synchronized void clear(final Region region) {
+    pinnedKeys.removeIf(key -> key.region == region);
+    final Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      final Entry entry = iterator.next();
+      if (entry.key.region == region) {
+        iterator.remove();
+        usedBytes -= entry.bytes;
+      }
+    }
+  }
+
+  /**
+   * A part of the image cache owned by a single image factory.
+   */
+  public final class Region {
+    private final String name;
+
+    private Region(final String name) {
+      this.name = name;
+    }
+
+    /**
+     * Returns the image cached for the specified key, marking it as recently used, or {@code null} if the image is
+     * not cached.
+     */
+    public @Nullable Image get(final Object key) {
+      return ImageCache.this.get(new Key(this, key), true);
+    }
+
+    /**
+     * Returns the image cached for the specified key without marking it as recently used or recording a hit or miss,
+     * or {@code null} if the image is not cached.
+     */
+    public @Nullable Image peek(final Object key) {
+      return ImageCache.this.get(new Key(this, key), false);
+    }
+
+    /**
+     * Caches the specified image, which may cause other images to be evicted.
+     */
+    public void put(final Object key, final Image image) {
+      checkNotNull(image);
+
+      ImageCache.this.put(new Key(this, key), image);
+    }
+
+    public void remove(final Object key) {
+      ImageCache.this.remove(new Key(this, key));
+    }
+
+    /**
+     * Keeps the images cached for the specified keys, including images cached for them later, from being evicted, and
+     * releases the images pinned by the previous call.
+     */
+    public void pinOnly(final Collection<?> keys) {
+      checkNotNull(keys);
+
+      ImageCache.this.pinOnly(this, keys);
+    }
+
+    /**
+     * Evicts all images cached in this region and releases the pinned images.
+     */
+    public void clear() {
+      ImageCache.this.clear(this);
+    }
+  }
+
+  private static final class Key {
+    final Region region;
+    final Object key;
+
+    Key(final Region region, final Object key) {
+      this.region = region;
+      this.key = checkNotNull(key);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+      if (obj == this) {
+        return true;
+      } else if (!(obj instanceof Key)) {
+        return false;
+      }
+
+      final Key other = (Key) obj;
+      return (region == other.region) && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(region), key);
+    }
+  }
+
+  private static final class Entry {
+    final Key key;
+    final Image image;
+    final long bytes;
+
+    Entry(final Key key, final Image image, final long bytes) {
+      this.key = key;
+      this.image = image;
+      this.bytes = bytes;
+    }
+  }
+
+  private static final class Counters {
+    long hits = 0;
+    long misses = 0;
+    long evictions = 0;
+  }
+
+  private static final class InstanceHolder {
+    static final ImageCache INSTANCE = new ImageCache(getConfiguredMaxBytes());
+  }
+}
@@ -3,20 +3,22 @@ package games.strategy.triplea.image;
 import java.awt.Image;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
+import java.util.Set;
 
 import javax.imageio.ImageIO;
 
 import games.strategy.triplea.ResourceLoader;
 
 public class ImageFactory {
-  private final Map<String, Image> images = new HashMap<>();
+  private final ImageCache.Region images = ImageCache.getInstance().newRegion(getClass().getSimpleName());
+  private final Set<String> missingImageKeys = new HashSet<>();
   private ResourceLoader resourceLoader;
 
-  public void setResourceLoader(final ResourceLoader loader) {
+  public synchronized void setResourceLoader(final ResourceLoader loader) {
     resourceLoader = loader;
     images.clear();
+    missingImageKeys.clear();
   }
 
   protected Image getImage(final String key1, final String key2, final boolean throwIfNotFound) {
@@ -27,23 +29,32 @@ public class ImageFactory {
     return getImage(key2, throwIfNotFound);
   }
 
-  protected Image getImage(final String key, final boolean throwIfNotFound) {
-    if (!images.containsKey(key)) {
-      final URL url = resourceLoader.getResource(key);
-      if (url == null && throwIfNotFound) {
-        throw new IllegalStateException("Image Not Found:" + key);
-      } else if (url == null) {
-        images.put(key, null);
-        return null;
-      }
-      final Image image;
-      try {
-        image = ImageIO.read(url);
-      } catch (final IOException e) {
-        throw new IllegalStateException(e);
-      }
-      images.put(key, image);
+  protected synchronized Image getImage(final String key, final boolean throwIfNotFound) {
+    if (missingImageKeys.contains(key)) {
+      return null;
     }
-    return images.get(key);
+    final Image cachedImage = images.get(key);
+    if (cachedImage != null) {
+      return cachedImage;
+    }
+    final URL url = resourceLoader.getResource(key);
+    if (url == null && throwIfNotFound) {
+      throw new IllegalStateException("Image Not Found:" + key);
+    } else if (url == null) {
+      missingImageKeys.add(key);
+      return null;
+    }
+    final Image image;
+    try {
+      image = ImageIO.read(url);
+    } catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+    if (image == null) {
+      missingImageKeys.add(key);
+      return null;
+    }
+    images.put(key, image);
+    return image;
   }
 }
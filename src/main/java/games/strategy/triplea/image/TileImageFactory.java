@@ -7,13 +7,13 @@ import java.awt.Graphics2D;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsEnvironment;
 import java.awt.Image;
+import java.awt.RenderingHints;
 import java.awt.Transparency;
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.prefs.BackingStoreException;
@@ -42,10 +42,20 @@ public final class TileImageFactory {
   private static final GraphicsConfiguration configuration =
       GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
   private static final Logger logger = Logger.getLogger(TileImageFactory.class.getName());
+  // the coarsest level of the tile pyramid is 1/2^MAX_PYRAMID_LEVEL of the original size
+  private static final int MAX_PYRAMID_LEVEL = 3;
+  // keep track of this many prefetched images to compute the prefetch hit rate
+  private static final int MAX_PREFETCHED_KEYS = 4096;
   private double scale = 1.0;
-  // maps image name to ImageRef
-  private final Map<String, ImageRef> imageCache = new HashMap<>();
+  // maps image name and pyramid level or scale to image
+  private final ImageCache.Region imageCache = ImageCache.getInstance().newRegion("Base and relief tiles");
   private ResourceLoader resourceLoader;
+  // incremented whenever the map changes, so images still being loaded for the previous map are not cached
+  private int generation = 0;
+  // the keys of the prefetched images that have not been used yet
+  private final Set<String> prefetchedKeys = new LinkedHashSet<>();
+  private long prefetchCount = 0;
+  private long prefetchHitCount = 0;
 
   static {
     final Preferences prefs = Preferences.userNodeForPackage(TileImageFactory.class);
@@ -76,8 +86,8 @@ public final class TileImageFactory {
       throw new IllegalArgumentException("Wrong scale");
     }
     synchronized (mutex) {
+      // the pyramid levels are kept, images scaled for the previous scale are evicted once no longer used
       scale = newScale;
-      imageCache.clear();
     }
   }
 
@@ -126,22 +136,14 @@ public final class TileImageFactory {
   }
 
   public void setMapDir(final ResourceLoader loader) {
-    resourceLoader = loader;
     synchronized (mutex) {
-      // we manually want to clear each ref to allow the soft reference to
-      // be removed
-      imageCache.values().forEach(ImageRef::clear);
+      resourceLoader = loader;
+      generation++;
       imageCache.clear();
+      prefetchedKeys.clear();
     }
   }
 
-  private Image isImageLoaded(final String fileName) {
-    if (imageCache.get(fileName) == null) {
-      return null;
-    }
-    return imageCache.get(fileName).getImage();
-  }
-
   public Image getBaseTile(final int x, final int y) {
     final String fileName = getBaseTileImageName(x, y);
     if (resourceLoader.getResource(fileName) == null) {
@@ -150,13 +152,13 @@ public final class TileImageFactory {
     return getImage(fileName, false);
   }
 
-  public Image getUnscaledUncachedBaseTile(final int x, final int y) {
+  public Image getUnscaledBaseTile(final int x, final int y) {
     final String fileName = getBaseTileImageName(x, y);
     final URL url = resourceLoader.getResource(fileName);
     if (url == null) {
       return null;
     }
-    return loadImage(url, fileName, false, false, false);
+    return getPyramidImage(newLoadContext(), url, fileName, false, 0);
   }
 
   private static String getBaseTileImageName(final int x, final int y) {
@@ -165,21 +167,166 @@ public final class TileImageFactory {
     return fileName;
   }
 
-  private Image getImage(final String fileName, final boolean transparent) {
+  /**
+   * Decodes the base and relief tile at the specified position for the current scale into the image cache, unless
+   * they are cached already, so they are available without delay once the tile is drawn.
+   */
+  public void prefetchTile(final int x, final int y) {
+    final String baseTileFileName = getBaseTileImageName(x, y);
+    if (resourceLoader.getResource(baseTileFileName) != null) {
+      prefetch(baseTileFileName, false);
+    }
+    if (showReliefImages) {
+      prefetch(getReliefTileImageName(x, y), true);
+    }
+  }
+
+  private void prefetch(final String fileName, final boolean transparent) {
+    final LoadContext context = newLoadContext();
+    final String scaledImageKey = getScaledImageKey(fileName, context.scale);
+    if (isCached(fileName, context.scale)) {
+      return;
+    }
+    if (getImage(context, fileName, transparent, false) == null) {
+      return;
+    }
+    synchronized (mutex) {
+      if (context.generation == generation && prefetchedKeys.add(scaledImageKey)) {
+        prefetchCount++;
+        if (prefetchedKeys.size() > MAX_PREFETCHED_KEYS) {
+          prefetchedKeys.remove(prefetchedKeys.iterator().next());
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a human readable summary of how many tile images were prefetched and how many of them were used.
+   */
+  public String getPrefetchStatistics() {
     synchronized (mutex) {
-      final Image image = isImageLoaded(fileName);
-      if (image != null) {
-        return image;
+      final long hitRate = (prefetchCount == 0) ? 0 : (100 * prefetchHitCount / prefetchCount);
+      return "Tile prefetch: " + prefetchCount + " images prefetched, " + prefetchHitCount + " used (" + hitRate
+          + "% hit rate)\r\n";
+    }
+  }
+
+  private Image getImage(final String fileName, final boolean transparent) {
+    return getImage(newLoadContext(), fileName, transparent, true);
+  }
+
+  /**
+   * Returns the image for the scale of the specified context. Images are loaded without holding the lock of this
+   * factory, so drawing threads are not blocked while another thread decodes a tile.
+   */
+  private Image getImage(final LoadContext context, final String fileName, final boolean transparent,
+      final boolean recordPrefetchHit) {
+    final String scaledImageKey = getScaledImageKey(fileName, context.scale);
+    if (recordPrefetchHit) {
+      synchronized (mutex) {
+        if (prefetchedKeys.remove(scaledImageKey) && isCached(fileName, context.scale)) {
+          prefetchHitCount++;
+        }
       }
-      // This is null if there is no image
-      final URL url = resourceLoader.getResource(fileName);
+    }
+    final int level = getPyramidLevel(context.scale);
+    final double remainingScale = context.scale * (1 << level);
+    // at the scale of a pyramid level the image is only cached under the key of that level
+    final boolean isPyramidScale = remainingScale == 1.0;
+    final Image image = imageCache.get(isPyramidScale ? getPyramidImageKey(fileName, level) : scaledImageKey);
+    if (image != null) {
+      return image;
+    }
+    // This is null if there is no image
+    final URL url = context.resourceLoader.getResource(fileName);
+
+    if ((!showMapBlends || !showReliefImages || !transparent) && url == null) {
+      return null;
+    }
+    if (isPyramidScale) {
+      return loadPyramidImage(context, url, fileName, transparent, level);
+    }
+    final Image pyramidImage = getPyramidImage(context, url, fileName, transparent, level);
+    final Image scaledImage = scaleImage(pyramidImage, remainingScale, transparent);
+    cache(context, scaledImageKey, scaledImage);
+    return scaledImage;
+  }
+
+  private static String getScaledImageKey(final String fileName, final double scale) {
+    return fileName + "@" + scale;
+  }
 
-      if ((!showMapBlends || !showReliefImages || !transparent) && url == null) {
-        return null;
+  private static String getPyramidImageKey(final String fileName, final int level) {
+    return fileName + "#" + level;
+  }
+
+  private boolean isCached(final String fileName, final double scale) {
+    return imageCache.peek(getScaledImageKey(fileName, scale)) != null
+        || imageCache.peek(getPyramidImageKey(fileName, getPyramidLevel(scale))) != null;
+  }
+
+  private LoadContext newLoadContext() {
+    synchronized (mutex) {
+      return new LoadContext(resourceLoader, scale, generation);
+    }
+  }
+
+  private void cache(final LoadContext context, final String key, final Image image) {
+    synchronized (mutex) {
+      if (context.generation == generation) {
+        imageCache.put(key, image);
       }
-      loadImage(url, fileName, transparent, true, true);
     }
-    return getImage(fileName, transparent);
+  }
+
+  /**
+   * Returns the finest level of the tile pyramid that is not larger than needed for the specified scale, i.e. the
+   * level whose images have to be scaled down the least.
+   */
+  private static int getPyramidLevel(final double scale) {
+    int level = 0;
+    while (level < MAX_PYRAMID_LEVEL && scale <= 1.0 / (1 << (level + 1))) {
+      level++;
+    }
+    return level;
+  }
+
+  /**
+   * Returns the image of the specified level of the tile pyramid, which is the original image scaled by 1/2^level.
+   * Each level is computed from the cached level above it, so the tile image is decoded at most once as long as one of
+   * its levels remains cached.
+   */
+  private Image getPyramidImage(final LoadContext context, final URL url, final String fileName,
+      final boolean transparent, final int level) {
+    final Image cachedImage = imageCache.get(getPyramidImageKey(fileName, level));
+    if (cachedImage != null) {
+      return cachedImage;
+    }
+    return loadPyramidImage(context, url, fileName, transparent, level);
+  }
+
+  /**
+   * Loads or computes the image of the specified level of the tile pyramid, which is known not to be cached, and
+   * caches it.
+   */
+  private Image loadPyramidImage(final LoadContext context, final URL url, final String fileName,
+      final boolean transparent, final int level) {
+    final Image image = (level == 0)
+        ? loadImage(context.resourceLoader, url, fileName, transparent)
+        : scaleImage(getPyramidImage(context, url, fileName, transparent, level - 1), 0.5, transparent);
+    cache(context, getPyramidImageKey(fileName, level), image);
+    return image;
+  }
+
+  private static Image scaleImage(final Image image, final double scale, final boolean transparent) {
+    final int width = Math.max(1, (int) Math.ceil(image.getWidth(null) * scale));
+    final int height = Math.max(1, (int) Math.ceil(image.getHeight(null) * scale));
+    final BufferedImage scaledImage = Util.createImage(width, height, transparent);
+    final Graphics2D g = scaledImage.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    g.drawImage(image, 0, 0, width, height, null);
+    g.dispose();
+    return scaledImage;
   }
 
   public Image getReliefTile(final int a, final int b) {
@@ -187,13 +334,13 @@ public final class TileImageFactory {
     return getImage(fileName, true);
   }
 
-  public Image getUnscaledUncachedReliefTile(final int x, final int y) {
+  public Image getUnscaledReliefTile(final int x, final int y) {
     final String fileName = getReliefTileImageName(x, y);
     final URL url = resourceLoader.getResource(fileName);
     if (url == null) {
       return null;
     }
-    return loadImage(url, fileName, true, false, false);
+    return getPyramidImage(newLoadContext(), url, fileName, true, 0);
   }
 
   private static String getReliefTileImageName(final int x, final int y) {
@@ -215,14 +362,14 @@ public final class TileImageFactory {
     return compatibleImage;
   }
 
-  private Image loadImage(final URL imageLocation, final String fileName, final boolean transparent,
-      final boolean cache, final boolean scale) {
+  private static Image loadImage(final ResourceLoader resourceLoader, final URL imageLocation, final String fileName,
+      final boolean transparent) {
     return (showMapBlends && showReliefImages && transparent)
-        ? loadBlendedImage(fileName, cache, scale)
-        : loadUnblendedImage(imageLocation, fileName, transparent, cache, scale);
+        ? loadBlendedImage(resourceLoader, fileName)
+        : loadUnblendedImage(imageLocation, transparent);
   }
 
-  private Image loadBlendedImage(final String fileName, final boolean cache, final boolean scaled) {
+  private static Image loadBlendedImage(final ResourceLoader resourceLoader, final String fileName) {
     BufferedImage reliefFile = null;
     BufferedImage baseFile = null;
     // The relief tile
@@ -268,32 +415,17 @@ public final class TileImageFactory {
       final BufferedImage blendedImage =
           new BufferedImage(reliefFile.getWidth(null), reliefFile.getHeight(null), BufferedImage.TYPE_INT_ARGB);
       final Graphics2D g2 = blendedImage.createGraphics();
-      if (scaled && scale != 1.0) {
-        final AffineTransform transform = new AffineTransform();
-        transform.scale(scale, scale);
-        g2.setTransform(transform);
-      }
       g2.drawImage(reliefFile, 0, 0, null);
       final BlendingMode blendMode = BlendComposite.BlendingMode.valueOf(getShowMapBlendMode());
       final BlendComposite blendComposite = BlendComposite.getInstance(blendMode).derive(alpha);
       g2.setComposite(blendComposite);
       g2.drawImage(baseFile, 0, 0, null);
-      final ImageRef ref = new ImageRef(blendedImage);
-      if (cache) {
-        imageCache.put(fileName, ref);
-      }
       return blendedImage;
     }
-
-    final ImageRef ref = new ImageRef(baseFile);
-    if (cache) {
-      imageCache.put(fileName, ref);
-    }
     return baseFile;
   }
 
-  private Image loadUnblendedImage(final URL imageLocation, final String fileName, final boolean transparent,
-      final boolean cache, final boolean scaled) {
+  private static Image loadUnblendedImage(final URL imageLocation, final boolean transparent) {
     Image image;
     try {
       final Stopwatch loadingImages = new Stopwatch(logger, Level.FINE, "Loading image:" + imageLocation);
@@ -308,11 +440,6 @@ public final class TileImageFactory {
       // png directly as the right type
       image = Util.createImage(fromFile.getWidth(null), fromFile.getHeight(null), transparent);
       final Graphics2D g = (Graphics2D) image.getGraphics();
-      if (scaled && scale != 1.0) {
-        final AffineTransform transform = new AffineTransform();
-        transform.scale(scale, scale);
-        g.setTransform(transform);
-      }
       g.drawImage(fromFile, 0, 0, null);
       g.dispose();
       fromFile.flush();
@@ -321,10 +448,6 @@ public final class TileImageFactory {
       ClientLogger.logError("Could not load image, url: " + imageLocation.toString(), e);
       image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
     }
-    final ImageRef ref = new ImageRef(image);
-    if (cache) {
-      imageCache.put(fileName, ref);
-    }
     return image;
   }
 
@@ -332,6 +455,22 @@ public final class TileImageFactory {
     return this.composite;
   }
 
+  /**
+   * The state of the factory at the time an image is requested, so that a concurrent change of the scale or map does
+   * not mix up the images being loaded.
+   */
+  private static final class LoadContext {
+    final ResourceLoader resourceLoader;
+    final double scale;
+    final int generation;
+
+    LoadContext(final ResourceLoader resourceLoader, final double scale, final int generation) {
+      this.resourceLoader = resourceLoader;
+      this.scale = scale;
+      this.generation = generation;
+    }
+  }
+
   private static BufferedImage loadCompatibleImage(final URL resource) throws IOException {
     final BufferedImage image = ImageIO.read(resource);
     return toCompatibleImage(image);
@@ -3,16 +3,28 @@ package games.strategy.triplea.image;
 import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
-import java.awt.Toolkit;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 
+import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.debug.ClientLogger;
+import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.UnitType;
 import games.strategy.triplea.Constants;
@@ -21,6 +33,7 @@ import games.strategy.triplea.attachments.UnitAttachment;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TechTracker;
 import games.strategy.ui.Util;
+import games.strategy.util.Tuple;
 
 public class UnitImageFactory {
   public static final int DEFAULT_UNIT_ICON_SIZE = 48;
@@ -37,10 +50,12 @@ public class UnitImageFactory {
   private static int unitCounterOffsetWidth = DEFAULT_UNIT_ICON_SIZE / 4;
   private static int unitCounterOffsetHeight = unitIconHeight;
   private static final String FILE_NAME_BASE = "units/";
-  // maps Point -> image
-  private final Map<String, Image> images = new HashMap<>();
-  // maps Point -> Icon
-  private final Map<String, ImageIcon> icons = new HashMap<>();
+  // maps image name -> scaled image
+  private final ImageCache.Region images = ImageCache.getInstance().newRegion("Unit images");
+  // maps image name -> unscaled image of the icon
+  private final ImageCache.Region icons = ImageCache.getInstance().newRegion("Unit icons");
+  // maps unscaled image of the icon -> icon wrapping it, as long as the icon is in use
+  private final Map<Image, WeakReference<ImageIcon>> iconsByImage = new WeakHashMap<>();
   // Scaling factor for unit images
   private double scaleFactor;
   private ResourceLoader resourceLoader;
@@ -99,9 +114,10 @@ public class UnitImageFactory {
   }
 
   // Clear the image and icon cache
-  private void clearImageCache() {
+  private synchronized void clearImageCache() {
     images.clear();
     icons.clear();
+    iconsByImage.clear();
   }
 
   /**
@@ -109,30 +125,100 @@ public class UnitImageFactory {
    */
   public Optional<Image> getImage(final UnitType type, final PlayerID player, final boolean damaged,
       final boolean disabled) {
-    final String baseName = getBaseImageName(type, player, damaged, disabled);
-    final String fullName = baseName + player.getName();
-    if (images.containsKey(fullName)) {
-      return Optional.of(images.get(fullName));
+    return getScaledImage(getBaseImageName(type, player, damaged, disabled), player);
+  }
+
+  /**
+   * Scales the images of all unit types for all players in parallel, so they are available without delay once the
+   * units are drawn. Returns immediately; the images are loaded in the background.
+   */
+  public void preloadImages(final GameData data) {
+    final List<Tuple<String, PlayerID>> imageNames = new ArrayList<>();
+    data.acquireReadLock();
+    try {
+      final List<PlayerID> players = new ArrayList<>(data.getPlayerList().getPlayers());
+      players.add(PlayerID.NULL_PLAYERID);
+      for (final UnitType type : data.getUnitTypeList()) {
+        for (final PlayerID player : players) {
+          imageNames.add(Tuple.of(getBaseImageName(type, player, false, false), player));
+          imageNames.add(Tuple.of(getBaseImageName(type, player, true, false), player));
+          imageNames.add(Tuple.of(getBaseImageName(type, player, false, true), player));
+        }
+      }
+    } finally {
+      data.releaseReadLock();
     }
-    final Optional<Image> image = getBaseImage(baseName, player);
+    CompletableFuture.runAsync(() -> imageNames.parallelStream()
+        .forEach(imageName -> getScaledImage(imageName.getFirst(), imageName.getSecond())));
+  }
+
+  /**
+   * Returns the base image scaled by the current scale factor. The image is loaded and scaled without holding the lock
+   * of this factory, so several images can be scaled concurrently.
+   */
+  private Optional<Image> getScaledImage(final String baseName, final PlayerID player) {
+    final ResourceLoader loader;
+    final double scale;
+    synchronized (this) {
+      loader = resourceLoader;
+      scale = scaleFactor;
+    }
+    final String fullName = baseName + player.getName() + "@" + scale;
+    final Image cachedImage = images.get(fullName);
+    if (cachedImage != null) {
+      return Optional.of(cachedImage);
+    }
+    final Optional<BufferedImage> image = getBaseImage(baseName, player, loader);
     if (!image.isPresent()) {
       return Optional.empty();
     }
-    final Image baseImage = image.get();
+    final BufferedImage baseImage = image.get();
+    final int width = Math.max(1, (int) (baseImage.getWidth() * scale));
+    final int height = Math.max(1, (int) (baseImage.getHeight() * scale));
+    final BufferedImage scaledImage = scaleImage(baseImage, width, height);
+    synchronized (this) {
+      // do not cache images for a previous map or scale factor
+      if (loader == resourceLoader && scale == scaleFactor) {
+        images.put(fullName, scaledImage);
+      }
+    }
+    return Optional.of(scaledImage);
+  }
 
+  /**
+   * Scales the specified image into an image that is compatible with the screen, so drawing it is a plain copy.
+   * Large reductions are done by repeatedly halving the image, which gives a quality similar to area averaging at a
+   * fraction of its cost.
+   */
+  @VisibleForTesting
+  static BufferedImage scaleImage(final BufferedImage image, final int width, final int height) {
+    BufferedImage scaledImage = image;
+    int currentWidth = image.getWidth();
+    int currentHeight = image.getHeight();
+    do {
+      currentWidth = Math.max(width, currentWidth / 2);
+      currentHeight = Math.max(height, currentHeight / 2);
+      if (currentWidth < width * 2 && currentHeight < height * 2) {
+        currentWidth = width;
+        currentHeight = height;
+      }
+      final BufferedImage step = createCompatibleImage(currentWidth, currentHeight);
+      final Graphics2D g = step.createGraphics();
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.drawImage(scaledImage, 0, 0, currentWidth, currentHeight, null);
+      g.dispose();
+      scaledImage = step;
+    } while (currentWidth != width || currentHeight != height);
+    return scaledImage;
+  }
 
-    // We want to scale units according to the given scale factor.
-    // We use smooth scaling since the images are cached to allow
-    // to take our time in doing the scaling.
-    // Image observer is null, since the image should have been
-    // guaranteed to be loaded.
-    final int width = (int) (baseImage.getWidth(null) * scaleFactor);
-    final int height = (int) (baseImage.getHeight(null) * scaleFactor);
-    final Image scaledImage = baseImage.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-    // Ensure the scaling is completed.
-    Util.ensureImageLoaded(scaledImage);
-    images.put(fullName, scaledImage);
-    return Optional.of(scaledImage);
+  private static BufferedImage createCompatibleImage(final int width, final int height) {
+    if (GraphicsEnvironment.isHeadless()) {
+      return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+    return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+        .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
   }
 
   public Optional<URL> getBaseImageUrl(final String baseImageName, final PlayerID id) {
@@ -147,14 +233,18 @@ public class UnitImageFactory {
     return Optional.ofNullable(url);
   }
 
-  private Optional<Image> getBaseImage(final String baseImageName, final PlayerID id) {
-    final Optional<URL> imageLocation = getBaseImageUrl(baseImageName, id);
-    Image image = null;
-    if (imageLocation.isPresent()) {
-      image = Toolkit.getDefaultToolkit().getImage(getBaseImageUrl(baseImageName, id).get());
-      Util.ensureImageLoaded(image);
+  private static Optional<BufferedImage> getBaseImage(final String baseImageName, final PlayerID id,
+      final ResourceLoader resourceLoader) {
+    final Optional<URL> imageLocation = getBaseImageUrl(baseImageName, id, resourceLoader);
+    if (!imageLocation.isPresent()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(ImageIO.read(imageLocation.get()));
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to load unit image: " + imageLocation.get(), e);
+      return Optional.empty();
     }
-    return Optional.ofNullable(image);
   }
 
   public Optional<Image> getHighlightImage(final UnitType type, final PlayerID player, final boolean damaged,
@@ -181,21 +271,34 @@ public class UnitImageFactory {
   /**
    * Return a icon image for a unit.
    */
-  public Optional<ImageIcon> getIcon(final UnitType type, final PlayerID player, final boolean damaged,
+  public synchronized Optional<ImageIcon> getIcon(final UnitType type, final PlayerID player, final boolean damaged,
       final boolean disabled) {
     final String baseName = getBaseImageName(type, player, damaged, disabled);
     final String fullName = baseName + player.getName();
-    if (icons.containsKey(fullName)) {
-      return Optional.of(icons.get(fullName));
+    final Image cachedImage = icons.get(fullName);
+    if (cachedImage != null) {
+      return Optional.of(getIcon(cachedImage));
     }
-    final Optional<Image> image = getBaseImage(baseName, player);
+    final Optional<BufferedImage> image = getBaseImage(baseName, player, resourceLoader);
     if (!image.isPresent()) {
       return Optional.empty();
     }
 
-    final ImageIcon icon = new ImageIcon(image.get());
-    icons.put(fullName, icon);
-    return Optional.of(icon);
+    icons.put(fullName, image.get());
+    return Optional.of(getIcon(image.get()));
+  }
+
+  private ImageIcon getIcon(final Image image) {
+    final WeakReference<ImageIcon> cachedIcon = iconsByImage.get(image);
+    if (cachedIcon != null) {
+      final ImageIcon icon = cachedIcon.get();
+      if (icon != null) {
+        return icon;
+      }
+    }
+    final ImageIcon icon = new ImageIcon(image);
+    iconsByImage.put(image, new WeakReference<>(icon));
+    return icon;
   }
 
   private static String getBaseImageName(final UnitType type, final PlayerID id, final boolean damaged,
@@ -35,6 +35,22 @@ public class AggregateResults implements Serializable {
     return m_results;
   }
 
+  /**
+   * Returns whether these results are the exact outcome distribution of the battle rather than the results of
+   * simulated runs. Exact results have no individual battle results.
+   */
+  public boolean isExact() {
+    return false;
+  }
+
+  /**
+   * Returns whether the battle was calculated at all. The battle calculators return empty results for battles they did
+   * not calculate, for example because they were canceled, shut down or have no game data.
+   */
+  public boolean isCalculated() {
+    return isExact() || !m_results.isEmpty();
+  }
+
   /**
    * This could be null if we have zero results.
    */
@@ -95,7 +111,7 @@ public class AggregateResults implements Serializable {
 
   public double getAverageTuvSwing(final PlayerID attacker, final Collection<Unit> attackers, final PlayerID defender,
       final Collection<Unit> defenders, final GameData data) {
-    if (m_results.isEmpty()) { // can be empty!
+    if (m_results.isEmpty() && !isExact()) { // can be empty!
       return 0.0;
     }
     final IntegerMap<UnitType> attackerCostsForTuv = TuvUtils.getCostsForTuv(attacker, data);
@@ -109,6 +125,33 @@ public class AggregateResults implements Serializable {
     return defenderLost - attackerLost;
   }
 
+  /**
+   * Returns the half-width of the 95% confidence interval of {@link #getAverageTuvSwing}.
+   */
+  public double getTuvSwingMarginOfError(final PlayerID attacker, final Collection<Unit> attackers,
+      final PlayerID defender, final Collection<Unit> defenders, final GameData data) {
+    final IntegerMap<UnitType> attackerCostsForTuv = TuvUtils.getCostsForTuv(attacker, data);
+    final IntegerMap<UnitType> defenderCostsForTuv = TuvUtils.getCostsForTuv(defender, data);
+    double sum = 0;
+    double sumOfSquares = 0;
+    for (final BattleResults result : m_results) {
+      final double tuvSwing = getTuvSwing(result, attackers, defenders, attackerCostsForTuv, defenderCostsForTuv);
+      sum += tuvSwing;
+      sumOfSquares += tuvSwing * tuvSwing;
+    }
+    return SequentialSample.getMeanMarginOfError(sum, sumOfSquares, m_results.size());
+  }
+
+  static double getTuvSwing(final BattleResults result, final Collection<Unit> attackers,
+      final Collection<Unit> defenders, final IntegerMap<UnitType> attackerCostsForTuv,
+      final IntegerMap<UnitType> defenderCostsForTuv) {
+    final int attackerLost = TuvUtils.getTuv(attackers, attackerCostsForTuv)
+        - TuvUtils.getTuv(result.getRemainingAttackingUnits(), attackerCostsForTuv);
+    final int defenderLost = TuvUtils.getTuv(defenders, defenderCostsForTuv)
+        - TuvUtils.getTuv(result.getRemainingDefendingUnits(), defenderCostsForTuv);
+    return defenderLost - attackerLost;
+  }
+
   double getAverageAttackingUnitsLeftWhenAttackerWon() {
     if (m_results.isEmpty()) { // can be empty!
       return 0.0;
@@ -169,6 +212,19 @@ public class AggregateResults implements Serializable {
     return count / m_results.size();
   }
 
+  /**
+   * Returns the half-width of the 95% confidence interval of {@link #getAttackerWinPercent()}.
+   */
+  public double getAttackerWinPercentMarginOfError() {
+    int count = 0;
+    for (final BattleResults result : m_results) {
+      if (result.attackerWon()) {
+        count++;
+      }
+    }
+    return SequentialSample.getWinPercentMarginOfError(count, m_results.size());
+  }
+
   double getDefenderWinPercent() {
     if (m_results.isEmpty()) { // can be empty!
       return 0.0;
@@ -0,0 +1,72 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+
+/**
+ * Describes a single battle to be calculated by {@link IOddsCalculator#calculateAll(java.util.List)}. Holds the same
+ * data that is passed to {@link IOddsCalculator#setCalculateData}.
+ */
+public final class BattleSpec {
+  private final PlayerID attacker;
+  private final PlayerID defender;
+  private final Territory location;
+  private final Collection<Unit> attacking;
+  private final Collection<Unit> defending;
+  private final Collection<Unit> bombarding;
+  private final Collection<TerritoryEffect> territoryEffects;
+  private final int runCount;
+
+  public BattleSpec(final PlayerID attacker, final PlayerID defender, final Territory location,
+      final Collection<Unit> attacking, final Collection<Unit> defending, final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects, final int runCount) {
+    this.attacker = attacker;
+    this.defender = defender;
+    this.location = checkNotNull(location);
+    this.attacking = Collections.unmodifiableList(new ArrayList<>(attacking));
+    this.defending = Collections.unmodifiableList(new ArrayList<>(defending));
+    this.bombarding = Collections.unmodifiableList(new ArrayList<>(bombarding));
+    this.territoryEffects = Collections.unmodifiableList(new ArrayList<>(territoryEffects));
+    this.runCount = runCount;
+  }
+
+  public PlayerID getAttacker() {
+    return attacker;
+  }
+
+  public PlayerID getDefender() {
+    return defender;
+  }
+
+  public Territory getLocation() {
+    return location;
+  }
+
+  public Collection<Unit> getAttacking() {
+    return attacking;
+  }
+
+  public Collection<Unit> getDefending() {
+    return defending;
+  }
+
+  public Collection<Unit> getBombarding() {
+    return bombarding;
+  }
+
+  public Collection<TerritoryEffect> getTerritoryEffects() {
+    return territoryEffects;
+  }
+
+  public int getRunCount() {
+    return runCount;
+  }
+}
@@ -1,5 +1,6 @@
 package games.strategy.triplea.oddsCalculator.ta;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -13,10 +14,15 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import games.strategy.debug.ClientLogger;
+import games.strategy.debug.PerformanceCounters;
+import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameDataChangeRecorder;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
@@ -27,22 +33,40 @@ import games.strategy.util.CountUpAndDownLatch;
 /**
  * Concurrent wrapper class for the OddsCalculator. It spawns multiple worker threads and splits up the run count
  * across these workers. This is mainly to be used by AIs since they call the OddsCalculator a lot.
+ *
+ * <p>
+ * The workers keep their copies of the game data between calls to {@link #setGameData(GameData)}. While the workers
+ * hold copies of some game data, the changes made to it are recorded, and setting the same game data again only
+ * performs these changes on the copies instead of copying the whole game data again.
+ * </p>
+ *
+ * <p>
+ * Calculators created with {@link #withSharedWorkerPool()} run their workers on one thread pool shared by all such
+ * calculators. Each of them still holds its own copies of the game data, so several AIs can use their own calculator
+ * without creating a thread pool each.
+ * </p>
  */
 public class ConcurrentOddsCalculator implements IOddsCalculator {
   private static final Logger logger = Logger.getLogger(ConcurrentOddsCalculator.class.getName());
   private static final int MAX_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+  // copy the game data again instead of performing this many changes on the copies
+  private static final int MAX_RECORDED_CHANGES = 10000;
 
   private int currentThreads = MAX_THREADS;
   private final ExecutorService executor;
+  private final boolean isExecutorShared;
   private final List<OddsCalculator> workers = new CopyOnWriteArrayList<>();
   // do not let calc be set up til data is set
   private volatile boolean isDataSet = false;
   // do not let calc start until it is set
   private volatile boolean isCalcSet = false;
+  // stop handing out battles of a batch calculation to the workers
+  private volatile boolean isBatchCanceled = false;
   // shortcut everything if we are shutting down
   private volatile boolean isShutDown = false;
   // shortcut setting of previous game data if we are trying to set it to a new one, or shutdown
   private volatile int cancelCurrentOperation = 0;
+  private volatile OddsPrecision precision = null;
   // do not let calcing happen while we are setting game data
   private final CountUpAndDownLatch latchSetData = new CountUpAndDownLatch();
   // do not let setting of game data happen multiple times while we offload creating workers and copying data to a
@@ -54,10 +78,25 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   // do not let multiple calculations or setting calc data happen at same time
   private final Object mutexCalcIsRunning = new Object();
   private final List<OddsCalculatorListener> listeners = new ArrayList<>();
+  // records the changes made to the game data since the workers were copied from it or last updated
+  private volatile GameDataChangeRecorder changeRecorder = null;
 
   public ConcurrentOddsCalculator(final String threadNamePrefix) {
-    executor = Executors.newFixedThreadPool(MAX_THREADS,
-        new DaemonThreadFactory(true, threadNamePrefix + " ConcurrentOddsCalculator Worker"));
+    this(Executors.newFixedThreadPool(MAX_THREADS,
+        new DaemonThreadFactory(true, threadNamePrefix + " ConcurrentOddsCalculator Worker")), false);
+  }
+
+  private ConcurrentOddsCalculator(final ExecutorService executor, final boolean isExecutorShared) {
+    this.executor = executor;
+    this.isExecutorShared = isExecutorShared;
+  }
+
+  /**
+   * Creates a calculator that runs its workers on the thread pool shared by all calculators created by this method.
+   * Shutting the calculator down leaves the shared thread pool running.
+   */
+  public static ConcurrentOddsCalculator withSharedWorkerPool() {
+    return new ConcurrentOddsCalculator(SharedWorkerPoolHolder.executor, true);
   }
 
   @Override
@@ -81,6 +120,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       isCalcSet = false;
       if (data == null || isShutDown) {
         workers.clear();
+        stopRecordingChanges();
         ++cancelCurrentOperation;
         // allow calcing and other stuff to go ahead
         latchSetData.countDown();
@@ -88,7 +128,8 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
         ++cancelCurrentOperation;
         // increment our token, so that we can set the data in a different thread and return from this one
         latchWorkerThreadsCreation.increment();
-        executor.submit(() -> createWorkers(data));
+        // the tasks record their timers in the performance counters of the thread that handed them out
+        executor.submit(PerformanceCounters.inheritBinding(() -> setWorkersGameData(data)));
       }
     }
   }
@@ -124,61 +165,21 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     return Math.min(numberOfTimesWeCanCopyMax, MAX_THREADS);
   }
 
-  private void createWorkers(final GameData data) {
-    workers.clear();
-    if (data != null && cancelCurrentOperation >= 0) {
-      // see how long 1 copy takes (some games can get REALLY big)
-      final long startTime = System.currentTimeMillis();
-      final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-      final GameData newData;
-      try {
-        // make first copy, then release lock on it so game can continue (ie: we don't want to lock on it while we copy
-        // it 16 times, when once is enough) don't let the data change while we make the first copy
-        data.acquireReadLock();
-        newData = GameDataUtils.cloneGameData(data, false);
-      } finally {
-        data.releaseReadLock();
-      }
-      currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-      try {
-        // make sure all workers are using the same data
-        newData.acquireReadLock();
-        int i = 0;
-        // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
-        if (currentThreads <= 2 || MAX_THREADS <= 2) {
-          // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
-          // only 1 more copy to
-          // make)
-          while (cancelCurrentOperation >= 0 && i < currentThreads) {
-            // the last one will use our already copied data from above, without copying it again
-            workers.add(new OddsCalculator(newData, (currentThreads == ++i)));
-          }
-        } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
-          final CountDownLatch workerLatch = new CountDownLatch(currentThreads - 1);
-          while (i < (currentThreads - 1)) {
-            ++i;
-            executor.submit(() -> {
-              if (cancelCurrentOperation >= 0) {
-                workers.add(new OddsCalculator(newData, false));
-              }
-              workerLatch.countDown();
-            });
-          }
-          // the last one will use our already copied data from above, without copying it again
-          workers.add(new OddsCalculator(newData, true));
-          try {
-            workerLatch.await();
-          } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-          }
-        }
-      } finally {
-        newData.releaseReadLock();
+  private void setWorkersGameData(final GameData data) {
+    try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ConcurrentOddsCalculator.setGameData")) {
+      if (data != null && cancelCurrentOperation >= 0 && !updateWorkers(data)) {
+        createWorkers(data);
       }
+    } catch (final RuntimeException e) {
+      // don't leave the threads waiting for the data to be set hanging
+      ClientLogger.logQuietly("Failed to copy the game data for the battle calculator", e);
+      workers.clear();
+      stopRecordingChanges();
     }
     if (cancelCurrentOperation < 0 || data == null) {
       // we could have cancelled while setting data, so clear the workers again if so
       workers.clear();
+      stopRecordingChanges();
       isDataSet = false;
     } else {
       // should make sure that all workers have their game data set before we can call calculate and other things
@@ -191,12 +192,128 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     latchSetData.countDown();
   }
 
+  /**
+   * Performs the changes recorded since the workers were copied from or last updated to the specified game data on
+   * the copies held by the workers. Returns {@code false} if the workers must be copied again instead, because they
+   * hold copies of other game data or not all changes were recorded.
+   */
+  private boolean updateWorkers(final GameData data) {
+    final GameDataChangeRecorder recorder = changeRecorder;
+    if (recorder == null || data != recorder.getData() || workers.isEmpty()) {
+      return false;
+    }
+    try {
+      // don't let the data change while we update the workers to it
+      data.acquireReadLock();
+      final Change change = recorder.takeChanges();
+      if (change == null) {
+        return false;
+      }
+      for (final OddsCalculator worker : workers) {
+        if (cancelCurrentOperation < 0) {
+          break;
+        }
+        worker.updateGameData(change, data);
+      }
+      PerformanceCounters.increment("ConcurrentOddsCalculator.gameDataUpdates");
+      return true;
+    } catch (final RuntimeException e) {
+      ClientLogger.logQuietly("Failed to update the game data of the battle calculator, copying it instead", e);
+      return false;
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+  private void createWorkers(final GameData data) {
+    workers.clear();
+    stopRecordingChanges();
+    // see how long 1 copy takes (some games can get REALLY big)
+    final long startTime = System.currentTimeMillis();
+    final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    final byte[] bytes;
+    final GameData newData;
+    try {
+      // serialize the data once, then release lock on it so game can continue (ie: we don't want to lock on it while
+      // we copy it 16 times, when once is enough) don't let the data change while we serialize it
+      try {
+        data.acquireReadLock();
+        // record the changes made from now on, so that the workers can be updated instead of copied again
+        final GameDataChangeRecorder recorder = new GameDataChangeRecorder(data, MAX_RECORDED_CHANGES);
+        recorder.start();
+        changeRecorder = recorder;
+        bytes = GameDataUtils.serializeGameData(data, false);
+      } finally {
+        data.releaseReadLock();
+      }
+      newData = GameDataUtils.deserializeGameData(bytes);
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to copy the game data for the battle calculator", e);
+      stopRecordingChanges();
+      return;
+    }
+    currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
+    // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
+    if (currentThreads <= 2 || MAX_THREADS <= 2) {
+      // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most only
+      // 1 more copy to make)
+      int i = 1;
+      while (cancelCurrentOperation >= 0 && i++ < currentThreads) {
+        addWorker(bytes);
+      }
+    } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
+      // the copies are claimed by whichever thread gets to them first, including this one, so the copying completes
+      // even if all threads of a shared pool are busy setting the game data of other calculators
+      final AtomicInteger copiesLeft = new AtomicInteger(currentThreads - 1);
+      final CountDownLatch workerLatch = new CountDownLatch(currentThreads - 1);
+      final Runnable copyWorkers = () -> {
+        while (copiesLeft.getAndDecrement() > 0) {
+          if (cancelCurrentOperation >= 0) {
+            addWorker(bytes);
+          }
+          workerLatch.countDown();
+        }
+      };
+      for (int i = 2; i < currentThreads; i++) {
+        executor.submit(PerformanceCounters.inheritBinding(copyWorkers));
+      }
+      copyWorkers.run();
+      try {
+        workerLatch.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    // the last one will use our already copied data from above, without copying it again
+    workers.add(new OddsCalculator(newData, true));
+    PerformanceCounters.add("ConcurrentOddsCalculator.gameDataCopies", workers.size());
+  }
+
+  private void addWorker(final byte[] bytes) {
+    try {
+      workers.add(new OddsCalculator(GameDataUtils.deserializeGameData(bytes), true));
+    } catch (final IOException e) {
+      ClientLogger.logQuietly("Failed to copy the game data for the battle calculator", e);
+    }
+  }
+
+  private void stopRecordingChanges() {
+    final GameDataChangeRecorder recorder = changeRecorder;
+    if (recorder != null) {
+      recorder.stop();
+      changeRecorder = null;
+    }
+  }
+
   @Override
   public void shutdown() {
     isShutDown = true;
     cancelCurrentOperation = Integer.MIN_VALUE / 2;
     cancel();
-    executor.shutdown();
+    stopRecordingChanges();
+    if (!isExecutorShared) {
+      executor.shutdown();
+    }
     synchronized (listeners) {
       listeners.clear();
     }
@@ -245,10 +362,26 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
    */
   @Override
   public AggregateResults calculate() throws IllegalStateException {
+    try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ConcurrentOddsCalculator.calculate")) {
+      return calculateWithWorkers();
+    }
+  }
+
+  private AggregateResults calculateWithWorkers() {
     synchronized (mutexCalcIsRunning) {
       awaitLatch();
       final long start = System.currentTimeMillis();
-      // Create worker thread pool and start all workers
+      // Solve simple battles exactly instead of splitting up the runs, all workers hold the same battle
+      if (getIsReady() && !workers.isEmpty()) {
+        final AggregateResults exactResults = workers.get(0).calculateExactly();
+        if (exactResults != null) {
+          PerformanceCounters.increment("ConcurrentOddsCalculator.exactBattles");
+          return exactResults;
+        }
+      }
+      // Create worker thread pool and start all workers, sharing one sample so that they all stop once the combined
+      // results are precise enough
+      final SequentialSample sample = precision == null ? null : new SequentialSample(precision);
       int totalRunCount = 0;
       final List<Future<AggregateResults>> list = new ArrayList<>();
       for (final OddsCalculator worker : workers) {
@@ -262,50 +395,109 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
         }
         if (worker.getRunCount() > 0) {
           totalRunCount += worker.getRunCount();
-          final Future<AggregateResults> workerResult = executor.submit(worker);
+          final Future<AggregateResults> workerResult =
+              executor.submit(PerformanceCounters.inheritBinding(() -> worker.calculate(sample)));
           list.add(workerResult);
         }
       }
       // Wait for all worker futures to complete and combine results
       final AggregateResults results = new AggregateResults(totalRunCount);
-      final Set<InterruptedException> interruptExceptions = new HashSet<>();
-      final Map<String, Set<ExecutionException>> executionExceptions = new HashMap<>();
-      for (final Future<AggregateResults> future : list) {
-        try {
-          final AggregateResults result = future.get();
-          results.addResults(result.getResults());
-        } catch (final InterruptedException e) {
-          Thread.currentThread().interrupt();
-          interruptExceptions.add(e);
-        } catch (final ExecutionException e) {
-          final String cause = e.getCause().getLocalizedMessage();
-          Set<ExecutionException> exceptions = executionExceptions.get(cause);
-          if (exceptions == null) {
-            exceptions = new HashSet<>();
-          }
-          exceptions.add(e);
-          executionExceptions.put(cause, exceptions);
-        }
+      for (final AggregateResults result : getAll(list)) {
+        results.addResults(result.getResults());
       }
-      // we don't want to scare the user with 8+ errors all for the same thing
-      if (!interruptExceptions.isEmpty()) {
-        logger.log(Level.SEVERE, interruptExceptions.size() + " Battle results workers interrupted",
-            interruptExceptions.iterator().next());
+      results.setTime(System.currentTimeMillis() - start);
+      return results;
+    }
+  }
+
+  /**
+   * Waits for all the specified futures to complete and returns their results. Exceptions thrown by the workers are
+   * logged once per distinct cause and then rethrown as an {@link IllegalStateException}.
+   */
+  private static <T> List<T> getAll(final List<Future<T>> futures) throws IllegalStateException {
+    final List<T> results = new ArrayList<>(futures.size());
+    final Set<InterruptedException> interruptExceptions = new HashSet<>();
+    final Map<String, Set<ExecutionException>> executionExceptions = new HashMap<>();
+    for (final Future<T> future : futures) {
+      try {
+        results.add(future.get());
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        interruptExceptions.add(e);
+      } catch (final ExecutionException e) {
+        final String cause = e.getCause().getLocalizedMessage();
+        Set<ExecutionException> exceptions = executionExceptions.get(cause);
+        if (exceptions == null) {
+          exceptions = new HashSet<>();
+        }
+        exceptions.add(e);
+        executionExceptions.put(cause, exceptions);
       }
-      if (!executionExceptions.isEmpty()) {
-        Exception e = null;
-        for (final Set<ExecutionException> entry : executionExceptions.values()) {
-          if (!entry.isEmpty()) {
-            e = entry.iterator().next();
-            logger.log(Level.SEVERE, entry.size() + " Battle results workers aborted by exception", e.getCause());
-          }
+    }
+    // we don't want to scare the user with 8+ errors all for the same thing
+    if (!interruptExceptions.isEmpty()) {
+      logger.log(Level.SEVERE, interruptExceptions.size() + " Battle results workers interrupted",
+          interruptExceptions.iterator().next());
+    }
+    if (!executionExceptions.isEmpty()) {
+      Exception e = null;
+      for (final Set<ExecutionException> entry : executionExceptions.values()) {
+        if (!entry.isEmpty()) {
+          e = entry.iterator().next();
+          logger.log(Level.SEVERE, entry.size() + " Battle results workers aborted by exception", e.getCause());
         }
-        if (e != null) {
-          throw new IllegalStateException(e.getCause());
+      }
+      if (e != null) {
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Calculates the specified battles by distributing whole battles across the workers instead of splitting the run
+   * count of each battle. This keeps all workers busy when there are many small battles to calculate, such as when an
+   * AI evaluates all its candidate territories at once. Battles that could not be calculated because the game data was
+   * changed or the calculator was canceled or shut down have empty results.
+   */
+  @Override
+  public List<AggregateResults> calculateAll(final List<BattleSpec> battles) throws IllegalStateException {
+    try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("ConcurrentOddsCalculator.calculateAll")) {
+      PerformanceCounters.add("ConcurrentOddsCalculator.batchBattles", battles.size());
+      return calculateAllWithWorkers(battles);
+    }
+  }
+
+  private List<AggregateResults> calculateAllWithWorkers(final List<BattleSpec> battles) {
+    synchronized (mutexCalcIsRunning) {
+      awaitLatch();
+      isCalcSet = false;
+      isBatchCanceled = false;
+      final AggregateResults[] results = new AggregateResults[battles.size()];
+      final AtomicInteger nextBattle = new AtomicInteger();
+      final List<Future<Void>> list = new ArrayList<>();
+      for (final OddsCalculator worker : workers) {
+        if (list.size() >= battles.size() || !isDataSet || isShutDown) {
+          break;
         }
+        list.add(executor.submit(PerformanceCounters.inheritBinding(() -> {
+          int i;
+          while ((i = nextBattle.getAndIncrement()) < battles.size() && !isBatchCanceled) {
+            final BattleSpec battle = battles.get(i);
+            worker.setCalculateData(battle.getAttacker(), battle.getDefender(), battle.getLocation(),
+                battle.getAttacking(), battle.getDefending(), battle.getBombarding(), battle.getTerritoryEffects(),
+                battle.getRunCount());
+            results[i] = worker.calculate(precision == null ? null : new SequentialSample(precision));
+          }
+          return null;
+        })));
       }
-      results.setTime(System.currentTimeMillis() - start);
-      return results;
+      getAll(list);
+      final List<AggregateResults> resultList = new ArrayList<>(results.length);
+      for (final AggregateResults result : results) {
+        resultList.add(result == null ? new AggregateResults(0) : result);
+      }
+      return resultList;
     }
   }
 
@@ -383,6 +575,14 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     }
   }
 
+  @Override
+  public void setPrecision(final OddsPrecision precision) {
+    synchronized (mutexCalcIsRunning) {
+      awaitLatch();
+      // the workers are handed a sample to collect their runs in instead, see calculate()
+      this.precision = precision;
+    }
+  }
 
   @Override
   public void setAttackerOrderOfLosses(final String attackerOrderOfLosses) {
@@ -407,6 +607,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   // not on purpose, we need to be able to cancel at any time
   @Override
   public void cancel() {
+    isBatchCanceled = true;
     for (final OddsCalculator worker : workers) {
       worker.cancel();
     }
@@ -433,4 +634,9 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       }
     }
   }
+
+  private static final class SharedWorkerPoolHolder {
+    static final ExecutorService executor = Executors.newFixedThreadPool(MAX_THREADS,
+        new DaemonThreadFactory(true, "Shared ConcurrentOddsCalculator Worker"));
+  }
 }
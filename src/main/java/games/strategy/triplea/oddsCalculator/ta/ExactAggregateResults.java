@@ -0,0 +1,183 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.util.TuvUtils;
+import games.strategy.util.IntegerMap;
+import games.strategy.util.Tuple;
+
+/**
+ * The exact results of a battle calculated by {@link ExactBattleCalculator}. Holds the probability of each possible
+ * outcome instead of the results of individual runs, so {@link #getResults()} is always empty.
+ */
+class ExactAggregateResults extends AggregateResults {
+  private static final long serialVersionUID = -3427815245962315587L;
+
+  // sorted in order of loss, so the last n units are left when n units are left
+  private final List<Unit> attackingUnits;
+  private final List<Unit> defendingUnits;
+  // indexed by the number of units left
+  private final double[] attackerWinProbabilities;
+  private final double[] defenderWinProbabilities;
+  private final double drawProbability;
+  private final double averageBattleRounds;
+
+  ExactAggregateResults(final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+      final double[] attackerWinProbabilities, final double[] defenderWinProbabilities, final double drawProbability,
+      final double averageBattleRounds) {
+    super(0);
+    this.attackingUnits = attackingUnits;
+    this.defendingUnits = defendingUnits;
+    this.attackerWinProbabilities = attackerWinProbabilities;
+    this.defenderWinProbabilities = defenderWinProbabilities;
+    this.drawProbability = drawProbability;
+    this.averageBattleRounds = averageBattleRounds;
+  }
+
+  private List<Unit> getAttackingUnitsLeft(final int count) {
+    return new ArrayList<>(attackingUnits.subList(attackingUnits.size() - count, attackingUnits.size()));
+  }
+
+  private List<Unit> getDefendingUnitsLeft(final int count) {
+    return new ArrayList<>(defendingUnits.subList(defendingUnits.size() - count, defendingUnits.size()));
+  }
+
+  private static double sum(final double[] probabilities) {
+    double sum = 0;
+    for (final double probability : probabilities) {
+      sum += probability;
+    }
+    return sum;
+  }
+
+  private static double getAverageCount(final double[] probabilities) {
+    double count = 0;
+    for (int i = 0; i < probabilities.length; i++) {
+      count += i * probabilities[i];
+    }
+    return count;
+  }
+
+  @Override
+  public boolean isExact() {
+    return true;
+  }
+
+  /**
+   * Always {@code null} since there are no individual battle results.
+   */
+  @Override
+  public BattleResults getBattleResultsClosestToAverage() {
+    return null;
+  }
+
+  @Override
+  public List<Unit> getAverageAttackingUnitsRemaining() {
+    final int attackingUnitsLeft = getUnitsLeftClosestToAverage().getFirst();
+    return getAttackingUnitsLeft(attackingUnitsLeft);
+  }
+
+  @Override
+  public List<Unit> getAverageDefendingUnitsRemaining() {
+    final int defendingUnitsLeft = getUnitsLeftClosestToAverage().getSecond();
+    return getDefendingUnitsLeft(defendingUnitsLeft);
+  }
+
+  /**
+   * Returns the possible outcome whose number of attacking and defending units left is closest to the average.
+   */
+  private Tuple<Integer, Integer> getUnitsLeftClosestToAverage() {
+    final double averageAttackingUnitsLeft = getAverageAttackingUnitsLeft();
+    final double averageDefendingUnitsLeft = getAverageDefendingUnitsLeft();
+    Tuple<Integer, Integer> closest = Tuple.of(0, 0);
+    double closestDif = drawProbability > 0 ? averageAttackingUnitsLeft + averageDefendingUnitsLeft : Double.MAX_VALUE;
+    for (int a = 1; a < attackerWinProbabilities.length; a++) {
+      final double dif = Math.abs(a - averageAttackingUnitsLeft) + averageDefendingUnitsLeft;
+      if (attackerWinProbabilities[a] > 0 && dif < closestDif) {
+        closestDif = dif;
+        closest = Tuple.of(a, 0);
+      }
+    }
+    for (int d = 1; d < defenderWinProbabilities.length; d++) {
+      final double dif = averageAttackingUnitsLeft + Math.abs(d - averageDefendingUnitsLeft);
+      if (defenderWinProbabilities[d] > 0 && dif < closestDif) {
+        closestDif = dif;
+        closest = Tuple.of(0, d);
+      }
+    }
+    return closest;
+  }
+
+  @Override
+  double getAverageAttackingUnitsLeft() {
+    return getAverageCount(attackerWinProbabilities);
+  }
+
+  @Override
+  public Tuple<Double, Double> getAverageTuvOfUnitsLeftOver(final IntegerMap<UnitType> attackerCostsForTuv,
+      final IntegerMap<UnitType> defenderCostsForTuv) {
+    double attackerTuv = 0;
+    for (int a = 1; a < attackerWinProbabilities.length; a++) {
+      attackerTuv += attackerWinProbabilities[a] * TuvUtils.getTuv(getAttackingUnitsLeft(a), attackerCostsForTuv);
+    }
+    double defenderTuv = 0;
+    for (int d = 1; d < defenderWinProbabilities.length; d++) {
+      defenderTuv += defenderWinProbabilities[d] * TuvUtils.getTuv(getDefendingUnitsLeft(d), defenderCostsForTuv);
+    }
+    return Tuple.of(attackerTuv, defenderTuv);
+  }
+
+  @Override
+  public double getTuvSwingMarginOfError(final PlayerID attacker, final Collection<Unit> attackers,
+      final PlayerID defender, final Collection<Unit> defenders, final GameData data) {
+    return 0;
+  }
+
+  @Override
+  double getAverageAttackingUnitsLeftWhenAttackerWon() {
+    final double attackerWinPercent = getAttackerWinPercent();
+    return attackerWinPercent > 0 ? getAverageAttackingUnitsLeft() / attackerWinPercent : 0;
+  }
+
+  @Override
+  double getAverageDefendingUnitsLeft() {
+    return getAverageCount(defenderWinProbabilities);
+  }
+
+  @Override
+  double getAverageDefendingUnitsLeftWhenDefenderWon() {
+    final double defenderWinPercent = getDefenderWinPercent();
+    return defenderWinPercent > 0 ? getAverageDefendingUnitsLeft() / defenderWinPercent : 0;
+  }
+
+  @Override
+  public double getAttackerWinPercent() {
+    return sum(attackerWinProbabilities);
+  }
+
+  @Override
+  public double getAttackerWinPercentMarginOfError() {
+    return 0;
+  }
+
+  @Override
+  double getDefenderWinPercent() {
+    return sum(defenderWinProbabilities);
+  }
+
+  @Override
+  public double getAverageBattleRoundsFought() {
+    return averageBattleRounds;
+  }
+
+  @Override
+  double getDrawPercent() {
+    return drawProbability;
+  }
+}
@@ -0,0 +1,166 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.attachments.UnitSupportAttachment;
+import games.strategy.triplea.delegate.DiceRoll;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.delegate.UnitBattleComparator;
+import games.strategy.triplea.util.TuvUtils;
+import games.strategy.util.Tuple;
+
+/**
+ * Calculates the exact outcome distribution of simple battles instead of simulating them.
+ *
+ * <p>
+ * A battle is simple if every unit fights with one die and one hit point each round, nothing changes the strength of
+ * a unit during the battle, and casualties are always taken in the default order of loss. Such a battle is a Markov
+ * chain over the number of attacking and defending units left, which is solved by propagating the probability of each
+ * state to the states that can follow it. Battles that use low luck, a limited number of rounds, support attachments,
+ * AA guns, infrastructure, submarines, transports, multiple hit points, multiple rolls, suicide units or bombarding
+ * units are not simple and must be simulated.
+ * </p>
+ */
+final class ExactBattleCalculator {
+  /**
+   * The maximum number of units on each side. The solver takes time proportional to the fourth power of the number
+   * of units, so larger battles are simulated.
+   */
+  static final int MAX_UNITS_PER_SIDE = 64;
+
+  private ExactBattleCalculator() {}
+
+  /**
+   * Returns the exact results of the specified battle, or {@code null} if the battle is not simple. The battle must
+   * not have bombarding units and must use the default retreat and order of loss settings.
+   */
+  static @Nullable AggregateResults calculate(final GameData data, final PlayerID attacker, final PlayerID defender,
+      final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
+      final Collection<TerritoryEffect> territoryEffects) {
+    if (attacking.isEmpty() || defending.isEmpty() || attacking.size() > MAX_UNITS_PER_SIDE
+        || defending.size() > MAX_UNITS_PER_SIDE || Properties.getLowLuck(data)
+        || (location.isWater() ? Properties.getSeaBattleRounds(data) : Properties.getLandBattleRounds(data)) > 0
+        || !attacking.stream().allMatch(unit -> isSimple(unit, location))
+        || !defending.stream().allMatch(unit -> isSimple(unit, location))) {
+      return null;
+    }
+    final long start = System.currentTimeMillis();
+
+    // Sort the units in the default order of loss, weakest first
+    final List<Unit> attackingUnits = new ArrayList<>(attacking);
+    Collections.sort(attackingUnits, new UnitBattleComparator(false, TuvUtils.getCostsForTuv(attacker, data),
+        territoryEffects, data, true, false));
+    final List<Unit> defendingUnits = new ArrayList<>(defending);
+    Collections.sort(defendingUnits, new UnitBattleComparator(true, TuvUtils.getCostsForTuv(defender, data),
+        territoryEffects, data, true, false));
+    final double[][] attackerHits =
+        getHitDistributions(attackingUnits, defendingUnits, false, data, location, territoryEffects);
+    final double[][] defenderHits =
+        getHitDistributions(defendingUnits, attackingUnits, true, data, location, territoryEffects);
+    if (attackerHits == null || defenderHits == null) {
+      return null;
+    }
+
+    // Propagate the probability of each state to the states that can follow it. A state can only be followed by
+    // states with fewer units, so all states leading to a state have been visited before the state itself.
+    final int attackerCount = attackingUnits.size();
+    final int defenderCount = defendingUnits.size();
+    final double[][] probabilities = new double[attackerCount + 1][defenderCount + 1];
+    probabilities[attackerCount][defenderCount] = 1;
+    double averageBattleRounds = 0;
+    for (int a = attackerCount; a > 0; a--) {
+      for (int d = defenderCount; d > 0; d--) {
+        final double probability = probabilities[a][d];
+        if (probability == 0) {
+          continue;
+        }
+        final double[] hitsOnDefenders = attackerHits[a];
+        final double[] hitsOnAttackers = defenderHits[d];
+
+        // Rounds without any hits repeat the state, so the state is left after 1 / (1 - noHits) rounds on average
+        final double leaveProbability = 1 - hitsOnDefenders[0] * hitsOnAttackers[0];
+        if (leaveProbability <= 0) {
+          // neither side can ever hit, so the battle only ends by the round limit of the simulation
+          return null;
+        }
+        averageBattleRounds += probability / leaveProbability;
+        for (int i = 0; i < hitsOnDefenders.length; i++) {
+          for (int j = 0; j < hitsOnAttackers.length; j++) {
+            if (i > 0 || j > 0) {
+              probabilities[Math.max(0, a - j)][Math.max(0, d - i)] +=
+                  probability * hitsOnDefenders[i] * hitsOnAttackers[j] / leaveProbability;
+            }
+          }
+        }
+      }
+    }
+
+    final double[] attackerWinProbabilities = new double[attackerCount + 1];
+    for (int a = 1; a <= attackerCount; a++) {
+      attackerWinProbabilities[a] = probabilities[a][0];
+    }
+    final double[] defenderWinProbabilities = new double[defenderCount + 1];
+    for (int d = 1; d <= defenderCount; d++) {
+      defenderWinProbabilities[d] = probabilities[0][d];
+    }
+    final ExactAggregateResults results = new ExactAggregateResults(attackingUnits, defendingUnits,
+        attackerWinProbabilities, defenderWinProbabilities, probabilities[0][0], averageBattleRounds);
+    results.setTime(System.currentTimeMillis() - start);
+    return results;
+  }
+
+  private static boolean isSimple(final Unit unit, final Territory location) {
+    final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    final TripleAUnit tripleAUnit = TripleAUnit.get(unit);
+    return ua.getHitPoints() == 1 && unit.getHits() == 0
+        && (Matches.unitIsAir().test(unit)
+            || (location.isWater() ? Matches.unitIsSea().test(unit) : Matches.unitIsLand().test(unit)))
+        && !Matches.unitIsInfrastructure().test(unit) && !Matches.unitIsAaForAnything().test(unit)
+        && !Matches.unitIsSub().test(unit) && !Matches.unitIsTransport().test(unit)
+        && !ua.getIsSuicide() && !ua.getIsSuicideOnHit() && !ua.getIsKamikaze()
+        && !tripleAUnit.getSubmerged() && !tripleAUnit.getDisabled() && tripleAUnit.getTransportedBy() == null
+        && UnitSupportAttachment.get(unit.getType()).isEmpty();
+  }
+
+  /**
+   * Returns the distributions of the number of hits scored by the strongest 0, 1, 2, ... units of the specified units,
+   * or {@code null} if a unit rolls more than one die. Units without power do not roll at all and never hit.
+   */
+  private static @Nullable double[][] getHitDistributions(final List<Unit> units, final List<Unit> enemyUnits,
+      final boolean defending, final GameData data, final Territory location,
+      final Collection<TerritoryEffect> territoryEffects) {
+    final Map<Unit, Tuple<Integer, Integer>> unitPowerAndRolls = DiceRoll.getUnitPowerAndRollsForNormalBattles(units,
+        enemyUnits, defending, false, data, location, territoryEffects, false, Collections.emptyList());
+    final double[][] distributions = new double[units.size() + 1][];
+    distributions[0] = new double[] {1};
+    for (int count = 1; count <= units.size(); count++) {
+      final Tuple<Integer, Integer> powerAndRolls = unitPowerAndRolls.get(units.get(units.size() - count));
+      if (powerAndRolls.getSecond() > 1) {
+        return null;
+      }
+      final double hitProbability = (double) powerAndRolls.getFirst() / data.getDiceSides();
+      final double[] previous = distributions[count - 1];
+      final double[] distribution = new double[count + 1];
+      for (int hits = 0; hits < previous.length; hits++) {
+        distribution[hits] += previous[hits] * (1 - hitProbability);
+        distribution[hits + 1] += previous[hits] * hitProbability;
+      }
+      distributions[count] = distribution;
+    }
+    return distributions;
+  }
+}
@@ -1,6 +1,8 @@
 package games.strategy.triplea.oddsCalculator.ta;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
@@ -24,6 +26,21 @@ public interface IOddsCalculator {
       final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
       final Collection<Unit> bombarding, final Collection<TerritoryEffect> territoryEffects, final int runCount);
 
+  /**
+   * Calculates the odds of each of the specified battles. The results are returned in the same order as the battles.
+   * Implementations may calculate independent battles in parallel; the default implementation calculates them one after
+   * another.
+   */
+  default List<AggregateResults> calculateAll(final List<BattleSpec> battles) {
+    final List<AggregateResults> results = new ArrayList<>(battles.size());
+    for (final BattleSpec battle : battles) {
+      results.add(setCalculateDataAndCalculate(battle.getAttacker(), battle.getDefender(), battle.getLocation(),
+          battle.getAttacking(), battle.getDefending(), battle.getBombarding(), battle.getTerritoryEffects(),
+          battle.getRunCount()));
+    }
+    return results;
+  }
+
   int getRunCount();
 
   boolean getIsReady();
@@ -38,6 +55,11 @@ public interface IOddsCalculator {
 
   void setRetreatWhenOnlyAirLeft(final boolean value);
 
+  /**
+   * Sets the precision at which calculations may stop before all runs are done, or {@code null} to always do all runs.
+   */
+  void setPrecision(final OddsPrecision precision);
+
   void setAttackerOrderOfLosses(final String attackerOrderOfLosses);
 
   void setDefenderOrderOfLosses(final String defenderOrderOfLosses);
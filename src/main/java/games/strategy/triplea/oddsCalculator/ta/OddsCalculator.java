@@ -11,6 +11,10 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
+import com.google.common.base.Strings;
+
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
@@ -49,7 +53,9 @@ import games.strategy.triplea.delegate.remote.IPurchaseDelegate;
 import games.strategy.triplea.delegate.remote.ITechDelegate;
 import games.strategy.triplea.ui.display.HeadlessDisplay;
 import games.strategy.triplea.ui.display.ITripleADisplay;
+import games.strategy.triplea.util.TuvUtils;
 import games.strategy.util.CollectionUtils;
+import games.strategy.util.IntegerMap;
 import games.strategy.util.Tuple;
 
 class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
@@ -76,6 +82,9 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
   private String attackerOrderOfLosses = null;
   private String defenderOrderOfLosses = null;
   private int runCount = 0;
+  private OddsPrecision precision = null;
+  // replaced the units at location with the units of the battle, undone before setting up the next battle
+  private Change calculateDataChange = null;
   private volatile boolean cancelled = false;
   private volatile boolean isDataSet = false;
   private volatile boolean isCalcSet = false;
@@ -103,6 +112,7 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     isCalcSet = false;
     gameData = (data == null ? null : GameDataUtils.cloneGameData(data, false));
     // reset old data
+    calculateDataChange = null;
     attacker = null;
     defender = null;
     location = null;
@@ -140,13 +150,47 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     defendingUnits = GameDataUtils.translateIntoOtherGameData(defending, gameData);
     bombardingUnits = GameDataUtils.translateIntoOtherGameData(bombarding, gameData);
     this.territoryEffects = GameDataUtils.translateIntoOtherGameData(territoryEffects, gameData);
-    gameData.performChange(ChangeFactory.removeUnits(this.location, this.location.getUnits().getUnits()));
-    gameData.performChange(ChangeFactory.addUnits(this.location, attackingUnits));
-    gameData.performChange(ChangeFactory.addUnits(this.location, defendingUnits));
+    undoCalculateData();
+    final Change change = new CompositeChange(
+        ChangeFactory.removeUnits(this.location, this.location.getUnits().getUnits()),
+        ChangeFactory.addUnits(this.location, attackingUnits),
+        ChangeFactory.addUnits(this.location, defendingUnits));
+    gameData.performChange(change);
+    calculateDataChange = change;
     this.runCount = runCount;
     isCalcSet = true;
   }
 
+  /**
+   * Restores the units that were at the location of the last battle before it was set up.
+   */
+  private void undoCalculateData() {
+    if (calculateDataChange != null) {
+      gameData.performChange(calculateDataChange.invert());
+      calculateDataChange = null;
+    }
+  }
+
+  /**
+   * Brings the copy of the game data held by this calculator up to date with the game data it was copied from, so
+   * that it does not have to be copied again. The specified change must hold all changes made to the original game
+   * data since it was copied or last updated. The battle must be set up again afterwards.
+   *
+   * <p>
+   * <strong>You should have the original game data's read lock before calling this method</strong>
+   * </p>
+   */
+  void updateGameData(final Change change, final GameData original) {
+    if (isRunning) {
+      throw new IllegalStateException("Called update game data while calculating");
+    }
+    isCalcSet = false;
+    undoCalculateData();
+    gameData.performChange(GameDataUtils.translateIntoOtherGameData(change, gameData));
+    // the round and step are advanced without changes
+    gameData.getSequence().setRoundAndStep(original.getSequence());
+  }
+
   @Override
   public AggregateResults setCalculateDataAndCalculate(final PlayerID attacker, final PlayerID defender,
       final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
@@ -160,10 +204,39 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     if (!getIsReady()) {
       throw new IllegalStateException("Called calculate before setting calculate data!");
     }
-    return calculate(runCount);
+    return calculate(precision == null ? null : new SequentialSample(precision));
+  }
+
+  /**
+   * Calculates odds like {@link #calculate()}, but stops early once the specified sample, which may be shared with
+   * other workers calculating the same battle, is precise enough.
+   */
+  AggregateResults calculate(final SequentialSample sample) {
+    if (!getIsReady()) {
+      throw new IllegalStateException("Called calculate before setting calculate data!");
+    }
+    final AggregateResults exactResults = calculateExactly();
+    if (exactResults != null) {
+      return exactResults;
+    }
+    return calculate(runCount, sample);
+  }
+
+  /**
+   * Returns the exact results of the battle if it is simple enough to be solved by {@link ExactBattleCalculator}
+   * with the current settings, or {@code null} if it must be simulated.
+   */
+  @Nullable AggregateResults calculateExactly() {
+    if (!getIsReady() || runCount <= 0 || keepOneAttackingLandUnit || amphibious || retreatAfterRound > -1
+        || retreatAfterXUnitsLeft > -1 || retreatWhenOnlyAirLeft || !bombardingUnits.isEmpty()
+        || !Strings.isNullOrEmpty(attackerOrderOfLosses) || !Strings.isNullOrEmpty(defenderOrderOfLosses)) {
+      return null;
+    }
+    return ExactBattleCalculator.calculate(gameData, attacker, defender, location, attackingUnits, defendingUnits,
+        territoryEffects);
   }
 
-  private AggregateResults calculate(final int count) {
+  private AggregateResults calculate(final int count, final SequentialSample sample) {
     isRunning = true;
     final long start = System.currentTimeMillis();
     final AggregateResults aggregateResults = new AggregateResults(count);
@@ -178,7 +251,11 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
         OddsCalculator.getUnitListByOrderOfLoss(this.attackerOrderOfLosses, attackingUnits, gameData);
     final List<Unit> defenderOrderOfLosses =
         OddsCalculator.getUnitListByOrderOfLoss(this.defenderOrderOfLosses, defendingUnits, gameData);
-    for (int i = 0; i < count && !cancelled; i++) {
+    final IntegerMap<UnitType> attackerCostsForTuv =
+        sample == null ? null : TuvUtils.getCostsForTuv(attacker, gameData);
+    final IntegerMap<UnitType> defenderCostsForTuv =
+        sample == null ? null : TuvUtils.getCostsForTuv(defender, gameData);
+    for (int i = 0; i < count && !cancelled && (sample == null || !sample.isPrecise()); i++) {
       final CompositeChange allChanges = new CompositeChange();
       final DummyDelegateBridge bridge1 =
           new DummyDelegateBridge(attacker, gameData, allChanges, attackerOrderOfLosses, defenderOrderOfLosses,
@@ -191,7 +268,12 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
           (amphibious ? attackingUnits : new ArrayList<>()), defender, territoryEffects);
       bridge1.setBattle(battle);
       battle.fight(bridge);
-      aggregateResults.addResult(new BattleResults(battle, gameData));
+      final BattleResults battleResults = new BattleResults(battle, gameData);
+      aggregateResults.addResult(battleResults);
+      if (sample != null) {
+        sample.add(battleResults.attackerWon(), AggregateResults.getTuvSwing(battleResults, attackingUnits,
+            defendingUnits, attackerCostsForTuv, defenderCostsForTuv));
+      }
       // restore the game to its original state
       gameData.performChange(allChanges.invert());
       battleTracker.clear();
@@ -243,6 +325,11 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     retreatWhenOnlyAirLeft = value;
   }
 
+  @Override
+  public void setPrecision(final OddsPrecision precision) {
+    this.precision = precision;
+  }
+
   @Override
   public void setAttackerOrderOfLosses(final String attackerOrderOfLosses) {
     this.attackerOrderOfLosses = attackerOrderOfLosses;
@@ -421,6 +421,8 @@ class OddsCalculatorPanel extends JPanel {
       setResultsToBlank();
     } else {
       attackerWin.setText(formatPercentage(results.get().getAttackerWinPercent()));
+      attackerWin.setToolTipText(
+          "95% confidence interval: +/- " + formatPercentage(results.get().getAttackerWinPercentMarginOfError()));
       defenderWin.setText(formatPercentage(results.get().getDefenderWinPercent()));
       draw.setText(formatPercentage(results.get().getDrawPercent()));
       final boolean isLand = isLand();
@@ -441,10 +443,12 @@ class OddsCalculatorPanel extends JPanel {
         data.acquireReadLock();
         averageChangeInTuv.setText("" + formatValue(results.get().getAverageTuvSwing(getAttacker(),
             mainCombatAttackers, getDefender(), mainCombatDefenders, data)));
+        averageChangeInTuv.setToolTipText("95% confidence interval: +/- " + formatValue(results.get()
+            .getTuvSwingMarginOfError(getAttacker(), mainCombatAttackers, getDefender(), mainCombatDefenders, data)));
       } finally {
         data.releaseReadLock();
       }
-      count.setText(results.get().getRollCount() + "");
+      count.setText(results.get().isExact() ? "exact" : results.get().getRollCount() + "");
       time.setText(formatValue(results.get().getTime() / 1000.0) + "s");
     }
   }
@@ -729,6 +733,7 @@ class OddsCalculatorPanel extends JPanel {
   private void setResultsToBlank() {
     final String blank = "------";
     attackerWin.setText(blank);
+    attackerWin.setToolTipText(null);
     defenderWin.setText(blank);
     draw.setText(blank);
     defenderLeft.setText(blank);
@@ -737,6 +742,7 @@ class OddsCalculatorPanel extends JPanel {
     attackerLeftWhenAttackerWon.setText(blank);
     roundsAverage.setText(blank);
     averageChangeInTuv.setText(blank);
+    averageChangeInTuv.setToolTipText(null);
     count.setText(blank);
     time.setText(blank);
   }
@@ -0,0 +1,84 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The precision an odds calculation must reach before it may stop ahead of its run count.
+ *
+ * <p>
+ * A calculation with a precision stops as soon as the 95% confidence intervals of both the attacker win percentage
+ * and the TUV swing are narrower than the requested tolerances, or as soon as the confidence interval of the attacker
+ * win percentage lies completely above or below the win percentage threshold. Win percentages are fractions between
+ * 0 and 1, the same as {@link AggregateResults#getAttackerWinPercent()}.
+ * </p>
+ */
+public final class OddsPrecision {
+  /**
+   * The minimum number of runs before a calculation may stop early.
+   */
+  static final int MIN_RUN_COUNT = 16;
+  /**
+   * The number of runs between two checks of the confidence intervals. Checking after every run would make it likely
+   * to stop on a lucky streak.
+   */
+  static final int CHECK_INTERVAL = 8;
+
+  private final double winPercentTolerance;
+  private final double tuvSwingTolerance;
+  private final double winPercentThreshold;
+
+  /**
+   * Creates a precision without a win percentage threshold.
+   *
+   * @param winPercentTolerance The maximum half-width of the confidence interval of the attacker win percentage.
+   * @param tuvSwingTolerance The maximum half-width of the confidence interval of the TUV swing.
+   */
+  public OddsPrecision(final double winPercentTolerance, final double tuvSwingTolerance) {
+    this(winPercentTolerance, tuvSwingTolerance, Double.NaN);
+  }
+
+  /**
+   * Creates a precision with a win percentage threshold.
+   *
+   * @param winPercentTolerance The maximum half-width of the confidence interval of the attacker win percentage.
+   * @param tuvSwingTolerance The maximum half-width of the confidence interval of the TUV swing.
+   * @param winPercentThreshold The attacker win percentage a decision depends on, or {@link Double#NaN} if there is
+   *        no such threshold.
+   */
+  public OddsPrecision(final double winPercentTolerance, final double tuvSwingTolerance,
+      final double winPercentThreshold) {
+    checkArgument(winPercentTolerance >= 0, "win percent tolerance must not be negative");
+    checkArgument(tuvSwingTolerance >= 0, "TUV swing tolerance must not be negative");
+    checkArgument(Double.isNaN(winPercentThreshold) || (winPercentThreshold >= 0 && winPercentThreshold <= 1),
+        "win percent threshold must be between 0 and 1");
+
+    this.winPercentTolerance = winPercentTolerance;
+    this.tuvSwingTolerance = tuvSwingTolerance;
+    this.winPercentThreshold = winPercentThreshold;
+  }
+
+  public double getWinPercentTolerance() {
+    return winPercentTolerance;
+  }
+
+  public double getTuvSwingTolerance() {
+    return tuvSwingTolerance;
+  }
+
+  public double getWinPercentThreshold() {
+    return winPercentThreshold;
+  }
+
+  boolean isReached(final int runCount, final double winPercent, final double winPercentMarginOfError,
+      final double tuvSwingMarginOfError) {
+    if (runCount < MIN_RUN_COUNT) {
+      return false;
+    }
+    if (winPercentMarginOfError <= winPercentTolerance && tuvSwingMarginOfError <= tuvSwingTolerance) {
+      return true;
+    }
+    return !Double.isNaN(winPercentThreshold)
+        && (winPercent - winPercentMarginOfError > winPercentThreshold
+            || winPercent + winPercentMarginOfError < winPercentThreshold);
+  }
+}
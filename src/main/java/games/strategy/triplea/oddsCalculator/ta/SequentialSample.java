@@ -0,0 +1,73 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+/**
+ * Collects the outcomes of the runs of an odds calculation with an {@link OddsPrecision} and decides when the
+ * calculation may stop. A single instance may be shared by all workers calculating the same battle.
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+final class SequentialSample {
+  /**
+   * The standard normal quantile of a two-sided 95% confidence interval.
+   */
+  private static final double Z = 1.96;
+
+  private final OddsPrecision precision;
+  private int runCount;
+  private int attackerWins;
+  private double tuvSwingSum;
+  private double tuvSwingSumOfSquares;
+  private volatile boolean isPrecise = false;
+
+  SequentialSample(final OddsPrecision precision) {
+    this.precision = precision;
+  }
+
+  synchronized void add(final boolean attackerWon, final double tuvSwing) {
+    runCount++;
+    if (attackerWon) {
+      attackerWins++;
+    }
+    tuvSwingSum += tuvSwing;
+    tuvSwingSumOfSquares += tuvSwing * tuvSwing;
+    if (runCount % OddsPrecision.CHECK_INTERVAL == 0) {
+      isPrecise = precision.isReached(runCount, getAdjustedWinPercent(attackerWins, runCount),
+          getWinPercentMarginOfError(attackerWins, runCount),
+          getMeanMarginOfError(tuvSwingSum, tuvSwingSumOfSquares, runCount));
+    }
+  }
+
+  boolean isPrecise() {
+    return isPrecise;
+  }
+
+  /**
+   * Returns the center of the Agresti-Coull interval of a win percentage. Unlike the observed win percentage, it does
+   * not claim certainty after a handful of runs that were all won or all lost.
+   */
+  static double getAdjustedWinPercent(final int wins, final int runCount) {
+    return (wins + Z * Z / 2) / (runCount + Z * Z);
+  }
+
+  /**
+   * Returns the half-width of the 95% Agresti-Coull confidence interval of a win percentage.
+   */
+  static double getWinPercentMarginOfError(final int wins, final int runCount) {
+    final double adjustedWinPercent = getAdjustedWinPercent(wins, runCount);
+    return Z * Math.sqrt(adjustedWinPercent * (1 - adjustedWinPercent) / (runCount + Z * Z));
+  }
+
+  /**
+   * Returns the half-width of the 95% confidence interval of the mean of a sample, or infinity if the sample is too
+   * small to estimate its variance.
+   */
+  static double getMeanMarginOfError(final double sum, final double sumOfSquares, final int count) {
+    if (count < 2) {
+      return Double.POSITIVE_INFINITY;
+    }
+    final double variance = Math.max(0, (sumOfSquares - sum * sum / count) / (count - 1));
+    return Z * Math.sqrt(variance / count);
+  }
+}
@@ -18,6 +18,7 @@ import com.google.common.base.Strings;
 import games.strategy.debug.ClientLogger;
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.framework.system.SystemProperties;
+import games.strategy.triplea.image.ImageCache;
 
 /**
  * List of settings that can be adjusted and stored with a Client's OS. On windows this would be the registry,
@@ -60,6 +61,8 @@ public enum ClientSetting implements GameSetting {
 
   FASTER_ARROW_KEY_SCROLL_MULTIPLIER(2),
 
+  IMAGE_CACHE_MAX_SIZE_MB(ImageCache.getDefaultMaxSizeInMegabytes()),
+
   SPACE_BAR_CONFIRMS_CASUALTIES(true),
 
   LOBBY_LAST_USED_HOST,
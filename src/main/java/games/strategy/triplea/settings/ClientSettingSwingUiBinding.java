@@ -68,6 +68,12 @@ enum ClientSettingSwingUiBinding implements GameSettingUiBinding<JComponent> {
       "When set to true casualty confirmation can be accepted by pressing space bar.\n"
           + "When set to false, the confirm casualty button has to always be clicked."),
 
+  IMAGE_CACHE_MAX_SIZE_BINDING(
+      "Image Cache Size",
+      SettingType.GAME,
+      SelectionComponentFactory.intValueRange(ClientSetting.IMAGE_CACHE_MAX_SIZE_MB, 64, 16384),
+      "Maximum memory (in megabytes) used to keep map and unit images, restart to take effect"),
+
   LOOK_AND_FEEL_PREF_BINDING(
       "Look and Feel",
       SettingType.LOOK_AND_FEEL,
@@ -27,9 +27,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -49,9 +46,12 @@ import games.strategy.engine.data.events.TerritoryListener;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.TripleAUnit;
 import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.image.ImageCache;
+import games.strategy.triplea.ui.screen.BackgroundTileDrawer;
 import games.strategy.triplea.ui.screen.SmallMapImageManager;
 import games.strategy.triplea.ui.screen.Tile;
 import games.strategy.triplea.ui.screen.TileManager;
+import games.strategy.triplea.ui.screen.TilePrefetcher;
 import games.strategy.triplea.ui.screen.UnitsDrawer;
 import games.strategy.triplea.ui.screen.drawable.IDrawable.OptionalExtraBorderLevel;
 import games.strategy.triplea.util.Stopwatch;
@@ -82,16 +82,13 @@ public class MapPanel extends ImageScrollerLargeView {
   // units the mouse is currently over
   private Tuple<Territory, List<Unit>> currentUnits;
   private final SmallMapImageManager smallMapImageManager;
-  // keep a reference to the images from the last paint to
-  // prevent them from being gcd
-  private final List<Tile> images = new ArrayList<>();
   private RouteDescription routeDescription;
   private final TileManager tileManager;
-  private final BackgroundDrawer backgroundDrawer;
+  private final BackgroundTileDrawer backgroundDrawer;
+  private final TilePrefetcher tilePrefetcher;
   private BufferedImage mouseShadowImage = null;
   private String movementLeftForCurrentUnits = "";
   private final UiContext uiContext;
-  private final LinkedBlockingQueue<Tile> undrawnTiles = new LinkedBlockingQueue<>();
   private Map<Territory, List<Unit>> highlightedUnits;
   private Cursor hiddenCursor = null;
   private final MapRouteDrawer routeDrawer;
@@ -105,11 +102,11 @@ public class MapPanel extends ImageScrollerLargeView {
     routeDrawer = new MapRouteDrawer(this, uiContext.getMapData());
     setCursor(this.uiContext.getCursor());
     this.scale = this.uiContext.getScale();
-    this.backgroundDrawer = new BackgroundDrawer(this);
+    this.backgroundDrawer = new BackgroundTileDrawer("Map panel background drawer", this::drawTileInBackground);
     this.tileManager = new TileManager(this.uiContext);
-    final Thread t = new Thread(this.backgroundDrawer, "Map panel background drawer");
-    t.setDaemon(true);
-    t.start();
+    this.tilePrefetcher = new TilePrefetcher("Map panel tile prefetcher", this.tileManager,
+        tile -> this.uiContext.getTileImageFactory().prefetchTile(tile.getX(), tile.getY()),
+        ImageCache.getInstance().getMaxBytes());
     setDoubleBuffered(false);
     this.smallView = smallView;
     this.smallMapImageManager =
@@ -218,13 +215,21 @@ public class MapPanel extends ImageScrollerLargeView {
     this.uiContext.addActive(() -> {
       // super.deactivate
       MapPanel.this.deactivate();
-      clearUndrawn();
       backgroundDrawer.stop();
+      tilePrefetcher.stop();
+      tileManager.releaseTileImages();
     });
   }
 
-  LinkedBlockingQueue<Tile> getUndrawnTiles() {
-    return undrawnTiles;
+  private void drawTileInBackground(final Tile tile) {
+    final GameData data = gameData;
+    data.acquireReadLock();
+    try {
+      tile.getImage(data, uiContext.getMapData());
+    } finally {
+      data.releaseReadLock();
+    }
+    SwingUtilities.invokeLater(this::repaint);
   }
 
   private void recreateTiles(final GameData data, final UiContext uiContext) {
@@ -393,6 +398,7 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 
   public void resetMap() {
+    uiContext.getUnitImageFactory().preloadImages(gameData);
     tileManager.resetTiles(gameData, uiContext.getMapData());
     SwingUtilities.invokeLater(this::repaint);
     initSmallMap();
@@ -432,7 +438,9 @@ public class MapPanel extends ImageScrollerLargeView {
     gameData = data;
     gameData.addTerritoryListener(territoryListener);
     gameData.addDataChangeListener(techUpdateListener);
-    clearUndrawn();
+    backgroundDrawer.cancel();
+    tilePrefetcher.cancel();
+    uiContext.getUnitImageFactory().preloadImages(gameData);
     tileManager.resetTiles(gameData, uiContext.getMapData());
   }
 
@@ -533,8 +541,8 @@ public class MapPanel extends ImageScrollerLargeView {
     g2d.clip(new Rectangle2D.Double(0, 0, (getImageWidth() * scale), (getImageHeight() * scale)));
     int x = model.getX();
     int y = model.getY();
-    final List<Tile> images = new ArrayList<>();
     final List<Tile> undrawnTiles = new ArrayList<>();
+    final List<Tile> visibleTiles = new ArrayList<>();
     final Stopwatch stopWatch = new Stopwatch(logger, Level.FINER, "Paint");
     // make sure we use the same data for the entire paint
     final GameData data = gameData;
@@ -553,21 +561,21 @@ public class MapPanel extends ImageScrollerLargeView {
         if (fitAxisY && y < 0) {
           final Rectangle2D.Double leftUpperBounds =
               new Rectangle2D.Double(model.getMaxWidth() + x, model.getMaxHeight() + y, -x, -y);
-          drawTiles(g2d, images, data, leftUpperBounds, undrawnTiles);
+          drawTiles(g2d, data, leftUpperBounds, undrawnTiles, visibleTiles);
         }
         final Rectangle2D.Double leftBounds =
             new Rectangle2D.Double(model.getMaxWidth() + x, y, -x, getScaledHeight());
-        drawTiles(g2d, images, data, leftBounds, undrawnTiles);
+        drawTiles(g2d, data, leftBounds, undrawnTiles, visibleTiles);
       }
       if (fitAxisY && y < 0) {
         final Rectangle2D.Double upperBounds =
             new Rectangle2D.Double(x, model.getMaxHeight() + y, getScaledWidth(), -y);
-        drawTiles(g2d, images, data, upperBounds, undrawnTiles);
+        drawTiles(g2d, data, upperBounds, undrawnTiles, visibleTiles);
       }
     }
     // handle non overlap
     final Rectangle2D.Double mainBounds = new Rectangle2D.Double(x, y, getScaledWidth(), getScaledHeight());
-    drawTiles(g2d, images, data, mainBounds, undrawnTiles);
+    drawTiles(g2d, data, mainBounds, undrawnTiles, visibleTiles);
     if (routeDescription != null && mouseShadowImage != null && routeDescription.getEnd() != null) {
       final AffineTransform t = new AffineTransform();
       t.translate(scale * normalizeX(routeDescription.getEnd().getX() - getXOffset()),
@@ -579,10 +587,6 @@ public class MapPanel extends ImageScrollerLargeView {
     if (routeDescription != null) {
       routeDrawer.drawRoute(g2d, routeDescription, movementLeftForCurrentUnits);
     }
-    // used to keep strong references to what is on the screen so it wont be garbage collected
-    // other references to the images are weak references
-    this.images.clear();
-    this.images.addAll(images);
     if (highlightedUnits != null) {
       for (final Entry<Territory, List<Unit>> entry : highlightedUnits.entrySet()) {
         final Set<UnitCategory> categories = UnitSeperator.categorize(entry.getValue());
@@ -607,33 +611,22 @@ public class MapPanel extends ImageScrollerLargeView {
         }
       }
     }
-    // draw the tiles nearest us first
-    // then draw farther away
-    updateUndrawnTiles(undrawnTiles, 30, true);
-    updateUndrawnTiles(undrawnTiles, 257, true);
-    // when we are this far away, dont force the tiles to stay in memroy
-    updateUndrawnTiles(undrawnTiles, 513, false);
-    updateUndrawnTiles(undrawnTiles, 767, false);
-    clearUndrawn();
-    this.undrawnTiles.addAll(undrawnTiles);
+    // only the images of tiles that are off screen may be evicted
+    tileManager.pinTileImages(visibleTiles);
+    // draw the visible tiles first
+    // then the tiles nearest us, then farther away
+    updateUndrawnTiles(undrawnTiles, 30);
+    updateUndrawnTiles(undrawnTiles, 257);
+    updateUndrawnTiles(undrawnTiles, 513);
+    updateUndrawnTiles(undrawnTiles, 767);
+    // tiles that are no longer near the viewport are dropped from the queue
+    backgroundDrawer.schedule(undrawnTiles);
+    // decode the tiles we are scrolling towards before they become visible
+    tilePrefetcher.update(new Rectangle2D.Double(model.getX(), model.getY(), getScaledWidth(), getScaledHeight()),
+        model.getVelocityX(), model.getVelocityY());
     stopWatch.done();
   }
 
-  private void clearUndrawn() {
-    for (int i = 0; i < 3; i++) {
-      try {
-        // several bug reports indicate that
-        // clear can throw an exception
-        // http://sourceforge.net/tracker/index.php?func=detail&aid=1832130&group_id=44492&atid=439737
-        // ignore
-        undrawnTiles.clear();
-        return;
-      } catch (final Exception e) {
-        e.printStackTrace(System.out);
-      }
-    }
-  }
-
   private boolean mapWidthFitsOnScreen() {
     return model.getMaxWidth() < getScaledWidth();
   }
@@ -643,30 +636,26 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 
   /**
-   * If we have nothing left undrawn, draw the tiles within preDrawMargin of us, optionally
-   * forcing the tiles to remain in memory.
+   * Queues the dirty tiles within preDrawMargin of us behind the tiles already queued.
    */
-  private void updateUndrawnTiles(final List<Tile> undrawnTiles, final int preDrawMargin, final boolean forceInMemory) {
-    // draw tiles near us if we have nothing left to draw
+  private void updateUndrawnTiles(final List<Tile> undrawnTiles, final int preDrawMargin) {
+    // draw tiles near us once the visible tiles are drawn
     // that way when we scroll slowly we wont notice a glitch
-    if (undrawnTiles.isEmpty()) {
-      final Rectangle2D extendedBounds = new Rectangle2D.Double(Math.max(model.getX() - preDrawMargin, 0),
-          Math.max(model.getY() - preDrawMargin, 0), getScaledWidth() + (2 * preDrawMargin),
-          getScaledHeight() + (2 * preDrawMargin));
-      final List<Tile> tileList = tileManager.getTiles(extendedBounds);
-      for (final Tile tile : tileList) {
-        if (tile.isDirty()) {
-          undrawnTiles.add(tile);
-        } else if (forceInMemory) {
-          images.add(tile);
-        }
+    final Rectangle2D extendedBounds = new Rectangle2D.Double(Math.max(model.getX() - preDrawMargin, 0),
+        Math.max(model.getY() - preDrawMargin, 0), getScaledWidth() + (2 * preDrawMargin),
+        getScaledHeight() + (2 * preDrawMargin));
+    final List<Tile> tileList = tileManager.getTiles(extendedBounds);
+    for (final Tile tile : tileList) {
+      if (tile.isDirty()) {
+        undrawnTiles.add(tile);
       }
     }
   }
 
-  private void drawTiles(final Graphics2D g, final List<Tile> images, final GameData data, Rectangle2D.Double bounds,
-      final List<Tile> undrawn) {
+  private void drawTiles(final Graphics2D g, final GameData data, Rectangle2D.Double bounds,
+      final List<Tile> undrawn, final List<Tile> visible) {
     final List<Tile> tileList = tileManager.getTiles(bounds);
+    visible.addAll(tileList);
     bounds = new Rectangle2D.Double(bounds.getX(), bounds.getY(), bounds.getHeight(), bounds.getWidth());
     for (final Tile tile : tileList) {
       final Image img;
@@ -678,7 +667,6 @@ public class MapPanel extends ImageScrollerLargeView {
           img = tile.getRawImage();
         } else {
           img = tile.getImage(data, uiContext.getMapData());
-          images.add(tile);
         }
         if (img != null) {
           final AffineTransform t = new AffineTransform();
@@ -822,44 +810,4 @@ public class MapPanel extends ImageScrollerLargeView {
   Optional<Image> getWarningImage() {
     return uiContext.getMapData().getWarningImage();
   }
-
-  private static final class BackgroundDrawer implements Runnable {
-    private MapPanel mapPanel;
-
-    BackgroundDrawer(final MapPanel panel) {
-      mapPanel = panel;
-    }
-
-    void stop() {
-      // the thread will eventually wake up and notice we are done
-      mapPanel = null;
-    }
-
-    @Override
-    public void run() {
-      while (mapPanel != null) {
-        final BlockingQueue<Tile> undrawnTiles;
-        final MapPanel panel = mapPanel;
-        undrawnTiles = panel.getUndrawnTiles();
-        final Tile tile;
-        try {
-          tile = undrawnTiles.poll(2000, TimeUnit.MILLISECONDS);
-        } catch (final InterruptedException e) {
-          Thread.currentThread().interrupt();
-          continue;
-        }
-        if (tile == null) {
-          continue;
-        }
-        final GameData data = mapPanel.getData();
-        data.acquireReadLock();
-        try {
-          tile.getImage(data, mapPanel.getUiContext().getMapData());
-        } finally {
-          data.releaseReadLock();
-        }
-        SwingUtilities.invokeLater(mapPanel::repaint);
-      }
-    }
-  }
 }
@@ -21,6 +21,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -33,7 +34,6 @@ import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
-import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.TableCellRenderer;
@@ -125,31 +125,43 @@ public class ObjectivePanel extends AbstractStatPanel {
     final JScrollPane scroll = new JScrollPane(table);
     final JButton refresh = new JButton("Refresh Objectives");
     refresh.setAlignmentY(Component.CENTER_ALIGNMENT);
-    refresh.addActionListener(SwingAction.of("Refresh Objectives", e -> {
-      objectiveModel.loadData();
-      SwingUtilities.invokeLater(() -> table.repaint());
-    }));
+    refresh.addActionListener(SwingAction.of("Refresh Objectives", e -> objectiveModel.refresh()));
     add(Box.createVerticalStrut(6));
     add(refresh);
     add(Box.createVerticalStrut(6));
     add(scroll);
   }
 
+  /**
+   * The conditions are tested on a background thread, and the table is updated with the result on the event dispatch
+   * thread.
+   */
   class ObjectiveTableModel extends AbstractTableModel implements GameDataChangeListener {
     private static final long serialVersionUID = 2259315408905271333L;
     private static final int COLUMNS_TOTAL = 2;
-    private boolean isDirty = true;
-    private String[][] collectedData;
+    // do not refresh too often, or else it will slow the game down seriously
+    private static final long UPDATE_INTERVAL_SECONDS = 10;
+    private final transient ThrottledUpdater<String[][]> updater =
+        new ThrottledUpdater<>(UPDATE_INTERVAL_SECONDS, TimeUnit.SECONDS, this::loadData, this::setCollectedData);
+    /* Underlying data for the table, replaced as a whole on the event dispatch thread */
+    private volatile String[][] collectedData = new String[0][];
     final Map<String, List<String>> sections = new LinkedHashMap<>();
-    private Instant timestamp = Instant.EPOCH;
 
     public ObjectiveTableModel() {
       setObjectiveStats();
       gameData.addDataChangeListener(this);
-      isDirty = true;
+      updater.updateOnlyWhileShowing(ObjectivePanel.this);
+      updater.requestUpdate();
     }
 
-    public void removeDataChangeListener() {
+    /**
+     * Tests the conditions again as soon as possible, even if they were tested recently.
+     */
+    void refresh() {
+      updater.requestImmediateUpdate();
+    }
+
+    public synchronized void removeDataChangeListener() {
       gameData.removeDataChangeListener(this);
     }
 
@@ -287,21 +299,17 @@ public class ObjectivePanel extends AbstractStatPanel {
     }
 
     @Override
-    public synchronized Object getValueAt(final int row, final int col) {
-      // do not refresh too often, or else it will slow the game down seriously
-      if (isDirty && timestamp.plusSeconds(10).isBefore(Instant.now())) {
-        loadData();
-        isDirty = false;
-        timestamp = Instant.now();
-      }
+    public Object getValueAt(final int row, final int col) {
       return collectedData[row][col];
     }
 
-    private synchronized void loadData() {
+    private synchronized String[][] loadData() {
+      // copy so acquire/release read lock are on the same object!
+      final GameData gameData = ObjectivePanel.this.gameData;
       gameData.acquireReadLock();
       try {
         final HashMap<ICondition, String> conditions = getConditionComment(getTestedConditions());
-        collectedData = new String[getRowTotal()][COLUMNS_TOTAL];
+        final String[][] collectedData = new String[getRowTotal()][COLUMNS_TOTAL];
         int row = 0;
         for (final Entry<String, Map<ICondition, String>> mapEntry : statsObjective.entrySet()) {
           collectedData[row][1] =
@@ -315,11 +323,17 @@ public class ObjectivePanel extends AbstractStatPanel {
           collectedData[row][1] = "--------------------";
           row++;
         }
+        return collectedData;
       } finally {
         gameData.releaseReadLock();
       }
     }
 
+    private void setCollectedData(final String[][] collectedData) {
+      this.collectedData = collectedData;
+      fireTableDataChanged();
+    }
+
     public HashMap<ICondition, String> getConditionComment(final HashMap<ICondition, Boolean> testedConditions) {
       final HashMap<ICondition, String> conditionsComments = new HashMap<>(testedConditions.size());
       for (final Entry<ICondition, Boolean> entry : testedConditions.entrySet()) {
@@ -371,10 +385,7 @@ public class ObjectivePanel extends AbstractStatPanel {
 
     @Override
     public void gameDataChanged(final Change change) {
-      synchronized (this) {
-        isDirty = true;
-      }
-      SwingUtilities.invokeLater(() -> repaint());
+      updater.requestUpdate();
     }
 
     @Override
@@ -388,17 +399,8 @@ public class ObjectivePanel extends AbstractStatPanel {
     }
 
     @Override
-    public synchronized int getRowCount() {
-      if (!isDirty) {
-        return collectedData.length;
-      }
-
-      gameData.acquireReadLock();
-      try {
-        return getRowTotal();
-      } finally {
-        gameData.releaseReadLock();
-      }
+    public int getRowCount() {
+      return collectedData.length;
     }
 
     private int getRowTotal() {
@@ -410,14 +412,11 @@ public class ObjectivePanel extends AbstractStatPanel {
     }
 
     public synchronized void setGameData(final GameData data) {
-      synchronized (this) {
-        gameData.removeDataChangeListener(this);
-        gameData = data;
-        setObjectiveStats();
-        gameData.addDataChangeListener(this);
-        isDirty = true;
-      }
-      repaint();
+      gameData.removeDataChangeListener(this);
+      gameData = data;
+      setObjectiveStats();
+      gameData.addDataChangeListener(this);
+      updater.requestImmediateUpdate();
     }
   }
 
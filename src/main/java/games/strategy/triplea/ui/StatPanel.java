@@ -10,6 +10,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import javax.swing.ImageIcon;
@@ -113,6 +114,14 @@ public class StatPanel extends AbstractStatPanel {
     techModel.gameDataChanged(null);
   }
 
+  /**
+   * Stops updating the stats when the game data changes.
+   */
+  public void removeDataChangeListener() {
+    dataModel.removeDataChangeListener();
+    techModel.removeDataChangeListener();
+  }
+
   public void setStatsBgImage(final Image image) {
     statsImage = image;
   }
@@ -164,19 +173,25 @@ public class StatPanel extends AbstractStatPanel {
   /**
    * Custom table model.
    * This model is thread safe.
+   *
+   * <p>
+   * The stats are computed on a background thread at most twice per second, however many changes are made to the game
+   * data, and the table is updated with the result on the event dispatch thread.
+   * </p>
    */
   class StatTableModel extends AbstractTableModel implements GameDataChangeListener {
     private static final long serialVersionUID = -6156153062049822444L;
-    /* Flag to indicate whether data needs to be recalculated */
-    private boolean isDirty = true;
-    /* Column Header Names */
-    /* Underlying data for the table */
-    private String[][] collectedData;
+    private static final long UPDATE_INTERVAL_MILLIS = 500;
+    private final transient ThrottledUpdater<String[][]> updater =
+        new ThrottledUpdater<>(UPDATE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS, this::loadData, this::setCollectedData);
+    /* Underlying data for the table, replaced as a whole on the event dispatch thread */
+    private volatile String[][] collectedData = new String[0][];
 
     public StatTableModel() {
       setStatCollums();
       gameData.addDataChangeListener(this);
-      isDirty = true;
+      updater.updateOnlyWhileShowing(StatPanel.this);
+      updater.requestUpdate();
     }
 
     public void setStatCollums() {
@@ -194,12 +209,14 @@ public class StatPanel extends AbstractStatPanel {
       }
     }
 
-    private synchronized void loadData() {
+    private synchronized String[][] loadData() {
+      // copy so acquire/release read lock are on the same object!
+      final GameData gameData = StatPanel.this.gameData;
       gameData.acquireReadLock();
       try {
         final List<PlayerID> players = getPlayers();
         final Collection<String> alliances = getAlliances();
-        collectedData = new String[players.size() + alliances.size()][stats.length + 1];
+        final String[][] collectedData = new String[players.size() + alliances.size()][stats.length + 1];
         int row = 0;
         for (final PlayerID player : players) {
           collectedData[row][0] = player.getName();
@@ -215,29 +232,28 @@ public class StatPanel extends AbstractStatPanel {
           }
           row++;
         }
+        return collectedData;
       } finally {
         gameData.releaseReadLock();
       }
     }
 
+    private void setCollectedData(final String[][] collectedData) {
+      this.collectedData = collectedData;
+      fireTableDataChanged();
+    }
+
+    public synchronized void removeDataChangeListener() {
+      gameData.removeDataChangeListener(this);
+    }
+
     @Override
     public void gameDataChanged(final Change change) {
-      synchronized (this) {
-        isDirty = true;
-      }
-      SwingUtilities.invokeLater(() -> repaint());
+      updater.requestUpdate();
     }
 
-    /*
-     * Recalcs the underlying data in a lazy manner Limitation: This is not
-     * a threadsafe implementation
-     */
     @Override
-    public synchronized Object getValueAt(final int row, final int col) {
-      if (isDirty) {
-        loadData();
-        isDirty = false;
-      }
+    public Object getValueAt(final int row, final int col) {
       return collectedData[row][col];
     }
 
@@ -256,30 +272,15 @@ public class StatPanel extends AbstractStatPanel {
     }
 
     @Override
-    public synchronized int getRowCount() {
-      if (!isDirty) {
-        return collectedData.length;
-      }
-
-      // no need to recalculate all the stats just to get the row count
-      // getting the row count is a fairly frequent operation, and will
-      // happen even if we are not displayed!
-      gameData.acquireReadLock();
-      try {
-        return gameData.getPlayerList().size() + getAlliances().size();
-      } finally {
-        gameData.releaseReadLock();
-      }
+    public int getRowCount() {
+      return collectedData.length;
     }
 
     public synchronized void setGameData(final GameData data) {
-      synchronized (this) {
-        gameData.removeDataChangeListener(this);
-        gameData = data;
-        gameData.addDataChangeListener(this);
-        isDirty = true;
-      }
-      repaint();
+      gameData.removeDataChangeListener(this);
+      gameData = data;
+      gameData.addDataChangeListener(this);
+      updater.requestUpdate();
     }
   }
 
@@ -428,6 +429,10 @@ public class StatPanel extends AbstractStatPanel {
       SwingUtilities.invokeLater(() -> repaint());
     }
 
+    public void removeDataChangeListener() {
+      gameData.removeDataChangeListener(this);
+    }
+
     public void setGameData(final GameData data) {
       gameData.removeDataChangeListener(this);
       gameData = data;
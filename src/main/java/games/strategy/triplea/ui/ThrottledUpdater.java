@@ -0,0 +1,162 @@
+package games.strategy.triplea.ui;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.awt.Component;
+import java.awt.event.HierarchyEvent;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.debug.ClientLogger;
+
+/**
+ * Computes a value on a background thread whenever an update is requested, but at most once per interval, and
+ * publishes the result on the event dispatch thread.
+ *
+ * <p>
+ * Any number of update requests made while an update is pending are coalesced into that update. A request made while
+ * the value is being computed schedules another update, so the last published value always reflects the last request.
+ * All updaters share a single daemon thread, so computations never run concurrently with each other.
+ * </p>
+ *
+ * <p>
+ * While the updater is inactive, for example because the component showing the value is hidden, update requests are
+ * only remembered, and a single update runs as soon as the updater is activated again.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+final class ThrottledUpdater<T> {
+  private static final ScheduledExecutorService sharedExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+    final Thread thread = new Thread(r, "Stat panel updater");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final ScheduledExecutorService executor;
+  private final Executor publishExecutor;
+  private final long intervalNanos;
+  private final Supplier<T> computation;
+  private final Consumer<T> publisher;
+  private final AtomicBoolean updatePending = new AtomicBoolean();
+  private volatile long lastUpdateNanos;
+  // guarded by this
+  private boolean active = true;
+  private boolean updateRequestedWhileInactive = false;
+
+  /**
+   * Creates a new updater.
+   *
+   * @param interval The minimum time between the start of two updates.
+   * @param unit The unit of {@code interval}.
+   * @param computation Computes the value; called on a background thread.
+   * @param publisher Receives the computed value; called on the event dispatch thread.
+   */
+  ThrottledUpdater(final long interval, final TimeUnit unit, final Supplier<T> computation,
+      final Consumer<T> publisher) {
+    this(sharedExecutor, SwingUtilities::invokeLater, interval, unit, computation, publisher);
+  }
+
+  @VisibleForTesting
+  ThrottledUpdater(final ScheduledExecutorService executor, final Executor publishExecutor, final long interval,
+      final TimeUnit unit, final Supplier<T> computation, final Consumer<T> publisher) {
+    checkNotNull(executor);
+    checkNotNull(publishExecutor);
+    checkArgument(interval >= 0, "interval must not be negative");
+    checkNotNull(unit);
+    checkNotNull(computation);
+    checkNotNull(publisher);
+
+    this.executor = executor;
+    this.publishExecutor = publishExecutor;
+    intervalNanos = unit.toNanos(interval);
+    this.computation = computation;
+    this.publisher = publisher;
+    lastUpdateNanos = System.nanoTime() - intervalNanos;
+  }
+
+  /**
+   * Only updates while the specified component is showing, and updates once when it is shown if an update was
+   * requested while it was hidden.
+   */
+  void updateOnlyWhileShowing(final Component component) {
+    checkNotNull(component);
+    component.addHierarchyListener(e -> {
+      if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+        setActive(component.isShowing());
+      }
+    });
+    setActive(component.isShowing());
+  }
+
+  /**
+   * Activates or deactivates this updater. Activating it immediately runs a single update if any updates were requested
+   * while it was inactive, because the published value may be arbitrarily old by then.
+   */
+  synchronized void setActive(final boolean active) {
+    this.active = active;
+    if (active && updateRequestedWhileInactive) {
+      updateRequestedWhileInactive = false;
+      requestImmediateUpdate();
+    }
+  }
+
+  private synchronized boolean deferIfInactive() {
+    if (!active) {
+      updateRequestedWhileInactive = true;
+    }
+    return !active;
+  }
+
+  /**
+   * Requests an update, which runs as soon as the interval since the start of the previous update has elapsed.
+   */
+  void requestUpdate() {
+    if (deferIfInactive()) {
+      return;
+    }
+    if (updatePending.compareAndSet(false, true)) {
+      final long delayNanos = Math.max(0, lastUpdateNanos + intervalNanos - System.nanoTime());
+      executor.schedule(this::update, delayNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Requests an update that runs immediately, regardless of the interval.
+   */
+  void requestImmediateUpdate() {
+    if (deferIfInactive()) {
+      return;
+    }
+    updatePending.set(true);
+    executor.execute(this::update);
+  }
+
+  private void update() {
+    // clear the flag before computing so changes made during the computation request another update
+    if (!updatePending.getAndSet(false)) {
+      return;
+    }
+    lastUpdateNanos = System.nanoTime();
+    final T value;
+    try {
+      value = computation.get();
+    } catch (final RuntimeException e) {
+      ClientLogger.logQuietly("Failed to update stats", e);
+      return;
+    }
+    publishExecutor.execute(() -> publisher.accept(value));
+  }
+}
@@ -29,6 +29,8 @@ import javax.swing.tree.DefaultTreeCellRenderer;
 import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.history.HistoryNode;
@@ -178,24 +180,37 @@ public class HistoryPanel extends JPanel {
       return;
     }
     final TreePath path = tree.getSelectionPath();
-    final TreeNode selected = (TreeNode) path.getLastPathComponent();
-    @SuppressWarnings("unchecked")
-    final Enumeration<TreeNode> nodeEnum =
-        ((DefaultMutableTreeNode) tree.getModel().getRoot()).depthFirstEnumeration();
-    TreeNode previous = null;
-    while (nodeEnum.hasMoreElements()) {
-      final TreeNode current = nodeEnum.nextElement();
-      if (current == selected) {
-        break;
-      } else if (current.getParent() instanceof Step) {
-        previous = current;
-      }
+    // walk backwards in depth first order from the selected node instead of enumerating the whole history
+    TreeNode previous = getDepthFirstPredecessor((TreeNode) path.getLastPathComponent());
+    while (previous != null && !(previous.getParent() instanceof Step)) {
+      previous = getDepthFirstPredecessor(previous);
     }
     if (previous != null) {
       navigateTo(previous);
     }
   }
 
+  /**
+   * Returns the node preceding the specified node in a depth first (postorder) enumeration of the tree, or null if
+   * the specified node is the first node of the enumeration.
+   */
+  @VisibleForTesting
+  static TreeNode getDepthFirstPredecessor(final TreeNode node) {
+    if (node.getChildCount() > 0) {
+      return node.getChildAt(node.getChildCount() - 1);
+    }
+    TreeNode current = node;
+    while (current.getParent() != null) {
+      final TreeNode parent = current.getParent();
+      final int index = parent.getIndex(current);
+      if (index > 0) {
+        return parent.getChildAt(index - 1);
+      }
+      current = parent;
+    }
+    return null;
+  }
+
   private void navigateTo(final TreeNode target) {
     final TreeNode[] nodes = ((DefaultMutableTreeNode) target).getPath();
     final TreePath newPath = new TreePath(nodes);
@@ -221,21 +236,10 @@ public class HistoryPanel extends JPanel {
       return;
     }
     final TreePath path = tree.getSelectionPath();
-    final TreeNode selected = (TreeNode) path.getLastPathComponent();
-    @SuppressWarnings("unchecked")
-    final Enumeration<TreeNode> nodeEnum = ((DefaultMutableTreeNode) tree.getModel().getRoot()).preorderEnumeration();
-    TreeNode next = null;
-    boolean foundSelected = false;
-    while (nodeEnum.hasMoreElements()) {
-      final TreeNode current = nodeEnum.nextElement();
-      if (current == selected) {
-        foundSelected = true;
-      } else if (foundSelected) {
-        if (current.getParent() instanceof Step) {
-          next = current;
-          break;
-        }
-      }
+    // walk forwards in preorder from the selected node instead of enumerating the whole history
+    DefaultMutableTreeNode next = ((DefaultMutableTreeNode) path.getLastPathComponent()).getNextNode();
+    while (next != null && !(next.getParent() instanceof Step)) {
+      next = next.getNextNode();
     }
     if (next != null) {
       navigateTo(next);
@@ -14,7 +14,6 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,8 +32,10 @@ import games.strategy.engine.data.Territory;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.image.UnitImageFactory;
+import games.strategy.ui.SpatialGrid;
 import games.strategy.ui.Util;
 import games.strategy.util.PointFileReaderWriter;
+import games.strategy.util.Tuple;
 
 /**
  * contains data about the territories useful for drawing.
@@ -86,11 +87,13 @@ public class MapData implements Closeable {
   private static final String TERRITORY_NAME_PLACE_FILE = "name_place.txt";
   private static final String KAMIKAZE_FILE = "kamikaze_place.txt";
   private static final String DECORATIONS_FILE = "decorations.txt";
+  private static final int POLYGON_GRID_CELL_SIZE = 128;
 
   private final DefaultColors defaultColors = new DefaultColors();
   private final Map<String, Color> playerColors = new HashMap<>();
   private Map<String, List<Point>> place;
   private Map<String, List<Polygon>> polys;
+  private SpatialGrid<Tuple<String, Polygon>> polygonGrid;
   private Map<String, Point> centers;
   private Map<String, Point> vcPlace;
   private Map<String, Point> blockadePlace;
@@ -164,6 +167,7 @@ public class MapData implements Closeable {
       }
 
       initializeContains();
+      initializePolygonGrid();
     } catch (final IOException ex) {
       ClientLogger.logQuietly("Failed to initialize map data", ex);
     }
@@ -432,6 +436,25 @@ public class MapData implements Closeable {
     }
   }
 
+  /**
+   * Indexes the bounding boxes of all territory polygons so that hit tests only need to check the polygons near the
+   * tested point. The grid covers the extent of all polygons, which for well formed maps is the map itself.
+   */
+  private void initializePolygonGrid() {
+    Rectangle extent = null;
+    for (final List<Polygon> polygons : polys.values()) {
+      for (final Polygon polygon : polygons) {
+        extent = (extent == null) ? polygon.getBounds() : extent.union(polygon.getBounds());
+      }
+    }
+    polygonGrid = new SpatialGrid<>((extent == null) ? new Rectangle() : extent, POLYGON_GRID_CELL_SIZE);
+    for (final Map.Entry<String, List<Polygon>> entry : polys.entrySet()) {
+      for (final Polygon polygon : entry.getValue()) {
+        polygonGrid.add(polygon.getBounds(), Tuple.of(entry.getKey(), polygon));
+      }
+    }
+  }
+
   public boolean getBooleanProperty(final String propertiesKey) {
     return Boolean.valueOf(mapProperties.getProperty(propertiesKey, "true"));
   }
@@ -452,7 +475,7 @@ public class MapData implements Closeable {
     return null;
   }
 
-  public Color getPlayerColor(final String playerName) {
+  public synchronized Color getPlayerColor(final String playerName) {
     // already loaded, just return
     if (playerColors.containsKey(playerName)) {
       return playerColors.get(playerName);
@@ -621,15 +644,13 @@ public class MapData implements Closeable {
     String seaName = null;
     // try to find a land territory.
     // sea zones often surround a land territory
-    for (final String name : polys.keySet()) {
-      final Collection<Polygon> polygons = polys.get(name);
-      for (final Polygon poly : polygons) {
-        if (poly.contains(x, y)) {
-          if (Util.isTerritoryNameIndicatingWater(name)) {
-            seaName = name;
-          } else {
-            return name;
-          }
+    for (final Tuple<String, Polygon> candidate : polygonGrid.getContaining(x, y)) {
+      final String name = candidate.getFirst();
+      if (candidate.getSecond().contains(x, y)) {
+        if (Util.isTerritoryNameIndicatingWater(name)) {
+          seaName = name;
+        } else {
+          return name;
         }
       }
     }
@@ -771,7 +792,7 @@ public class MapData implements Closeable {
     return territoryEffects.get(territory.getName());
   }
 
-  public Optional<Image> getTerritoryEffectImage(final String effectName) {
+  public synchronized Optional<Image> getTerritoryEffectImage(final String effectName) {
     // TODO: what does this cache buy us? should we still keep it?
     if (effectImages.get(effectName) != null) {
       return Optional.of(effectImages.get(effectName));
@@ -10,6 +10,7 @@ import games.strategy.debug.ErrorConsole;
 import games.strategy.engine.gamePlayer.IGamePlayer;
 import games.strategy.performance.EnablePerformanceLoggingCheckBox;
 import games.strategy.triplea.ai.proAI.ProAi;
+import games.strategy.triplea.image.ImageCache;
 import games.strategy.triplea.ui.TripleAFrame;
 import games.strategy.ui.SwingAction;
 
@@ -33,5 +34,10 @@ final class DebugMenu extends JMenu {
       ErrorConsole.showConsole();
       ErrorConsole.getConsole().append(DebugUtils.getMemory());
     })).setMnemonic(KeyEvent.VK_C);
+    add(SwingAction.of("Show Image Cache Statistics", e -> {
+      ErrorConsole.showConsole();
+      ErrorConsole.getConsole().append(ImageCache.getInstance().getStatistics());
+      ErrorConsole.getConsole().append(frame.getUiContext().getTileImageFactory().getPrefetchStatistics());
+    })).setMnemonic(KeyEvent.VK_I);
   }
 }
@@ -140,6 +140,8 @@ final class ExportMenu extends JMenu {
 
   private void createAndSaveStats(final boolean showPhaseStats) {
     final ExtendedStats statPanel = new ExtendedStats(gameData, uiContext);
+    // the stats are exported from the game data directly, so the panel does not need to follow the game
+    statPanel.removeDataChangeListener();
     final JFileChooser chooser = new JFileChooser();
     chooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
     final File rootDir = new File(SystemProperties.getUserDir());
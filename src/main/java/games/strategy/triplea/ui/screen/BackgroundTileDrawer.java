@@ -0,0 +1,144 @@
+package games.strategy.triplea.ui.screen;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import games.strategy.debug.ClientLogger;
+
+/**
+ * Draws dirty tiles on a bounded pool of background threads.
+ *
+ * <p>
+ * Tiles are drawn in the order in which they were last scheduled, so callers pass the tiles of the visible viewport
+ * first followed by the tiles surrounding it. Every call to {@link #schedule(Collection)} replaces the tiles that are
+ * still waiting to be drawn; tiles the user has scrolled away from are therefore dropped instead of delaying the ones
+ * now on screen. A tile that is currently being drawn is never handed to a second thread. Tiles lock themselves while
+ * drawing, so distinct tiles can safely be drawn concurrently.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+public final class BackgroundTileDrawer {
+  private final Consumer<Tile> drawer;
+  private final Object mutex = new Object();
+  private final Set<Tile> pendingTiles = new LinkedHashSet<>();
+  private final Set<Tile> tilesBeingDrawn = new HashSet<>();
+  private boolean stopped = false;
+
+  /**
+   * Creates and starts a new drawer with one thread per available processor.
+   *
+   * @param name The name of the drawer threads.
+   * @param drawer Draws a single tile; called concurrently from all drawer threads.
+   */
+  public BackgroundTileDrawer(final String name, final Consumer<Tile> drawer) {
+    this(name, Runtime.getRuntime().availableProcessors(), Thread.NORM_PRIORITY, drawer);
+  }
+
+  BackgroundTileDrawer(final String name, final int threadCount, final Consumer<Tile> drawer) {
+    this(name, threadCount, Thread.NORM_PRIORITY, drawer);
+  }
+
+  /**
+   * Creates and starts a new drawer.
+   *
+   * @param name The name of the drawer threads.
+   * @param threadCount The number of drawer threads.
+   * @param priority The priority of the drawer threads.
+   * @param drawer Draws a single tile; called concurrently from all drawer threads.
+   */
+  public BackgroundTileDrawer(final String name, final int threadCount, final int priority,
+      final Consumer<Tile> drawer) {
+    checkNotNull(name);
+    checkArgument(threadCount > 0, "threadCount must be positive");
+    checkArgument(priority >= Thread.MIN_PRIORITY && priority <= Thread.MAX_PRIORITY, "invalid priority");
+    checkNotNull(drawer);
+
+    this.drawer = drawer;
+    for (int i = 0; i < threadCount; i++) {
+      final Thread thread = new Thread(this::run, name + " " + (i + 1));
+      thread.setDaemon(true);
+      thread.setPriority(priority);
+      thread.start();
+    }
+  }
+
+  /**
+   * Replaces the tiles waiting to be drawn with the specified tiles, in order of decreasing priority.
+   */
+  public void schedule(final Collection<Tile> tiles) {
+    checkNotNull(tiles);
+
+    synchronized (mutex) {
+      pendingTiles.clear();
+      for (final Tile tile : tiles) {
+        if (!tilesBeingDrawn.contains(tile)) {
+          pendingTiles.add(tile);
+        }
+      }
+      mutex.notifyAll();
+    }
+  }
+
+  /**
+   * Drops all tiles waiting to be drawn. Tiles currently being drawn are completed.
+   */
+  public void cancel() {
+    synchronized (mutex) {
+      pendingTiles.clear();
+    }
+  }
+
+  /**
+   * Drops all tiles waiting to be drawn and stops the drawer threads once they complete their current tile.
+   */
+  public void stop() {
+    synchronized (mutex) {
+      stopped = true;
+      pendingTiles.clear();
+      mutex.notifyAll();
+    }
+  }
+
+  private void run() {
+    while (true) {
+      final Tile tile;
+      synchronized (mutex) {
+        while (!stopped && pendingTiles.isEmpty()) {
+          try {
+            mutex.wait();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+        }
+        if (stopped) {
+          return;
+        }
+        final Iterator<Tile> iterator = pendingTiles.iterator();
+        tile = iterator.next();
+        iterator.remove();
+        tilesBeingDrawn.add(tile);
+      }
+
+      try {
+        drawer.accept(tile);
+      } catch (final RuntimeException e) {
+        ClientLogger.logQuietly("Failed to draw tile at " + tile.getBounds(), e);
+      } finally {
+        synchronized (mutex) {
+          tilesBeingDrawn.remove(tile);
+        }
+      }
+    }
+  }
+}
@@ -1,21 +1,25 @@
 package games.strategy.triplea.ui.screen;
 
-import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Image;
+import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.Territory;
+import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.ui.mapdata.MapData;
-import games.strategy.triplea.ui.screen.drawable.LandTerritoryDrawable;
 import games.strategy.triplea.util.Stopwatch;
 import games.strategy.ui.ImageScrollerSmallView;
 import games.strategy.ui.Util;
@@ -26,6 +30,8 @@ public class SmallMapImageManager {
   private static final int UNIT_BOX_SIZE = 4;
   private Image offscreen;
   private final TileManager tileManager;
+  // the scaled down shapes of the land territories
+  private final Map<String, TerritoryThumbnail> thumbnails = new ConcurrentHashMap<>();
 
   public SmallMapImageManager(final ImageScrollerSmallView view, final BufferedImage offscreen,
       final TileManager tileManager) {
@@ -37,6 +43,7 @@ public class SmallMapImageManager {
   public void updateOffscreenImage(final BufferedImage offscreen) {
     this.offscreen.flush();
     this.offscreen = Util.copyImage(offscreen);
+    thumbnails.clear();
   }
 
   public void update(final MapData mapData) {
@@ -53,30 +60,52 @@ public class SmallMapImageManager {
     stopwatch.done();
   }
 
+  /**
+   * Recolours the specified territory on the small map with the color of its owner.
+   */
   public void updateTerritoryOwner(final Territory t, final GameData data, final MapData mapData) {
     if (t.isWater()) {
       return;
     }
+    final TerritoryThumbnail thumbnail = thumbnails.computeIfAbsent(t.getName(),
+        name -> newTerritoryThumbnail(mapData, data.getMap().getTerritory(name)));
+    final Image thumbImage = tint(thumbnail.mask, getTerritoryColor(t, mapData));
+    final Graphics g = offscreen.getGraphics();
+    // draw it on our offscreen
+    g.drawImage(thumbImage, thumbnail.x, thumbnail.y, null);
+    g.dispose();
+  }
+
+  private static Color getTerritoryColor(final Territory territory, final MapData mapData) {
+    final TerritoryAttachment ta = TerritoryAttachment.get(territory);
+    return (ta != null && ta.getIsImpassable())
+        ? mapData.impassableColor()
+        : mapData.getPlayerColor(territory.getOwner().getName());
+  }
+
+  /**
+   * Draws the specified territory in white with black borders and scales it down to the size of the small map. The
+   * result only depends on the shape of the territory, so it is computed once per territory and tinted with the color
+   * of the owner whenever the owner changes.
+   */
+  private TerritoryThumbnail newTerritoryThumbnail(final MapData mapData, final Territory t) {
     final Rectangle bounds = new Rectangle(mapData.getBoundingRect(t.getName()));
-    // create a large image for the territory
-    final Image largeImage = Util.createImage(bounds.width, bounds.height, true);
-    // make it transparent
-    // http://www-106.ibm.com/developerworks/library/j-begjava/
-    {
-      final Graphics2D g = (Graphics2D) largeImage.getGraphics();
-      g.setComposite(AlphaComposite.getInstance(AlphaComposite.CLEAR, 0.0f));
-      g.setColor(new Color(0));
-      g.fillRect(0, 0, bounds.width, bounds.height);
-      g.dispose();
-    }
+    // create a large transparent image for the territory
+    final BufferedImage largeImage = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB);
     // draw the territory
     {
-      final Graphics2D g = (Graphics2D) largeImage.getGraphics();
+      final Graphics2D g = largeImage.createGraphics();
       g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
       g.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
       g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-      final LandTerritoryDrawable drawable = new LandTerritoryDrawable(t.getName());
-      drawable.draw(bounds, data, g, mapData, null, null);
+      for (final Polygon polygon : mapData.getPolygons(t)) {
+        final Polygon translatedPolygon = new Polygon(polygon.xpoints, polygon.ypoints, polygon.npoints);
+        translatedPolygon.translate(-bounds.x, -bounds.y);
+        g.setColor(Color.WHITE);
+        g.fillPolygon(translatedPolygon);
+        g.setColor(Color.BLACK);
+        g.drawPolygon(translatedPolygon);
+      }
       g.dispose();
     }
     // scale it down
@@ -86,20 +115,48 @@ public class SmallMapImageManager {
     // the images wont overlap perfectly after being scaled, make them a little bigger to rebalance that
     thumbWidth += 3;
     thumbHeight += 3;
-    final int thumbsX = (int) (bounds.x * view.getRatioX()) - 1;
-    final int thumbsY = (int) (bounds.y * view.getRatioY()) - 1;
-    // create the thumb image
-    final Image thumbImage = Util.createImage(thumbWidth, thumbHeight, true);
+    final BufferedImage mask = new BufferedImage(thumbWidth, thumbHeight, BufferedImage.TYPE_INT_ARGB);
     {
-      final Graphics g = thumbImage.getGraphics();
-      g.drawImage(largeImage, 0, 0, thumbImage.getWidth(null), thumbImage.getHeight(null), null);
+      final Graphics g = mask.getGraphics();
+      g.drawImage(largeImage, 0, 0, thumbWidth, thumbHeight, null);
       g.dispose();
     }
-    {
-      final Graphics g = offscreen.getGraphics();
-      // draw it on our offscreen
-      g.drawImage(thumbImage, thumbsX, thumbsY, thumbImage.getWidth(null), thumbImage.getHeight(null), null);
-      g.dispose();
+    return new TerritoryThumbnail(mask, (int) (bounds.x * view.getRatioX()) - 1,
+        (int) (bounds.y * view.getRatioY()) - 1);
+  }
+
+  /**
+   * Returns a copy of the specified grayscale mask in which white is replaced by the specified color, black is kept
+   * and the shades in between, produced by scaling down the borders, are blended accordingly.
+   */
+  @VisibleForTesting
+  static BufferedImage tint(final BufferedImage mask, final Color color) {
+    final int width = mask.getWidth();
+    final int height = mask.getHeight();
+    final int[] pixels = mask.getRGB(0, 0, width, height, null, 0, width);
+    for (int i = 0; i < pixels.length; i++) {
+      final int pixel = pixels[i];
+      // the mask is gray, so all channels have the same value
+      final int shade = pixel & 0xFF;
+      final int red = color.getRed() * shade / 255;
+      final int green = color.getGreen() * shade / 255;
+      final int blue = color.getBlue() * shade / 255;
+      pixels[i] = (pixel & 0xFF000000) | (red << 16) | (green << 8) | blue;
+    }
+    final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    image.setRGB(0, 0, width, height, pixels, 0, width);
+    return image;
+  }
+
+  private static final class TerritoryThumbnail {
+    final BufferedImage mask;
+    final int x;
+    final int y;
+
+    TerritoryThumbnail(final BufferedImage mask, final int x, final int y) {
+      this.mask = mask;
+      this.x = x;
+      this.y = y;
     }
   }
 }
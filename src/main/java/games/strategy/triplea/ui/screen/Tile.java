@@ -9,18 +9,21 @@ import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.annotation.Nullable;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.thread.LockUtil;
+import games.strategy.triplea.image.ImageCache;
 import games.strategy.triplea.ui.mapdata.MapData;
 import games.strategy.triplea.ui.screen.drawable.DrawableComparator;
 import games.strategy.triplea.ui.screen.drawable.IDrawable;
@@ -32,9 +35,11 @@ public class Tile {
   private static final boolean DRAW_DEBUG = false;
   private static final Logger logger = Logger.getLogger(Tile.class.getName());
 
-  // allow the gc to implement memory management
-  private SoftReference<Image> imageRef;
+  // the image is pinned while the tile is on screen and may be evicted once it has been off screen for a while
+  private final ImageCache.Region imageCache;
   private boolean isDirty = true;
+  // the part of the tile that must be redrawn, in map coordinates, if the rest of the image is still valid
+  private @Nullable Rectangle dirtyArea;
   private final Rectangle bounds;
   private final int x;
   private final int y;
@@ -42,17 +47,18 @@ public class Tile {
   private final Lock lock = new ReentrantLock();
   private final List<IDrawable> contents = new ArrayList<>();
 
-  Tile(final Rectangle bounds, final int x, final int y, final double scale) {
+  Tile(final Rectangle bounds, final int x, final int y, final double scale, final ImageCache.Region imageCache) {
     this.bounds = bounds;
     this.x = x;
     this.y = y;
     this.scale = scale;
+    this.imageCache = imageCache;
   }
 
   public boolean isDirty() {
     acquireLock();
     try {
-      return isDirty || imageRef == null || imageRef.get() == null;
+      return isDirty || dirtyArea != null || imageCache.peek(this) == null;
     } finally {
       releaseLock();
     }
@@ -69,22 +75,18 @@ public class Tile {
   public Image getImage(final GameData data, final MapData mapData) {
     acquireLock();
     try {
-      if (imageRef == null) {
-        imageRef = new SoftReference<>(createBlankImage());
-        isDirty = true;
-      }
-      Image image = imageRef.get();
+      Image image = imageCache.get(this);
       if (image == null) {
         image = createBlankImage();
-        imageRef = new SoftReference<>(image);
+        imageCache.put(this, image);
         isDirty = true;
       }
-      if (isDirty) {
+      if (isDirty || dirtyArea != null) {
         final Graphics2D g = (Graphics2D) image.getGraphics();
         g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
         g.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION, RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
         g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-        draw(g, data, mapData);
+        draw(g, data, mapData, isDirty ? bounds : dirtyArea);
         g.dispose();
       }
       return image;
@@ -104,13 +106,15 @@ public class Tile {
    * @return the image we currently have.
    */
   public Image getRawImage() {
-    if (imageRef == null) {
-      return null;
-    }
-    return imageRef.get();
+    return imageCache.peek(this);
   }
 
-  private void draw(final Graphics2D g, final GameData data, final MapData mapData) {
+  /**
+   * Redraws the specified area of this tile; everything outside of it is left untouched.
+   *
+   * @param area The area to redraw in map coordinates, which must be contained in the bounds of this tile.
+   */
+  private void draw(final Graphics2D g, final GameData data, final MapData mapData, final Rectangle area) {
     final AffineTransform unscaled = g.getTransform();
     final AffineTransform scaled;
     if (scale != 1) {
@@ -120,15 +124,25 @@ public class Tile {
     } else {
       scaled = unscaled;
     }
-    final Stopwatch stopWatch = new Stopwatch(logger, Level.FINEST, "Drawing Tile at" + bounds);
+    final Stopwatch stopWatch = new Stopwatch(logger, Level.FINEST, "Drawing " + area + " of Tile at" + bounds);
+    final Rectangle relativeArea = new Rectangle(area.x - bounds.x, area.y - bounds.y, area.width, area.height);
+    g.clip(relativeArea);
     // clear
     g.setColor(Color.BLACK);
-    g.fill(new Rectangle(0, 0, TileManager.TILE_SIZE, TileManager.TILE_SIZE));
+    g.fill(relativeArea);
     Collections.sort(contents, new DrawableComparator());
+    final boolean isPartial = !area.contains(bounds);
     for (final IDrawable drawable : contents) {
+      if (isPartial) {
+        final Optional<Rectangle> drawableBounds = drawable.getBounds(data, mapData);
+        if (drawableBounds.isPresent() && !drawableBounds.get().intersects(area)) {
+          continue;
+        }
+      }
       drawable.draw(bounds, data, g, mapData, unscaled, scaled);
     }
     isDirty = false;
+    dirtyArea = null;
     // draw debug graphics
     if (DRAW_DEBUG) {
       g.setColor(Color.PINK);
@@ -151,6 +165,21 @@ public class Tile {
     }
   }
 
+  /**
+   * Adds the specified drawables, which only draw within the specified area, and marks that area as dirty.
+   *
+   * @param area The area in map coordinates or {@code null} to mark the whole tile as dirty.
+   */
+  void addDrawables(final Collection<IDrawable> drawables, final @Nullable Rectangle area) {
+    acquireLock();
+    try {
+      contents.addAll(drawables);
+      invalidate(area);
+    } finally {
+      releaseLock();
+    }
+  }
+
   void addDrawable(final IDrawable d) {
     acquireLock();
     try {
@@ -171,6 +200,33 @@ public class Tile {
     }
   }
 
+  /**
+   * Removes the specified drawables, which only drew within the specified area, and marks that area as dirty.
+   *
+   * @param area The area in map coordinates or {@code null} to mark the whole tile as dirty.
+   */
+  void removeDrawables(final Collection<IDrawable> c, final @Nullable Rectangle area) {
+    acquireLock();
+    try {
+      contents.removeAll(c);
+      invalidate(area);
+    } finally {
+      releaseLock();
+    }
+  }
+
+  private void invalidate(final @Nullable Rectangle area) {
+    if (area == null) {
+      isDirty = true;
+      return;
+    }
+    final Rectangle areaOnTile = area.intersection(bounds);
+    if (areaOnTile.isEmpty()) {
+      return;
+    }
+    dirtyArea = (dirtyArea == null) ? areaOnTile : dirtyArea.union(areaOnTile);
+  }
+
   void clear() {
     acquireLock();
     try {
@@ -18,12 +18,15 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.annotation.Nullable;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
@@ -31,6 +34,7 @@ import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.image.ImageCache;
 import games.strategy.triplea.ui.UiContext;
 import games.strategy.triplea.ui.mapdata.MapData;
 import games.strategy.triplea.ui.screen.TerritoryOverLayDrawable.Operation;
@@ -54,19 +58,26 @@ import games.strategy.triplea.ui.screen.drawable.TerritoryNameDrawable;
 import games.strategy.triplea.ui.screen.drawable.VcDrawable;
 import games.strategy.triplea.util.UnitCategory;
 import games.strategy.triplea.util.UnitSeperator;
+import games.strategy.ui.SpatialGrid;
 import games.strategy.ui.Util;
 import games.strategy.util.Tuple;
 
 public class TileManager {
   private static final Logger logger = Logger.getLogger(TileManager.class.getName());
   public static final int TILE_SIZE = 256;
+  // territory borders are stroked and may extend slightly beyond the bounding rectangle of the territory
+  private static final int TERRITORY_BORDER_MARGIN = 2;
 
   private List<Tile> tiles = new ArrayList<>();
+  private SpatialGrid<Tile> tileGrid = new SpatialGrid<>(new Rectangle(), TILE_SIZE);
   private final Lock lock = new ReentrantLock();
   private final Map<String, IDrawable> territoryOverlays = new HashMap<>();
   private final Map<String, Set<IDrawable>> territoryDrawables = new HashMap<>();
   private final Map<String, Set<Tile>> territoryTiles = new HashMap<>();
+  // the area on which the drawables of each territory draw
+  private final Map<String, Rectangle> territoryDrawingAreas = new HashMap<>();
   private final Collection<UnitsDrawer> allUnitDrawables = new ArrayList<>();
+  private final ImageCache.Region tileImages = ImageCache.getInstance().newRegion("Map tiles");
   private final UiContext uiContext;
 
   public TileManager(final UiContext uiContext) {
@@ -112,28 +123,12 @@ public class TileManager {
     }
     acquireLock();
     try {
-      final List<Tile> tilesInBounds = new ArrayList<>();
-      for (final Tile tile : tiles) {
-        final Rectangle tileBounds = tile.getBounds();
-        if (bounds.contains(tileBounds) || tileBounds.intersects(bounds)) {
-          tilesInBounds.add(tile);
-        }
-      }
+      final List<Tile> tilesInBounds = tileGrid.getIntersecting(bounds);
       if (boundsXshift != null) {
-        for (final Tile tile : tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsXshift.contains(tileBounds) || tileBounds.intersects(boundsXshift)) {
-            tilesInBounds.add(tile);
-          }
-        }
+        tilesInBounds.addAll(tileGrid.getIntersecting(boundsXshift));
       }
       if (boundsYshift != null) {
-        for (final Tile tile : tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsYshift.contains(tileBounds) || tileBounds.intersects(boundsYshift)) {
-            tilesInBounds.add(tile);
-          }
-        }
+        tilesInBounds.addAll(tileGrid.getIntersecting(boundsYshift));
       }
       return tilesInBounds;
     } finally {
@@ -163,10 +158,14 @@ public class TileManager {
     try {
       // create our tiles
       tiles = new ArrayList<>();
+      tileImages.clear();
+      tileGrid = new SpatialGrid<>(new Rectangle(bounds.getSize()), TILE_SIZE);
       for (int x = 0; (x) * TILE_SIZE < bounds.width; x++) {
         for (int y = 0; (y) * TILE_SIZE < bounds.height; y++) {
-          tiles.add(new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE), x, y,
-              uiContext.getScale()));
+          final Tile tile = new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE), x, y,
+              uiContext.getScale(), tileImages);
+          tiles.add(tile);
+          tileGrid.add(tile.getBounds(), tile);
         }
       }
     } finally {
@@ -174,6 +173,21 @@ public class TileManager {
     }
   }
 
+  /**
+   * Keeps the images of the specified tiles, which are on screen, from being evicted from the image cache, and allows
+   * the images of the tiles passed to the previous call to be evicted again.
+   */
+  public void pinTileImages(final Collection<Tile> tiles) {
+    tileImages.pinOnly(tiles);
+  }
+
+  /**
+   * Releases the images of all tiles. The images are drawn again the next time the tiles are painted.
+   */
+  public void releaseTileImages() {
+    tileImages.clear();
+  }
+
   public void resetTiles(final GameData data, final MapData mapData) {
     data.acquireReadLock();
     try {
@@ -258,10 +272,11 @@ public class TileManager {
     if (drawables == null || drawables.isEmpty()) {
       return;
     }
+    final Rectangle drawingArea = territoryDrawingAreas.get(territory.getName());
     final Iterator<Tile> tiles = territoryTiles.get(territory.getName()).iterator();
     while (tiles.hasNext()) {
       final Tile tile = tiles.next();
-      tile.removeDrawables(drawables);
+      tile.removeDrawables(drawables, drawingArea);
     }
     allUnitDrawables.removeAll(drawables);
   }
@@ -269,6 +284,7 @@ public class TileManager {
   private void drawTerritory(final Territory territory, final GameData data, final MapData mapData) {
     final Set<Tile> drawnOn = new HashSet<>();
     final Set<IDrawable> drawing = new HashSet<>();
+    final List<UnitsDrawer> unitDrawables = new ArrayList<>();
     if (territoryOverlays.get(territory.getName()) != null) {
       drawing.add(territoryOverlays.get(territory.getName()));
     }
@@ -276,7 +292,7 @@ public class TileManager {
       drawTerritoryEffects(territory, mapData, drawing);
     }
     if (uiContext.getShowUnits()) {
-      drawUnits(territory, mapData, drawnOn, drawing);
+      unitDrawables.addAll(drawUnits(territory, mapData, drawing));
     }
     drawing.add(new BattleDrawable(territory.getName()));
     final TerritoryAttachment ta = TerritoryAttachment.get(territory);
@@ -315,15 +331,45 @@ public class TileManager {
     if (ta != null && (ta.getVictoryCity() != 0)) {
       drawing.add(new VcDrawable(territory));
     }
+    final Rectangle drawingArea = getDrawingArea(territory, drawing, data, mapData);
     // add to the relevant tiles
+    for (final UnitsDrawer drawable : unitDrawables) {
+      final Point placementPoint = drawable.getPlacementPoint();
+      final Rectangle unitBounds = new Rectangle(placementPoint.x, placementPoint.y,
+          uiContext.getUnitImageFactory().getUnitImageWidth(), uiContext.getUnitImageFactory().getUnitImageHeight());
+      for (final Tile tile : getTiles(unitBounds)) {
+        tile.addDrawables(Collections.singleton(drawable), drawingArea);
+        drawnOn.add(tile);
+      }
+    }
     final Iterator<Tile> tiles = getTiles(mapData.getBoundingRect(territory.getName())).iterator();
     while (tiles.hasNext()) {
       final Tile tile = tiles.next();
       drawnOn.add(tile);
-      tile.addDrawables(drawing);
+      tile.addDrawables(drawing, drawingArea);
     }
     territoryDrawables.put(territory.getName(), drawing);
     territoryTiles.put(territory.getName(), drawnOn);
+    territoryDrawingAreas.put(territory.getName(), drawingArea);
+  }
+
+  /**
+   * Returns the area on which the drawables of the specified territory draw, or {@code null} if the area may wrap
+   * around the edge of the map, in which case the tiles the territory is drawn on are redrawn completely.
+   */
+  private static @Nullable Rectangle getDrawingArea(final Territory territory, final Collection<IDrawable> drawables,
+      final GameData data, final MapData mapData) {
+    final Rectangle drawingArea = mapData.getBoundingRect(territory);
+    drawingArea.grow(TERRITORY_BORDER_MARGIN, TERRITORY_BORDER_MARGIN);
+    for (final IDrawable drawable : drawables) {
+      final Optional<Rectangle> bounds = drawable.getBounds(data, mapData);
+      if (bounds.isPresent() && !bounds.get().isEmpty()) {
+        drawingArea.add(bounds.get());
+      }
+    }
+    final boolean wrapsAround = (mapData.scrollWrapX() || mapData.scrollWrapY())
+        && !new Rectangle(mapData.getMapDimensions()).contains(drawingArea);
+    return wrapsAround ? null : drawingArea;
   }
 
   private static void drawTerritoryEffects(final Territory territory, final MapData mapData,
@@ -336,12 +382,13 @@ public class TileManager {
     }
   }
 
-  private void drawUnits(final Territory territory, final MapData mapData, final Set<Tile> drawnOn,
+  private List<UnitsDrawer> drawUnits(final Territory territory, final MapData mapData,
       final Set<IDrawable> drawing) {
     final Iterator<Point> placementPoints = mapData.getPlacementPoints(territory).iterator();
     if (placementPoints == null || !placementPoints.hasNext()) {
       throw new IllegalStateException("No where to place units:" + territory.getName());
     }
+    final List<UnitsDrawer> unitDrawables = new ArrayList<>();
     Point lastPlace = null;
     final Iterator<UnitCategory> unitCategoryIter =
         UnitSeperator.categorize(territory.getUnits().getUnits()).iterator();
@@ -361,15 +408,9 @@ public class TileManager {
           category.getDisabled(), overflow, territory.getName(), uiContext);
       drawing.add(drawable);
       allUnitDrawables.add(drawable);
-      final Iterator<Tile> tiles =
-          getTiles(new Rectangle(lastPlace.x, lastPlace.y, uiContext.getUnitImageFactory().getUnitImageWidth(),
-              uiContext.getUnitImageFactory().getUnitImageHeight())).iterator();
-      while (tiles.hasNext()) {
-        final Tile tile = tiles.next();
-        tile.addDrawable(drawable);
-        drawnOn.add(tile);
-      }
+      unitDrawables.add(drawable);
     }
+    return unitDrawables;
   }
 
   public Image createTerritoryImage(final Territory t, final GameData data, final MapData mapData) {
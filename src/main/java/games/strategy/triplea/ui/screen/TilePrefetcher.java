@@ -0,0 +1,105 @@
+package games.strategy.triplea.ui.screen;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Prefetches the tiles the user is about to scroll to on a single low priority background thread.
+ *
+ * <p>
+ * The prefetched area is the viewport extended by one tile on every side and by the distance scrolled within the next
+ * second at the current scroll velocity. Tiles are prefetched in order of their distance from the center of the
+ * viewport as it will be after that second, so the tiles ahead of the scroll direction come first. The number of
+ * prefetched tiles is limited to a fraction of the image cache budget, so prefetching never evicts the images of the
+ * visible tiles.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ * </p>
+ */
+public final class TilePrefetcher {
+  private static final double LOOK_AHEAD_SECONDS = 1.0;
+  // a tile has a base and a relief image of at most 4 bytes per pixel
+  private static final long MAX_BYTES_PER_TILE = 2L * 4 * TileManager.TILE_SIZE * TileManager.TILE_SIZE;
+  private static final int CACHE_BUDGET_FRACTION = 4;
+
+  private final TileManager tileManager;
+  private final BackgroundTileDrawer prefetcher;
+  private final int maxTileCount;
+
+  /**
+   * Creates and starts a new prefetcher.
+   *
+   * @param name The name of the prefetcher thread.
+   * @param tileManager The tile manager providing the tiles to prefetch.
+   * @param prefetcher Prefetches a single tile.
+   * @param cacheMaxBytes The size of the cache the prefetched images are stored in.
+   */
+  public TilePrefetcher(final String name, final TileManager tileManager, final Consumer<Tile> prefetcher,
+      final long cacheMaxBytes) {
+    checkNotNull(tileManager);
+
+    this.tileManager = tileManager;
+    this.prefetcher = new BackgroundTileDrawer(name, 1, Thread.MIN_PRIORITY, prefetcher);
+    maxTileCount = (int) Math.min(Integer.MAX_VALUE, cacheMaxBytes / CACHE_BUDGET_FRACTION / MAX_BYTES_PER_TILE);
+  }
+
+  /**
+   * Replaces the tiles waiting to be prefetched with the tiles around the specified viewport.
+   *
+   * @param viewport The visible area of the map.
+   * @param velocityX The horizontal scroll velocity in pixels per second.
+   * @param velocityY The vertical scroll velocity in pixels per second.
+   */
+  public void update(final Rectangle2D viewport, final double velocityX, final double velocityY) {
+    checkNotNull(viewport);
+
+    final double targetX = viewport.getCenterX() + velocityX * LOOK_AHEAD_SECONDS;
+    final double targetY = viewport.getCenterY() + velocityY * LOOK_AHEAD_SECONDS;
+    final List<Tile> tiles = tileManager.getTiles(getPrefetchArea(viewport, velocityX, velocityY)).stream()
+        .filter(tile -> !tile.getBounds().intersects(viewport))
+        .sorted(Comparator.comparingDouble(tile -> distanceSquared(tile, targetX, targetY)))
+        .limit(maxTileCount)
+        .collect(Collectors.toList());
+    prefetcher.schedule(tiles);
+  }
+
+  private static double distanceSquared(final Tile tile, final double x, final double y) {
+    final double dx = tile.getBounds().getCenterX() - x;
+    final double dy = tile.getBounds().getCenterY() - y;
+    return dx * dx + dy * dy;
+  }
+
+  @VisibleForTesting
+  static Rectangle2D getPrefetchArea(final Rectangle2D viewport, final double velocityX, final double velocityY) {
+    final Rectangle2D area = new Rectangle2D.Double();
+    area.setRect(viewport);
+    area.add(new Rectangle2D.Double(viewport.getX() + velocityX * LOOK_AHEAD_SECONDS,
+        viewport.getY() + velocityY * LOOK_AHEAD_SECONDS, viewport.getWidth(), viewport.getHeight()));
+    area.setRect(area.getX() - TileManager.TILE_SIZE, area.getY() - TileManager.TILE_SIZE,
+        area.getWidth() + 2 * TileManager.TILE_SIZE, area.getHeight() + 2 * TileManager.TILE_SIZE);
+    return area;
+  }
+
+  /**
+   * Drops all tiles waiting to be prefetched.
+   */
+  public void cancel() {
+    prefetcher.cancel();
+  }
+
+  /**
+   * Drops all tiles waiting to be prefetched and stops the prefetcher thread.
+   */
+  public void stop() {
+    prefetcher.stop();
+  }
+}
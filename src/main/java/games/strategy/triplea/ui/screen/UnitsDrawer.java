@@ -223,6 +223,19 @@ public class UnitsDrawer implements IDrawable {
     return Tuple.of(t, t.getUnits().getMatches(selectedUnits));
   }
 
+  /**
+   * Returns a conservative estimate of the area drawn on: the unit image extended by the size of a unit image on each
+   * side, which covers the stacked images, the unit count, the damage texts and the flag.
+   */
+  @Override
+  public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    final int width = uiContext.getUnitImageFactory().getUnitImageWidth();
+    final int height = uiContext.getUnitImageFactory().getUnitImageHeight();
+    final int margin = Math.max(Math.max(width, height), 2 * mapData.getDefaultUnitsStackSize());
+    return Optional.of(new Rectangle(placementPoint.x - margin, placementPoint.y - margin, width + 2 * margin,
+        height + 2 * margin));
+  }
+
   @Override
   public int getLevel() {
     return UNITS_LEVEL;
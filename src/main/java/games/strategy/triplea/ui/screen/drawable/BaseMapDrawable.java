@@ -23,7 +23,7 @@ public class BaseMapDrawable extends MapTileDrawable {
     }
     final Image image;
     if (unscaled) {
-      image = uiContext.getTileImageFactory().getUnscaledUncachedBaseTile(x, y);
+      image = uiContext.getTileImageFactory().getUnscaledBaseTile(x, y);
     } else {
       image = uiContext.getTileImageFactory().getBaseTile(x, y);
     }
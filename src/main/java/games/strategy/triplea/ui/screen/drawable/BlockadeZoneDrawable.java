@@ -4,6 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.util.Optional;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.Territory;
@@ -25,6 +26,12 @@ public class BlockadeZoneDrawable implements IDrawable {
     drawImage(graphics, mapData.getBlockadeImage(), point, bounds);
   }
 
+  @Override
+  public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    final Point point = mapData.getBlockadePlacementPoint(data.getMap().getTerritory(location));
+    return IDrawable.getImageBounds(mapData.getBlockadeImage().orElse(null), point);
+  }
+
   @Override
   public int getLevel() {
     return CAPITOL_MARKER_LEVEL;
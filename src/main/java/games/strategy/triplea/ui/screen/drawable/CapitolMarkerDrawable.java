@@ -5,6 +5,7 @@ import java.awt.Image;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.util.Optional;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
@@ -30,12 +31,22 @@ public class CapitolMarkerDrawable implements IDrawable {
   @Override
   public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
       final AffineTransform unscaled, final AffineTransform scaled) {
-    // Changed back to use Large flags
-    final Image img = uiContext.getFlagImageFactory().getLargeFlag(data.getPlayerList().getPlayerId(player));
+    final Image img = getImage(data);
     final Point point = mapData.getCapitolMarkerLocation(data.getMap().getTerritory(location));
     graphics.drawImage(img, point.x - bounds.x, point.y - bounds.y, null);
   }
 
+  @Override
+  public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    final Point point = mapData.getCapitolMarkerLocation(data.getMap().getTerritory(location));
+    return IDrawable.getImageBounds(getImage(data), point);
+  }
+
+  private Image getImage(final GameData data) {
+    // Changed back to use Large flags
+    return uiContext.getFlagImageFactory().getLargeFlag(data.getPlayerList().getPlayerId(player));
+  }
+
   @Override
   public int getLevel() {
     return CAPITOL_MARKER_LEVEL;
@@ -5,6 +5,7 @@ import java.awt.Image;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.util.Optional;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
@@ -28,16 +29,24 @@ public class ConvoyZoneDrawable implements IDrawable {
   @Override
   public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
       final AffineTransform unscaled, final AffineTransform scaled) {
-    final Image img;
-    if (mapData.useNation_convoyFlags()) {
-      img = uiContext.getFlagImageFactory().getConvoyFlag(data.getPlayerList().getPlayerId(player));
-    } else {
-      img = uiContext.getFlagImageFactory().getFlag(data.getPlayerList().getPlayerId(player));
-    }
+    final Image img = getImage(data, mapData);
     final Point point = mapData.getConvoyMarkerLocation(data.getMap().getTerritory(location));
     graphics.drawImage(img, point.x - bounds.x, point.y - bounds.y, null);
   }
 
+  @Override
+  public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    return IDrawable.getImageBounds(getImage(data, mapData),
+        mapData.getConvoyMarkerLocation(data.getMap().getTerritory(location)));
+  }
+
+  private Image getImage(final GameData data, final MapData mapData) {
+    if (mapData.useNation_convoyFlags()) {
+      return uiContext.getFlagImageFactory().getConvoyFlag(data.getPlayerList().getPlayerId(player));
+    }
+    return uiContext.getFlagImageFactory().getFlag(data.getPlayerList().getPlayerId(player));
+  }
+
   @Override
   public int getLevel() {
     return CAPITOL_MARKER_LEVEL;
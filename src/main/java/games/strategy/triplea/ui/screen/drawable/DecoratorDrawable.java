@@ -5,6 +5,7 @@ import java.awt.Image;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.util.Optional;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.triplea.ui.mapdata.MapData;
@@ -25,6 +26,11 @@ public class DecoratorDrawable implements IDrawable {
     graphics.drawImage(image, point.x - bounds.x, point.y - bounds.y, null);
   }
 
+  @Override
+  public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    return IDrawable.getImageBounds(image, point);
+  }
+
   @Override
   public int getLevel() {
     return DECORATOR_LEVEL;
@@ -7,6 +7,8 @@ import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.triplea.ui.mapdata.MapData;
 
@@ -45,6 +47,35 @@ public interface IDrawable {
 
   int getLevel();
 
+  /**
+   * Returns the area of the map, in map coordinates, outside of which this drawable never draws, or empty if the
+   * drawable may draw anywhere on the tiles it is added to. Drawables whose bounds do not intersect the dirty area of a
+   * tile are skipped when only that area of the tile is redrawn.
+   *
+   * <p>
+   * A drawable of a territory that returns empty must not draw outside of the bounding rectangle of the territory
+   * polygons, otherwise those pixels are not redrawn when the territory changes.
+   * </p>
+   */
+  default Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    return Optional.empty();
+  }
+
+  /**
+   * Returns the area covered by the specified image when it is drawn at the specified location, or empty if the size
+   * of the image is not known yet.
+   */
+  static Optional<Rectangle> getImageBounds(final @Nullable Image image, final Point location) {
+    if (image == null) {
+      return Optional.of(new Rectangle(location));
+    }
+    final int width = image.getWidth(null);
+    final int height = image.getHeight(null);
+    return (width >= 0 && height >= 0)
+        ? Optional.of(new Rectangle(location.x, location.y, width, height))
+        : Optional.empty();
+  }
+
   default void drawImage(final Graphics2D graphics, final Optional<Image> image, final Point location,
       final Rectangle bounds) {
     if (image.isPresent()) {
@@ -5,6 +5,7 @@ import java.awt.Image;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.util.Optional;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
@@ -28,6 +29,18 @@ public class KamikazeZoneDrawable implements IDrawable {
   @Override
   public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
       final AffineTransform unscaled, final AffineTransform scaled) {
+    final Image img = getImage(data);
+    final Point point = mapData.getKamikazeMarkerLocation(data.getMap().getTerritory(location));
+    graphics.drawImage(img, point.x - bounds.x, point.y - bounds.y, null);
+  }
+
+  @Override
+  public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    final Point point = mapData.getKamikazeMarkerLocation(data.getMap().getTerritory(location));
+    return IDrawable.getImageBounds(getImage(data), point);
+  }
+
+  private Image getImage(final GameData data) {
     // Change so only original owner gets the kamikazi zone marker
     final Territory terr = data.getMap().getTerritory(location);
     final TerritoryAttachment ta = TerritoryAttachment.get(terr);
@@ -47,9 +60,7 @@ public class KamikazeZoneDrawable implements IDrawable {
         }
       }
     }
-    final Image img = uiContext.getFlagImageFactory().getFadedFlag(owner);
-    final Point point = mapData.getKamikazeMarkerLocation(data.getMap().getTerritory(location));
-    graphics.drawImage(img, point.x - bounds.x, point.y - bounds.y, null);
+    return uiContext.getFlagImageFactory().getFadedFlag(owner);
   }
 
   @Override
@@ -27,7 +27,7 @@ public class ReliefMapDrawable extends MapTileDrawable {
     }
     final Image image;
     if (unscaled) {
-      image = uiContext.getTileImageFactory().getUnscaledUncachedReliefTile(x, y);
+      image = uiContext.getTileImageFactory().getUnscaledReliefTile(x, y);
     } else {
       image = uiContext.getTileImageFactory().getReliefTile(x, y);
     }
@@ -4,6 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.util.Optional;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.TerritoryEffect;
@@ -25,6 +26,11 @@ public class TerritoryEffectDrawable implements IDrawable {
     drawImage(graphics, mapData.getTerritoryEffectImage(effect.getName()), point, bounds);
   }
 
+  @Override
+  public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    return IDrawable.getImageBounds(mapData.getTerritoryEffectImage(effect.getName()).orElse(null), point);
+  }
+
   @Override
   public int getLevel() {
     return TERRITORY_EFFECT_LEVEL;
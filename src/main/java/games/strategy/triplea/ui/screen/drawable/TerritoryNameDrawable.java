@@ -1,5 +1,6 @@
 package games.strategy.triplea.ui.screen.drawable;
 
+import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Image;
@@ -7,9 +8,13 @@ import java.awt.Point;
 import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
@@ -20,6 +25,11 @@ import games.strategy.triplea.ui.UiContext;
 import games.strategy.triplea.ui.mapdata.MapData;
 
 public class TerritoryNameDrawable implements IDrawable {
+  // glyphs may extend slightly beyond the advance width and the ascent and descent of the font
+  private static final int TEXT_MARGIN = 2;
+  // guarded by TerritoryNameDrawable.class
+  private static @Nullable FontMetrics fontMetrics;
+
   private final String territoryName;
   private final UiContext uiContext;
 
@@ -31,9 +41,71 @@ public class TerritoryNameDrawable implements IDrawable {
   @Override
   public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
       final AffineTransform unscaled, final AffineTransform scaled) {
+    graphics.setFont(MapImage.getPropertyMapFont());
+    graphics.setColor(MapImage.getPropertyTerritoryNameAndPuAndCommentColor());
+    final boolean drawFromTopLeft = mapData.drawNamesFromTopLeft();
+    for (final Label label : getLabels(data, mapData, graphics.getFontMetrics())) {
+      draw(bounds, graphics, label.x, label.y, label.image, label.text, drawFromTopLeft);
+    }
+  }
+
+  @Override
+  public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    final FontMetrics fm = getFontMetrics();
+    final boolean drawFromTopLeft = mapData.drawNamesFromTopLeft();
+    final Rectangle bounds = new Rectangle();
+    for (final Label label : getLabels(data, mapData, fm)) {
+      final Rectangle labelBounds;
+      if (label.image == null) {
+        if (fm.getFont().getSize() <= 0) {
+          continue;
+        }
+        final int baseline = drawFromTopLeft ? label.y + fm.getHeight() : label.y;
+        labelBounds = new Rectangle(label.x, baseline - fm.getMaxAscent(), fm.stringWidth(label.text),
+            fm.getMaxAscent() + fm.getMaxDescent());
+        labelBounds.grow(TEXT_MARGIN, TEXT_MARGIN);
+      } else {
+        final int width = label.image.getWidth(null);
+        final int height = label.image.getHeight(null);
+        if (width < 0 || height < 0) {
+          return Optional.empty();
+        }
+        labelBounds = new Rectangle(label.x, drawFromTopLeft ? label.y : label.y - height, width, height);
+      }
+      if (bounds.isEmpty()) {
+        bounds.setBounds(labelBounds);
+      } else {
+        bounds.add(labelBounds);
+      }
+    }
+    return Optional.of(bounds);
+  }
+
+  /**
+   * Returns the metrics of the map font, which are only created again when the font changes, because the bounds are
+   * requested for every territory that is redrawn.
+   */
+  private static synchronized FontMetrics getFontMetrics() {
+    final Font font = MapImage.getPropertyMapFont();
+    if (fontMetrics == null || !fontMetrics.getFont().equals(font)) {
+      final Graphics2D graphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+      try {
+        fontMetrics = graphics.getFontMetrics(font);
+      } finally {
+        graphics.dispose();
+      }
+    }
+    return fontMetrics;
+  }
+
+  /**
+   * Returns the texts and images drawn for the territory, the location of each being interpreted as in
+   * {@link #draw(Rectangle, Graphics2D, int, int, Image, String, boolean)}.
+   */
+  private List<Label> getLabels(final GameData data, final MapData mapData, final FontMetrics fm) {
+    final List<Label> labels = new ArrayList<>();
     final Territory territory = data.getMap().getTerritory(territoryName);
     final TerritoryAttachment ta = TerritoryAttachment.get(territory);
-    final boolean drawFromTopLeft = mapData.drawNamesFromTopLeft();
     final boolean showSeaNames = mapData.drawSeaZoneNames();
     final boolean showComments = mapData.drawComments();
     boolean drawComments = false;
@@ -66,14 +138,10 @@ public class TerritoryNameDrawable implements IDrawable {
         }
       }
       if (!drawComments && !showSeaNames) {
-        return;
+        return labels;
       }
     }
 
-    graphics.setFont(MapImage.getPropertyMapFont());
-    graphics.setColor(MapImage.getPropertyTerritoryNameAndPuAndCommentColor());
-    final FontMetrics fm = graphics.getFontMetrics();
-
     // if we specify a placement point, use it otherwise try to center it
     final int x;
     final int y;
@@ -91,16 +159,16 @@ public class TerritoryNameDrawable implements IDrawable {
     if (showComments && drawComments && commentText != null) {
       final Optional<Point> place = mapData.getCommentMarkerLocation(territory);
       if (place.isPresent()) {
-        draw(bounds, graphics, place.get().x, place.get().y, null, commentText, drawFromTopLeft);
+        labels.add(new Label(place.get().x, place.get().y, null, commentText));
       } else {
-        draw(bounds, graphics, x, y - fm.getHeight(), null, commentText, drawFromTopLeft);
+        labels.add(new Label(x, y - fm.getHeight(), null, commentText));
       }
     }
     // draw territory names
     if (mapData.drawTerritoryNames() && mapData.shouldDrawTerritoryName(territoryName)) {
       if (!territory.isWater() || showSeaNames) {
         final Image nameImage = mapData.getTerritoryNameImages().get(territory.getName());
-        draw(bounds, graphics, x, y, nameImage, territory.getName(), drawFromTopLeft);
+        labels.add(new Label(x, y, nameImage, territory.getName()));
       }
     }
     // draw the PUs.
@@ -110,13 +178,14 @@ public class TerritoryNameDrawable implements IDrawable {
       final Optional<Point> place = mapData.getPuPlacementPoint(territory);
       // if pu_place.txt is specified draw there
       if (place.isPresent()) {
-        draw(bounds, graphics, place.get().x, place.get().y, img, prod, drawFromTopLeft);
+        labels.add(new Label(place.get().x, place.get().y, img, prod));
       } else {
         // otherwise, draw under the territory name
-        draw(bounds, graphics, x + ((fm.stringWidth(territoryName)) >> 1) - ((fm.stringWidth(prod)) >> 1),
-            y + fm.getLeading() + fm.getAscent(), img, prod, drawFromTopLeft);
+        labels.add(new Label(x + ((fm.stringWidth(territoryName)) >> 1) - ((fm.stringWidth(prod)) >> 1),
+            y + fm.getLeading() + fm.getAscent(), img, prod));
       }
     }
+    return labels;
   }
 
   private static void draw(final Rectangle bounds, final Graphics2D graphics, final int x, final int y, final Image img,
@@ -204,4 +273,18 @@ public class TerritoryNameDrawable implements IDrawable {
   public int getLevel() {
     return TERRITORY_TEXT_LEVEL;
   }
+
+  private static final class Label {
+    final int x;
+    final int y;
+    final @Nullable Image image;
+    final String text;
+
+    Label(final int x, final int y, final @Nullable Image image, final String text) {
+      this.x = x;
+      this.y = y;
+      this.image = image;
+      this.text = text;
+    }
+  }
 }
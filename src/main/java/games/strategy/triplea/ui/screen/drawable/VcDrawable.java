@@ -4,6 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
+import java.util.Optional;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.Territory;
@@ -24,6 +25,11 @@ public class VcDrawable implements IDrawable {
     drawImage(graphics, mapData.getVcImage(), point, bounds);
   }
 
+  @Override
+  public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+    return IDrawable.getImageBounds(mapData.getVcImage().orElse(null), mapData.getVcPlacementPoint(location));
+  }
+
   @Override
   public int getLevel() {
     return VC_MARKER_LEVEL;
@@ -2,6 +2,7 @@ package games.strategy.ui;
 
 import java.awt.Dimension;
 import java.util.Observable;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Model for an ImageScroller. Generally one large view and one small view will be
@@ -12,6 +13,10 @@ import java.util.Observable;
  * </p>
  */
 public class ImageScrollModel extends Observable {
+  // moves further apart than this are treated as the start of a new scroll
+  private static final long MAX_SCROLL_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+  // weight of the latest move in the smoothed scroll velocity
+  private static final double VELOCITY_SMOOTHING = 0.5;
   private int x;
   private int y;
   private int boxWidth = 5;
@@ -20,6 +25,10 @@ public class ImageScrollModel extends Observable {
   private int maxHeight;
   private boolean scrollX;
   private boolean scrollY;
+  private long lastMoveNanos = 0;
+  // in pixels per second
+  private double velocityX = 0;
+  private double velocityY = 0;
 
   public void setMaxBounds(final int maxWidth, final int maxHeight) {
     this.maxWidth = maxWidth;
@@ -131,7 +140,42 @@ public class ImageScrollModel extends Observable {
     return maxHeight;
   }
 
+  /**
+   * Returns the current horizontal scroll velocity in pixels per second, which is 0 if the view has not been moved
+   * recently.
+   */
+  public synchronized double getVelocityX() {
+    return isScrolling() ? velocityX : 0;
+  }
+
+  /**
+   * Returns the current vertical scroll velocity in pixels per second, which is 0 if the view has not been moved
+   * recently.
+   */
+  public synchronized double getVelocityY() {
+    return isScrolling() ? velocityY : 0;
+  }
+
+  private boolean isScrolling() {
+    return System.nanoTime() - lastMoveNanos <= MAX_SCROLL_PAUSE_NANOS;
+  }
+
+  private synchronized void updateVelocity(final int dx, final int dy) {
+    final long now = System.nanoTime();
+    final long elapsedNanos = now - lastMoveNanos;
+    lastMoveNanos = now;
+    if (elapsedNanos > MAX_SCROLL_PAUSE_NANOS) {
+      velocityX = 0;
+      velocityY = 0;
+      return;
+    }
+    final double elapsedSeconds = Math.max(elapsedNanos, TimeUnit.MILLISECONDS.toNanos(1)) / 1e9;
+    velocityX = VELOCITY_SMOOTHING * dx / elapsedSeconds + (1 - VELOCITY_SMOOTHING) * velocityX;
+    velocityY = VELOCITY_SMOOTHING * dy / elapsedSeconds + (1 - VELOCITY_SMOOTHING) * velocityY;
+  }
+
   void set(final int x, final int y) {
+    updateVelocity(x - this.x, y - this.y);
     this.x = x;
     this.y = y;
     enforceBounds();
@@ -0,0 +1,171 @@
+package games.strategy.ui;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A spatial index that assigns values with rectangular bounds to the cells of a uniform grid.
+ *
+ * <p>
+ * Queries only look at the values registered in the cells overlapping the query area, so their cost depends on how
+ * many values are near the query area rather than on the total number of values. Query results are always returned in
+ * the order in which the values were added, which lets callers that rely on a particular iteration order (e.g. to
+ * prefer one of several overlapping values) switch to the index without changing their behavior.
+ * </p>
+ *
+ * <p>
+ * Values whose bounds extend beyond the area covered by the grid are registered in the border cells, so they are still
+ * found by queries outside that area.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are not thread safe.
+ * </p>
+ *
+ * @param <T> The type of the indexed values.
+ */
+public final class SpatialGrid<T> {
+  private final int originX;
+  private final int originY;
+  private final int cellSize;
+  private final int columns;
+  private final int rows;
+  private final List<List<Entry<T>>> cells;
+  private int nextOrdinal = 0;
+
+  /**
+   * Creates a new empty grid.
+   *
+   * @param area The area covered by the grid.
+   * @param cellSize The width and height of a grid cell.
+   */
+  public SpatialGrid(final Rectangle area, final int cellSize) {
+    checkNotNull(area);
+    checkArgument(cellSize > 0, "cellSize must be positive");
+
+    originX = area.x;
+    originY = area.y;
+    this.cellSize = cellSize;
+    columns = Math.max(1, (area.width + cellSize - 1) / cellSize);
+    rows = Math.max(1, (area.height + cellSize - 1) / cellSize);
+    cells = new ArrayList<>(columns * rows);
+    for (int i = 0; i < columns * rows; i++) {
+      cells.add(null);
+    }
+  }
+
+  /**
+   * Adds the specified value with the specified bounds to the grid.
+   */
+  public void add(final Rectangle bounds, final T value) {
+    checkNotNull(bounds);
+    checkNotNull(value);
+
+    final Entry<T> entry = new Entry<>(new Rectangle(bounds), value, nextOrdinal++);
+    final int minColumn = column(bounds.getMinX());
+    final int maxColumn = column(bounds.getMaxX());
+    final int minRow = row(bounds.getMinY());
+    final int maxRow = row(bounds.getMaxY());
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int column = minColumn; column <= maxColumn; column++) {
+        final int index = row * columns + column;
+        List<Entry<T>> cell = cells.get(index);
+        if (cell == null) {
+          cell = new ArrayList<>(4);
+          cells.set(index, cell);
+        }
+        cell.add(entry);
+      }
+    }
+  }
+
+  /**
+   * Returns the values whose bounds contain the specified point, in the order in which they were added.
+   */
+  public List<T> getContaining(final double x, final double y) {
+    final List<Entry<T>> cell = cells.get(row(y) * columns + column(x));
+    if (cell == null) {
+      return new ArrayList<>(0);
+    }
+
+    final List<Entry<T>> matches = new ArrayList<>();
+    for (final Entry<T> entry : cell) {
+      if (entry.bounds.contains(x, y)) {
+        matches.add(entry);
+      }
+    }
+    return toValues(matches);
+  }
+
+  /**
+   * Returns the values whose bounds intersect or are contained in the specified area, in the order in which they
+   * were added.
+   */
+  public List<T> getIntersecting(final Rectangle2D area) {
+    checkNotNull(area);
+
+    final List<Entry<T>> matches = new ArrayList<>();
+    final int minColumn = column(area.getMinX());
+    final int maxColumn = column(area.getMaxX());
+    final int minRow = row(area.getMinY());
+    final int maxRow = row(area.getMaxY());
+    for (int row = minRow; row <= maxRow; row++) {
+      for (int column = minColumn; column <= maxColumn; column++) {
+        final List<Entry<T>> cell = cells.get(row * columns + column);
+        if (cell == null) {
+          continue;
+        }
+        for (final Entry<T> entry : cell) {
+          if (area.contains(entry.bounds) || entry.bounds.intersects(area)) {
+            matches.add(entry);
+          }
+        }
+      }
+    }
+    return toValues(matches);
+  }
+
+  private int column(final double x) {
+    return clamp((int) Math.floor((x - originX) / cellSize), columns);
+  }
+
+  private int row(final double y) {
+    return clamp((int) Math.floor((y - originY) / cellSize), rows);
+  }
+
+  private static int clamp(final int index, final int count) {
+    return Math.max(0, Math.min(count - 1, index));
+  }
+
+  private static <T> List<T> toValues(final List<Entry<T>> entries) {
+    // entries spanning several cells are found once per cell
+    entries.sort(Comparator.comparingInt(entry -> entry.ordinal));
+    final List<T> values = new ArrayList<>(entries.size());
+    int lastOrdinal = -1;
+    for (final Entry<T> entry : entries) {
+      if (entry.ordinal != lastOrdinal) {
+        values.add(entry.value);
+        lastOrdinal = entry.ordinal;
+      }
+    }
+    return values;
+  }
+
+  private static final class Entry<T> {
+    final Rectangle bounds;
+    final T value;
+    final int ordinal;
+
+    Entry(final Rectangle bounds, final T value, final int ordinal) {
+      this.bounds = bounds;
+      this.value = value;
+      this.ordinal = ordinal;
+    }
+  }
+}
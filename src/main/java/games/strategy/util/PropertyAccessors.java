@@ -0,0 +1,268 @@
+package games.strategy.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * The bean style property accessors (setters, resetters and backing fields) of a single class.
+ *
+ * <p>
+ * Looking up accessors through reflection is expensive and, because properties are set every time a change is
+ * applied to an attachment, it used to be paid over and over again. An instance of this class scans the public methods
+ * of its class exactly once and converts every accessor into a {@link MethodHandle} the first time it is requested.
+ * Instances are created lazily per class and shared by all threads.
+ * </p>
+ */
+public final class PropertyAccessors {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final MethodType RESETTER_TYPE = MethodType.methodType(void.class, Object.class);
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<PropertyAccessors> ACCESSORS = new ClassValue<PropertyAccessors>() {
+    @Override
+    protected PropertyAccessors computeValue(final Class<?> type) {
+      return new PropertyAccessors(type);
+    }
+  };
+
+  private final Class<?> type;
+  private final Map<String, List<Method>> publicMethodsByName;
+  private final ConcurrentMap<SetterKey, Optional<MethodHandle>> setters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Optional<MethodHandle>> resetters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Optional<Field>> fields = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, MethodHandle> getters = new ConcurrentHashMap<>();
+
+  private PropertyAccessors(final Class<?> type) {
+    this.type = type;
+    final Map<String, List<Method>> methodsByName = new HashMap<>();
+    for (final Method method : type.getMethods()) {
+      if (method.getName().startsWith("set") || method.getName().startsWith("reset")) {
+        methodsByName.computeIfAbsent(method.getName(), name -> new ArrayList<>()).add(method);
+      }
+    }
+    publicMethodsByName = Collections.unmodifiableMap(methodsByName);
+  }
+
+  /**
+   * Returns the accessors of the specified class.
+   */
+  public static PropertyAccessors forClass(final Class<?> type) {
+    checkNotNull(type);
+
+    return ACCESSORS.get(type);
+  }
+
+  /**
+   * Returns the setter of the specified property that accepts exactly the specified argument type.
+   *
+   * @return A method handle of type {@code (Object, Object)void} or empty if there is no public setter with exactly
+   *         this argument type.
+   */
+  public Optional<MethodHandle> getSetter(final String propertyName, final Class<?> argType) {
+    checkNotNull(propertyName);
+    checkNotNull(argType);
+
+    return setters.computeIfAbsent(new SetterKey(propertyName, argType, SetterMatch.EXACT), this::findSetter);
+  }
+
+  /**
+   * Returns the setter of the specified property that is most suitable for the specified value: the one accepting
+   * exactly the value's class if present, otherwise the first public setter with the property's name.
+   *
+   * @return A method handle of type {@code (Object, Object)void}.
+   *
+   * @throws IllegalStateException If the class has no usable setter for the property.
+   */
+  MethodHandle getSetterForValue(final String propertyName, final @Nullable Object value) {
+    final SetterKey key = (value == null)
+        ? new SetterKey(propertyName, Object.class, SetterMatch.FIRST)
+        : new SetterKey(propertyName, value.getClass(), SetterMatch.PREFER_EXACT);
+    return setters.computeIfAbsent(key, this::findSetter)
+        .orElseThrow(() -> new IllegalStateException("No method called:" + setterName(propertyName) + " on:" + type));
+  }
+
+  /**
+   * Returns the resetter of the specified property.
+   *
+   * @return A method handle of type {@code (Object)void}.
+   *
+   * @throws IllegalStateException If the class has no usable resetter for the property.
+   */
+  MethodHandle getResetter(final String propertyName) {
+    return resetters.computeIfAbsent(propertyName, this::findResetter)
+        .orElseThrow(() -> new IllegalStateException(
+            "No method called:" + "reset" + capitalizeFirstLetter(propertyName) + " on:" + type));
+  }
+
+  /**
+   * Returns the backing field of the specified property, which is either named {@code m_<propertyName>} or
+   * {@code <propertyName>} and is declared by the class or one of its superclasses.
+   *
+   * @throws IllegalStateException If no backing field for the specified property exists.
+   */
+  Field getField(final String propertyName) {
+    return fields.computeIfAbsent(propertyName, this::findField)
+        .orElseThrow(() -> new IllegalStateException("No such Property Field: " + propertyName));
+  }
+
+  /**
+   * Returns a getter that reads the backing field of the specified property.
+   *
+   * @return A method handle of type {@code (Object)Object}.
+   *
+   * @throws IllegalStateException If no backing field for the specified property exists.
+   */
+  MethodHandle getFieldGetter(final String propertyName) {
+    final MethodHandle getter = getters.get(propertyName);
+    if (getter != null) {
+      return getter;
+    }
+    final MethodHandle newGetter;
+    try {
+      newGetter = LOOKUP.unreflectGetter(getField(propertyName)).asType(GETTER_TYPE);
+    } catch (final IllegalAccessException e) {
+      throw new IllegalStateException("Cannot access Property Field: " + propertyName + " of: " + type, e);
+    }
+    final MethodHandle existing = getters.putIfAbsent(propertyName, newGetter);
+    return (existing != null) ? existing : newGetter;
+  }
+
+  private Optional<MethodHandle> findSetter(final SetterKey key) {
+    final List<Method> candidates = publicMethodsByName.getOrDefault(setterName(key.propertyName),
+        Collections.emptyList());
+    if (candidates.isEmpty()) {
+      return Optional.empty();
+    }
+    @Nullable
+    Method setter = null;
+    if (key.match != SetterMatch.FIRST) {
+      for (final Method candidate : candidates) {
+        if (candidate.getParameterCount() == 1 && candidate.getParameterTypes()[0].equals(key.argType)) {
+          setter = candidate;
+          break;
+        }
+      }
+    }
+    if (setter == null) {
+      if (key.match == SetterMatch.EXACT) {
+        return Optional.empty();
+      }
+      // go ahead and try the first one
+      setter = candidates.get(0);
+    }
+    if (setter.getParameterCount() != 1) {
+      return Optional.empty();
+    }
+    return Optional.of(unreflect(setter).asType(SETTER_TYPE));
+  }
+
+  private Optional<MethodHandle> findResetter(final String propertyName) {
+    for (final Method candidate : publicMethodsByName.getOrDefault("reset" + capitalizeFirstLetter(propertyName),
+        Collections.emptyList())) {
+      if (candidate.getParameterCount() == 0) {
+        return Optional.of(unreflect(candidate).asType(RESETTER_TYPE));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Optional<Field> findField(final String propertyName) {
+    @Nullable
+    Field field = findFieldIncludingSuperClasses("m_" + propertyName);
+    if (field == null) {
+      field = findFieldIncludingSuperClasses(propertyName);
+    }
+    if (field != null) {
+      field.setAccessible(true);
+    }
+    return Optional.ofNullable(field);
+  }
+
+  private @Nullable Field findFieldIncludingSuperClasses(final String name) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      try {
+        return current.getDeclaredField(name);
+      } catch (final NoSuchFieldException e) {
+        // try the superclass
+      }
+    }
+    return null;
+  }
+
+  private static MethodHandle unreflect(final Method method) {
+    try {
+      // the declaring class may not be public (e.g. a private nested class) even though the method is
+      method.setAccessible(true);
+      return LOOKUP.unreflect(method);
+    } catch (final IllegalAccessException e) {
+      throw new IllegalStateException("Cannot access method: " + method, e);
+    }
+  }
+
+  private static String setterName(final String propertyName) {
+    return "set" + capitalizeFirstLetter(propertyName);
+  }
+
+  private static String capitalizeFirstLetter(final String str) {
+    char first = str.charAt(0);
+    first = Character.toUpperCase(first);
+    return first + str.substring(1);
+  }
+
+  private enum SetterMatch {
+    /** Only a setter accepting exactly the argument type matches. */
+    EXACT,
+
+    /** A setter accepting exactly the argument type is preferred, otherwise the first setter is used. */
+    PREFER_EXACT,
+
+    /** The first setter is used; the argument type is unknown. */
+    FIRST
+  }
+
+  private static final class SetterKey {
+    final String propertyName;
+    final Class<?> argType;
+    final SetterMatch match;
+
+    SetterKey(final String propertyName, final Class<?> argType, final SetterMatch match) {
+      this.propertyName = propertyName;
+      this.argType = argType;
+      this.match = match;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+      if (obj == this) {
+        return true;
+      } else if (!(obj instanceof SetterKey)) {
+        return false;
+      }
+
+      final SetterKey other = (SetterKey) obj;
+      return propertyName.equals(other.propertyName) && argType.equals(other.argType) && (match == other.match);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(propertyName, argType, match);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package games.strategy.debug;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.debug.PerformanceCounters.Metric;
+
+public final class PerformanceCountersTest {
+  private final PerformanceCounters counters = new PerformanceCounters();
+  private PerformanceCounters.Binding binding;
+
+  @BeforeEach
+  public void setUp() {
+    binding = PerformanceCounters.bind(counters);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    binding.close();
+  }
+
+  private static void runOnOtherThread(final Runnable task) throws Exception {
+    final Thread thread = new Thread(task);
+    thread.start();
+    thread.join();
+  }
+
+  @Test
+  public void startTimer_ShouldRecordCountAndTime() throws Exception {
+    for (int i = 0; i < 2; i++) {
+      try (PerformanceCounters.Timer timer = PerformanceCounters.startTimer("timer")) {
+        Thread.sleep(1);
+      }
+    }
+
+    final Metric metric = counters.getMetrics().get("timer");
+    assertThat(metric.getCount(), is(2L));
+    assertThat(metric.getMaxNanos(), is(greaterThanOrEqualTo(1_000_000L)));
+    assertThat(metric.getTotalNanos(), is(greaterThanOrEqualTo(metric.getMaxNanos() + 1_000_000L)));
+  }
+
+  @Test
+  public void add_ShouldRecordCountWithoutTime() {
+    PerformanceCounters.increment("counter");
+    PerformanceCounters.add("counter", 4);
+
+    assertThat(counters.getMetrics().get("counter"), is(new Metric(5, 0, 0)));
+  }
+
+  @Test
+  public void shouldNotRecordAnythingAfterBindingWasClosed() {
+    binding.close();
+
+    PerformanceCounters.increment("counter");
+    PerformanceCounters.startTimer("timer").close();
+
+    assertThat(PerformanceCounters.getBound(), is(nullValue()));
+    assertThat(counters.getMetrics().isEmpty(), is(true));
+  }
+
+  @Test
+  public void shouldNotRecordValuesOfOtherThreads() throws Exception {
+    runOnOtherThread(() -> PerformanceCounters.increment("counter"));
+
+    assertThat(counters.getMetrics().isEmpty(), is(true));
+  }
+
+  @Test
+  public void bind_ShouldRestorePreviousBindingWhenClosed() {
+    final PerformanceCounters otherCounters = new PerformanceCounters();
+    try (PerformanceCounters.Binding otherBinding = PerformanceCounters.bind(otherCounters)) {
+      PerformanceCounters.increment("counter");
+    }
+    PerformanceCounters.add("counter", 2);
+
+    assertThat(otherCounters.getMetrics().get("counter").getCount(), is(1L));
+    assertThat(counters.getMetrics().get("counter").getCount(), is(2L));
+  }
+
+  @Test
+  public void inheritBinding_ShouldRecordValuesOfTaskInCountersOfCallingThread() throws Exception {
+    runOnOtherThread(PerformanceCounters.inheritBinding(() -> PerformanceCounters.increment("counter")));
+
+    assertThat(counters.getMetrics().get("counter").getCount(), is(1L));
+  }
+
+  @Test
+  public void inheritBinding_ShouldRecordValuesOfFunctionInCountersOfCallingThread() throws Exception {
+    final Function<Integer, Integer> function = PerformanceCounters.inheritBinding(value -> {
+      PerformanceCounters.add("counter", value);
+      return value;
+    });
+
+    runOnOtherThread(() -> function.apply(3));
+
+    assertThat(counters.getMetrics().get("counter").getCount(), is(3L));
+  }
+
+  @Test
+  public void metricAdd_ShouldSumCountsAndTimesAndKeepMaxTime() {
+    assertThat(new Metric(1, 10, 10).add(new Metric(2, 8, 5)), is(new Metric(3, 18, 10)));
+  }
+}
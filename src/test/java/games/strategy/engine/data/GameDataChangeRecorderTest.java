@@ -0,0 +1,108 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public final class GameDataChangeRecorderTest {
+  private final GameData data = new GameData();
+  private final GameDataChangeRecorder recorder = new GameDataChangeRecorder(data, 2);
+
+  private static Change newChange() {
+    return new Change() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected void perform(final GameData data) {}
+
+      @Override
+      public Change invert() {
+        return this;
+      }
+    };
+  }
+
+  private static List<Change> getChanges(final Change change) {
+    return ((CompositeChange) change).getChanges();
+  }
+
+  @Test
+  public void takeChanges_ShouldReturnChangesPerformedSinceStart() {
+    data.performChange(newChange());
+    recorder.start();
+    final Change first = newChange();
+    final Change second = newChange();
+    data.performChange(first);
+    data.performChange(second);
+
+    assertThat(getChanges(recorder.takeChanges()), contains(first, second));
+    assertThat(getChanges(recorder.takeChanges()).isEmpty(), is(true));
+  }
+
+  @Test
+  public void takeChanges_ShouldSkipChangesPerformedBeforeStartButNotifiedAfterwards() {
+    final Change before = newChange();
+    data.performChange(before);
+    recorder.start();
+    recorder.gameDataChanged(before, 1);
+    final Change after = newChange();
+    data.performChange(after);
+
+    assertThat(getChanges(recorder.takeChanges()), contains(after));
+  }
+
+  @Test
+  public void takeChanges_ShouldReturnNullWhenChangesWereNotifiedOutOfOrder() {
+    recorder.start();
+    data.removeDataChangeListener(recorder);
+    final Change first = newChange();
+    final Change second = newChange();
+    data.performChange(first);
+    data.performChange(second);
+    recorder.gameDataChanged(second, 2);
+    recorder.gameDataChanged(first, 1);
+
+    assertThat(recorder.takeChanges(), is(nullValue()));
+  }
+
+  @Test
+  public void takeChanges_ShouldReturnNullWhenPerformedChangeWasNotNotifiedYet() {
+    recorder.start();
+    data.removeDataChangeListener(recorder);
+    data.performChange(newChange());
+
+    assertThat(recorder.takeChanges(), is(nullValue()));
+  }
+
+  @Test
+  public void takeChanges_ShouldReturnNullWhenChangeWasNotifiedWithoutNumber() {
+    recorder.start();
+    recorder.gameDataChanged(newChange());
+
+    assertThat(recorder.takeChanges(), is(nullValue()));
+  }
+
+  @Test
+  public void takeChanges_ShouldReturnNullWhenMoreThanMaxChangesWerePerformed() {
+    recorder.start();
+    for (final Change change : Arrays.asList(newChange(), newChange(), newChange())) {
+      data.performChange(change);
+    }
+
+    assertThat(recorder.takeChanges(), is(nullValue()));
+  }
+
+  @Test
+  public void takeChanges_ShouldReturnNullAfterStop() {
+    recorder.start();
+    recorder.stop();
+
+    assertThat(recorder.takeChanges(), is(nullValue()));
+  }
+}
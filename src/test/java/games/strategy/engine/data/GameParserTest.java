@@ -0,0 +1,33 @@
+package games.strategy.engine.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.export.GameDataExporter;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public class GameParserTest {
+  private static GameData parseWithDom(final TestMapGameData testMap) throws Exception {
+    try (InputStream is = new FileInputStream(Paths.get("src", "test", "resources", testMap.toString()).toFile())) {
+      return GameParser.parseWithDom("game name", is);
+    }
+  }
+
+  @Test
+  public void parse_ShouldProduceSameGameDataAsDomParser() throws Exception {
+    for (final TestMapGameData testMap : TestMapGameData.values()) {
+      final GameData expected = parseWithDom(testMap);
+      final GameData actual = testMap.getGameData();
+
+      assertEquals(new GameDataExporter(expected).getXml(), new GameDataExporter(actual).getXml(), testMap.toString());
+      assertEquals(expected.getAttachmentOrderAndValues().size(), actual.getAttachmentOrderAndValues().size(),
+          testMap.toString());
+      assertEquals(expected.getSequence().size(), actual.getSequence().size(), testMap.toString());
+    }
+  }
+}
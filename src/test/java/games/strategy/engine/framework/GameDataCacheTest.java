@@ -0,0 +1,80 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.test.extensions.TemporaryFolder;
+import games.strategy.test.extensions.TemporaryFolderExtension;
+
+@ExtendWith(TemporaryFolderExtension.class)
+public final class GameDataCacheTest {
+  private TemporaryFolder temporaryFolder;
+  private File gameFile;
+  private GameDataCache cache;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    gameFile = temporaryFolder.newFile("game.xml");
+    Files.copy(Paths.get("src", "test", "resources", "GameExample.xml"), gameFile.toPath(),
+        StandardCopyOption.REPLACE_EXISTING);
+    cache = new GameDataCache(new File(gameFile.getParentFile(), "cache"));
+  }
+
+  private File getEntryFile() throws IOException {
+    return cache.getEntryFile(Files.readAllBytes(gameFile.toPath()));
+  }
+
+  @Test
+  public void parse_ShouldStoreParsedGameData() throws Exception {
+    final GameData parsedData = cache.parse(gameFile.toURI()).get();
+
+    assertThat(getEntryFile().length() > 0, is(true));
+    assertThat(GameDataManager.loadGame(getEntryFile()).getGameName(), is(parsedData.getGameName()));
+  }
+
+  @Test
+  public void parse_ShouldReturnNewCopyOfCachedGameData() throws Exception {
+    final GameData parsedData = cache.parse(gameFile.toURI()).get();
+
+    final GameData cachedData = cache.parse(gameFile.toURI()).get();
+
+    assertThat(cachedData, is(not(sameInstance(parsedData))));
+    assertThat(cachedData.getGameName(), is(parsedData.getGameName()));
+    assertThat(cachedData.getMap().getTerritories().size(), is(parsedData.getMap().getTerritories().size()));
+    assertThat(cachedData.getDelegateList().size(), is(parsedData.getDelegateList().size()));
+  }
+
+  @Test
+  public void parse_ShouldParseGameWhenEntryIsUnreadable() throws Exception {
+    Files.createDirectories(getEntryFile().getParentFile().toPath());
+    Files.write(getEntryFile().toPath(), new byte[] {1, 2, 3});
+
+    final GameData parsedData = cache.parse(gameFile.toURI()).get();
+
+    assertThat(parsedData.getGameName(), is("gameExample"));
+    assertThat("unreadable entry should be marked as uncacheable", getEntryFile().length(), is(0L));
+  }
+
+  @Test
+  public void getEntryFile_ShouldDependOnGameContent() throws IOException {
+    final File entryFile = getEntryFile();
+
+    Files.write(gameFile.toPath(), new byte[] {' '}, StandardOpenOption.APPEND);
+
+    assertThat(getEntryFile(), is(not(entryFile)));
+  }
+}
@@ -0,0 +1,115 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+import games.strategy.test.extensions.TemporaryFolder;
+import games.strategy.test.extensions.TemporaryFolderExtension;
+
+@ExtendWith(TemporaryFolderExtension.class)
+public final class MapGameIndexTest {
+  private TemporaryFolder temporaryFolder;
+
+  private File newGameFile() throws IOException {
+    final File file = temporaryFolder.newFile("game.xml");
+    try (OutputStream os = new FileOutputStream(file)) {
+      os.write(new byte[] {1, 2, 3});
+    }
+    return file;
+  }
+
+  private static MapGameIndex newIndex(final File gameFile) {
+    return MapGameIndex.load(new File(gameFile.getParentFile(), "index"));
+  }
+
+  @Test
+  public void getValidatedGameName_ShouldReturnRecordedNameWhileFileIsUnchanged() throws IOException {
+    final File file = newGameFile();
+    final MapGameIndex index = newIndex(file);
+
+    index.putValidatedGameName(file.toURI(), file, "Test Game");
+
+    assertThat(index.getValidatedGameName(file.toURI(), file), is(Optional.of("Test Game")));
+  }
+
+  @Test
+  public void getValidatedGameName_ShouldReturnEmptyAfterFileChanges() throws IOException {
+    final File file = newGameFile();
+    final MapGameIndex index = newIndex(file);
+    index.putValidatedGameName(file.toURI(), file, "Test Game");
+
+    try (OutputStream os = new FileOutputStream(file, true)) {
+      os.write(4);
+    }
+
+    assertThat(index.getValidatedGameName(file.toURI(), file), is(Optional.empty()));
+  }
+
+  @Test
+  public void getShallowGameData_ShouldUsePersistedEntriesAfterSave() throws Exception {
+    final File file = newGameFile();
+    final GameData shallowGameData = parseShallow("GameExample.xml");
+    final MapGameIndex index = newIndex(file);
+    index.putShallowGameData(file.toURI(), file, shallowGameData);
+    index.save();
+
+    final Optional<GameData> indexedGameData = newIndex(file).getShallowGameData(file.toURI(), file);
+
+    assertThat(indexedGameData.map(GameData::getGameName), is(Optional.of(shallowGameData.getGameName())));
+    assertThat(indexedGameData.get().getPlayerList().size(), is(shallowGameData.getPlayerList().size()));
+  }
+
+  @Test
+  public void save_ShouldDropEntriesWhoseFileNoLongerExists() throws IOException {
+    final File file = newGameFile();
+    final File otherFile = temporaryFolder.newFile("other.xml");
+    final MapGameIndex index = newIndex(file);
+    index.putValidatedGameName(file.toURI(), file, "Test Game");
+    index.putValidatedGameName(otherFile.toURI(), otherFile, "Other Game");
+    index.save();
+    otherFile.delete();
+
+    newIndex(file).save();
+
+    assertThat(newIndex(file).getUris(), contains(file.toURI().toString()));
+  }
+
+  @Test
+  public void save_ShouldKeepEntriesThatWereNotUsedSinceLoad() throws IOException {
+    final File file = newGameFile();
+    final File otherFile = temporaryFolder.newFile("other.xml");
+    final MapGameIndex index = newIndex(file);
+    index.putValidatedGameName(file.toURI(), file, "Test Game");
+    index.putValidatedGameName(otherFile.toURI(), otherFile, "Other Game");
+    index.save();
+    final MapGameIndex reloadedIndex = newIndex(file);
+    reloadedIndex.putValidatedGameName(file.toURI(), file, "Renamed Game");
+
+    reloadedIndex.save();
+
+    assertThat(newIndex(file).getUris(),
+        containsInAnyOrder(file.toURI().toString(), otherFile.toURI().toString()));
+  }
+
+  private static GameData parseShallow(final String fileName) throws Exception {
+    try (InputStream is = new FileInputStream(Paths.get("src", "test", "resources", fileName).toFile())) {
+      return GameParser.parseShallow(fileName, is);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import games.strategy.test.extensions.TemporaryFolder;
+import games.strategy.test.extensions.TemporaryFolderExtension;
+import games.strategy.util.Version;
+
+@ExtendWith(TemporaryFolderExtension.class)
+public final class SaveGameIndexTest {
+  private TemporaryFolder temporaryFolder;
+
+  private static SaveGameMetadata newMetadata(final int round) {
+    return new SaveGameMetadata("game", "map", round, "step", Arrays.asList("Germans"), 1000L, new Version(1, 9));
+  }
+
+  private File newSaveGame(final String name, final SaveGameMetadata metadata) throws IOException {
+    final File file = temporaryFolder.newFile(GameDataFileUtils.addExtension(name));
+    try (OutputStream os = new FileOutputStream(file)) {
+      metadata.write(os, new byte[0]);
+    }
+    return file;
+  }
+
+  @Test
+  public void getMetadata_ShouldReadHeaderOfNewSaveGame() throws IOException {
+    final File file = newSaveGame("save", newMetadata(3));
+
+    final SaveGameIndex index = SaveGameIndex.forDirectory(file.getParentFile());
+
+    assertThat(index.getMetadata(file), is(Optional.of(newMetadata(3))));
+  }
+
+  @Test
+  public void getMetadata_ShouldUsePersistedEntriesAfterSave() throws IOException {
+    final File file = newSaveGame("save", newMetadata(3));
+    final SaveGameIndex index = SaveGameIndex.forDirectory(file.getParentFile());
+    index.getMetadata(file);
+    index.save();
+    // corrupt the header without changing the file size or modification time; the index must not re-read it
+    final long lastModified = file.lastModified();
+    final int length = (int) file.length();
+    try (OutputStream os = new FileOutputStream(file)) {
+      os.write(new byte[length]);
+    }
+    file.setLastModified(lastModified);
+
+    final SaveGameIndex reloadedIndex = SaveGameIndex.forDirectory(file.getParentFile());
+
+    assertThat(reloadedIndex.getMetadata(file), is(Optional.of(newMetadata(3))));
+  }
+
+  @Test
+  public void listSaveGames_ShouldReturnAllSaveGamesInDirectory() throws IOException {
+    final File first = newSaveGame("first", newMetadata(1));
+    final File second = newSaveGame("second", newMetadata(2));
+    first.setLastModified(1000L);
+    second.setLastModified(2000L);
+
+    final List<SaveGameIndex.IndexedSaveGame> saveGames =
+        SaveGameIndex.forDirectory(first.getParentFile()).listSaveGames();
+
+    assertThat(saveGames.stream().map(SaveGameIndex.IndexedSaveGame::getFile).collect(Collectors.toList()),
+        contains(second, first));
+    assertThat(saveGames.get(0).getMetadata(), is(Optional.of(newMetadata(2))));
+  }
+}
@@ -0,0 +1,108 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.io.ByteStreams;
+
+import games.strategy.engine.ClientContext;
+import games.strategy.engine.data.GameData;
+import games.strategy.io.IoUtils;
+import games.strategy.triplea.settings.AbstractClientSettingTestCase;
+import games.strategy.util.Version;
+
+public class SaveGameMetadataTest extends AbstractClientSettingTestCase {
+  @Test
+  public void read_ShouldReturnMetadataWrittenBySaveGame() throws IOException {
+    final GameData data = new GameData();
+    final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data));
+
+    final Optional<SaveGameMetadata> metadata = IoUtils.readFromMemory(bytes, SaveGameMetadata::read);
+
+    assertThat(metadata.isPresent(), is(true));
+    assertThat(metadata.get().getGameName(), is(""));
+    assertThat(metadata.get().getRound(), is(data.getSequence().getRound()));
+    assertThat(metadata.get().getEngineVersion(), is(ClientContext.engineVersion()));
+  }
+
+  @Test
+  public void read_ShouldRoundTripAllFields() throws IOException {
+    final SaveGameMetadata expected = new SaveGameMetadata(
+        "game", "map", 7, "Germans Combat Move", Arrays.asList("Germans", "Russians"), 1234L, new Version(1, 9, 0, 2));
+    final byte[] bytes = IoUtils.writeToMemory(os -> expected.write(os, new byte[0]));
+
+    final Optional<SaveGameMetadata> actual = IoUtils.readFromMemory(bytes, SaveGameMetadata::read);
+
+    assertThat(actual, is(Optional.of(expected)));
+  }
+
+  @Test
+  public void read_ShouldReturnEmptyWhenGzipHeaderHasNoMetadata() throws IOException {
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      try (OutputStream out = new GZIPOutputStream(os)) {
+        out.write(new byte[] {1, 2, 3});
+      }
+    });
+
+    assertThat(IoUtils.readFromMemory(bytes, SaveGameMetadata::read), is(Optional.empty()));
+  }
+
+  @Test
+  public void write_ShouldWriteStreamReadableByGzipStream() throws IOException {
+    final SaveGameMetadata metadata =
+        new SaveGameMetadata("game", "map", 1, "step", Arrays.asList("Germans"), 1234L, new Version(1, 9));
+    final byte[] content = {1, 2, 3};
+    final byte[] bytes = IoUtils.writeToMemory(os -> metadata.write(os, content));
+
+    final byte[] actual = IoUtils.readFromMemory(bytes, is -> {
+      try (InputStream in = new GZIPInputStream(is)) {
+        return ByteStreams.toByteArray(in);
+      }
+    });
+
+    assertThat(actual, is(content));
+  }
+
+  @Test
+  public void loadGame_ShouldLoadSaveWithoutHeader() throws IOException {
+    final GameData data = new GameData();
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(os))) {
+        out.writeObject(ClientContext.engineVersion());
+        out.writeObject(data);
+        out.writeObject("<EndDelegateList>");
+      }
+    });
+
+    final GameData loaded = IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+
+    assertEquals(data.getProperties().get(GameData.GAME_UUID), loaded.getProperties().get(GameData.GAME_UUID));
+  }
+
+  @Test
+  public void loadGame_ShouldAcceptStreamWithoutMarkSupport() throws IOException {
+    final GameData data = new GameData();
+    final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data));
+
+    final GameData loaded = IoUtils.readFromMemory(bytes, is -> GameDataManager.loadGame(new InputStream() {
+      @Override
+      public int read() throws IOException {
+        return is.read();
+      }
+    }));
+
+    assertEquals(data.getProperties().get(GameData.GAME_UUID), loaded.getProperties().get(GameData.GAME_UUID));
+  }
+}
@@ -0,0 +1,80 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import javax.swing.tree.TreeNode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+
+public final class HistoryTest {
+  private final GameData gameData = new GameData();
+  private final History history = gameData.getHistory();
+  private final HistoryWriter historyWriter = history.getHistoryWriter();
+
+  @BeforeEach
+  public void writeHistory() {
+    historyWriter.startNextRound(1);
+    historyWriter.startNextStep("step1", "delegate", null, "Step 1");
+    historyWriter.startEvent("event1");
+    historyWriter.addChange(new CompositeChange());
+    historyWriter.addChildToEvent(new EventChild("child1", null));
+    historyWriter.startEvent("event2");
+    historyWriter.addChange(new CompositeChange());
+    historyWriter.startEvent("event3");
+    historyWriter.addChange(new CompositeChange());
+    historyWriter.startNextStep("step2", "delegate", null, "Step 2");
+    historyWriter.startEvent("event4");
+    historyWriter.addChange(new CompositeChange());
+    historyWriter.startNextRound(2);
+    historyWriter.startNextStep("step3", "delegate", null, "Step 3");
+    historyWriter.startEvent("event5");
+    historyWriter.addChange(new CompositeChange());
+  }
+
+  private static String describe(final TreeNode node) {
+    final StringBuilder description = new StringBuilder(node.toString());
+    if (node.getChildCount() > 0) {
+      description.append('[');
+      for (int i = 0; i < node.getChildCount(); i++) {
+        description.append((i == 0) ? "" : ",").append(describe(node.getChildAt(i)));
+      }
+      description.append(']');
+    }
+    return description.toString();
+  }
+
+  private HistoryNode getNode(final int... indices) {
+    TreeNode node = (TreeNode) history.getRoot();
+    for (final int index : indices) {
+      node = node.getChildAt(index);
+    }
+    return (HistoryNode) node;
+  }
+
+  @Test
+  public void removeAllHistoryAfterNode_ShouldRemoveLaterNodesAndChanges() {
+    final HistoryNode event1 = getNode(0, 0, 0);
+
+    history.removeAllHistoryAfterNode(event1);
+
+    assertThat(describe((TreeNode) history.getRoot()),
+        is("Game History[Round: 1[Step 1[event1[child1],event2]]]"));
+    assertThat(history.getChanges().size(), is(2));
+  }
+
+  @Test
+  public void removeAllHistoryAfterNode_ShouldRemoveLaterRounds() {
+    final HistoryNode event3 = getNode(0, 0, 2);
+
+    history.removeAllHistoryAfterNode(event3);
+
+    assertThat(describe((TreeNode) history.getRoot()),
+        is("Game History[Round: 1[Step 1[event1[child1],event2,event3],Step 2[event4]]]"));
+    assertThat(history.getChanges().size(), is(4));
+  }
+}
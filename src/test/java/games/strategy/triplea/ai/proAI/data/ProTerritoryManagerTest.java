@@ -0,0 +1,134 @@
+package games.strategy.triplea.ai.proAI.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.ai.proAI.ProData;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class ProTerritoryManagerTest {
+  private GameData data;
+  private ProData proData;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    data = TestMapGameData.GLOBAL1940.getGameData();
+    final PlayerID player = data.getPlayerList().getPlayerId("Germans");
+    proData = new ProData();
+    proData.initializeSimulation(null, data, player);
+  }
+
+  private List<Object> populateWithParallelism(final int parallelism,
+      final Consumer<ProTerritoryManager> populator) throws Exception {
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return pool.submit(() -> {
+        final ProTerritoryManager territoryManager = new ProTerritoryManager(null, proData);
+        populator.accept(territoryManager);
+        return snapshot(territoryManager);
+      }).get();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private List<Object> snapshot(final ProTerritoryManager territoryManager) {
+    return Arrays.asList(
+        snapshot(territoryManager.getAttackOptions()),
+        snapshot(territoryManager.getPotentialAttackOptions()),
+        snapshot(territoryManager.getDefendOptions()),
+        snapshot(territoryManager.getAlliedAttackOptions()),
+        snapshot(territoryManager.getEnemyDefendOptions()),
+        snapshot(territoryManager.getEnemyAttackOptions()));
+  }
+
+  private static List<Object> snapshot(final ProMyMoveOptions options) {
+    return Arrays.asList(
+        snapshot(options.getTerritoryMap()),
+        snapshotMultimap(options.getUnitMoveMap()),
+        snapshotMultimap(options.getTransportMoveMap()),
+        snapshotMultimap(options.getBombardMap()),
+        snapshotMultimap(options.getBomberMoveMap()),
+        options.getTransportList().stream()
+            .map(transport -> Arrays.asList(transport.getTransport(), snapshotMultimap(transport.getTransportMap()),
+                snapshotMultimap(transport.getSeaTransportMap())))
+            .collect(Collectors.toList()));
+  }
+
+  private List<Object> snapshot(final ProOtherMoveOptions options) {
+    final List<Object> snapshot = new ArrayList<>();
+    for (final Territory t : data.getMap().getTerritories()) {
+      snapshot.add(options.getMax(t) == null ? Collections.emptyList() : snapshot(options.getMax(t)));
+      snapshot.add(options.getAll(t).stream().map(ProTerritoryManagerTest::snapshot).collect(Collectors.toList()));
+    }
+    return snapshot;
+  }
+
+  private static List<Object> snapshot(final Map<Territory, ProTerritory> territoryMap) {
+    return territoryMap.entrySet().stream()
+        .map(entry -> Arrays.asList(entry.getKey(), snapshot(entry.getValue())))
+        .collect(Collectors.toList());
+  }
+
+  private static List<Object> snapshot(final ProTerritory patd) {
+    return Arrays.asList(
+        patd.getTerritory(),
+        new ArrayList<>(patd.getMaxUnits()),
+        new ArrayList<>(patd.getMaxAmphibUnits()),
+        new ArrayList<>(patd.getMaxBombardUnits()),
+        new ArrayList<>(patd.getMaxScrambleUnits()),
+        snapshotMultimap(patd.getBombardOptionsMap()));
+  }
+
+  private static List<Object> snapshotMultimap(final Map<?, ? extends Collection<?>> multimap) {
+    return multimap.entrySet().stream()
+        .map(entry -> Arrays.asList(entry.getKey(), new ArrayList<>(entry.getValue())))
+        .collect(Collectors.toList());
+  }
+
+  private void assertSameOptionsForAnyParallelism(final Consumer<ProTerritoryManager> populator) throws Exception {
+    final List<Object> sequential = populateWithParallelism(1, populator);
+    final List<Object> parallel = populateWithParallelism(4, populator);
+    final List<Object> parallelAgain = populateWithParallelism(4, populator);
+
+    assertThat(parallel, is(sequential));
+    assertThat(parallelAgain, is(sequential));
+  }
+
+  @Test
+  public void populateAttackOptions_ShouldNotDependOnParallelism() throws Exception {
+    assertSameOptionsForAnyParallelism(territoryManager -> {
+      territoryManager.populateAttackOptions();
+      territoryManager.populateEnemyDefenseOptions();
+    });
+  }
+
+  @Test
+  public void populatePotentialAttackOptions_ShouldNotDependOnParallelism() throws Exception {
+    assertSameOptionsForAnyParallelism(ProTerritoryManager::populatePotentialAttackOptions);
+  }
+
+  @Test
+  public void populateDefenseOptions_ShouldNotDependOnParallelism() throws Exception {
+    assertSameOptionsForAnyParallelism(territoryManager -> {
+      territoryManager.populateDefenseOptions(new ArrayList<>());
+      territoryManager.populateEnemyAttackOptions(new ArrayList<>(), new ArrayList<>());
+    });
+  }
+}
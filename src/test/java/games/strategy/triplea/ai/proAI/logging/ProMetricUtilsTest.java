@@ -0,0 +1,83 @@
+package games.strategy.triplea.ai.proAI.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import games.strategy.debug.PerformanceCounters;
+import games.strategy.debug.PerformanceCounters.Metric;
+
+public final class ProMetricUtilsTest {
+  private static ProTurnMetrics endPhase(final ProMetricUtils.Phase phase, final String phaseName, final int round,
+      final String playerName) {
+    ProMetricUtils.endPhase(phase, phaseName, round, playerName);
+    final List<ProTurnMetrics> turnMetrics = ProMetricUtils.getTurnMetrics();
+    return turnMetrics.get(turnMetrics.size() - 1);
+  }
+
+  @Test
+  public void endPhase_ShouldAddMetricsOfPhasesOfSameTurn() {
+    final ProMetricUtils.Phase purchase = ProMetricUtils.startPhase(true);
+    PerformanceCounters.add("ConcurrentOddsCalculator.batchBattles", 3);
+    endPhase(purchase, "purchase", 1, "Germans");
+    final ProMetricUtils.Phase combatMove = ProMetricUtils.startPhase(true);
+    PerformanceCounters.add("ConcurrentOddsCalculator.batchBattles", 2);
+
+    final ProTurnMetrics turn = endPhase(combatMove, "combatMove", 1, "Germans");
+
+    assertThat(turn.isTurnOf(1, "Germans"), is(true));
+    assertThat(turn.getMetrics().get("ConcurrentOddsCalculator.batchBattles").getCount(), is(5L));
+    assertThat(turn.getMetrics().get("ProAi.purchase").getCount(), is(1L));
+    assertThat(turn.getMetrics().get("ProAi.combatMove").getCount(), is(1L));
+  }
+
+  @Test
+  public void endPhase_ShouldStartNewTurnForOtherPlayer() {
+    endPhase(ProMetricUtils.startPhase(true), "purchase", 2, "Germans");
+
+    final ProTurnMetrics turn = endPhase(ProMetricUtils.startPhase(true), "purchase", 2, "Japanese");
+
+    assertThat(turn.isTurnOf(2, "Japanese"), is(true));
+    assertThat(turn.getMetrics().get("ProAi.purchase").getCount(), is(1L));
+  }
+
+  @Test
+  public void endPhase_ShouldStopRecordingOnCurrentThread() {
+    endPhase(ProMetricUtils.startPhase(true), "place", 2, "Germans");
+
+    assertThat(PerformanceCounters.getBound(), is(nullValue()));
+  }
+
+  @Test
+  public void endPhase_ShouldNotRecordAnythingWhenProfilingIsDisabled() {
+    final List<ProTurnMetrics> turnMetrics = ProMetricUtils.getTurnMetrics();
+    final ProMetricUtils.Phase phase = ProMetricUtils.startPhase(false);
+    PerformanceCounters.increment("ConcurrentOddsCalculator.batchBattles");
+
+    ProMetricUtils.endPhase(phase, "purchase", 3, "Germans");
+
+    assertThat(PerformanceCounters.getBound(), is(nullValue()));
+    assertThat(ProMetricUtils.getTurnMetrics(), is(turnMetrics));
+  }
+
+  @Test
+  public void toCsv_ShouldWriteRowForEachMetricOfEachTurn() {
+    final List<ProTurnMetrics> turnMetrics = Arrays.asList(
+        new ProTurnMetrics(1, "Germans", ImmutableMap.of(
+            "GameMap.getRoute", new Metric(10, 2_500_000, 1_000_000),
+            "ConcurrentOddsCalculator.batchBattles", new Metric(4, 0, 0))),
+        new ProTurnMetrics(1, "Axis, Italians", ImmutableMap.of("ProAi.place", new Metric(1, 1_000, 1_000))));
+
+    assertThat(ProMetricUtils.toCsv(turnMetrics), is("round,player,metric,count,totalMillis,maxMillis\n"
+        + "1,Germans,ConcurrentOddsCalculator.batchBattles,4,0.000,0.000\n"
+        + "1,Germans,GameMap.getRoute,10,2.500,1.000\n"
+        + "1,\"Axis, Italians\",ProAi.place,1,0.001,0.001\n"));
+  }
+}
@@ -0,0 +1,87 @@
+package games.strategy.triplea.ai.proAI.simulate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.delegate.DelegateFinder;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class ProSimulationGameDataTest {
+  private GameData data;
+  private ProSimulationGameData simulationData;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    simulationData = new ProSimulationGameData(data);
+  }
+
+  @AfterEach
+  public void dispose() {
+    simulationData.dispose();
+  }
+
+  private static Territory karelia(final GameData gameData) {
+    return gameData.getMap().getTerritory("Karelia S.S.R.");
+  }
+
+  private static PlayerID germans(final GameData gameData) {
+    return gameData.getPlayerList().getPlayerId("Germans");
+  }
+
+  @Test
+  public void startSimulation_ShouldReturnCopyOfGameData() {
+    final GameData dataCopy = simulationData.startSimulation();
+
+    assertThat(dataCopy, is(not(sameInstance(data))));
+    assertThat(karelia(dataCopy).getOwner().getName(), is(karelia(data).getOwner().getName()));
+    assertThat(karelia(dataCopy).getUnits().size(), is(karelia(data).getUnits().size()));
+  }
+
+  @Test
+  public void endSimulation_ShouldRollBackChangesMadeDuringSimulation() {
+    final GameData dataCopy = simulationData.startSimulation();
+    final int unitCount = karelia(dataCopy).getUnits().size();
+    dataCopy.performChange(ChangeFactory.changeOwner(karelia(dataCopy), germans(dataCopy)));
+    dataCopy.performChange(ChangeFactory.removeUnits(karelia(dataCopy), karelia(dataCopy).getUnits().getUnits()));
+
+    simulationData.endSimulation();
+
+    assertThat(simulationData.startSimulation(), is(sameInstance(dataCopy)));
+    assertThat(karelia(dataCopy).getOwner().getName(), is("Russians"));
+    assertThat(karelia(dataCopy).getUnits().size(), is(unitCount));
+  }
+
+  @Test
+  public void startSimulation_ShouldPerformChangesMadeToGameDataSinceLastSimulation() {
+    final GameData dataCopy = simulationData.startSimulation();
+    simulationData.endSimulation();
+    data.performChange(ChangeFactory.changeOwner(karelia(data), germans(data)));
+    data.getSequence().next();
+
+    assertThat(simulationData.startSimulation(), is(sameInstance(dataCopy)));
+    assertThat(karelia(dataCopy).getOwner().getName(), is("Germans"));
+    assertThat(dataCopy.getSequence().getStepIndex(), is(data.getSequence().getStepIndex()));
+  }
+
+  @Test
+  public void startSimulation_ShouldLoadStateOfDelegates() {
+    final GameData dataCopy = simulationData.startSimulation();
+    simulationData.endSimulation();
+    DelegateFinder.battleDelegate(data).getBattleTracker().getConquered().add(karelia(data));
+
+    simulationData.startSimulation();
+
+    assertThat(DelegateFinder.battleDelegate(dataCopy).getBattleTracker().wasConquered(karelia(dataCopy)), is(true));
+  }
+}
@@ -0,0 +1,137 @@
+package games.strategy.triplea.ai.proAI.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.ai.proAI.data.ProBattleResult;
+import games.strategy.triplea.attachments.TechAttachment;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class ProBattleResultCacheTest {
+  private final ProBattleResultCache cache = new ProBattleResultCache(2);
+  private GameData data;
+  private Territory territory;
+  private PlayerID germans;
+  private PlayerID russians;
+  private UnitType infantry;
+  private UnitType armour;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    territory = data.getMap().getTerritory("Karelia S.S.R.");
+    germans = data.getPlayerList().getPlayerId("Germans");
+    russians = data.getPlayerList().getPlayerId("Russians");
+    infantry = data.getUnitTypeList().getUnitType("infantry");
+    armour = data.getUnitTypeList().getUnitType("armour");
+    cache.invalidateIfChanged(data);
+  }
+
+  private List<Unit> newUnits(final PlayerID owner, final int infantryCount, final int armourCount) {
+    final List<Unit> units = new ArrayList<>(infantry.create(infantryCount, owner, true));
+    units.addAll(armour.create(armourCount, owner, true));
+    return units;
+  }
+
+  private ProBattleResultCache.BattleKey newKey(final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    return ProBattleResultCache.newKey(territory, attackingUnits, defendingUnits, Collections.emptySet(), false);
+  }
+
+  private void putResult(final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    cache.put(newKey(attackingUnits, defendingUnits), new ProBattleResult(60, 5, true,
+        attackingUnits.subList(attackingUnits.size() - 1, attackingUnits.size()), new ArrayList<>(), 2), 0);
+  }
+
+  @Test
+  public void get_ShouldReturnNullWhenBattleIsNotCached() {
+    final List<Unit> attackingUnits = newUnits(germans, 2, 1);
+    final List<Unit> defendingUnits = newUnits(russians, 3, 0);
+
+    assertThat(cache.get(newKey(attackingUnits, defendingUnits), attackingUnits, defendingUnits), is(nullValue()));
+  }
+
+  @Test
+  public void get_ShouldReturnResultOfBattleBetweenEquivalentUnits() {
+    putResult(newUnits(germans, 2, 1), newUnits(russians, 3, 0));
+    final List<Unit> attackingUnits = newUnits(germans, 2, 1);
+    final List<Unit> defendingUnits = newUnits(russians, 3, 0);
+    Collections.reverse(attackingUnits);
+
+    final ProBattleResult result = cache.get(newKey(attackingUnits, defendingUnits), attackingUnits, defendingUnits);
+
+    assertThat(result.getWinPercentage(), is(60.0));
+    assertThat(result.getTuvSwing(), is(5.0));
+    assertThat(result.isHasLandUnitRemaining(), is(true));
+    assertThat(result.getAverageAttackersRemaining(), is(Collections.singletonList(attackingUnits.get(0))));
+    assertThat(result.getAverageDefendersRemaining(), is(Collections.emptyList()));
+    assertThat(result.getBattleRounds(), is(2.0));
+  }
+
+  @Test
+  public void get_ShouldReturnNullWhenUnitsAreNotEquivalent() {
+    putResult(newUnits(germans, 2, 1), newUnits(russians, 3, 0));
+    final List<Unit> attackingUnits = newUnits(germans, 2, 1);
+    final List<Unit> defendingUnits = newUnits(russians, 3, 0);
+    defendingUnits.get(0).setHits(1);
+
+    assertThat(cache.get(newKey(attackingUnits, defendingUnits), attackingUnits, defendingUnits), is(nullValue()));
+  }
+
+  @Test
+  public void put_ShouldEvictLeastRecentlyUsedResult() {
+    final List<Unit> attackingUnits = newUnits(germans, 1, 0);
+    final List<Unit> defendingUnits1 = newUnits(russians, 1, 0);
+    final List<Unit> defendingUnits2 = newUnits(russians, 2, 0);
+    final List<Unit> defendingUnits3 = newUnits(russians, 3, 0);
+    putResult(attackingUnits, defendingUnits1);
+    putResult(attackingUnits, defendingUnits2);
+    cache.get(newKey(attackingUnits, defendingUnits1), attackingUnits, defendingUnits1);
+
+    putResult(attackingUnits, defendingUnits3);
+
+    assertThat(cache.size(), is(2));
+    assertThat(cache.get(newKey(attackingUnits, defendingUnits2), attackingUnits, defendingUnits2), is(nullValue()));
+  }
+
+  @Test
+  public void invalidateIfChanged_ShouldKeepResultsDuringRound() {
+    putResult(newUnits(germans, 2, 1), newUnits(russians, 3, 0));
+
+    cache.invalidateIfChanged(data);
+
+    assertThat(cache.size(), is(1));
+  }
+
+  @Test
+  public void invalidateIfChanged_ShouldDiscardResultsWhenRoundChanges() {
+    putResult(newUnits(germans, 2, 1), newUnits(russians, 3, 0));
+    data.getSequence().setRoundOffset(data.getSequence().getRoundOffset() + 1);
+
+    cache.invalidateIfChanged(data);
+
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  public void invalidateIfChanged_ShouldDiscardResultsWhenPlayerGainsTechnology() {
+    putResult(newUnits(germans, 2, 1), newUnits(russians, 3, 0));
+    TechAttachment.get(germans).setJetPower(true);
+
+    cache.invalidateIfChanged(data);
+
+    assertThat(cache.size(), is(0));
+  }
+}
@@ -0,0 +1,86 @@
+package games.strategy.triplea.ai.proAI.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameMap;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.xml.TestMapGameData;
+import games.strategy.util.CollectionUtils;
+
+public final class ProTerritoryGraphTest {
+  private GameMap map;
+  private ProTerritoryGraph graph;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    final GameData data = TestMapGameData.REVISED.getGameData();
+    map = data.getMap();
+    graph = new ProTerritoryGraph(map);
+  }
+
+  @Test
+  public void getDistances_ShouldMatchDistancesOfMap() {
+    for (final Territory start : map.getTerritories()) {
+      final int[] distances = graph.getDistances(graph.indexOf(start), Integer.MAX_VALUE, null);
+      for (final Territory t : map.getTerritories()) {
+        assertThat(start + " to " + t, distances[graph.indexOf(t)], is(map.getDistance(start, t)));
+      }
+    }
+  }
+
+  @Test
+  public void getDistances_ShouldOnlyPassThroughTerritoriesMatchingMask() {
+    final Predicate<Territory> isLand = Matches.territoryIsLand();
+    final boolean[] mask = graph.getMatches(isLand);
+    for (final Territory start : CollectionUtils.getMatches(map.getTerritories(), isLand)) {
+      final int[] distances = graph.getDistances(graph.indexOf(start), Integer.MAX_VALUE, mask);
+      for (final Territory t : CollectionUtils.getMatches(map.getTerritories(), isLand)) {
+        assertThat(start + " to " + t, distances[graph.indexOf(t)], is(map.getDistance(start, t, isLand)));
+      }
+    }
+  }
+
+  @Test
+  public void getDistances_ShouldStopAtMaxDistance() {
+    final Territory start = map.getTerritory("Germany");
+    final int[] distances = graph.getDistances(graph.indexOf(start), 2, null);
+    for (final Territory t : map.getTerritories()) {
+      final int distance = map.getDistance(start, t);
+      assertThat(start + " to " + t, distances[graph.indexOf(t)], is(distance <= 2 ? distance : -1));
+    }
+  }
+
+  @Test
+  public void getCachedLandMassSizes_ShouldCountMatchingNeighbors() {
+    final Predicate<Territory> isLand = Matches.territoryIsLand();
+    final int[] landMassSizes = graph.getCachedLandMassSizes(3, graph.getMatches(isLand));
+    for (final Territory t : map.getTerritories()) {
+      final Set<Territory> neighbors = map.getNeighbors(t, 3, isLand);
+      assertThat(t.getName(), landMassSizes[graph.indexOf(t)], is(1 + neighbors.size()));
+    }
+  }
+
+  @Test
+  public void getCachedLandMassSizes_ShouldReuseResultForEqualMask() {
+    final Predicate<Territory> isLand = Matches.territoryIsLand();
+    final int[] landMassSizes = graph.getCachedLandMassSizes(3, graph.getMatches(isLand));
+
+    assertThat(graph.getCachedLandMassSizes(3, graph.getMatches(isLand)), is(sameInstance(landMassSizes)));
+  }
+
+  @Test
+  public void getCanalTerritories_ShouldReturnTerritoriesWithCanals() {
+    assertThat(graph.getCanalTerritories().contains(map.getTerritory("15 Sea Zone")), is(true));
+    assertThat(graph.getCanalTerritories().contains(map.getTerritory("Germany")), is(false));
+  }
+}
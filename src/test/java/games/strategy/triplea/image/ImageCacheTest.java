@@ -0,0 +1,128 @@
+package games.strategy.triplea.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public final class ImageCacheTest {
+  // a 10x10 image with 4 bytes per pixel
+  private static final long IMAGE_SIZE = 400;
+
+  private final ImageCache imageCache = new ImageCache(3 * IMAGE_SIZE);
+  private final ImageCache.Region region = imageCache.newRegion("region");
+  private final ImageCache.Region otherRegion = imageCache.newRegion("other region");
+
+  private static Image newImage() {
+    return new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB);
+  }
+
+  @Test
+  public void sizeOf_ShouldReturnSizeOfPixelData() {
+    assertThat(ImageCache.sizeOf(new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB)), is(400L));
+    assertThat(ImageCache.sizeOf(new BufferedImage(10, 10, BufferedImage.TYPE_3BYTE_BGR)), is(300L));
+    assertThat(ImageCache.sizeOf(new BufferedImage(10, 10, BufferedImage.TYPE_BYTE_GRAY)), is(100L));
+  }
+
+  @Test
+  public void put_ShouldEvictLeastRecentlyUsedImagesWhenMaxSizeIsExceeded() {
+    final Image image1 = newImage();
+    final Image image2 = newImage();
+    final Image image3 = newImage();
+    final Image image4 = newImage();
+
+    region.put("1", image1);
+    region.put("2", image2);
+    region.put("3", image3);
+    region.get("1");
+    region.put("4", image4);
+
+    assertThat(region.peek("1"), is(sameInstance(image1)));
+    assertThat(region.peek("2"), is(nullValue()));
+    assertThat(region.peek("3"), is(sameInstance(image3)));
+    assertThat(region.peek("4"), is(sameInstance(image4)));
+    assertThat(imageCache.getUsedBytes(), is(3 * IMAGE_SIZE));
+    assertThat(imageCache.getEvictionCount("region"), is(1L));
+  }
+
+  @Test
+  public void put_ShouldReplacePreviousImageWithSameKey() {
+    final Image image = newImage();
+
+    region.put("1", newImage());
+    region.put("1", image);
+
+    assertThat(region.get("1"), is(sameInstance(image)));
+    assertThat(imageCache.getUsedBytes(), is(IMAGE_SIZE));
+  }
+
+  @Test
+  public void peek_ShouldNotMarkImageAsRecentlyUsed() {
+    region.put("1", newImage());
+    region.put("2", newImage());
+    region.put("3", newImage());
+    region.peek("1");
+    region.put("4", newImage());
+
+    assertThat(region.peek("1"), is(nullValue()));
+  }
+
+  @Test
+  public void put_ShouldNotEvictPinnedImages() {
+    final Image image1 = newImage();
+    region.pinOnly(Arrays.asList("1", "2", "3"));
+
+    region.put("1", image1);
+    region.put("2", newImage());
+    region.put("3", newImage());
+    region.put("4", newImage());
+
+    assertThat(region.peek("1"), is(sameInstance(image1)));
+    assertThat(region.peek("4"), is(nullValue()));
+    assertThat(imageCache.getUsedBytes(), is(3 * IMAGE_SIZE));
+  }
+
+  @Test
+  public void pinOnly_ShouldEvictImagesThatNoLongerFitWhenUnpinned() {
+    region.pinOnly(Arrays.asList("1", "2", "3", "4"));
+    region.put("1", newImage());
+    region.put("2", newImage());
+    region.put("3", newImage());
+    region.put("4", newImage());
+    assertThat(imageCache.getUsedBytes(), is(4 * IMAGE_SIZE));
+
+    region.pinOnly(Arrays.asList("2", "3", "4"));
+
+    assertThat(region.peek("1"), is(nullValue()));
+    assertThat(imageCache.getUsedBytes(), is(3 * IMAGE_SIZE));
+  }
+
+  @Test
+  public void clear_ShouldOnlyEvictImagesOfThatRegion() {
+    final Image image = newImage();
+    region.put("1", newImage());
+    otherRegion.put("1", image);
+
+    region.clear();
+
+    assertThat(region.peek("1"), is(nullValue()));
+    assertThat(otherRegion.peek("1"), is(sameInstance(image)));
+    assertThat(imageCache.getUsedBytes(), is(IMAGE_SIZE));
+  }
+
+  @Test
+  public void remove_ShouldReleaseSizeOfImage() {
+    region.put("1", newImage());
+
+    region.remove("1");
+
+    assertThat(region.peek("1"), is(nullValue()));
+    assertThat(imageCache.getUsedBytes(), is(0L));
+  }
+}
@@ -0,0 +1,47 @@
+package games.strategy.triplea.image;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+public final class UnitImageFactoryTest {
+  private static BufferedImage newImage(final int width, final int height, final Color color) {
+    final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    final Graphics2D g = image.createGraphics();
+    g.setColor(color);
+    g.fillRect(0, 0, width, height);
+    g.dispose();
+    return image;
+  }
+
+  @Test
+  public void scaleImage_ShouldReturnImageOfRequestedSize() {
+    final BufferedImage image = newImage(200, 100, Color.RED);
+
+    assertThat(UnitImageFactory.scaleImage(image, 48, 24).getWidth(), is(48));
+    assertThat(UnitImageFactory.scaleImage(image, 48, 24).getHeight(), is(24));
+    assertThat(UnitImageFactory.scaleImage(image, 300, 150).getWidth(), is(300));
+    assertThat(UnitImageFactory.scaleImage(image, 200, 100).getHeight(), is(100));
+  }
+
+  @Test
+  public void scaleImage_ShouldPreserveColors() {
+    final BufferedImage scaledImage = UnitImageFactory.scaleImage(newImage(200, 100, Color.RED), 30, 15);
+
+    assertThat(scaledImage.getRGB(0, 0), is(Color.RED.getRGB()));
+    assertThat(scaledImage.getRGB(15, 7), is(Color.RED.getRGB()));
+    assertThat(scaledImage.getRGB(29, 14), is(Color.RED.getRGB()));
+  }
+
+  @Test
+  public void scaleImage_ShouldPreserveTransparency() {
+    final BufferedImage scaledImage = UnitImageFactory.scaleImage(newImage(96, 96, new Color(0, 0, 0, 0)), 48, 48);
+
+    assertThat(scaledImage.getRGB(24, 24) >>> 24, is(0));
+  }
+}
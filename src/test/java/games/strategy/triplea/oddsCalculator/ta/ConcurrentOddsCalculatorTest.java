@@ -0,0 +1,176 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class ConcurrentOddsCalculatorTest {
+  private final ConcurrentOddsCalculator calculator = new ConcurrentOddsCalculator("Test");
+  private GameData data;
+  private Territory germany;
+  private PlayerID germans;
+  private PlayerID russians;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    germany = data.getMap().getTerritory("Germany");
+    germans = data.getPlayerList().getPlayerId("Germans");
+    russians = data.getPlayerList().getPlayerId("Russians");
+  }
+
+  @AfterEach
+  public void shutdownCalculator() {
+    calculator.shutdown();
+  }
+
+  private BattleSpec newAttackOnGermany(final int infantryCount, final int runCount) {
+    final List<Unit> attackingUnits =
+        data.getUnitTypeList().getUnitType("infantry").create(infantryCount, russians, true);
+    return new BattleSpec(russians, germans, germany, attackingUnits, new ArrayList<>(germany.getUnits().getUnits()),
+        Collections.emptyList(), TerritoryEffectHelper.getEffects(germany), runCount);
+  }
+
+  private AggregateResults calculateInfantryDuel() {
+    final UnitType infantry = data.getUnitTypeList().getUnitType("infantry");
+    return calculator.setCalculateDataAndCalculate(russians, germans, germany, infantry.create(1, russians, true),
+        infantry.create(1, germans, true), Collections.emptyList(), TerritoryEffectHelper.getEffects(germany), 10);
+  }
+
+  private static void setInfantryAttack(final GameData gameData, final int attack) {
+    final UnitType infantry = gameData.getUnitTypeList().getUnitType("infantry");
+    gameData.performChange(
+        ChangeFactory.attachmentPropertyChange(UnitAttachment.get(infantry), String.valueOf(attack), "attack"));
+  }
+
+  @Test
+  public void calculateAll_ShouldReturnResultsInOrderOfBattles() {
+    calculator.setGameData(data);
+
+    final List<AggregateResults> results = calculator.calculateAll(Arrays.asList(
+        newAttackOnGermany(100, 20), newAttackOnGermany(1, 30), newAttackOnGermany(100, 40)));
+
+    assertThat(results.size(), is(3));
+    assertThat(results.get(0).isCalculated(), is(true));
+    assertThat(results.get(0).getResults().size(), is(20));
+    assertThat(results.get(0).getAttackerWinPercent(), is(greaterThan(0.9)));
+    assertThat(results.get(1).getResults().size(), is(30));
+    assertThat(results.get(1).getAttackerWinPercent(), is(lessThan(0.1)));
+    assertThat(results.get(2).getResults().size(), is(40));
+    assertThat(results.get(2).getAttackerWinPercent(), is(greaterThan(0.9)));
+  }
+
+  @Test
+  public void calculateAll_ShouldReturnEmptyResultsWhenGameDataIsNotSet() {
+    final List<AggregateResults> results =
+        calculator.calculateAll(Arrays.asList(newAttackOnGermany(1, 10), newAttackOnGermany(2, 10)));
+
+    assertThat(results.size(), is(2));
+    assertThat(results.get(0).getResults().size(), is(0));
+    assertThat(results.get(0).isCalculated(), is(false));
+    assertThat(results.get(1).getResults().size(), is(0));
+    assertThat(results.get(1).isCalculated(), is(false));
+  }
+
+  @Test
+  public void calculate_ShouldStopEarlyWhenWinPercentIsClearlyAboveThreshold() {
+    calculator.setGameData(data);
+    calculator.setPrecision(new OddsPrecision(0, 0, 0.5));
+    final BattleSpec battle = newAttackOnGermany(100, 500);
+
+    final AggregateResults results = calculator.setCalculateDataAndCalculate(battle.getAttacker(),
+        battle.getDefender(), battle.getLocation(), battle.getAttacking(), battle.getDefending(),
+        battle.getBombarding(), battle.getTerritoryEffects(), battle.getRunCount());
+
+    assertThat(results.getRollCount(), is(lessThan(500)));
+    assertThat(results.getRollCount(), is(greaterThanOrEqualTo(OddsPrecision.MIN_RUN_COUNT)));
+    assertThat(results.getAttackerWinPercent() - results.getAttackerWinPercentMarginOfError(), is(greaterThan(0.5)));
+  }
+
+  @Test
+  public void calculateAll_ShouldStopEachBattleEarlyWhenItIsPreciseEnough() {
+    calculator.setGameData(data);
+    calculator.setPrecision(new OddsPrecision(0, 0, 0.5));
+
+    final List<AggregateResults> results =
+        calculator.calculateAll(Arrays.asList(newAttackOnGermany(100, 500), newAttackOnGermany(1, 500)));
+
+    assertThat(results.get(0).getRollCount(), is(lessThan(500)));
+    assertThat(results.get(1).getRollCount(), is(lessThan(500)));
+  }
+
+  @Test
+  public void calculate_ShouldDoAllRunsWithoutPrecision() {
+    calculator.setGameData(data);
+    final BattleSpec battle = newAttackOnGermany(1, 50);
+
+    final AggregateResults results = calculator.setCalculateDataAndCalculate(battle.getAttacker(),
+        battle.getDefender(), battle.getLocation(), battle.getAttacking(), battle.getDefending(),
+        battle.getBombarding(), battle.getTerritoryEffects(), battle.getRunCount());
+
+    assertThat(results.getRollCount(), is(50));
+  }
+
+  @Test
+  public void setGameData_ShouldPerformChangesMadeSinceGameDataWasLastSet() {
+    calculator.setGameData(data);
+    assertThat(calculateInfantryDuel().getAttackerWinPercent(), is(closeTo(0.25, 1e-9)));
+    setInfantryAttack(data, 3);
+
+    calculator.setGameData(data);
+
+    assertThat(calculateInfantryDuel().getAttackerWinPercent(), is(closeTo(0.5, 1e-9)));
+  }
+
+  @Test
+  public void setGameData_ShouldCopyOtherGameData() {
+    calculator.setGameData(data);
+    assertThat(calculateInfantryDuel().getAttackerWinPercent(), is(closeTo(0.25, 1e-9)));
+    final GameData otherData = GameDataUtils.cloneGameData(data, true);
+    setInfantryAttack(otherData, 3);
+
+    calculator.setGameData(otherData);
+
+    assertThat(calculateInfantryDuel().getAttackerWinPercent(), is(closeTo(0.5, 1e-9)));
+  }
+
+  @Test
+  public void withSharedWorkerPool_ShouldKeepCalculatingAfterOtherCalculatorWasShutDown() {
+    final ConcurrentOddsCalculator first = ConcurrentOddsCalculator.withSharedWorkerPool();
+    final ConcurrentOddsCalculator second = ConcurrentOddsCalculator.withSharedWorkerPool();
+    try {
+      first.setGameData(data);
+      second.setGameData(data);
+      first.shutdown();
+
+      final List<AggregateResults> results = second.calculateAll(Arrays.asList(newAttackOnGermany(100, 20)));
+
+      assertThat(results.get(0).getResults().size(), is(20));
+    } finally {
+      second.shutdown();
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.util.TuvUtils;
+import games.strategy.triplea.xml.TestMapGameData;
+
+public final class ExactBattleCalculatorTest {
+  private GameData data;
+  private Territory territory;
+  private PlayerID germans;
+  private PlayerID russians;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    territory = data.getMap().getTerritory("Karelia S.S.R.");
+    germans = data.getPlayerList().getPlayerId("Germans");
+    russians = data.getPlayerList().getPlayerId("Russians");
+  }
+
+  private List<Unit> newUnits(final PlayerID owner, final String unitTypeName, final int count) {
+    return data.getUnitTypeList().getUnitType(unitTypeName).create(count, owner, true);
+  }
+
+  private AggregateResults calculate(final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    return ExactBattleCalculator.calculate(data, germans, russians, territory, attackingUnits, defendingUnits,
+        TerritoryEffectHelper.getEffects(territory));
+  }
+
+  @Test
+  public void calculate_ShouldSolveBattleBetweenSingleUnitsExactly() {
+    // each round: attacker hits 1/6, defender hits 2/6, so the round decides the battle with probability 16/36
+    final AggregateResults results = calculate(newUnits(germans, "infantry", 1), newUnits(russians, "infantry", 1));
+
+    assertThat(results.isExact(), is(true));
+    assertThat(results.getAttackerWinPercent(), is(closeTo(4.0 / 16, 1e-9)));
+    assertThat(results.getDefenderWinPercent(), is(closeTo(10.0 / 16, 1e-9)));
+    assertThat(results.getDrawPercent(), is(closeTo(2.0 / 16, 1e-9)));
+    assertThat(results.getAverageBattleRoundsFought(), is(closeTo(36.0 / 16, 1e-9)));
+  }
+
+  @Test
+  public void calculate_ShouldMatchSimulatedResults() {
+    final List<Unit> attackingUnits = newUnits(germans, "infantry", 3);
+    attackingUnits.addAll(newUnits(germans, "armour", 3));
+    final List<Unit> defendingUnits = newUnits(russians, "infantry", 5);
+    final OddsCalculator simulator = new OddsCalculator(data);
+    // a retreat that never happens makes the calculator simulate the battle without changing its outcome
+    simulator.setRetreatAfterRound(100);
+
+    final AggregateResults exactResults = calculate(attackingUnits, defendingUnits);
+    final AggregateResults simulatedResults = simulator.setCalculateDataAndCalculate(germans, russians, territory,
+        attackingUnits, defendingUnits, Collections.emptyList(), TerritoryEffectHelper.getEffects(territory), 2000);
+
+    assertThat(simulatedResults.isExact(), is(false));
+    assertThat(exactResults.getAttackerWinPercent(), is(closeTo(simulatedResults.getAttackerWinPercent(), 0.04)));
+    assertThat(exactResults.getAverageAttackingUnitsLeft(),
+        is(closeTo(simulatedResults.getAverageAttackingUnitsLeft(), 0.2)));
+    assertThat(exactResults.getAverageBattleRoundsFought(),
+        is(closeTo(simulatedResults.getAverageBattleRoundsFought(), 0.2)));
+    assertThat(exactResults.getAverageTuvSwing(germans, attackingUnits, russians, defendingUnits, data),
+        is(closeTo(simulatedResults.getAverageTuvSwing(germans, attackingUnits, russians, defendingUnits, data), 1.5)));
+  }
+
+  @Test
+  public void calculate_ShouldTakeWeakestUnitsAsCasualtiesFirst() {
+    final List<Unit> attackingUnits = newUnits(germans, "armour", 1);
+    attackingUnits.addAll(newUnits(germans, "infantry", 1));
+    final List<Unit> defendingUnits = newUnits(russians, "infantry", 1);
+
+    final AggregateResults results = calculate(attackingUnits, defendingUnits);
+    final List<Unit> remainingUnits = results.getAverageAttackingUnitsRemaining();
+
+    assertThat(remainingUnits.size(), is(1));
+    assertThat(remainingUnits.get(0).getType().getName(), is("armour"));
+    assertThat(results.getAverageTuvOfUnitsLeftOver(TuvUtils.getCostsForTuv(germans, data),
+        TuvUtils.getCostsForTuv(russians, data)).getSecond() > 0, is(true));
+  }
+
+  @Test
+  public void calculate_ShouldReturnNullWhenUnitsGiveSupport() {
+    final List<Unit> attackingUnits = newUnits(germans, "infantry", 2);
+    attackingUnits.addAll(newUnits(germans, "artillery", 1));
+
+    assertThat(calculate(attackingUnits, newUnits(russians, "infantry", 2)), is(nullValue()));
+  }
+
+  @Test
+  public void calculate_ShouldReturnNullWhenDefenderHasAaGun() {
+    final List<Unit> defendingUnits = newUnits(russians, "infantry", 2);
+    defendingUnits.addAll(newUnits(russians, "aaGun", 1));
+
+    assertThat(calculate(newUnits(germans, "infantry", 2), defendingUnits), is(nullValue()));
+  }
+
+  @Test
+  public void calculate_ShouldReturnNullWhenBattleIsTooLarge() {
+    assertThat(calculate(newUnits(germans, "infantry", ExactBattleCalculator.MAX_UNITS_PER_SIDE + 1),
+        newUnits(russians, "infantry", 1)), is(nullValue()));
+  }
+
+  @Test
+  public void calculate_ShouldMatchSimulatedResultsWhenUnitsHaveNoPower() {
+    final UnitType armour = data.getUnitTypeList().getUnitType("armour");
+    data.performChange(ChangeFactory.attachmentPropertyChange(UnitAttachment.get(armour), "0", "attack"));
+    final List<Unit> attackingUnits = newUnits(germans, "infantry", 3);
+    attackingUnits.addAll(newUnits(germans, "armour", 2));
+    final List<Unit> defendingUnits = newUnits(russians, "infantry", 2);
+    final OddsCalculator simulator = new OddsCalculator(data);
+    simulator.setRetreatAfterRound(100);
+
+    final AggregateResults exactResults = calculate(attackingUnits, defendingUnits);
+    final AggregateResults simulatedResults = simulator.setCalculateDataAndCalculate(germans, russians, territory,
+        attackingUnits, defendingUnits, Collections.emptyList(), TerritoryEffectHelper.getEffects(territory), 2000);
+
+    assertThat(exactResults.isExact(), is(true));
+    assertThat(exactResults.getAttackerWinPercent(), is(closeTo(simulatedResults.getAttackerWinPercent(), 0.04)));
+    assertThat(exactResults.getAverageAttackingUnitsLeft(),
+        is(closeTo(simulatedResults.getAverageAttackingUnitsLeft(), 0.2)));
+  }
+
+  @Test
+  public void calculate_ShouldReturnNullWhenNeitherSideCanHit() {
+    final UnitType infantry = data.getUnitTypeList().getUnitType("infantry");
+    data.performChange(ChangeFactory.attachmentPropertyChange(UnitAttachment.get(infantry), "0", "attack"));
+    data.performChange(ChangeFactory.attachmentPropertyChange(UnitAttachment.get(infantry), "0", "defense"));
+
+    assertThat(calculate(newUnits(germans, "infantry", 1), newUnits(russians, "infantry", 1)), is(nullValue()));
+  }
+
+  @Test
+  public void oddsCalculator_ShouldSolveSimpleBattlesExactly() {
+    final OddsCalculator calculator = new OddsCalculator(data);
+
+    final AggregateResults results = calculator.setCalculateDataAndCalculate(germans, russians, territory,
+        newUnits(germans, "armour", 2), newUnits(russians, "infantry", 2), new ArrayList<>(),
+        TerritoryEffectHelper.getEffects(territory), 100);
+
+    assertThat(results.isExact(), is(true));
+  }
+}
@@ -0,0 +1,33 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+public final class OddsPrecisionTest {
+  @Test
+  public void isReached_ShouldBeFalseBeforeMinRunCount() {
+    final OddsPrecision precision = new OddsPrecision(1, Double.POSITIVE_INFINITY);
+
+    assertThat(precision.isReached(OddsPrecision.MIN_RUN_COUNT - 1, 0.5, 0, 0), is(false));
+  }
+
+  @Test
+  public void isReached_ShouldBeTrueWhenBothIntervalsAreWithinTolerance() {
+    final OddsPrecision precision = new OddsPrecision(0.05, 2);
+
+    assertThat(precision.isReached(100, 0.5, 0.05, 2), is(true));
+    assertThat(precision.isReached(100, 0.5, 0.06, 2), is(false));
+    assertThat(precision.isReached(100, 0.5, 0.05, 3), is(false));
+  }
+
+  @Test
+  public void isReached_ShouldBeTrueWhenIntervalIsClearlyAboveOrBelowThreshold() {
+    final OddsPrecision precision = new OddsPrecision(0, 0, 0.75);
+
+    assertThat(precision.isReached(32, 0.9, 0.1, 10), is(true));
+    assertThat(precision.isReached(32, 0.6, 0.1, 10), is(true));
+    assertThat(precision.isReached(32, 0.8, 0.1, 10), is(false));
+  }
+}
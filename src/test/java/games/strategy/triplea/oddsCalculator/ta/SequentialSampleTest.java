@@ -0,0 +1,35 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.junit.jupiter.api.Test;
+
+public final class SequentialSampleTest {
+  @Test
+  public void getWinPercentMarginOfError_ShouldNotBeZeroWhenAllRunsAreWon() {
+    assertThat(SequentialSample.getWinPercentMarginOfError(16, 16), is(greaterThan(0.1)));
+    assertThat(SequentialSample.getWinPercentMarginOfError(1000, 1000), is(lessThan(0.01)));
+  }
+
+  @Test
+  public void getMeanMarginOfError_ShouldUseSampleVariance() {
+    // values 1, 2, 3: sample variance 1
+    assertThat(SequentialSample.getMeanMarginOfError(6, 14, 3), is(closeTo(1.96 / Math.sqrt(3), 1e-9)));
+    assertThat(SequentialSample.getMeanMarginOfError(1, 1, 1), is(Double.POSITIVE_INFINITY));
+  }
+
+  @Test
+  public void isPrecise_ShouldBecomeTrueOnceAllRunsOfALopsidedBattleAreWon() {
+    final SequentialSample sample = new SequentialSample(new OddsPrecision(0, 0, 0.5));
+
+    for (int i = 0; i < 64 && !sample.isPrecise(); i++) {
+      sample.add(true, 10);
+    }
+
+    assertThat(sample.isPrecise(), is(true));
+  }
+}
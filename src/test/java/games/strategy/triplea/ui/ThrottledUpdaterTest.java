@@ -0,0 +1,144 @@
+package games.strategy.triplea.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public final class ThrottledUpdaterTest {
+  private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+  private final AtomicInteger computationCount = new AtomicInteger();
+  private final List<Integer> publishedValues = new ArrayList<>();
+
+  @AfterEach
+  public void shutdownExecutor() {
+    executor.shutdownNow();
+  }
+
+  private ThrottledUpdater<Integer> newUpdater(final long intervalMillis, final CountDownLatch computationStarted,
+      final CountDownLatch computationReleased) {
+    return new ThrottledUpdater<>(executor, Runnable::run, intervalMillis, TimeUnit.MILLISECONDS, () -> {
+      computationStarted.countDown();
+      try {
+        computationReleased.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return computationCount.incrementAndGet();
+    }, value -> {
+      synchronized (publishedValues) {
+        publishedValues.add(value);
+      }
+    });
+  }
+
+  private void awaitPendingUpdates() throws Exception {
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void requestUpdate_ShouldPublishComputedValue() throws Exception {
+    final ThrottledUpdater<Integer> updater = newUpdater(0, new CountDownLatch(1), new CountDownLatch(0));
+
+    updater.requestUpdate();
+    awaitPendingUpdates();
+
+    assertThat(publishedValues, is(Collections.singletonList(1)));
+  }
+
+  @Test
+  public void requestUpdate_ShouldCoalesceRequestsMadeWhileComputing() throws Exception {
+    final CountDownLatch computationStarted = new CountDownLatch(1);
+    final CountDownLatch computationReleased = new CountDownLatch(1);
+    final ThrottledUpdater<Integer> updater = newUpdater(0, computationStarted, computationReleased);
+
+    updater.requestUpdate();
+    computationStarted.await();
+    for (int i = 0; i < 10; i++) {
+      updater.requestUpdate();
+    }
+    computationReleased.countDown();
+    awaitPendingUpdates();
+
+    assertThat(publishedValues, is(Arrays.asList(1, 2)));
+  }
+
+  @Test
+  public void requestUpdate_ShouldDelayUpdateUntilIntervalHasElapsed() throws Exception {
+    final CountDownLatch computationStarted = new CountDownLatch(1);
+    final ThrottledUpdater<Integer> updater =
+        newUpdater(TimeUnit.HOURS.toMillis(1), computationStarted, new CountDownLatch(0));
+
+    updater.requestUpdate();
+    computationStarted.await();
+    updater.requestUpdate();
+    updater.requestUpdate();
+
+    assertThat(executor.getQueue().size(), is(1));
+    executor.shutdownNow();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+    assertThat(computationCount.get(), is(1));
+  }
+
+  @Test
+  public void requestImmediateUpdate_ShouldIgnoreInterval() throws Exception {
+    final CountDownLatch computationStarted = new CountDownLatch(1);
+    final ThrottledUpdater<Integer> updater =
+        newUpdater(TimeUnit.HOURS.toMillis(1), computationStarted, new CountDownLatch(0));
+
+    updater.requestUpdate();
+    computationStarted.await();
+    updater.requestImmediateUpdate();
+    awaitPendingUpdates();
+
+    assertThat(publishedValues, is(Arrays.asList(1, 2)));
+  }
+
+  @Test
+  public void requestUpdate_ShouldNotComputeWhileInactive() throws Exception {
+    final ThrottledUpdater<Integer> updater = newUpdater(0, new CountDownLatch(1), new CountDownLatch(0));
+
+    updater.setActive(false);
+    updater.requestUpdate();
+    updater.requestImmediateUpdate();
+    awaitPendingUpdates();
+
+    assertThat(computationCount.get(), is(0));
+  }
+
+  @Test
+  public void setActive_ShouldRunSingleUpdateRequestedWhileInactive() throws Exception {
+    final ThrottledUpdater<Integer> updater =
+        newUpdater(TimeUnit.HOURS.toMillis(1), new CountDownLatch(1), new CountDownLatch(0));
+
+    updater.setActive(false);
+    updater.requestUpdate();
+    updater.requestUpdate();
+    updater.setActive(true);
+    awaitPendingUpdates();
+
+    assertThat(publishedValues, is(Collections.singletonList(1)));
+  }
+
+  @Test
+  public void setActive_ShouldNotUpdateWhenNoUpdateWasRequestedWhileInactive() throws Exception {
+    final ThrottledUpdater<Integer> updater = newUpdater(0, new CountDownLatch(1), new CountDownLatch(0));
+
+    updater.setActive(false);
+    updater.setActive(true);
+    awaitPendingUpdates();
+
+    assertThat(computationCount.get(), is(0));
+  }
+}
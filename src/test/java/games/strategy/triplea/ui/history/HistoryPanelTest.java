@@ -0,0 +1,45 @@
+package games.strategy.triplea.ui.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.TreeNode;
+
+import org.junit.jupiter.api.Test;
+
+public final class HistoryPanelTest {
+  private static DefaultMutableTreeNode newTree() {
+    final DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+    for (int i = 0; i < 3; i++) {
+      final DefaultMutableTreeNode child = new DefaultMutableTreeNode("child" + i);
+      root.add(child);
+      for (int j = 0; j < i; j++) {
+        child.add(new DefaultMutableTreeNode("grandchild" + i + j));
+      }
+    }
+    return root;
+  }
+
+  @Test
+  public void getDepthFirstPredecessor_ShouldWalkDepthFirstEnumerationBackwards() {
+    final DefaultMutableTreeNode root = newTree();
+    final List<TreeNode> expected = new ArrayList<>();
+    for (final Enumeration<?> nodes = root.depthFirstEnumeration(); nodes.hasMoreElements();) {
+      expected.add((TreeNode) nodes.nextElement());
+    }
+    Collections.reverse(expected);
+
+    final List<TreeNode> actual = new ArrayList<>();
+    for (TreeNode node = root; node != null; node = HistoryPanel.getDepthFirstPredecessor(node)) {
+      actual.add(node);
+    }
+
+    assertThat(actual, is(expected));
+  }
+}
@@ -0,0 +1,98 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.awt.Rectangle;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.triplea.image.ImageCache;
+
+public final class BackgroundTileDrawerTest {
+  private static final Duration timeout = Duration.ofSeconds(5);
+
+  private final Tile tile1 = newTile(0);
+  private final Tile tile2 = newTile(1);
+  private final Tile tile3 = newTile(2);
+  private final List<Tile> drawnTiles = Collections.synchronizedList(new ArrayList<>());
+  private final CountDownLatch firstTileStarted = new CountDownLatch(1);
+  private final CountDownLatch firstTileReleased = new CountDownLatch(1);
+  private CountDownLatch tilesDrawn;
+  private final BackgroundTileDrawer backgroundTileDrawer = new BackgroundTileDrawer("test", 1, this::draw);
+
+  private static Tile newTile(final int x) {
+    return new Tile(new Rectangle(x * TileManager.TILE_SIZE, 0, TileManager.TILE_SIZE, TileManager.TILE_SIZE), x, 0,
+        1.0, ImageCache.getInstance().newRegion("Test tiles"));
+  }
+
+  private void draw(final Tile tile) {
+    if (drawnTiles.isEmpty()) {
+      firstTileStarted.countDown();
+      try {
+        firstTileReleased.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    drawnTiles.add(tile);
+    tilesDrawn.countDown();
+  }
+
+  private void whileDrawingTile1(final Runnable action) throws InterruptedException {
+    backgroundTileDrawer.schedule(Arrays.asList(tile1));
+    firstTileStarted.await();
+    action.run();
+    firstTileReleased.countDown();
+    tilesDrawn.await();
+  }
+
+  @AfterEach
+  public void stopBackgroundTileDrawer() {
+    backgroundTileDrawer.stop();
+  }
+
+  @Test
+  public void schedule_ShouldDrawTilesInScheduledOrder() {
+    assertTimeoutPreemptively(timeout, () -> {
+      tilesDrawn = new CountDownLatch(3);
+
+      whileDrawingTile1(() -> backgroundTileDrawer.schedule(Arrays.asList(tile3, tile2)));
+
+      assertThat(drawnTiles, contains(tile1, tile3, tile2));
+    });
+  }
+
+  @Test
+  public void schedule_ShouldDropTilesThatAreNoLongerScheduled() {
+    assertTimeoutPreemptively(timeout, () -> {
+      tilesDrawn = new CountDownLatch(2);
+
+      whileDrawingTile1(() -> {
+        backgroundTileDrawer.schedule(Arrays.asList(tile2));
+        backgroundTileDrawer.schedule(Arrays.asList(tile3));
+      });
+
+      assertThat(drawnTiles, contains(tile1, tile3));
+    });
+  }
+
+  @Test
+  public void schedule_ShouldNotDrawTileAgainWhileItIsBeingDrawn() {
+    assertTimeoutPreemptively(timeout, () -> {
+      tilesDrawn = new CountDownLatch(2);
+
+      whileDrawingTile1(() -> backgroundTileDrawer.schedule(Arrays.asList(tile1, tile2)));
+
+      assertThat(drawnTiles, contains(tile1, tile2));
+    });
+  }
+}
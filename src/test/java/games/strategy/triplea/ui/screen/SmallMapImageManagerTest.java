@@ -0,0 +1,27 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+public final class SmallMapImageManagerTest {
+  @Test
+  public void tint_ShouldReplaceWhiteWithColorAndKeepBlackAndAlpha() {
+    final BufferedImage mask = new BufferedImage(4, 1, BufferedImage.TYPE_INT_ARGB);
+    mask.setRGB(0, 0, 0xFFFFFFFF);
+    mask.setRGB(1, 0, 0xFF000000);
+    mask.setRGB(2, 0, 0xFF808080);
+    mask.setRGB(3, 0, 0x40FFFFFF);
+
+    final BufferedImage image = SmallMapImageManager.tint(mask, new Color(200, 100, 50));
+
+    assertThat(image.getRGB(0, 0), is(0xFFC86432));
+    assertThat(image.getRGB(1, 0), is(0xFF000000));
+    assertThat(image.getRGB(2, 0), is(0xFF643219));
+    assertThat(image.getRGB(3, 0), is(0x40C86432));
+  }
+}
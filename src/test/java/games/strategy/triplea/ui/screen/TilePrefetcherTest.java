@@ -0,0 +1,26 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.geom.Rectangle2D;
+
+import org.junit.jupiter.api.Test;
+
+public final class TilePrefetcherTest {
+  private static final int TILE_SIZE = TileManager.TILE_SIZE;
+
+  private final Rectangle2D viewport = new Rectangle2D.Double(1000, 1000, 800, 600);
+
+  @Test
+  public void getPrefetchArea_ShouldExtendViewportByOneTileWhenNotScrolling() {
+    assertThat(TilePrefetcher.getPrefetchArea(viewport, 0, 0),
+        is(new Rectangle2D.Double(1000 - TILE_SIZE, 1000 - TILE_SIZE, 800 + 2 * TILE_SIZE, 600 + 2 * TILE_SIZE)));
+  }
+
+  @Test
+  public void getPrefetchArea_ShouldExtendViewportInScrollDirection() {
+    assertThat(TilePrefetcher.getPrefetchArea(viewport, 500, -200),
+        is(new Rectangle2D.Double(1000 - TILE_SIZE, 800 - TILE_SIZE, 1300 + 2 * TILE_SIZE, 800 + 2 * TILE_SIZE)));
+  }
+}
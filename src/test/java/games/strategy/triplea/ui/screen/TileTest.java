@@ -0,0 +1,111 @@
+package games.strategy.triplea.ui.screen;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.triplea.image.ImageCache;
+import games.strategy.triplea.ui.mapdata.MapData;
+import games.strategy.triplea.ui.screen.drawable.IDrawable;
+
+public final class TileTest {
+  private final Tile tile = new Tile(new Rectangle(256, 0, 256, 256), 1, 0, 1.0,
+      ImageCache.getInstance().newRegion("Test tiles"));
+
+  private BufferedImage drawImage() {
+    return (BufferedImage) tile.getImage(null, null);
+  }
+
+  private static int getColor(final BufferedImage image, final int x, final int y) {
+    return image.getRGB(x, y) & 0xFFFFFF;
+  }
+
+  @Test
+  public void getImage_ShouldOnlyRedrawDirtyArea() {
+    final FillDrawable background = new FillDrawable(Color.RED, null);
+    tile.addDrawables(Collections.singletonList(background));
+    drawImage();
+
+    background.color = Color.BLUE;
+    tile.addDrawables(Collections.emptyList(), new Rectangle(300, 10, 20, 20));
+    assertThat(tile.isDirty(), is(true));
+    final BufferedImage image = drawImage();
+
+    assertThat(tile.isDirty(), is(false));
+    assertThat(getColor(image, 44, 10), is(0x0000FF));
+    assertThat(getColor(image, 63, 29), is(0x0000FF));
+    assertThat(getColor(image, 43, 10), is(0xFF0000));
+    assertThat(getColor(image, 64, 29), is(0xFF0000));
+    assertThat(getColor(image, 200, 200), is(0xFF0000));
+  }
+
+  @Test
+  public void getImage_ShouldSkipDrawablesOutsideOfDirtyArea() {
+    final FillDrawable inside = new FillDrawable(Color.RED, new Rectangle(256, 0, 50, 50));
+    final FillDrawable outside = new FillDrawable(Color.GREEN, new Rectangle(400, 200, 50, 50));
+    tile.addDrawables(Arrays.asList(inside, outside));
+    drawImage();
+    inside.drawCount = 0;
+    outside.drawCount = 0;
+
+    tile.removeDrawables(Collections.emptyList(), new Rectangle(260, 10, 10, 10));
+    drawImage();
+
+    assertThat(inside.drawCount, is(1));
+    assertThat(outside.drawCount, is(0));
+  }
+
+  @Test
+  public void getImage_ShouldRedrawWholeTileWhenAreaIsNull() {
+    final FillDrawable background = new FillDrawable(Color.RED, null);
+    tile.addDrawables(Collections.singletonList(background));
+    drawImage();
+
+    background.color = Color.BLUE;
+    tile.addDrawables(Collections.emptyList(), null);
+    final BufferedImage image = drawImage();
+
+    assertThat(getColor(image, 0, 0), is(0x0000FF));
+    assertThat(getColor(image, 255, 255), is(0x0000FF));
+  }
+
+  private static final class FillDrawable implements IDrawable {
+    Color color;
+    final Rectangle bounds;
+    int drawCount = 0;
+
+    FillDrawable(final Color color, final Rectangle bounds) {
+      this.color = color;
+      this.bounds = bounds;
+    }
+
+    @Override
+    public void draw(final Rectangle bounds, final GameData data, final Graphics2D graphics, final MapData mapData,
+        final AffineTransform unscaled, final AffineTransform scaled) {
+      drawCount++;
+      graphics.setColor(color);
+      graphics.fillRect(0, 0, bounds.width, bounds.height);
+    }
+
+    @Override
+    public int getLevel() {
+      return BASE_MAP_LEVEL;
+    }
+
+    @Override
+    public Optional<Rectangle> getBounds(final GameData data, final MapData mapData) {
+      return Optional.ofNullable(bounds);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package games.strategy.triplea.ui.screen.drawable;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public final class IDrawableTest {
+  @Test
+  public void getImageBounds_ShouldReturnAreaCoveredByImage() {
+    final BufferedImage image = new BufferedImage(30, 20, BufferedImage.TYPE_INT_ARGB);
+
+    assertThat(IDrawable.getImageBounds(image, new Point(100, 50)),
+        is(Optional.of(new Rectangle(100, 50, 30, 20))));
+  }
+
+  @Test
+  public void getImageBounds_ShouldReturnEmptyAreaWhenThereIsNoImage() {
+    final Optional<Rectangle> bounds = IDrawable.getImageBounds(null, new Point(100, 50));
+
+    assertThat(bounds.isPresent(), is(true));
+    assertThat(bounds.get().isEmpty(), is(true));
+  }
+}
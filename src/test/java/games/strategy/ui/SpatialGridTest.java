@@ -0,0 +1,58 @@
+package games.strategy.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+
+import org.junit.jupiter.api.Test;
+
+public final class SpatialGridTest {
+  private final SpatialGrid<String> grid = new SpatialGrid<>(new Rectangle(0, 0, 1000, 1000), 100);
+
+  @Test
+  public void getContaining_ShouldReturnValuesWhoseBoundsContainThePointInInsertionOrder() {
+    grid.add(new Rectangle(0, 0, 1000, 1000), "large");
+    grid.add(new Rectangle(140, 140, 20, 20), "small");
+    grid.add(new Rectangle(500, 500, 20, 20), "elsewhere");
+    grid.add(new Rectangle(100, 100, 100, 100), "medium");
+
+    assertThat(grid.getContaining(150, 150), contains("large", "small", "medium"));
+  }
+
+  @Test
+  public void getContaining_ShouldExcludeTheRightAndBottomEdgesOfTheBounds() {
+    grid.add(new Rectangle(100, 100, 100, 100), "value");
+
+    assertThat(grid.getContaining(100, 100), contains("value"));
+    assertThat(grid.getContaining(200, 150), empty());
+    assertThat(grid.getContaining(150, 200), empty());
+  }
+
+  @Test
+  public void getContaining_ShouldFindValuesOutsideTheGridArea() {
+    grid.add(new Rectangle(-50, 990, 30, 30), "outside");
+
+    assertThat(grid.getContaining(-40, 1010), contains("outside"));
+  }
+
+  @Test
+  public void getIntersecting_ShouldReturnEachIntersectingValueOnceInInsertionOrder() {
+    grid.add(new Rectangle(250, 0, 500, 500), "wide");
+    grid.add(new Rectangle(0, 0, 100, 100), "corner");
+    grid.add(new Rectangle(300, 300, 10, 10), "inside");
+    grid.add(new Rectangle(800, 800, 100, 100), "far");
+
+    assertThat(grid.getIntersecting(new Rectangle2D.Double(50, 50, 300, 300)), contains("wide", "corner", "inside"));
+  }
+
+  @Test
+  public void getIntersecting_ShouldExcludeValuesThatOnlyTouchTheArea() {
+    grid.add(new Rectangle(0, 0, 100, 100), "left");
+    grid.add(new Rectangle(100, 0, 100, 100), "right");
+
+    assertThat(grid.getIntersecting(new Rectangle2D.Double(100, 0, 50, 50)), contains("right"));
+  }
+}
@@ -0,0 +1,76 @@
+package games.strategy.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.lang.invoke.MethodHandle;
+
+import org.junit.jupiter.api.Test;
+
+public class PropertyAccessorsTest {
+  @Test
+  public void forClass_ShouldReturnSameInstanceForSameClass() {
+    assertThat(PropertyAccessors.forClass(OverloadedSetterClass.class),
+        is(sameInstance(PropertyAccessors.forClass(OverloadedSetterClass.class))));
+  }
+
+  @Test
+  public void getSetter_ShouldReturnSetterAcceptingExactlyTheArgumentType() throws Throwable {
+    final OverloadedSetterClass subject = new OverloadedSetterClass();
+    final MethodHandle setter =
+        PropertyAccessors.forClass(OverloadedSetterClass.class).getSetter("bar", String.class).get();
+
+    setter.invokeExact((Object) subject, (Object) "value");
+
+    assertThat(subject.bar, is("string:value"));
+  }
+
+  @Test
+  public void getSetter_ShouldReturnEmptyWhenNoSetterAcceptsExactlyTheArgumentType() {
+    assertThat(PropertyAccessors.forClass(OverloadedSetterClass.class).getSetter("bar", Long.class).isPresent(),
+        is(false));
+  }
+
+  @Test
+  public void getSetter_ShouldReturnEmptyWhenNoSetterExists() {
+    assertThat(PropertyAccessors.forClass(OverloadedSetterClass.class).getSetter("baz", String.class).isPresent(),
+        is(false));
+  }
+
+  @Test
+  public void getSetterForValue_ShouldPreferSetterAcceptingExactlyTheValueClass() throws Throwable {
+    final OverloadedSetterClass subject = new OverloadedSetterClass();
+    final Integer value = 42;
+
+    PropertyAccessors.forClass(OverloadedSetterClass.class).getSetterForValue("bar", value)
+        .invokeExact((Object) subject, (Object) value);
+
+    assertThat(subject.bar, is("integer:42"));
+  }
+
+  @Test
+  public void getFieldGetter_ShouldReadFieldDeclaredInSuperclass() throws Throwable {
+    final Object value = PropertyAccessors.forClass(SubClass.class).getFieldGetter("bar")
+        .invokeExact((Object) new SubClass());
+
+    assertThat(value, is("default"));
+  }
+
+  private static class OverloadedSetterClass {
+    String bar = "default";
+
+    @SuppressWarnings("unused")
+    public void setBar(final String value) {
+      bar = "string:" + value;
+    }
+
+    @SuppressWarnings("unused")
+    public void setBar(final Integer value) {
+      bar = "integer:" + value;
+    }
+  }
+
+  private static class SubClass extends OverloadedSetterClass {
+  }
+}